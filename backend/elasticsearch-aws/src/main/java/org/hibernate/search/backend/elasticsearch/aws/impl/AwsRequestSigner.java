@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.aws.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Signs AWS requests with AWS Signature Version 4.
+ */
+@FunctionalInterface
+interface AwsRequestSigner {
+
+	SdkHttpFullRequest sign(SdkHttpFullRequest request, Aws4SignerParams signerParams);
+
+	/**
+	 * @return The {@link ElasticsearchAws4Signer optimized signer} if it can be used with the AWS SDK on the classpath,
+	 * or the stock {@link Aws4Signer} otherwise.
+	 */
+	static AwsRequestSigner create() {
+		try {
+			return ElasticsearchAws4Signer.create();
+		}
+		catch (LinkageError e) {
+			// The optimized signer relies on SDK internals, which may change in any SDK release.
+			Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+			log.debugf( e, "Unable to use the optimized AWS request signer; falling back to the stock one" );
+			return stock();
+		}
+	}
+
+	static AwsRequestSigner stock() {
+		return Aws4Signer.create()::sign;
+	}
+
+}
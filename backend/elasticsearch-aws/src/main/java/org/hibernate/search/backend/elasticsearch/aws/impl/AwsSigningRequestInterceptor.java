@@ -29,7 +29,6 @@
 import org.apache.http.protocol.HttpCoreContext;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -42,12 +41,15 @@ class AwsSigningRequestInterceptor implements HttpRequestInterceptor {
 
 	private static final String ELASTICSEARCH_SERVICE_NAME = "es";
 
-	private final Aws4Signer signer;
+	private final AwsRequestSigner signer;
 	private final Region region;
 	private final AwsCredentialsProvider credentialsProvider;
 
+	// Signer params only depend on credentials: build them again only when credentials change.
+	private volatile Aws4SignerParams cachedSignerParams;
+
 	AwsSigningRequestInterceptor(Region region, AwsCredentialsProvider credentialsProvider) {
-		this.signer = Aws4Signer.create();
+		this.signer = AwsRequestSigner.create();
 		this.region = region;
 		this.credentialsProvider = credentialsProvider;
 	}
@@ -67,14 +69,11 @@ private void sign(HttpRequest request, HttpContext context, HttpEntityContentStr
 			log.tracef( "AWS request (before signing): %s", awsRequest );
 		}
 
+		// Credentials providers are expected to cache credentials themselves, if resolving them is costly.
 		AwsCredentials credentials = credentialsProvider.resolveCredentials();
 		log.tracef( "AWS credentials: %s", credentials );
 
-		Aws4SignerParams signerParams = Aws4SignerParams.builder()
-				.awsCredentials( credentials )
-				.signingRegion( region )
-				.signingName( ELASTICSEARCH_SERVICE_NAME )
-				.build();
+		Aws4SignerParams signerParams = signerParams( credentials );
 
 		awsRequest = signer.sign( awsRequest, signerParams );
 
@@ -101,6 +100,19 @@ private void sign(HttpRequest request, HttpContext context, HttpEntityContentStr
 		}
 	}
 
+	private Aws4SignerParams signerParams(AwsCredentials credentials) {
+		Aws4SignerParams signerParams = cachedSignerParams;
+		if ( signerParams == null || signerParams.awsCredentials() != credentials ) {
+			signerParams = Aws4SignerParams.builder()
+					.awsCredentials( credentials )
+					.signingRegion( region )
+					.signingName( ELASTICSEARCH_SERVICE_NAME )
+					.build();
+			cachedSignerParams = signerParams;
+		}
+		return signerParams;
+	}
+
 	private SdkHttpFullRequest toAwsRequest(HttpRequest request, HttpContext context, ContentStreamProvider contentStreamProvider) {
 		SdkHttpFullRequest.Builder awsRequestBuilder = SdkHttpFullRequest.builder();
 
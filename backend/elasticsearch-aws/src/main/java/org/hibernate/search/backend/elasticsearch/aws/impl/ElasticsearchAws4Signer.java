@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.aws.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import software.amazon.awssdk.auth.signer.internal.BaseAws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * An AWS4 signer that, whenever possible, hashes the payload straight from the HTTP entity,
+ * instead of reading the payload through a {@link ContentStreamProvider}.
+ * <p>
+ * The public API of the AWS SDK does not allow providing a precomputed payload hash,
+ * so this extends an SDK-internal class: never reference this class directly,
+ * use {@link AwsRequestSigner#create()}, which falls back to the stock signer
+ * if this class cannot be linked against the AWS SDK on the classpath.
+ * If the overridden method were no longer called by the SDK,
+ * this signer would simply behave as the stock one.
+ * <p>
+ * Derived signing keys are cached by the AWS SDK itself, per credentials, region, service and day,
+ * so there is no need to cache them here.
+ */
+final class ElasticsearchAws4Signer extends BaseAws4Signer {
+
+	static AwsRequestSigner create() {
+		return new ElasticsearchAws4Signer()::sign;
+	}
+
+	private ElasticsearchAws4Signer() {
+	}
+
+	@Override
+	protected String calculateContentHash(SdkHttpFullRequest.Builder mutableRequest, Aws4SignerParams signerParams) {
+		ContentStreamProvider contentStreamProvider = mutableRequest.contentStreamProvider();
+		if ( contentStreamProvider instanceof HttpEntityContentStreamProvider ) {
+			try {
+				String contentSha256 = ( (HttpEntityContentStreamProvider) contentStreamProvider ).contentSha256();
+				if ( contentSha256 != null ) {
+					return contentSha256;
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+		return super.calculateContentHash( mutableRequest, signerParams );
+	}
+
+}
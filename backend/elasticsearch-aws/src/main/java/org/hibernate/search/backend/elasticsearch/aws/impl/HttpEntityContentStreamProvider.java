@@ -10,9 +10,15 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.DigestibleHttpEntity;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.http.HttpEntity;
 import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 public class HttpEntityContentStreamProvider implements ContentStreamProvider, Closeable {
 	private final HttpEntity entity;
@@ -36,6 +42,26 @@ public InputStream newStream() {
 		}
 	}
 
+	/**
+	 * @return The hex-encoded SHA-256 hash of the entity content,
+	 * or {@code null} if it cannot be computed without going through {@link #newStream()}.
+	 * @throws IOException If encoding the content fails.
+	 */
+	public String contentSha256() throws IOException {
+		if ( !( entity instanceof DigestibleHttpEntity ) ) {
+			return null;
+		}
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new AssertionFailure( "SHA-256 is not available", e );
+		}
+		( (DigestibleHttpEntity) entity ).updateDigest( digest );
+		return BinaryUtils.toHex( digest.digest() );
+	}
+
 	@Override
 	public void close() throws IOException {
 		if ( previousStream != null ) {
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.aws.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.DigestibleHttpEntity;
+
+import org.junit.Test;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+public class ElasticsearchAws4SignerTest {
+
+	private static final Aws4SignerParams SIGNER_PARAMS = Aws4SignerParams.builder()
+			.awsCredentials( AwsBasicCredentials.create( "someAccessKeyId", "someSecretAccessKey" ) )
+			.signingRegion( Region.US_EAST_1 )
+			.signingName( "es" )
+			.signingClockOverride( Clock.fixed( Instant.parse( "2022-03-04T10:15:30Z" ), ZoneOffset.UTC ) )
+			.build();
+
+	@Test
+	public void digestibleEntity() throws IOException {
+		DigestibleStringEntity entity = new DigestibleStringEntity( "{\"index\":{}}\n{\"text\":\"Some text éè\"}\n" );
+
+		assertSameSignature( entity );
+		// Check the payload hash was taken from the entity, not computed from its content stream.
+		assertThat( entity.digestCount ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void nonDigestibleEntity() throws IOException {
+		assertSameSignature( new StringEntity( "{\"query\":{\"match_all\":{}}}", ContentType.APPLICATION_JSON ) );
+	}
+
+	@Test
+	public void noEntity() throws IOException {
+		assertSameSignature( null );
+	}
+
+	private void assertSameSignature(HttpEntity entity) throws IOException {
+		SdkHttpFullRequest optimized = sign( ElasticsearchAws4Signer.create(), entity );
+		SdkHttpFullRequest stock = sign( AwsRequestSigner.stock(), entity );
+
+		assertThat( optimized.firstMatchingHeader( "Authorization" ) )
+				.isPresent()
+				.isEqualTo( stock.firstMatchingHeader( "Authorization" ) );
+		assertThat( optimized.headers() ).isEqualTo( stock.headers() );
+	}
+
+	private SdkHttpFullRequest sign(AwsRequestSigner signer, HttpEntity entity) throws IOException {
+		try ( HttpEntityContentStreamProvider contentStreamProvider =
+				entity == null ? null : new HttpEntityContentStreamProvider( entity ) ) {
+			SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+					.method( SdkHttpMethod.POST )
+					.protocol( "https" )
+					.host( "search-mydomain.us-east-1.es.amazonaws.com" )
+					.encodedPath( "/myIndex/_bulk" )
+					.appendRawQueryParameter( "refresh", "true" )
+					.contentStreamProvider( contentStreamProvider )
+					.build();
+			return signer.sign( request, SIGNER_PARAMS );
+		}
+	}
+
+	private static class DigestibleStringEntity extends StringEntity implements DigestibleHttpEntity {
+		private final byte[] bytes;
+		private int digestCount = 0;
+
+		DigestibleStringEntity(String content) {
+			super( content, ContentType.APPLICATION_JSON );
+			this.bytes = content.getBytes( StandardCharsets.UTF_8 );
+		}
+
+		@Override
+		public void updateDigest(MessageDigest digest) {
+			++digestCount;
+			digest.update( bytes );
+		}
+	}
+
+}
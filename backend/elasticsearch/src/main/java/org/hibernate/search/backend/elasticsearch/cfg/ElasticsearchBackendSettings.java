@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.SimpleIndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollStrategyName;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
@@ -203,6 +204,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String DISCOVERY_REFRESH_INTERVAL = "discovery.refresh_interval";
 
+	/**
+	 * Whether HTTP compression is enabled.
+	 * <p>
+	 * When enabled, request bodies are compressed with gzip,
+	 * and Elasticsearch is allowed to compress response bodies with gzip.
+	 * This reduces network traffic significantly, in particular for bulk indexing requests,
+	 * at the cost of some CPU overhead on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Allows to define a {@link ElasticsearchHttpClientConfigurer},
 	 * that can be used for instance to set custom HTTP client configurations,
@@ -287,6 +303,32 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * The strategy to use when scrolling through search results,
+	 * i.e. whether to rely on the scroll API or on a point in time and {@code search_after}.
+	 * <p>
+	 * Expects a {@link ElasticsearchScrollStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * When using a point in time, the point in time is kept alive for the duration set through {@link #SCROLL_TIMEOUT}.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_STRATEGY}.
+	 */
+	public static final String SCROLL_STRATEGY = "scroll_strategy";
+
+	/**
+	 * Whether the responses to search queries and scrolls should be parsed in a streaming fashion,
+	 * extracting hits one at a time instead of building the JSON tree of the whole response in memory.
+	 * <p>
+	 * When enabled, {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult#responseBody()}
+	 * no longer includes the hits ({@code hits.hits}).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESPONSE_STREAMING_ENABLED}.
+	 */
+	public static final String SEARCH_RESPONSE_STREAMING_ENABLED = "search.response_streaming.enabled";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -304,6 +346,7 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 
@@ -319,5 +362,7 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final ElasticsearchScrollStrategyName SCROLL_STRATEGY = ElasticsearchScrollStrategyName.SCROLL;
+		public static final boolean SEARCH_RESPONSE_STREAMING_ENABLED = false;
 	}
 }
@@ -144,6 +144,78 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * When set, the JSON of each indexing work is serialized as soon as the work is added to a bulk,
+	 * and a bulk is sent as soon as adding another work would make its payload exceed this size,
+	 * regardless of the number of works it contains.
+	 * The maximum number of works in a bulk, {@link #INDEXING_MAX_BULK_SIZE}, still applies.
+	 * <p>
+	 * Expects a strictly positive integer value in bytes, such as {@code 5000000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning bulks are only limited by their number of works.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * The target duration of each batch of works processed by an indexing queue, in milliseconds.
+	 * <p>
+	 * When set, the number of works in each batch adapts to the duration of previous batches:
+	 * batches are shrunk when they take longer than this target,
+	 * and grow again (up to the maximum batch size) when they take less time.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning batches always include as many works as possible.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.BATCH_TARGET_LATENCY;
+
+	/**
+	 * The maximum time an indexing queue may wait for more works before starting a batch that is not full,
+	 * in milliseconds.
+	 * <p>
+	 * Only effective when {@link #INDEXING_BATCH_TARGET_LATENCY} is set,
+	 * and only while batches complete within that target.
+	 * <p>
+	 * A queue that waits for more works keeps a thread of the backend's shared thread pool busy while it waits,
+	 * so with many queues, high values may delay the processing of other queues.
+	 * <p>
+	 * Expects a positive or zero integer value in milliseconds, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_MAX_LINGER}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_MAX_LINGER = INDEXING_PREFIX + IndexingRadicals.BATCH_MAX_LINGER;
+
+	/**
+	 * Whether indexing queues should skip works that are superseded by a later work of the same batch.
+	 * <p>
+	 * When enabled, if a batch includes multiple works for the same document,
+	 * works preceding the last work that replaces or deletes that document are skipped,
+	 * and complete when that last work completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_COALESCING}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_COALESCING = INDEXING_PREFIX + IndexingRadicals.BATCH_COALESCING;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -155,6 +227,10 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String BATCH_TARGET_LATENCY = "batch.target_latency";
+		public static final String BATCH_MAX_LINGER = "batch.max_linger";
+		public static final String BATCH_COALESCING = "batch.coalescing";
 	}
 
 	/**
@@ -170,6 +246,8 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_BATCH_MAX_LINGER = 0;
+		public static final boolean INDEXING_BATCH_COALESCING = false;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -27,11 +27,14 @@
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.conn.NoopIOSessionStrategy;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
@@ -47,6 +50,8 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final Header ACCEPT_ENCODING_GZIP = new BasicHeader( HttpHeaders.ACCEPT_ENCODING, "gzip" );
+
 	public static final BeanReference<ElasticsearchClientFactory> REFERENCE = (BeanResolver beanResolver) -> {
 		List<BeanReference<ElasticsearchHttpClientConfigurer>> httpClientConfigurerReferences =
 				beanResolver.allConfiguredForRole( ElasticsearchHttpClientConfigurer.class );
@@ -136,6 +141,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.DISCOVERY_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends ElasticsearchHttpClientConfigurer>>
 			CLIENT_CONFIGURER = ConfigurationProperty.forKey( ElasticsearchBackendSettings.CLIENT_CONFIGURER )
 			.asBeanReference( ElasticsearchHttpClientConfigurer.class )
@@ -154,27 +165,34 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 			GsonProvider gsonProvider) {
 		Optional<Integer> requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
 		int connectionTimeoutMs = CONNECTION_TIMEOUT.get( propertySource );
+		boolean compressionEnabled = COMPRESSION_ENABLED.get( propertySource );
 
 		ServerUris hosts = ServerUris
 				.fromOptionalStrings( PROTOCOL.get( propertySource ), HOSTS.get( propertySource ), URIS.get( propertySource ) );
 		RestClient restClient = createClient( beanResolver, propertySource, threadProvider, threadNamePrefix, hosts,
-				PATH_PREFIX.get( propertySource ) );
+				PATH_PREFIX.get( propertySource ), compressionEnabled );
 		Sniffer sniffer = createSniffer( propertySource, restClient, hosts );
 
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
-				requestTimeoutMs, connectionTimeoutMs,
+				requestTimeoutMs, connectionTimeoutMs, compressionEnabled,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
 
 	private RestClient createClient(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
-			ServerUris hosts, String pathPrefix) {
+			ServerUris hosts, String pathPrefix, boolean compressionEnabled) {
 		RestClientBuilder builder = RestClient.builder( hosts.asHostsArray() );
 		if ( !pathPrefix.isEmpty() ) {
 			builder.setPathPrefix( pathPrefix );
 		}
+		if ( compressionEnabled ) {
+			// Request bodies are compressed by GsonHttpEntity itself, while encoding them:
+			// we don't use RestClientBuilder#setCompressionEnabled, which would compress them once more.
+			// The RestClient automatically decompresses gzip responses.
+			builder.setDefaultHeaders( new Header[] { ACCEPT_ENCODING_GZIP } );
+		}
 
 		Optional<? extends BeanHolder<? extends ElasticsearchHttpClientConfigurer>> customConfig = CLIENT_CONFIGURER
 				.getAndMap( propertySource, beanResolver::resolve );
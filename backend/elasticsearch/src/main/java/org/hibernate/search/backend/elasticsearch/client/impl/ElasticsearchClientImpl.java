@@ -60,19 +60,21 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compressionEnabled;
 
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -80,7 +82,7 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -102,7 +104,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -200,8 +202,15 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
+			if ( shouldStreamBody( request, response ) ) {
+				return new ElasticsearchResponse(
+						response.getHost(),
+						response.getStatusLine().getStatusCode(),
+						response.getStatusLine().getReasonPhrase(),
+						new InputStreamReader( response.getEntity().getContent(), getCharset( response.getEntity() ) ) );
+			}
 			JsonObject body = parseBody( response );
 			return new ElasticsearchResponse(
 					response.getHost(),
@@ -215,6 +224,16 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
+	private boolean shouldStreamBody(ElasticsearchRequest request, Response response) {
+		// When tracing requests, we log the response body as soon as we receive it,
+		// which defeats streaming: just parse the body eagerly in that case.
+		// Failures are never streamed, because we need to inspect their body to report errors.
+		return request.streamResponseBody()
+				&& response.getEntity() != null
+				&& !requestLog.isTraceEnabled()
+				&& ElasticsearchClientUtils.isSuccessCode( response.getStatusLine().getStatusCode() );
+	}
+
 	private JsonObject parseBody(Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
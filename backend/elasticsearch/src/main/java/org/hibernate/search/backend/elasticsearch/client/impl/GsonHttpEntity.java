@@ -11,12 +11,14 @@
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.http.Header;
-import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.ContentEncoder;
@@ -24,6 +26,7 @@
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.DigestibleHttpEntity;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -55,14 +58,26 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts whose JSON serialization is already known, e.g. because it was used
+ * to measure the size of a bulk, are written as-is instead of being serialized again.
+ *
+ * Optionally, the content can be compressed with gzip while it is encoded,
+ * page by page, so that compression does not require buffering the whole content either.
+ *
+ * The content can also be fed to a digest without going through {@link #getContent()},
+ * e.g. for request signing: content that was fully encoded upfront is digested directly,
+ * and larger content is encoded straight into the digest, without intermediary buffers.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
-final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+final class GsonHttpEntity implements DigestibleHttpEntity, HttpAsyncContentProducer {
 
 	private static final Charset CHARSET = StandardCharsets.UTF_8;
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +97,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
+	private final boolean gzip;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -102,6 +119,14 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 */
 	private boolean contentLengthWasProvided = false;
 
+	/**
+	 * Whether the {@link #writer} holds the entire, encoded content,
+	 * none of which has been written to an output yet.
+	 * True after a successful {@link #attemptOnePassEncoding() one-pass encoding},
+	 * until the content starts being produced or the writer is discarded.
+	 */
+	private boolean contentFullyBuffered = false;
+
 	/**
 	 * Since flow control might hint to stop producing data,
 	 * while we can't interrupt the rendering of a single JSON body
@@ -118,15 +143,36 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip) throws IOException {
+		this( gson, bodyParts, Collections.emptyList(), gzip );
+	}
+
+	/**
+	 * @param gson The Gson instance used to serialize body parts.
+	 * @param bodyParts The body parts.
+	 * @param serializedBodyParts The already serialized form of each body part, at the same index as in {@code bodyParts},
+	 * with {@code null} elements for body parts that must be serialized;
+	 * or an empty list if all body parts must be serialized.
+	 * @param gzip Whether the content should be compressed with gzip.
+	 * @throws IOException If encoding fails.
+	 */
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts, boolean gzip)
+			throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( serializedBodyParts, "serializedBodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.serializedBodyParts = serializedBodyParts;
+		this.gzip = gzip;
 		this.contentLength = -1;
+		this.writer = createWriter();
 		attemptOnePassEncoding();
 	}
 
@@ -153,6 +199,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzip ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -164,6 +213,10 @@ public InputStream getContent() {
 
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
+		if ( gzip ) {
+			writeCompressedTo( out );
+			return;
+		}
 		/*
 		 * For this method we use no pagination, so ignore the mutable fields.
 		 *
@@ -172,8 +225,8 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			writeBodyPart( i, outWriter );
 			outWriter.append( '\n' );
 		}
 		outWriter.flush();
@@ -181,6 +234,45 @@ public void writeTo(OutputStream out) throws IOException {
 		hintContentLength( countingStream.getBytesWritten() );
 	}
 
+	private void writeCompressedTo(OutputStream out) throws IOException {
+		/*
+		 * We need to compress content exactly as in produceContent,
+		 * so that the content length is the same regardless of the method used to write the content:
+		 * use the same writer and the same write loop, but without pagination.
+		 *
+		 * Note we don't close the counting stream,
+		 * because we must not close the output stream that was passed as a parameter.
+		 */
+		CountingOutputStream countingStream = new CountingOutputStream( out );
+		ProgressiveCharBufferWriter outWriter = createWriter();
+		try {
+			outWriter.setOutput( new OutputStreamContentEncoder( countingStream ) );
+			for ( int i = 0; i < bodyParts.size(); i++ ) {
+				writeBodyPart( i, outWriter );
+				outWriter.append( '\n' );
+				outWriter.flush();
+			}
+			outWriter.finish();
+			outWriter.flushToOutput();
+		}
+		finally {
+			outWriter.close();
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	@Override
+	public void updateDigest(MessageDigest digest) throws IOException {
+		if ( contentFullyBuffered ) {
+			// The content was already encoded and is still in our buffers: no need to encode it again.
+			writer.updateDigest( digest );
+		}
+		else {
+			writeTo( new MessageDigestOutputStream( digest ) );
+		}
+	}
+
 	@Override
 	public boolean isStreaming() {
 		return false;
@@ -197,8 +289,14 @@ public void close() {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
+		this.contentFullyBuffered = false;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.close();
+		this.writer = createWriter();
+	}
+
+	private ProgressiveCharBufferWriter createWriter() {
+		return new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, gzip );
 	}
 
 	/**
@@ -217,7 +315,8 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer.finish();
+			contentFullyBuffered = true;
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
@@ -234,8 +333,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			writeBodyPart( nextBodyToEncodeIndex++, writer );
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -245,6 +343,16 @@ private void triggerFullWrite() throws IOException {
 		}
 	}
 
+	private void writeBodyPart(int index, Writer out) throws IOException {
+		String serializedBodyPart = serializedBodyParts.isEmpty() ? null : serializedBodyParts.get( index );
+		if ( serializedBodyPart != null ) {
+			out.write( serializedBodyPart );
+		}
+		else {
+			gson.toJson( bodyParts.get( index ), out );
+		}
+	}
+
 	@Override
 	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
 		Contracts.assertNotNull( encoder, "encoder" );
@@ -254,6 +362,8 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
+		//Buffered content is about to be written out:
+		contentFullyBuffered = false;
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -268,6 +378,8 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		// Terminate the compressed stream, if any.
+		writer.finish();
 		writer.flushToOutput();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
@@ -293,4 +405,55 @@ private void hintContentLength(long contentLength) {
 		}
 	}
 
+	/**
+	 * An output stream that feeds everything written to it to a digest, and discards it.
+	 */
+	private static final class MessageDigestOutputStream extends OutputStream {
+		private final MessageDigest digest;
+
+		private MessageDigestOutputStream(MessageDigest digest) {
+			this.digest = digest;
+		}
+
+		@Override
+		public void write(int b) {
+			digest.update( (byte) b );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			digest.update( b, off, len );
+		}
+	}
+
+	/**
+	 * A content encoder that writes to an output stream and never pushes back.
+	 */
+	private static final class OutputStreamContentEncoder implements ContentEncoder {
+		private final OutputStream outputStream;
+		private boolean completed = false;
+
+		private OutputStreamContentEncoder(OutputStream outputStream) {
+			this.outputStream = outputStream;
+		}
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			int length = src.remaining();
+			outputStream.write( src.array(), src.arrayOffset() + src.position(), length );
+			src.position( src.limit() );
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
 }
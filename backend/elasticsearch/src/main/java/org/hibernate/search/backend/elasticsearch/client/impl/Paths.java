@@ -32,6 +32,7 @@ private Paths() {
 	public static final URLEncodedString _BULK = URLEncodedString.fromString( "_bulk" );
 	public static final URLEncodedString _DOC = URLEncodedString.fromString( "_doc" );
 	public static final URLEncodedString _ALIASES = URLEncodedString.fromString( "_aliases" );
+	public static final URLEncodedString _PIT = URLEncodedString.fromString( "_pit" );
 
 	/**
 	 * @deprecated Only useful in Elasticsearch 6 and below.
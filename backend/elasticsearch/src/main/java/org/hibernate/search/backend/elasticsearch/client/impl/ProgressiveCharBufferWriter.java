@@ -13,9 +13,12 @@
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
+import java.security.MessageDigest;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,11 +29,24 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, content can be compressed with gzip as it is encoded,
+ * in which case the buffer pages contain compressed content.
+ * The compressed stream must then be terminated with {@link #finish()}.
  *
  * @author Sanne Grinovero
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -72,10 +88,20 @@ class ProgressiveCharBufferWriter extends Writer {
 
 	private int contentLength = 0;
 
+	/**
+	 * The compressor, or null if content is not compressed.
+	 */
+	private final GzipCompressor compressor;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		this.compressor = gzip ? new GzipCompressor( pageSize ) : null;
 	}
 
 	/**
@@ -158,7 +184,29 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() {
-		// Nothing to do
+		if ( compressor != null ) {
+			// Release native resources as soon as possible.
+			compressor.close();
+		}
+	}
+
+	/**
+	 * Signal that all content has been written.
+	 * <p>
+	 * When compressing, this terminates the compressed stream,
+	 * so that the {@link #contentLength() content length} is final.
+	 * This does not send anything to the {@link #setOutput(ContentEncoder) output}:
+	 * call {@link #flushToOutput()} for that.
+	 * <p>
+	 * Calling this method multiple times has no additional effect.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( compressor != null ) {
+			compressor.finish();
+		}
 	}
 
 	/**
@@ -206,7 +254,30 @@ public int contentLength() {
 		return contentLength;
 	}
 
+	/**
+	 * Feed the content stored in the byte buffers to the given digest, without consuming that content.
+	 * <p>
+	 * This does not include the content that has already been written to the {@link #setOutput(ContentEncoder) output},
+	 * nor the content of the char buffer (which can be flushed to byte buffers using {@link #flush()}).
+	 *
+	 * @param digest The digest to update.
+	 */
+	public void updateDigest(MessageDigest digest) {
+		for ( ByteBuffer page : needWritingPages ) {
+			digest.update( page.duplicate() );
+		}
+		if ( currentPage != null ) {
+			ByteBuffer page = currentPage.duplicate();
+			page.flip();
+			digest.update( page );
+		}
+	}
+
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( compressor != null ) {
+			compressor.compress( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -218,17 +289,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				moveFullPageOutOfTheWay();
 			}
 			else {
 				//Encoding exception
@@ -238,6 +299,36 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void writeToByteBuffer(byte[] bytes) throws IOException {
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			contentLength += length;
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				moveFullPageOutOfTheWay();
+			}
+		}
+	}
+
+	private void moveFullPageOutOfTheWay() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -286,4 +377,102 @@ private boolean write(ByteBuffer buffer) throws IOException {
 		return toWrite == actuallyWritten;
 	}
 
+	/**
+	 * Compresses encoded chars with gzip into the buffer pages.
+	 * <p>
+	 * We don't use {@link java.util.zip.GZIPOutputStream}, because it would force us
+	 * to copy compressed content to an intermediary stream instead of directly into buffer pages.
+	 */
+	private final class GzipCompressor {
+
+		/**
+		 * A buffer for encoded, but not yet compressed, bytes.
+		 */
+		private final ByteBuffer uncompressedBuffer;
+
+		// We favor speed over compression ratio:
+		// JSON compresses well even at the lowest level, and compression happens in I/O threads.
+		private final Deflater deflater = new Deflater( Deflater.BEST_SPEED, true );
+		private final CRC32 crc = new CRC32();
+		private boolean headerWritten = false;
+		private boolean finished = false;
+
+		private GzipCompressor(int pageSize) {
+			this.uncompressedBuffer = ByteBuffer.allocate( pageSize );
+		}
+
+		void compress(CharBuffer input) throws IOException {
+			writeHeaderIfNecessary();
+			while ( true ) {
+				CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+				if ( coderResult.isError() ) {
+					//Encoding exception
+					coderResult.throwException();
+				}
+				int length = uncompressedBuffer.position();
+				if ( length > 0 ) {
+					byte[] array = uncompressedBuffer.array();
+					int offset = uncompressedBuffer.arrayOffset();
+					crc.update( array, offset, length );
+					deflater.setInput( array, offset, length );
+					// The deflater will consume all the input before this returns,
+					// so we can safely reuse the buffer afterwards.
+					deflate();
+					uncompressedBuffer.clear();
+				}
+				if ( coderResult.isUnderflow() ) {
+					return;
+				}
+			}
+		}
+
+		void finish() throws IOException {
+			if ( finished ) {
+				return;
+			}
+			writeHeaderIfNecessary();
+			deflater.finish();
+			deflate();
+			long crcValue = crc.getValue();
+			// The uncompressed size modulo 2^32, as per the gzip specification.
+			long uncompressedSize = deflater.getBytesRead();
+			writeToByteBuffer( new byte[] {
+					(byte) crcValue, (byte) ( crcValue >> 8 ), (byte) ( crcValue >> 16 ), (byte) ( crcValue >> 24 ),
+					(byte) uncompressedSize, (byte) ( uncompressedSize >> 8 ),
+					(byte) ( uncompressedSize >> 16 ), (byte) ( uncompressedSize >> 24 )
+			} );
+			finished = true;
+			close();
+		}
+
+		void close() {
+			deflater.end();
+		}
+
+		private void writeHeaderIfNecessary() throws IOException {
+			if ( !headerWritten ) {
+				headerWritten = true;
+				writeToByteBuffer( GZIP_HEADER );
+			}
+		}
+
+		private void deflate() throws IOException {
+			while ( true ) {
+				if ( currentPage == null ) {
+					currentPage = ByteBuffer.allocate( pageSize );
+				}
+				int initialPagePosition = currentPage.position();
+				int deflated = deflater.deflate( currentPage.array(), currentPage.arrayOffset() + initialPagePosition,
+						currentPage.remaining(), Deflater.NO_FLUSH );
+				currentPage.position( initialPagePosition + deflated );
+				contentLength += deflated;
+				if ( currentPage.hasRemaining() ) {
+					// The deflater didn't fill the page: it needs more input, or it's finished.
+					return;
+				}
+				moveFullPageOutOfTheWay();
+			}
+		}
+	}
+
 }
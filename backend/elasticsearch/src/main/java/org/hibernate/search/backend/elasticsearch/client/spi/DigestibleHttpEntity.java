@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.spi;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+
+import org.apache.http.HttpEntity;
+
+/**
+ * An {@link HttpEntity} able to feed its content to a {@link MessageDigest}
+ * more efficiently than through {@link HttpEntity#getContent()}.
+ * <p>
+ * Useful to integrations that need to hash request payloads before they are sent,
+ * e.g. for request signing.
+ */
+public interface DigestibleHttpEntity extends HttpEntity {
+
+	/**
+	 * Feed the content of this entity, exactly as it will be sent, to the given digest.
+	 * <p>
+	 * Calling this method does not consume the content: the entity can still be sent afterwards.
+	 *
+	 * @param digest The digest to update.
+	 * @throws IOException If encoding the content fails.
+	 */
+	void updateDigest(MessageDigest digest) throws IOException;
+
+}
@@ -46,14 +46,19 @@ public static Builder builder(String method) {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
 	private final Deadline deadline;
+	private final boolean streamResponseBody;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.serializedBodyParts = builder.serializedBodyParts == null ? Collections.emptyList()
+				: Collections.unmodifiableList( builder.serializedBodyParts );
 		this.deadline = builder.deadline;
+		this.streamResponseBody = builder.streamResponseBody;
 	}
 
 	public String method() {
@@ -72,10 +77,28 @@ public List<JsonObject> bodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The already serialized form of each body part, at the same index as in {@link #bodyParts()},
+	 * with {@code null} elements for body parts that have not been serialized yet;
+	 * or an empty list if no body part has been serialized yet.
+	 */
+	public List<String> serializedBodyParts() {
+		return serializedBodyParts;
+	}
+
 	public Deadline deadline() {
 		return deadline;
 	}
 
+	/**
+	 * @return {@code true} if the body of a successful response to this request should not be parsed by the client,
+	 * but exposed through {@link ElasticsearchResponse#takeBodyReader()} instead,
+	 * so that it can be parsed in a streaming fashion.
+	 */
+	public boolean streamResponseBody() {
+		return streamResponseBody;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -84,6 +107,7 @@ public String toString() {
 				.add( "parameters=" + parameters )
 				.add( "bodyParts=" + bodyParts )
 				.add( "deadline=" + deadline )
+				.add( "streamResponseBody=" + streamResponseBody )
 				.toString();
 	}
 
@@ -95,7 +119,9 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private List<String> serializedBodyParts;
 		private Deadline deadline;
+		private boolean streamResponseBody;
 
 		private Builder(String method) {
 			super();
@@ -157,6 +183,31 @@ public Builder body(JsonObject object) {
 				bodyParts = new ArrayList<>();
 			}
 			bodyParts.add( object );
+			if ( serializedBodyParts != null ) {
+				serializedBodyParts.add( null );
+			}
+			return this;
+		}
+
+		/**
+		 * @param object The body part to add.
+		 * @param serializedObject The JSON serialization of {@code object}, if it is already known,
+		 * so that it can be used as-is when sending the request; or {@code null}.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder body(JsonObject object, String serializedObject) {
+			if ( serializedObject != null && serializedBodyParts == null ) {
+				serializedBodyParts = new ArrayList<>();
+				if ( bodyParts != null ) {
+					for ( int i = 0; i < bodyParts.size(); i++ ) {
+						serializedBodyParts.add( null );
+					}
+				}
+			}
+			body( object );
+			if ( serializedBodyParts != null ) {
+				serializedBodyParts.set( serializedBodyParts.size() - 1, serializedObject );
+			}
 			return this;
 		}
 
@@ -165,6 +216,11 @@ public Builder deadline(Deadline deadline) {
 			return this;
 		}
 
+		public Builder streamResponseBody(boolean streamResponseBody) {
+			this.streamResponseBody = streamResponseBody;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
@@ -6,7 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.IOException;
+import java.io.Reader;
+
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import org.apache.http.HttpHost;
 
 
@@ -17,7 +23,8 @@ public final class ElasticsearchResponse {
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private JsonObject body;
+	private Reader bodyReader;
 
 	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage, JsonObject body) {
 		this.host = host;
@@ -26,6 +33,21 @@ public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage
 		this.body = body;
 	}
 
+	/**
+	 * @param host The host that sent the response.
+	 * @param statusCode The HTTP status code of the response.
+	 * @param statusMessage The HTTP status message of the response.
+	 * @param bodyReader A reader over the (unparsed) body of the response.
+	 * The body will only be parsed on the first call to {@link #body()},
+	 * unless the reader is taken beforehand through {@link #takeBodyReader()}.
+	 */
+	public ElasticsearchResponse(HttpHost host, int statusCode, String statusMessage, Reader bodyReader) {
+		this.host = host;
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.bodyReader = bodyReader;
+	}
+
 	public HttpHost host() {
 		return host;
 	}
@@ -38,8 +60,41 @@ public String statusMessage() {
 		return statusMessage;
 	}
 
-	public JsonObject body() {
+	/**
+	 * @return The body of the response,
+	 * or {@code null} if there is no body or if the body was streamed through {@link #takeBodyReader()}.
+	 * @throws JsonParseException If the body had not been parsed yet and could not be parsed.
+	 */
+	public synchronized JsonObject body() {
+		if ( bodyReader != null ) {
+			Reader reader = bodyReader;
+			bodyReader = null;
+			try ( Reader closed = reader ) {
+				JsonElement parsed = JsonParser.parseReader( closed );
+				body = parsed.isJsonNull() ? null : parsed.getAsJsonObject();
+			}
+			catch (IOException e) {
+				throw new JsonParseException( e );
+			}
+		}
 		return body;
 	}
 
+	/**
+	 * Takes ownership of the reader over the unparsed body of this response, if any,
+	 * so that the body can be parsed in a streaming fashion.
+	 * <p>
+	 * After this method returned a non-null value, {@link #body()} will always return {@code null},
+	 * and the caller is responsible for closing the returned reader.
+	 *
+	 * @return A reader over the unparsed body of this response,
+	 * or {@code null} if the body was already parsed or taken, or was never streamed to begin with.
+	 * @see ElasticsearchRequest#streamResponseBody()
+	 */
+	public synchronized Reader takeBodyReader() {
+		Reader reader = bodyReader;
+		bodyReader = null;
+		return reader;
+	}
+
 }
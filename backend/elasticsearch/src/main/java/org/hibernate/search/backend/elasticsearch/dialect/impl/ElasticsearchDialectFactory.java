@@ -21,6 +21,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
@@ -159,10 +160,14 @@ private ElasticsearchProtocolDialect createProtocolDialectElasticV6(Elasticsearc
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV7(ElasticsearchVersion version, int minor) {
+		if ( minor < 12 ) {
+			return new Elasticsearch70ProtocolDialect();
+		}
+		// Either the latest supported version, or a newer/unknown one
 		if ( minor > 17 ) {
 			log.unknownElasticsearchVersion( version );
 		}
-		return new Elasticsearch70ProtocolDialect();
+		return new Elasticsearch712ProtocolDialect();
 	}
 
 	private ElasticsearchProtocolDialect createProtocolDialectElasticV8(ElasticsearchVersion version, int minor) {
@@ -40,4 +40,9 @@ public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider) {
 	public ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory() {
 		return new Elasticsearch56SearchResultExtractorFactory();
 	}
+
+	@Override
+	public boolean isPointInTimeSupported() {
+		return false;
+	}
 }
@@ -17,7 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 
 /**
- * The protocol dialect for Elasticsearch 7.0 and later 7.x.
+ * The protocol dialect for Elasticsearch 7.0 to 7.11.
  */
 public class Elasticsearch70ProtocolDialect implements ElasticsearchProtocolDialect {
 
@@ -40,4 +40,9 @@ public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider) {
 	public ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory() {
 		return new Elasticsearch7SearchResultExtractorFactory();
 	}
+
+	@Override
+	public boolean isPointInTimeSupported() {
+		return false;
+	}
 }
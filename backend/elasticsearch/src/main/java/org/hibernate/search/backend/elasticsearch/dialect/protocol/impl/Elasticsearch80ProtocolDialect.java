@@ -40,4 +40,9 @@ public ElasticsearchWorkFactory createWorkFactory(GsonProvider gsonProvider) {
 	public ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory() {
 		return new Elasticsearch7SearchResultExtractorFactory();
 	}
+
+	@Override
+	public boolean isPointInTimeSupported() {
+		return true;
+	}
 }
@@ -41,4 +41,10 @@ public interface ElasticsearchProtocolDialect {
 
 	ElasticsearchSearchResultExtractorFactory createSearchResultExtractorFactory();
 
+	/**
+	 * @return {@code true} if this version of Elasticsearch supports opening a point in time
+	 * and paging through it with {@code search_after}, with an implicit tiebreaker on {@code _shard_doc}.
+	 */
+	boolean isPointInTimeSupported();
+
 }
@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollStrategyName;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -56,6 +57,18 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<ElasticsearchScrollStrategyName> SCROLL_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_STRATEGY )
+					.as( ElasticsearchScrollStrategyName.class, ElasticsearchScrollStrategyName::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> SEARCH_RESPONSE_STREAMING_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_RESPONSE_STREAMING_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_RESPONSE_STREAMING_ENABLED )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -71,6 +84,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkFactory workFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private boolean pointInTimeScrollEnabled;
+	private boolean searchResponseStreamingEnabled;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -126,6 +141,18 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public boolean isPointInTimeScrollEnabled() {
+		checkStarted();
+		return pointInTimeScrollEnabled;
+	}
+
+	@Override
+	public boolean isSearchResponseStreamingEnabled() {
+		checkStarted();
+		return searchResponseStreamingEnabled;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -148,6 +175,8 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			workFactory = protocolDialect.createWorkFactory( gsonProvider );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			pointInTimeScrollEnabled = initPointInTimeScrollEnabled( propertySource, protocolDialect );
+			searchResponseStreamingEnabled = SEARCH_RESPONSE_STREAMING_ENABLED.get( propertySource );
 		}
 	}
 
@@ -166,6 +195,18 @@ private void checkStarted() {
 		}
 	}
 
+	private boolean initPointInTimeScrollEnabled(ConfigurationPropertySource propertySource,
+			ElasticsearchProtocolDialect protocolDialect) {
+		if ( !ElasticsearchScrollStrategyName.POINT_IN_TIME.equals( SCROLL_STRATEGY.get( propertySource ) ) ) {
+			return false;
+		}
+		if ( !protocolDialect.isPointInTimeSupported() ) {
+			log.pointInTimeScrollNotSupported( elasticsearchVersion );
+			return false;
+		}
+		return true;
+	}
+
 	private ElasticsearchVersion initVersion(ConfigurationPropertySource propertySource) {
 		boolean versionCheckEnabled = VERSION_CHECK_ENABLED.get( propertySource );
 		Optional<ElasticsearchVersion> configuredVersionOptional = VERSION.getAndTransform( propertySource,
@@ -162,7 +162,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
 				scope, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(), link.isPointInTimeScrollEnabled(), link.isSearchResponseStreamingEnabled()
 		);
 	}
 
@@ -35,4 +35,8 @@ public interface ElasticsearchLink {
 
 	Integer getScrollTimeout();
 
+	boolean isPointInTimeScrollEnabled();
+
+	boolean isSearchResponseStreamingEnabled();
+
 }
@@ -726,4 +726,14 @@ SearchException invalidContextForProjectionOnField(String absolutePath,
 	SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(String absolutePath,
 			String objectFieldAbsolutePath);
 
+	@Message(id = ID_OFFSET + 156, value = "Invalid name for the scroll strategy: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidScrollStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET + 157,
+			value = "The Elasticsearch version running on the cluster, '%1$s', does not support scrolling with a point in time."
+					+ " Falling back to the scroll API.")
+	void pointInTimeScrollNotSupported(ElasticsearchVersion version);
+
 }
@@ -9,10 +9,11 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
 import org.hibernate.search.util.common.impl.Futures;
 
-class ElasticsearchBatchedWork<T> implements BatchedWork<ElasticsearchBatchedWorkProcessor> {
+class ElasticsearchBatchedWork<T> implements CoalescableBatchedWork<ElasticsearchBatchedWorkProcessor> {
 	private final IndexingWork<T> work;
 	private final CompletableFuture<T> future;
 
@@ -31,6 +32,27 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object coalescingKey() {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			return ( (SingleDocumentIndexingWork) work ).getDocumentKey();
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Single-document works either index the whole document, replacing any previous version, or delete it.
+		return work instanceof SingleDocumentIndexingWork;
+	}
+
+	@Override
+	public CompletableFuture<T> future() {
+		return future;
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
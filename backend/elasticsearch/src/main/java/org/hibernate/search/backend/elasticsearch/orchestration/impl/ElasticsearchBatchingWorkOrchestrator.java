@@ -13,8 +13,10 @@
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchSizingPolicy;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
@@ -47,12 +49,34 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> BATCH_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BATCH_TARGET_LATENCY )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_MAX_LINGER =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BATCH_MAX_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BATCH_MAX_LINGER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BATCH_COALESCING =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BATCH_COALESCING )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BATCH_COALESCING )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asIntegerStrictlyPositive()
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -83,19 +107,26 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		BatchSizingPolicy sizingPolicy = BATCH_TARGET_LATENCY.get( propertySource )
+				.map( targetLatency -> BatchSizingPolicy.adaptive( targetLatency, BATCH_MAX_LINGER.get( propertySource ) ) )
+				.orElseGet( BatchSizingPolicy::fixed );
+		boolean coalescing = BATCH_COALESCING.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		Integer maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).orElse( null );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize, maxBulkBytes );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					sizingPolicy,
+					coalescing,
 					failureHandler
 			) );
 		}
@@ -127,13 +158,15 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, Integer maxBulkBytes) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				maxBulkSize,
+				link.getGsonProvider().getGson(),
+				maxBulkBytes
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
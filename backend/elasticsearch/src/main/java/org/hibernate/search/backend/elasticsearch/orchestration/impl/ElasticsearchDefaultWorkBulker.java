@@ -16,13 +16,18 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
+
 class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final Gson gson;
+	private final Integer maxBulkBytes;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +42,30 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, null, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param gson The Gson instance used to serialize works in order to measure their size.
+	 * Ignored if {@code maxBulkBytes} is {@code null}.
+	 * @param maxBulkBytes Maximum size of the payload of a single bulk, in bytes, or {@code null} for no limit.
+	 * If adding a work to a bulk would make it exceed this size, the bulk will be automatically
+	 * {@link #finalizeBulkWork() finalized} before the work is added to a new bulk.
+	 * A work larger than this size will still be executed, alone in its bulk.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, Gson gson, Integer maxBulkBytes) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.gson = gson;
+		this.maxBulkBytes = maxBulkBytes;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,6 +84,17 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes != null ) {
+			// The serialized form will be reused when building the bulk request.
+			workBytes = work.serializeBulkableAction( gson ).sizeInBytes();
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the current bulk too large; start a new bulk.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +102,14 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize
+				|| maxBulkBytes != null && currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +131,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
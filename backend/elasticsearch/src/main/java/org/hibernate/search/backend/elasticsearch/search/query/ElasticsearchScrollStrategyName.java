@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+@Incubating
+public enum ElasticsearchScrollStrategyName {
+
+	/**
+	 * Rely on the scroll API of Elasticsearch.
+	 * <p>
+	 * Works with all versions of Elasticsearch,
+	 * but keeps a search context open on the cluster until the scroll is closed or times out.
+	 */
+	SCROLL("scroll"),
+	/**
+	 * Rely on a point in time and on the {@code search_after} parameter.
+	 * <p>
+	 * Lighter on the cluster than the scroll API, in particular for very deep scrolls,
+	 * but only available on Elasticsearch 7.12 and later:
+	 * on other versions, Hibernate Search will fall back to {@link #SCROLL}.
+	 */
+	POINT_IN_TIME("point-in-time");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ElasticsearchScrollStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ElasticsearchScrollStrategyName.values(),
+				ElasticsearchScrollStrategyName::externalRepresentation,
+				log::invalidScrollStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ElasticsearchScrollStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -13,8 +16,10 @@
 import java.util.Map;
 import java.util.Optional;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
@@ -24,13 +29,21 @@
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 import org.hibernate.search.engine.common.timing.Deadline;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 class Elasticsearch7SearchResultExtractor<H> implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String HITS_PROPERTY_NAME = "hits";
+
 	protected static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
@@ -55,6 +68,12 @@
 	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
 			JsonAccessor.root().property( "_scroll_id" ).asString();
 
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HIT_SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR =
 			JsonAccessor.root().property( "_source" ).asObject();
 
@@ -74,13 +93,73 @@
 		this.aggregations = aggregations;
 	}
 
+	@Override
+	public ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response, Deadline deadline) {
+		Reader bodyReader = response.takeBodyReader();
+		if ( bodyReader == null ) {
+			return extract( response.body(), deadline );
+		}
+		try ( JsonReader jsonReader = new JsonReader( bodyReader ) ) {
+			return extract( jsonReader, deadline );
+		}
+		catch (IOException e) {
+			throw log.failedToParseElasticsearchResponse( response.statusCode(), response.statusMessage(),
+					e.getMessage(), e );
+		}
+	}
+
 	@Override
 	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 			Deadline deadline) {
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				responseBody
 		);
+		return extract( extractContext, responseBody, null, deadline );
+	}
+
+	@Override
+	public ElasticsearchLoadableSearchResult<H> extract(JsonReader responseBodyReader,
+			Deadline deadline) throws IOException {
+		// Everything but the hits is collected into a JSON object, which is generally small,
+		// and is used to extract the rest of the result (total, aggregations, ...).
+		// Hits, on the other hand, are extracted as soon as they are read,
+		// so that the JSON tree of a single hit is kept in memory at any given time.
+		JsonObject responseBody = new JsonObject();
+		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				responseBody
+		);
+		StreamedHits streamedHits = StreamedHits.EMPTY;
+
+		responseBodyReader.beginObject();
+		while ( responseBodyReader.hasNext() ) {
+			String name = responseBodyReader.nextName();
+			if ( HITS_PROPERTY_NAME.equals( name ) && responseBodyReader.peek() == JsonToken.BEGIN_OBJECT ) {
+				JsonObject hits = new JsonObject();
+				responseBody.add( name, hits );
+				responseBodyReader.beginObject();
+				while ( responseBodyReader.hasNext() ) {
+					String hitsPropertyName = responseBodyReader.nextName();
+					if ( HITS_PROPERTY_NAME.equals( hitsPropertyName )
+							&& responseBodyReader.peek() == JsonToken.BEGIN_ARRAY ) {
+						streamedHits = extractHits( extractContext, responseBodyReader );
+					}
+					else {
+						hits.add( hitsPropertyName, JsonParser.parseReader( responseBodyReader ) );
+					}
+				}
+				responseBodyReader.endObject();
+			}
+			else {
+				responseBody.add( name, JsonParser.parseReader( responseBodyReader ) );
+			}
+		}
+		responseBodyReader.endObject();
+
+		return extract( extractContext, responseBody, streamedHits, deadline );
+	}
 
+	private ElasticsearchLoadableSearchResult<H> extract(ElasticsearchSearchQueryExtractContext extractContext,
+			JsonObject responseBody, StreamedHits streamedHitsOrNull, Deadline deadline) {
 		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
 		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
 
@@ -91,13 +170,23 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
 		}
 
-		List<Object> extractedHits = ( total.isHitCountLowerBound() || total.hitCount() > 0 ) ?
-				extractHits( extractContext ) : Collections.emptyList();
+		List<Object> extractedHits;
+		JsonArray lastHitSortValues;
+		if ( streamedHitsOrNull != null ) {
+			extractedHits = streamedHitsOrNull.hits;
+			lastHitSortValues = streamedHitsOrNull.lastHitSortValues;
+		}
+		else {
+			extractedHits = ( total.isHitCountLowerBound() || total.hitCount() > 0 ) ?
+					extractHits( extractContext ) : Collections.emptyList();
+			lastHitSortValues = extractLastHitSortValues( responseBody );
+		}
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
 		String scrollId = extractScrollId( responseBody );
+		String pointInTimeId = POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).orElse( null );
 
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
@@ -106,6 +195,7 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut, scrollId,
+				pointInTimeId, lastHitSortValues,
 				deadline
 		);
 	}
@@ -127,16 +217,45 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
 
 		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
-			JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
-			extractedData.add( rootExtractor.extract(
-					hitMapper, hitObject, source, projectionExtractContext
-			) );
+			extractedData.add( extractHit( hitMapper, hit.getAsJsonObject(), projectionExtractContext ) );
 		}
 
 		return extractedData;
 	}
 
+	private StreamedHits extractHits(ElasticsearchSearchQueryExtractContext extractContext,
+			JsonReader hitsReader) throws IOException {
+		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
+		ProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
+		List<Object> extractedData = new ArrayList<>();
+		JsonObject lastHitObject = null;
+
+		hitsReader.beginArray();
+		while ( hitsReader.hasNext() ) {
+			JsonObject hitObject = JsonParser.parseReader( hitsReader ).getAsJsonObject();
+			extractedData.add( extractHit( hitMapper, hitObject, projectionExtractContext ) );
+			lastHitObject = hitObject;
+		}
+		hitsReader.endArray();
+
+		return new StreamedHits( extractedData,
+				lastHitObject == null ? null : HIT_SORT_ACCESSOR.get( lastHitObject ).orElse( null ) );
+	}
+
+	private JsonArray extractLastHitSortValues(JsonObject responseBody) {
+		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElse( null );
+		if ( jsonHits == null || jsonHits.size() == 0 ) {
+			return null;
+		}
+		return HIT_SORT_ACCESSOR.get( jsonHits.get( jsonHits.size() - 1 ).getAsJsonObject() ).orElse( null );
+	}
+
+	private Object extractHit(ProjectionHitMapper<?, ?> hitMapper, JsonObject hitObject,
+			ProjectionExtractContext projectionExtractContext) {
+		JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
+		return rootExtractor.extract( hitMapper, hitObject, source, projectionExtractContext );
+	}
+
 	private Map<AggregationKey<?>, ?> extractAggregations(ElasticsearchSearchQueryExtractContext extractContext,
 			JsonObject responseBody) {
 		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
@@ -157,4 +276,16 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
+
+	private static final class StreamedHits {
+		private static final StreamedHits EMPTY = new StreamedHits( Collections.emptyList(), null );
+
+		private final List<Object> hits;
+		private final JsonArray lastHitSortValues;
+
+		private StreamedHits(List<Object> hits, JsonArray lastHitSortValues) {
+			this.hits = hits;
+			this.lastHitSortValues = lastHitSortValues;
+		}
+	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A scroll relying on a point in time and on {@code search_after},
+ * instead of the scroll API.
+ * <p>
+ * The point in time is opened lazily, on the first call to {@link #next()},
+ * and each subsequent page starts after the sort values of the last hit of the previous page.
+ * Since a point in time is a frozen view of the indexes,
+ * the total hit count is only computed for the first page.
+ */
+public class ElasticsearchSearchPointInTimeScrollImpl<H> implements ElasticsearchSearchScroll<H> {
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkFactory workFactory;
+	private final OpenPointInTimeWork.Builder openPointInTime;
+	private final Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier;
+	private final int chunkSize;
+	private final String keepAlive;
+	private final TimeoutManager timeoutManager;
+
+	private String pointInTimeId;
+	private JsonArray searchAfter;
+	private SearchResultTotal total;
+
+	public ElasticsearchSearchPointInTimeScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkFactory workFactory,
+			OpenPointInTimeWork.Builder openPointInTime,
+			Supplier<SearchWork.Builder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderSupplier,
+			int chunkSize, String keepAlive,
+			TimeoutManager timeoutManager) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.openPointInTime = openPointInTime;
+		this.searchWorkBuilderSupplier = searchWorkBuilderSupplier;
+		this.chunkSize = chunkSize;
+		this.keepAlive = keepAlive;
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public void close() {
+		if ( pointInTimeId != null ) {
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit(
+					workFactory.closePointInTime( pointInTimeId ).build() ) );
+		}
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+
+		if ( pointInTimeId == null ) {
+			pointInTimeId = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( openPointInTime.build() ) );
+		}
+
+		// Must be created after the timeout manager was started, so that the deadline is correct.
+		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> page = searchWorkBuilderSupplier.get()
+				.paging( chunkSize, null )
+				.pointInTime( pointInTimeId, keepAlive );
+		if ( searchAfter != null ) {
+			page.searchAfter( searchAfter )
+					// The point in time is a frozen view: the total hit count cannot change.
+					.disableTrackTotalHits();
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableSearchResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( page.build() ) );
+		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+
+		// Elasticsearch may return a different id for the point in time on each page.
+		if ( loadableSearchResult.pointInTimeId() != null ) {
+			pointInTimeId = loadableSearchResult.pointInTimeId();
+		}
+		if ( loadableSearchResult.lastHitSortValues() != null ) {
+			searchAfter = loadableSearchResult.lastHitSortValues();
+		}
+		if ( total == null ) {
+			total = searchResult.total();
+		}
+
+		timeoutManager.stop();
+
+		return new ElasticsearchSearchScrollResultImpl<>( total, loadableSearchResult.hasHits(),
+				searchResult.hits(), searchResult.took(), searchResult.timedOut() );
+	}
+}
@@ -67,6 +67,8 @@
 	private final SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<H> rootProjection;
 	private final Integer scrollTimeout;
+	private final boolean pointInTimeScroll;
+	private final boolean streamResponseBody;
 
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
@@ -87,7 +89,7 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, boolean pointInTimeScroll, boolean streamResponseBody) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -100,6 +102,8 @@ public ElasticsearchSearchQueryBuilder(
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.pointInTimeScroll = pointInTimeScroll;
+		this.streamResponseBody = streamResponseBody;
 	}
 
 	@Override
@@ -252,7 +256,7 @@ public ElasticsearchSearchQuery<H> build() {
 				payload, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, pointInTimeScroll, streamResponseBody, totalHitCountThreshold
 		);
 	}
 }
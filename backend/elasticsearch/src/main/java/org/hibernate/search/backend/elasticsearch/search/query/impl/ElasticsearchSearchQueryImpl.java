@@ -27,6 +27,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -60,6 +61,8 @@
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
+	private final boolean pointInTimeScroll;
+	private final boolean streamResponseBody;
 	private final Long totalHitCountThreshold;
 
 	/**
@@ -78,7 +81,8 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			TimeoutManager timeoutManager, Integer scrollTimeout, boolean pointInTimeScroll, boolean streamResponseBody,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.scope = scope;
@@ -90,6 +94,8 @@
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
+		this.pointInTimeScroll = pointInTimeScroll;
+		this.streamResponseBody = streamResponseBody;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.maxResultWindow = scope.maxResultWindow();
 	}
@@ -198,11 +204,21 @@ public long fetchTotalHitCount() {
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
 
+		if ( pointInTimeScroll ) {
+			OpenPointInTimeWork.Builder openPointInTime = workFactory.openPointInTime( scrollTimeoutString )
+					.routingKeys( routingKeys );
+			for ( ElasticsearchSearchIndexContext index : scope.indexes() ) {
+				openPointInTime.index( index.names().read() );
+			}
+			return new ElasticsearchSearchPointInTimeScrollImpl<>( queryOrchestrator, workFactory, openPointInTime,
+					this::searchWorkBuilder, chunkSize, scrollTimeoutString, timeoutManager );
+		}
+
 		SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
 				.scrolling( chunkSize, scrollTimeoutString );
 
 		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, searchResultExtractor,
-				scrollTimeoutString, firstScroll, timeoutManager );
+				scrollTimeoutString, streamResponseBody, firstScroll, timeoutManager );
 	}
 
 	@Override
@@ -242,6 +258,7 @@ private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuild
 		builder
 				.routingKeys( routingKeys )
 				.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+				.streamResponseBody( streamResponseBody )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
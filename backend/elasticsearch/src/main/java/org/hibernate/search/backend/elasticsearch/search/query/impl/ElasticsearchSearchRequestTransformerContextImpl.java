@@ -94,6 +94,8 @@ public ElasticsearchRequest apply(ElasticsearchSearchRequestTransformer transfor
 			builder.body( body );
 		}
 
+		builder.streamResponseBody( originalRequest.streamResponseBody() );
+
 		return builder.build();
 	}
 }
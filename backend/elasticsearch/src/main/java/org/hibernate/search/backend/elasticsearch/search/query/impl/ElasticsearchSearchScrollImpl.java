@@ -23,6 +23,7 @@
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final String scrollTimeoutString;
+	private final boolean streamResponseBody;
 	private final SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll;
 	private final TimeoutManager timeoutManager;
 
@@ -31,13 +32,14 @@
 	public ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			String scrollTimeoutString,
+			String scrollTimeoutString, boolean streamResponseBody,
 			SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> firstScroll,
 			TimeoutManager timeoutManager) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchResultExtractor = searchResultExtractor;
 		this.scrollTimeoutString = scrollTimeoutString;
+		this.streamResponseBody = streamResponseBody;
 		this.firstScroll = firstScroll;
 		this.timeoutManager = timeoutManager;
 	}
@@ -56,6 +58,7 @@ public ElasticsearchSearchScrollResult<H> next() {
 		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null ) ? firstScroll.build() :
 				workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
 						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+						.streamResponseBody( streamResponseBody )
 						.build();
 
 		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( scroll ) );
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,16 +19,24 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS_SETTING = "index.number_of_replicas";
+	private static final String TRANSLOG_DURABILITY_SETTING = "index.translog.durability";
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchParallelWorkOrchestrator orchestrator;
 	private final URLEncodedString indexName;
 	private final DetachedBackendSessionContext sessionContext;
 
+	private volatile JsonObject settingsBeforeBulkLoad;
+
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchParallelWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -77,4 +86,45 @@ public CompletableFuture<?> flush() {
 	public CompletableFuture<?> refresh() {
 		return orchestrator.submit( workFactory.refresh().index( indexName ).build() );
 	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		if ( settingsBeforeBulkLoad != null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return orchestrator.submit( workFactory.getIndexSettings( indexName ).build() )
+				.thenCompose( currentSettings -> {
+					JsonObject bulkLoadSettings = bulkLoadSettings();
+					JsonObject settingsToRestore = new JsonObject();
+					for ( Map.Entry<String, JsonElement> entry : bulkLoadSettings.entrySet() ) {
+						JsonElement currentValue = currentSettings.get( entry.getKey() );
+						// Settings that were not set explicitly will be reset to their default.
+						settingsToRestore.add( entry.getKey(), currentValue == null ? JsonNull.INSTANCE : currentValue );
+					}
+					// Remember the settings before changing them, so that they get restored even if the change fails.
+					settingsBeforeBulkLoad = settingsToRestore;
+					return orchestrator.submit( workFactory.putIndexSettings( indexName, bulkLoadSettings ).build() );
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		JsonObject settingsToRestore = settingsBeforeBulkLoad;
+		if ( settingsToRestore == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		settingsBeforeBulkLoad = null;
+		return orchestrator.submit( workFactory.putIndexSettings( indexName, settingsToRestore ).build() );
+	}
+
+	private static JsonObject bulkLoadSettings() {
+		JsonObject settings = new JsonObject();
+		// Don't refresh periodically: we'll refresh explicitly at the end.
+		settings.addProperty( REFRESH_INTERVAL_SETTING, "-1" );
+		// Don't replicate each write: replicas will catch up once, at the end.
+		settings.addProperty( NUMBER_OF_REPLICAS_SETTING, "0" );
+		// Don't fsync the translog on each request: we'll flush explicitly at the end.
+		settings.addProperty( TRANSLOG_DURABILITY_SETTING, "async" );
+		return settings;
+	}
 }
@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -29,8 +30,10 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -118,6 +121,16 @@ public ClearScrollWork.Builder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public OpenPointInTimeWork.Builder openPointInTime(String keepAlive) {
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+	@Override
+	public ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId) {
+		return new ClosePointInTimeWork.Builder( pointInTimeId );
+	}
+
 	@Override
 	public CreateIndexWork.Builder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName );
@@ -148,6 +161,16 @@ public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName,
 		return new PutIndexSettingsWork.Builder( gsonProvider, indexName, settings );
 	}
 
+	@Override
+	public GetIndexSettingsWork.Builder getIndexSettings(URLEncodedString indexName) {
+		return new GetIndexSettingsWork.Builder( indexName );
+	}
+
+	@Override
+	public PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		return new PutIndexSettingsWork.Builder( indexName, settings );
+	}
+
 	@Override
 	public PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		return PutIndexMappingWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName, mapping );
@@ -18,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteByQueryWork;
@@ -28,8 +29,10 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -72,6 +75,10 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	ClearScrollWork.Builder clearScroll(String scrollId);
 
+	OpenPointInTimeWork.Builder openPointInTime(String keepAlive);
+
+	ClosePointInTimeWork.Builder closePointInTime(String pointInTimeId);
+
 	CreateIndexWork.Builder createIndex(URLEncodedString indexName);
 
 	DropIndexWork.Builder dropIndex(URLEncodedString indexName);
@@ -84,6 +91,10 @@ <T> ScrollWork.Builder<T> scroll(String scrollId, String scrollTimeout,
 
 	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, IndexSettings settings);
 
+	GetIndexSettingsWork.Builder getIndexSettings(URLEncodedString indexName);
+
+	PutIndexSettingsWork.Builder putIndexSettings(URLEncodedString indexName, JsonObject settings);
+
 	PutIndexMappingWork.Builder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping);
 
 	WaitForIndexStatusWork.Builder waitForIndexStatusWork(URLEncodedString indexName, IndexStatus requiredStatus,
@@ -7,11 +7,15 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -30,6 +34,9 @@
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
+	// Serialization is deterministic, so concurrent initializations are harmless.
+	private volatile SerializedBulkableAction serializedBulkableAction;
+
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
@@ -55,6 +62,14 @@ public Object getEntityIdentifier() {
 		return entityIdentifier;
 	}
 
+	@Override
+	public Object getDocumentKey() {
+		// The action metadata is a single property whose name is the action ("index", "delete")
+		// and whose value identifies the target document: index name, document ID, routing key.
+		Map.Entry<String, JsonElement> action = bulkableActionMetadata.entrySet().iterator().next();
+		return new DocumentKey( action.getValue(), refreshStrategy );
+	}
+
 	@Override
 	public DocumentRefreshStrategy getRefreshStrategy() {
 		return refreshStrategy;
@@ -70,6 +85,21 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public SerializedBulkableAction serializeBulkableAction(Gson gson) {
+		SerializedBulkableAction result = serializedBulkableAction;
+		if ( result == null ) {
+			result = SerializedBulkableAction.of( gson, bulkableActionMetadata, bulkableActionBody );
+			serializedBulkableAction = result;
+		}
+		return result;
+	}
+
+	@Override
+	public SerializedBulkableAction getSerializedBulkableAction() {
+		return serializedBulkableAction;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
@@ -86,6 +116,34 @@ public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObje
 		return null;
 	}
 
+	private static final class DocumentKey {
+		private final JsonElement target;
+		private final DocumentRefreshStrategy refreshStrategy;
+
+		private DocumentKey(JsonElement target, DocumentRefreshStrategy refreshStrategy) {
+			this.target = target;
+			this.refreshStrategy = refreshStrategy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return target.equals( other.target )
+					&& refreshStrategy == other.refreshStrategy;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( target, refreshStrategy );
+		}
+	}
+
 	protected abstract static class AbstractBuilder<B> {
 		private final ElasticsearchRequestSuccessAssessor resultAssessor;
 
@@ -63,10 +63,12 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
-				builder.body( work.getBulkableActionMetadata() );
+				// Reuse the serialized form of the work if it was already computed, e.g. to measure the bulk size.
+				SerializedBulkableAction serialized = work.getSerializedBulkableAction();
+				builder.body( work.getBulkableActionMetadata(), serialized == null ? null : serialized.metadata() );
 				JsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
-					builder.body( actionBody );
+					builder.body( actionBody, serialized == null ? null : serialized.body() );
 				}
 			}
 
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
@@ -19,6 +20,23 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * Serializes the action metadata and body of this work, unless they were serialized already.
+	 * <p>
+	 * The serialized form can then be used to measure the size of this work in a bulk request,
+	 * and is reused as-is when building the bulk request.
+	 *
+	 * @param gson The Gson instance to serialize JSON with.
+	 * @return The serialized action.
+	 */
+	SerializedBulkableAction serializeBulkableAction(Gson gson);
+
+	/**
+	 * @return The serialized action, if {@link #serializeBulkableAction(Gson)} was called already,
+	 * or {@code null}.
+	 */
+	SerializedBulkableAction getSerializedBulkableAction();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
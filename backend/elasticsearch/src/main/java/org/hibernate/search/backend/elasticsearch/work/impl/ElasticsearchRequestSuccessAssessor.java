@@ -85,8 +85,12 @@ public String toString() {
 	 * @throws SearchException If the result is a failure.
 	 */
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.body();
 		Optional<Integer> statusCode = Optional.of( response.statusCode() );
+		if ( isSuccessStatus( statusCode ) ) {
+			// Don't access the body unless necessary: it may be streamed.
+			return;
+		}
+		JsonObject responseBody = response.body();
 		checkSuccess( statusCode, responseBody );
 	}
 
@@ -114,11 +118,15 @@ private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody)
 	}
 
 	private boolean isSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
+		return isSuccessStatus( statusCode )
+				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+	}
+
+	private boolean isSuccessStatus(Optional<Integer> statusCode) {
 		return statusCode.map(
 				c -> ElasticsearchClientUtils.isSuccessCode( c ) || ignoredErrorStatuses.contains( c )
 				)
-				.orElse( false )
-				|| ERROR_TYPE.get( responseBody ).map( ignoredErrorTypes::contains ).orElse( false );
+				.orElse( false );
 	}
 
 }
@@ -6,12 +6,37 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public interface ElasticsearchSearchResultExtractor<R> {
 
 	R extract(JsonObject responseBody, Deadline deadline);
 
+	/**
+	 * Extracts the result from a response body that was not parsed yet,
+	 * without ever building the full JSON tree of the response in memory.
+	 *
+	 * @param responseBodyReader A reader positioned at the start of the response body.
+	 * @param deadline The deadline for the extraction, or {@code null}.
+	 * @return The extracted result.
+	 * @throws IOException If reading the response body fails.
+	 */
+	R extract(JsonReader responseBodyReader, Deadline deadline) throws IOException;
+
+	/**
+	 * Extracts the result from the given response,
+	 * streaming through its body if it was not parsed yet.
+	 *
+	 * @param response The response.
+	 * @param deadline The deadline for the extraction, or {@code null}.
+	 * @return The extracted result.
+	 */
+	R extract(ElasticsearchResponse response, Deadline deadline);
+
 }
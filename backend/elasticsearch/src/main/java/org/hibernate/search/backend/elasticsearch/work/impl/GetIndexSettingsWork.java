@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Retrieves the settings of a single index, as flat settings ({@code "index.refresh_interval": "1s"}).
+ */
+public class GetIndexSettingsWork extends AbstractNonBulkableWork<JsonObject> {
+
+	protected GetIndexSettingsWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected JsonObject generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonObject body = response.body();
+		// The index name may be an alias: the response is keyed by the actual index name.
+		for ( Map.Entry<String, JsonElement> entry : body.entrySet() ) {
+			JsonElement settings = entry.getValue().getAsJsonObject().get( "settings" );
+			if ( settings == null || !settings.isJsonObject() ) {
+				throw new AssertionFailure( "Elasticsearch API call succeeded, but the requested settings weren't mentioned in the result: " + body );
+			}
+			return settings.getAsJsonObject();
+		}
+		throw new AssertionFailure( "Elasticsearch API call succeeded, but the requested index wasn't mentioned in the result: " + body );
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder> {
+
+		private final URLEncodedString indexName;
+
+		public Builder(URLEncodedString indexName) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.indexName = indexName;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.get()
+					.pathComponent( indexName )
+					.pathComponent( Paths._SETTINGS )
+					.param( "flat_settings", true );
+
+			return builder.build();
+		}
+
+		@Override
+		public GetIndexSettingsWork build() {
+			return new GetIndexSettingsWork( this );
+		}
+	}
+}
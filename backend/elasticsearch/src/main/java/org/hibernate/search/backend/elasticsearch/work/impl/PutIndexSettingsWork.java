@@ -46,6 +46,17 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		/**
+		 * @param indexName The name of the index.
+		 * @param payload The settings to put, as JSON.
+		 * Settings set to {@code null} are reset to their default value.
+		 */
+		public Builder(URLEncodedString indexName, JsonObject payload) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			this.indexName = indexName;
+			this.payload = payload;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -29,8 +29,7 @@ protected ScrollWork(Builder<R> builder) {
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.body();
-		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
+		return resultExtractor.extract( response, failOnDeadline ? deadline : null );
 	}
 
 	public static class Builder<R>
@@ -40,6 +39,7 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private boolean streamResponseBody;
 
 		public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultExtractor<R> resultExtractor) {
 			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
@@ -54,6 +54,11 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		public Builder<R> streamResponseBody(boolean streamResponseBody) {
+			this.streamResponseBody = streamResponseBody;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			JsonObject body = new JsonObject();
@@ -64,7 +69,8 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 					.pathComponent( Paths._SEARCH )
 					.pathComponent( Paths.SCROLL )
-					.body( body );
+					.body( body )
+					.streamResponseBody( streamResponseBody );
 
 			return builder.build();
 		}
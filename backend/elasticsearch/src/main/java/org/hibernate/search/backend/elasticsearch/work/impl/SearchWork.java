@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,7 +20,10 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
@@ -49,8 +53,7 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.body();
-		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
+		return resultExtractor.extract( response, failOnDeadline ? deadline : null );
 	}
 
 	public static class Builder<R>
@@ -83,9 +86,13 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Integer size;
 		private Integer scrollSize;
 		private String scrollTimeout;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private boolean streamResponseBody;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -113,6 +120,17 @@ public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			return this;
 		}
 
+		public Builder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		public Builder<R> searchAfter(JsonArray searchAfter) {
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
 		public Builder<R> routingKeys(Set<String> routingKeys) {
 			this.routingKeys = routingKeys;
 			return this;
@@ -124,6 +142,11 @@ public Builder<R> deadline(Deadline deadline, boolean failOnDeadline) {
 			return this;
 		}
 
+		public Builder<R> streamResponseBody(boolean streamResponseBody) {
+			this.streamResponseBody = streamResponseBody;
+			return this;
+		}
+
 		public Builder<R> disableTrackTotalHits() {
 			// setting trackTotalHits to false only if this parameter was already set,
 			// the parameter is not supported by the older Elasticsearch server
@@ -144,11 +167,21 @@ public Builder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
 
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.multiValuedPathComponent( indexes )
-					.pathComponent( Paths._SEARCH )
-					.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes )
+						.pathComponent( Paths._SEARCH )
+						.body( payload );
+			}
+			else {
+				// Indexes cannot be passed to searches targeting a point in time:
+				// they were passed when opening the point in time.
+				builder.pathComponent( Paths._SEARCH )
+						.body( pointInTimePayload() );
+			}
+
+			builder.streamResponseBody( streamResponseBody );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -163,7 +196,9 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			// Routing cannot be passed to searches targeting a point in time:
+			// it was passed when opening the point in time.
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -187,6 +222,33 @@ public SearchWork<R> build() {
 			return new SearchWork<>( this );
 		}
 
+		private JsonObject pointInTimePayload() {
+			// Shallow copy: we only add top-level properties, and the payload is shared by all pages.
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+
+			JsonObject pit = new JsonObject();
+			pit.addProperty( "id", pointInTimeId );
+			pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+			result.add( "pit", pit );
+
+			if ( !result.has( "sort" ) ) {
+				// search_after needs sort values in hits, which are only returned with an explicit sort.
+				// Elasticsearch will add an implicit tiebreaker on "_shard_doc".
+				JsonArray sort = new JsonArray();
+				sort.add( new JsonPrimitive( "_score" ) );
+				result.add( "sort", sort );
+			}
+
+			if ( searchAfter != null ) {
+				result.add( "search_after", searchAfter );
+			}
+
+			return result;
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
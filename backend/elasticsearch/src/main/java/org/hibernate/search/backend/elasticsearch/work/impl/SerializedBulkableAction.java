@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * The JSON serialization of the action of a {@link BulkableWork},
+ * i.e. its metadata and body, as it will appear in a bulk request.
+ */
+public final class SerializedBulkableAction {
+
+	public static SerializedBulkableAction of(Gson gson, JsonObject metadata, JsonObject body) {
+		String serializedMetadata = gson.toJson( metadata );
+		// Each part is followed by a line separator in bulk requests.
+		long sizeInBytes = utf8Length( serializedMetadata ) + 1;
+		String serializedBody = null;
+		if ( body != null ) {
+			serializedBody = gson.toJson( body );
+			sizeInBytes += utf8Length( serializedBody ) + 1;
+		}
+		return new SerializedBulkableAction( serializedMetadata, serializedBody, sizeInBytes );
+	}
+
+	private final String metadata;
+	private final String body;
+	private final long sizeInBytes;
+
+	private SerializedBulkableAction(String metadata, String body, long sizeInBytes) {
+		this.metadata = metadata;
+		this.body = body;
+		this.sizeInBytes = sizeInBytes;
+	}
+
+	public String metadata() {
+		return metadata;
+	}
+
+	/**
+	 * @return The serialized body, or {@code null} if the action doesn't have a body.
+	 */
+	public String body() {
+		return body;
+	}
+
+	/**
+	 * @return The size of this action in a bulk request, in bytes, including line separators.
+	 */
+	public long sizeInBytes() {
+		return sizeInBytes;
+	}
+
+	private static long utf8Length(String string) {
+		int charCount = string.length();
+		long length = 0;
+		int i = 0;
+		while ( i < charCount ) {
+			char c = string.charAt( i );
+			if ( c < 0x80 ) {
+				length += 1;
+			}
+			else if ( c < 0x800 ) {
+				length += 2;
+			}
+			else if ( Character.isHighSurrogate( c ) && i + 1 < charCount
+					&& Character.isLowSurrogate( string.charAt( i + 1 ) ) ) {
+				// A surrogate pair: a single code point encoded on 4 bytes.
+				length += 4;
+				i++;
+			}
+			else {
+				length += 3;
+			}
+			i++;
+		}
+		return length;
+	}
+}
@@ -12,4 +12,10 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Void> {
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document affected by this work, as well as how it will be refreshed,
+	 * such that two works with equal keys affect the same document and can be coalesced.
+	 */
+	Object getDocumentKey();
+
 }
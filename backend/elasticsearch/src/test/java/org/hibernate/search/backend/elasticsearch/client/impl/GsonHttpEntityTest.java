@@ -10,6 +10,7 @@
 import static org.junit.Assume.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -18,12 +19,15 @@
 import java.io.Reader;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -42,7 +46,7 @@
 @RunWith(Parameterized.class)
 public class GsonHttpEntityTest {
 
-	@Parameterized.Parameters(name = "{0}")
+	@Parameterized.Parameters(name = "{0}, gzip = {2}, preSerialized = {3}")
 	public static List<Object[]> params() {
 		List<Object[]> params = new ArrayList<>();
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
@@ -137,19 +141,40 @@ public static List<Object[]> params() {
 				)
 		} );
 
-		return params;
+		List<Object[]> paramsWithOptions = new ArrayList<>();
+		for ( Object[] param : params ) {
+			for ( boolean gzip : new boolean[] { false, true } ) {
+				for ( boolean preSerialized : new boolean[] { false, true } ) {
+					paramsWithOptions.add( new Object[] { param[0], param[1], gzip, preSerialized } );
+				}
+			}
+		}
+		return paramsWithOptions;
 	}
 
 	private final List<JsonObject> payload;
+	private final boolean gzip;
 	private final GsonHttpEntity gsonEntity;
 	private final String expectedPayloadString;
 	private final int expectedContentLength;
 
 	@SuppressWarnings("unused")
-	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws IOException {
+	public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload, boolean gzip, boolean preSerialized)
+			throws IOException {
 		this.payload = payload;
+		this.gzip = gzip;
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		if ( preSerialized ) {
+			// Only pre-serialize every other body part, to check that both kinds of body parts can be mixed.
+			List<String> serializedPayload = new ArrayList<>();
+			for ( int i = 0; i < payload.size(); i++ ) {
+				serializedPayload.add( i % 2 == 0 ? gson.toJson( payload.get( i ) ) : null );
+			}
+			this.gsonEntity = new GsonHttpEntity( gson, payload, serializedPayload, gzip );
+		}
+		else {
+			this.gsonEntity = new GsonHttpEntity( gson, payload, gzip );
+		}
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -160,11 +185,32 @@ public GsonHttpEntityTest(String ignoredLabel, List<JsonObject> payload) throws
 	}
 
 	@Test
-	public void initialContentLength() {
+	public void initialContentLength() throws IOException {
 		// The content length cannot be known from the start for large, multi-object payloads
 		assumeTrue( payload.size() <= 1 || expectedContentLength < 1024 );
 
-		assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		if ( gzip ) {
+			// We can't predict the compressed length, but it must match the content.
+			long initialContentLength = gsonEntity.getContentLength();
+			assertThat( initialContentLength ).isPositive();
+			assertThat( (long) doProduceContentBytes( gsonEntity, Integer.MAX_VALUE ).length )
+					.isEqualTo( initialContentLength );
+		}
+		else {
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		}
+	}
+
+	@Test
+	public void contentEncoding() {
+		Header contentEncoding = gsonEntity.getContentEncoding();
+		if ( gzip ) {
+			assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+			assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( contentEncoding ).isNull();
+		}
 	}
 
 	@Test
@@ -180,8 +226,7 @@ public void produceContent_noPushBack() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
 					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContentLength();
 		}
 	}
 
@@ -191,8 +236,7 @@ public void produceContent_pushBack_every5Bytes() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
 					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContentLength();
 		}
 	}
 
@@ -202,8 +246,7 @@ public void produceContent_pushBack_every100Bytes() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
 					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContentLength();
 		}
 	}
 
@@ -213,8 +256,7 @@ public void produceContent_pushBack_every500Bytes() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
 					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContentLength();
 		}
 	}
 
@@ -223,8 +265,7 @@ public void writeTo() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doWriteTo( gsonEntity ) )
 					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			assertContentLength();
 		}
 	}
 
@@ -233,18 +274,48 @@ public void getContent() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
 			assertThat( doGetContent( gsonEntity ) )
 					.isEqualTo( expectedPayloadString );
+			assertContentLength();
+		}
+	}
+
+	@Test
+	public void updateDigest() throws IOException, NoSuchAlgorithmException {
+		// Digest before producing content, in particular when the content was fully encoded upfront
+		byte[] digestBeforeProducingContent = doUpdateDigest( gsonEntity );
+		byte[] producedContent = doProduceContentBytes( gsonEntity, Integer.MAX_VALUE );
+		assertThat( decode( producedContent ) ).isEqualTo( expectedPayloadString );
+		byte[] expectedDigest = MessageDigest.getInstance( "SHA-256" ).digest( producedContent );
+		assertThat( digestBeforeProducingContent ).isEqualTo( expectedDigest );
+		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
+			assertThat( doUpdateDigest( gsonEntity ) ).isEqualTo( expectedDigest );
+			assertContentLength();
+		}
+	}
+
+	private void assertContentLength() throws IOException {
+		if ( gzip ) {
+			// We can't predict the compressed length, but it must match the content, whatever the write method.
+			assertThat( gsonEntity.getContentLength() )
+					.isEqualTo( doProduceContentBytes( gsonEntity, Integer.MAX_VALUE ).length )
+					.isEqualTo( doWriteToBytes( gsonEntity ).length );
+		}
+		else {
 			assertThat( gsonEntity.getContentLength() )
 					.isEqualTo( expectedContentLength );
 		}
 	}
 
 	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+		return decode( doProduceContentBytes( entity, pushBackPeriod ) );
+	}
+
+	private byte[] doProduceContentBytes(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
@@ -252,14 +323,39 @@ private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throw
 	}
 
 	private String doWriteTo(GsonHttpEntity entity) throws IOException {
+		return decode( doWriteToBytes( entity ) );
+	}
+
+	private byte[] doWriteToBytes(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
-			return outputStream.toString( StandardCharsets.UTF_8.name() );
+			return outputStream.toByteArray();
+		}
+	}
+
+	private byte[] doUpdateDigest(GsonHttpEntity entity) throws IOException, NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+		entity.updateDigest( digest );
+		return digest.digest();
+	}
+
+	private String decode(byte[] bytes) throws IOException {
+		if ( !gzip ) {
+			return new String( bytes, StandardCharsets.UTF_8 );
+		}
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				outputStream.write( buffer, 0, read );
+			}
+			return new String( outputStream.toByteArray(), StandardCharsets.UTF_8 );
 		}
 	}
 
 	private String doGetContent(GsonHttpEntity entity) throws IOException {
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = gzip ? new GZIPInputStream( entity.getContent() ) : entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, StandardCharsets.UTF_8 );
 				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
 			StringBuilder builder = new StringBuilder();
@@ -22,6 +22,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch80ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch81ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
@@ -234,7 +235,7 @@ public void elastic_7_0_0_beta1() {
 	public void elastic_7() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7", "7.16.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -486,7 +487,7 @@ public void elastic_7_11_1() {
 	public void elastic_7_12() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.12", "7.12.1",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -495,7 +496,7 @@ public void elastic_7_12() {
 	public void elastic_7_12_0() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.12.0", "7.12.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -504,7 +505,7 @@ public void elastic_7_12_0() {
 	public void elastic_7_12_1() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.12.1", "7.12.1",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -513,7 +514,7 @@ public void elastic_7_12_1() {
 	public void elastic_7_13() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.13", "7.13.2",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -522,7 +523,7 @@ public void elastic_7_13() {
 	public void elastic_7_13_0() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.13.0", "7.13.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -531,7 +532,7 @@ public void elastic_7_13_0() {
 	public void elastic_7_13_2() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.13.2", "7.13.2",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -540,7 +541,7 @@ public void elastic_7_13_2() {
 	public void elastic_7_16() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.16", "7.16.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -549,7 +550,7 @@ public void elastic_7_16() {
 	public void elastic_7_16_0() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.16.0", "7.16.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -558,7 +559,7 @@ public void elastic_7_16_0() {
 	public void elastic_7_17() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.17", "7.17.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -567,7 +568,7 @@ public void elastic_7_17() {
 	public void elastic_7_17_0() {
 		testSuccess(
 				ElasticsearchDistributionName.ELASTIC, "7.17.0", "7.17.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -575,7 +576,7 @@ public void elastic_7_17_0() {
 	public void elastic_7_18_0() {
 		testSuccessWithWarning(
 				ElasticsearchDistributionName.ELASTIC, "7.18.0", "7.18.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -14,12 +15,14 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SerializedBulkableAction;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
@@ -32,6 +35,9 @@
 import org.mockito.junit.MockitoRule;
 import org.mockito.quality.Strictness;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
 @SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
 public class ElasticsearchDefaultWorkBulkerTest {
 
@@ -39,6 +45,8 @@ public class ElasticsearchDefaultWorkBulkerTest {
 
 	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
 
+	private static final Gson GSON = new Gson();
+
 	@Rule
 	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
 
@@ -262,6 +270,75 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void newBulkOnTooManyBulkedBytes() {
+		int maxBulkBytes = 100;
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		BulkableWork<Void> work4 = bulkableWorkMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = workMock( 7 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work3FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work4FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, GSON, maxBulkBytes );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work1.serializeBulkableAction( GSON ) ).thenReturn( serializedAction( 60 ) );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( work1FutureFromSequenceBuilder );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work2.serializeBulkableAction( GSON ) ).thenReturn( serializedAction( 30 ) );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( work2FutureFromSequenceBuilder );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// 60 + 30 + 20 > 100 => new bulk, before adding the work
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work3.serializeBulkableAction( GSON ) ).thenReturn( serializedAction( 20 ) );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( work3FutureFromSequenceBuilder );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		// A work larger than the maximum => new bulk, and the work is sent alone
+		when( work4.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work4.serializeBulkableAction( GSON ) ).thenReturn( serializedAction( 200 ) );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork3FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork3ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.thenReturn( work4FutureFromSequenceBuilder );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork3 );
+		bulker.add( work4 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+		assertThatFuture( bulkWork3FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork3 );
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
@@ -275,6 +352,15 @@ private <T> NonBulkableWork<T> workMock(int index) {
 		return mock( NonBulkableWork.class, "work" + index );
 	}
 
+	private static SerializedBulkableAction serializedAction(int sizeInBytes) {
+		// {"a":"..."} followed by a line separator
+		JsonObject metadata = new JsonObject();
+		metadata.addProperty( "a", String.join( "", Collections.nCopies( sizeInBytes - 9, "x" ) ) );
+		SerializedBulkableAction result = SerializedBulkableAction.of( GSON, metadata, null );
+		assertThat( result.sizeInBytes() ).isEqualTo( sizeInBytes );
+		return result;
+	}
+
 	private <T> BulkableWork<T> bulkableWorkMock(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionExtractContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ProjectionTransformContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class Elasticsearch7SearchResultExtractorTest {
+
+	private static final String RESPONSE_BODY = "{"
+			+ "\"took\":12,"
+			+ "\"timed_out\":false,"
+			+ "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+			+ "\"hits\":{"
+			+ "\"total\":{\"value\":3,\"relation\":\"eq\"},"
+			+ "\"max_score\":1.0,"
+			+ "\"hits\":["
+			+ "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"text\":\"one\"}},"
+			+ "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":1.0,\"_source\":{\"text\":\"two\"}},"
+			+ "{\"_index\":\"idx\",\"_id\":\"3\",\"_score\":1.0}"
+			+ "]"
+			+ "},"
+			+ "\"_scroll_id\":\"someScrollId\""
+			+ "}";
+
+	private static final String POINT_IN_TIME_RESPONSE_BODY = "{"
+			+ "\"pit_id\":\"somePointInTimeId\","
+			+ "\"took\":3,"
+			+ "\"timed_out\":false,"
+			+ "\"hits\":{"
+			+ "\"total\":{\"value\":2,\"relation\":\"eq\"},"
+			+ "\"max_score\":null,"
+			+ "\"hits\":["
+			+ "{\"_index\":\"idx\",\"_id\":\"1\",\"_score\":null,\"sort\":[\"one\",17]},"
+			+ "{\"_index\":\"idx\",\"_id\":\"2\",\"_score\":null,\"sort\":[\"two\",42]}"
+			+ "]"
+			+ "}"
+			+ "}";
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private BackendSessionContext sessionContextMock;
+	@Mock
+	private SearchLoadingContext<?, ?> loadingContextMock;
+	@Mock
+	private ProjectionHitMapper<?, ?> hitMapperMock;
+	@Mock
+	private LoadingResult<?, ?> loadingResultMock;
+	@Mock
+	private ElasticsearchSearchProjection.Extractor<String, String> rootExtractorMock;
+
+	private Elasticsearch7SearchResultExtractor<String> extractor;
+
+	@Before
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setup() {
+		when( loadingContextMock.createProjectionHitMapper() ).thenReturn( (ProjectionHitMapper) hitMapperMock );
+		when( hitMapperMock.loadBlocking( isNull() ) ).thenReturn( (LoadingResult) loadingResultMock );
+		// The extracted data is the ID and the text in the source, if any
+		lenient().when( rootExtractorMock.extract( any(), any(), any(), any( ProjectionExtractContext.class ) ) )
+				.thenAnswer( invocation -> {
+					JsonObject hit = invocation.getArgument( 1 );
+					JsonObject source = invocation.getArgument( 2 );
+					return hit.get( "_id" ).getAsString()
+							+ ( source == null ? "" : ":" + source.get( "text" ).getAsString() );
+				} );
+		lenient().when( rootExtractorMock.transform( any(), any(), any( ProjectionTransformContext.class ) ) )
+				.thenAnswer( invocation -> invocation.getArgument( 1 ) );
+
+		ElasticsearchSearchQueryRequestContext requestContext = new ElasticsearchSearchQueryRequestContext(
+				null, sessionContextMock, loadingContextMock, null, null );
+		extractor = new Elasticsearch7SearchResultExtractor<>( requestContext, rootExtractorMock,
+				Collections.emptyMap() );
+	}
+
+	@Test
+	public void tree() {
+		ElasticsearchSearchResultImpl<String> result = extractor.extract(
+				JsonParser.parseString( RESPONSE_BODY ).getAsJsonObject(), null )
+				.loadBlocking();
+
+		assertThat( result.hits() ).containsExactly( "1:one", "2:two", "3" );
+		assertThat( result.total().hitCount() ).isEqualTo( 3L );
+		assertThat( result.took() ).isEqualTo( Duration.ofMillis( 12 ) );
+		assertThat( result.timedOut() ).isFalse();
+		assertThat( result.scrollId() ).isEqualTo( "someScrollId" );
+	}
+
+	@Test
+	public void streaming() throws IOException {
+		ElasticsearchSearchResultImpl<String> result;
+		try ( JsonReader reader = new JsonReader( new StringReader( RESPONSE_BODY ) ) ) {
+			result = extractor.extract( reader, null ).loadBlocking();
+		}
+
+		assertThat( result.hits() ).containsExactly( "1:one", "2:two", "3" );
+		assertThat( result.total().hitCount() ).isEqualTo( 3L );
+		assertThat( result.took() ).isEqualTo( Duration.ofMillis( 12 ) );
+		assertThat( result.timedOut() ).isFalse();
+		assertThat( result.scrollId() ).isEqualTo( "someScrollId" );
+
+		// Everything but the hits is still available in the response body
+		JsonObject expectedResponseBody = JsonParser.parseString( RESPONSE_BODY ).getAsJsonObject();
+		expectedResponseBody.getAsJsonObject( "hits" ).remove( "hits" );
+		assertThat( result.responseBody() ).isEqualTo( expectedResponseBody );
+	}
+
+	@Test
+	public void streaming_noHits() throws IOException {
+		String responseBody = "{\"took\":1,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"max_score\":null,\"hits\":[]}}";
+		ElasticsearchSearchResultImpl<String> result;
+		try ( JsonReader reader = new JsonReader( new StringReader( responseBody ) ) ) {
+			result = extractor.extract( reader, null ).loadBlocking();
+		}
+
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.total().hitCount() ).isZero();
+		assertThat( result.scrollId() ).isNull();
+	}
+
+	@Test
+	public void tree_pointInTime() {
+		ElasticsearchLoadableSearchResult<String> loadableResult = extractor.extract(
+				JsonParser.parseString( POINT_IN_TIME_RESPONSE_BODY ).getAsJsonObject(), null );
+
+		assertThat( loadableResult.pointInTimeId() ).isEqualTo( "somePointInTimeId" );
+		assertThat( loadableResult.lastHitSortValues() )
+				.isEqualTo( JsonParser.parseString( "[\"two\",42]" ) );
+
+		ElasticsearchSearchResultImpl<String> result = loadableResult.loadBlocking();
+		assertThat( result.hits() ).containsExactly( "1", "2" );
+		assertThat( result.scrollId() ).isNull();
+	}
+
+	@Test
+	public void streaming_pointInTime() throws IOException {
+		ElasticsearchLoadableSearchResult<String> loadableResult;
+		try ( JsonReader reader = new JsonReader( new StringReader( POINT_IN_TIME_RESPONSE_BODY ) ) ) {
+			loadableResult = extractor.extract( reader, null );
+		}
+
+		assertThat( loadableResult.pointInTimeId() ).isEqualTo( "somePointInTimeId" );
+		assertThat( loadableResult.lastHitSortValues() )
+				.isEqualTo( JsonParser.parseString( "[\"two\",42]" ) );
+
+		ElasticsearchSearchResultImpl<String> result = loadableResult.loadBlocking();
+		assertThat( result.hits() ).containsExactly( "1", "2" );
+		assertThat( result.scrollId() ).isNull();
+	}
+}
@@ -8,8 +8,10 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -28,4 +30,12 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the search result cache of this backend,
+	 * or {@link Optional#empty()} if the search result cache is disabled.
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#SEARCH_RESULT_CACHE_SIZE
+	 */
+	@Incubating
+	Optional<? extends SearchResultCacheStatistics> searchResultCacheStatistics();
+
 }
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * Statistics about the search result cache of a Lucene backend.
+ * <p>
+ * The search result cache is enabled through the
+ * {@link LuceneBackendSettings#SEARCH_RESULT_CACHE_SIZE configuration properties},
+ * and its statistics are available through {@link LuceneBackend#searchResultCacheStatistics()}.
+ * <p>
+ * Values are updated continuously: each call may return a different value.
+ */
+@Incubating
+public interface SearchResultCacheStatistics {
+
+	/**
+	 * @return The number of search queries whose result was retrieved from the cache.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of cacheable search queries whose result was not found in the cache,
+	 * and thus had to be executed.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 */
+	int size();
+
+	/**
+	 * @return The estimated memory usage of the entries currently in the cache, in bytes.
+	 */
+	long ramBytesUsed();
+
+}
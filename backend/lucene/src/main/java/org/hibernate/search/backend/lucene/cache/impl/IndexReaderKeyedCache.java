@@ -0,0 +1,216 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+
+/**
+ * A least-recently-used cache of values computed from index readers,
+ * bounded both in number of entries and in estimated memory usage.
+ * <p>
+ * Entries are keyed on a caller-provided key and on the exact index readers (or segment cores)
+ * the value was computed from:
+ * as soon as an index reader is refreshed, lookups stop matching entries computed from the previous reader,
+ * and those entries are evicted when the previous reader gets closed.
+ *
+ * @param <K> The type of caller-provided keys.
+ * @param <V> The type of cached values.
+ */
+public final class IndexReaderKeyedCache<K, V> {
+
+	/**
+	 * @param indexReader A top-level index reader.
+	 * @return The cache helpers of the given reader's children, or of the reader itself if it's a leaf,
+	 * or {@code null} if one of them does not support caching.
+	 */
+	public static List<IndexReader.CacheHelper> readerCacheHelpersOrNull(IndexReader indexReader) {
+		List<IndexReaderContext> children = indexReader.getContext().children();
+		if ( children == null ) {
+			IndexReader.CacheHelper cacheHelper = indexReader.getReaderCacheHelper();
+			return cacheHelper == null ? null : Collections.singletonList( cacheHelper );
+		}
+		List<IndexReader.CacheHelper> cacheHelpers = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			IndexReader.CacheHelper cacheHelper = child.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			cacheHelpers.add( cacheHelper );
+		}
+		return cacheHelpers;
+	}
+
+	private final int maxSize;
+	private final long maxRamBytes;
+	private final ToLongFunction<? super V> ramBytesUsedFunction;
+
+	// Guarded by "this"
+	private final LinkedHashMap<Key<K>, Entry<V>> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	// Guarded by "this"
+	private final Set<IndexReader.CacheKey> listenedReaderKeys = new HashSet<>();
+	// Guarded by "this"
+	private long ramBytesUsed = 0L;
+
+	/**
+	 * @param maxSize The maximum number of entries.
+	 * @param maxRamBytes The maximum estimated memory usage of all values, in bytes.
+	 * @param ramBytesUsedFunction A function estimating the memory usage of a value, in bytes.
+	 */
+	public IndexReaderKeyedCache(int maxSize, long maxRamBytes, ToLongFunction<? super V> ramBytesUsedFunction) {
+		this.maxSize = maxSize;
+		this.maxRamBytes = maxRamBytes;
+		this.ramBytesUsedFunction = ramBytesUsedFunction;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxSize=" + maxSize
+				+ ", maxRamBytes=" + maxRamBytes
+				+ "]";
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long ramBytesUsed() {
+		return ramBytesUsed;
+	}
+
+	/**
+	 * @param indexReader The top-level index reader the value is computed from.
+	 * @param key The caller-provided key.
+	 * @return A cache key, or {@code null} if the index reader does not support caching.
+	 */
+	public Key<K> keyOrNull(IndexReader indexReader, K key) {
+		List<IndexReader.CacheHelper> readerCacheHelpers = readerCacheHelpersOrNull( indexReader );
+		if ( readerCacheHelpers == null ) {
+			return null;
+		}
+		return new Key<>( readerCacheHelpers, key );
+	}
+
+	/**
+	 * @param cacheHelper The cache helper of the index reader or segment core the value is computed from.
+	 * @param key The caller-provided key.
+	 * @return A cache key.
+	 */
+	public Key<K> key(IndexReader.CacheHelper cacheHelper, K key) {
+		return new Key<>( Collections.singletonList( cacheHelper ), key );
+	}
+
+	/**
+	 * @param key The cache key.
+	 * @return The cached value, or {@code null} if there is none.
+	 */
+	public synchronized V get(Key<K> key) {
+		Entry<V> entry = entries.get( key );
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * @param key The cache key.
+	 * @param value The value to cache.
+	 * The index readers the key was created from must still be open.
+	 */
+	public void put(Key<K> key, V value) {
+		// Estimate outside the lock: this may be costly for some values.
+		Entry<V> entry = new Entry<>( value, ramBytesUsedFunction.applyAsLong( value ) );
+		synchronized (this) {
+			if ( entry.ramBytesUsed > maxRamBytes ) {
+				// Would evict everything else and still not fit.
+				return;
+			}
+			for ( IndexReader.CacheHelper readerCacheHelper : key.readerCacheHelpers ) {
+				if ( listenedReaderKeys.add( readerCacheHelper.getKey() ) ) {
+					// The reader is still open, so the listener will be called eventually.
+					readerCacheHelper.addClosedListener( this::onReaderClosed );
+				}
+			}
+			Entry<V> previous = entries.put( key, entry );
+			if ( previous != null ) {
+				ramBytesUsed -= previous.ramBytesUsed;
+			}
+			ramBytesUsed += entry.ramBytesUsed;
+			Iterator<Entry<V>> iterator = entries.values().iterator();
+			while ( ( ramBytesUsed > maxRamBytes || entries.size() > maxSize ) && iterator.hasNext() ) {
+				ramBytesUsed -= iterator.next().ramBytesUsed;
+				iterator.remove();
+			}
+		}
+	}
+
+	private synchronized void onReaderClosed(IndexReader.CacheKey readerKey) {
+		listenedReaderKeys.remove( readerKey );
+		Iterator<Map.Entry<Key<K>, Entry<V>>> iterator = entries.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			Map.Entry<Key<K>, Entry<V>> mapEntry = iterator.next();
+			if ( mapEntry.getKey().readerKeys.contains( readerKey ) ) {
+				ramBytesUsed -= mapEntry.getValue().ramBytesUsed;
+				iterator.remove();
+			}
+		}
+	}
+
+	public static final class Key<K> {
+		private final List<IndexReader.CacheHelper> readerCacheHelpers;
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final K key;
+		private final int hashCode;
+
+		private Key(List<IndexReader.CacheHelper> readerCacheHelpers, K key) {
+			this.readerCacheHelpers = readerCacheHelpers;
+			this.readerKeys = new ArrayList<>( readerCacheHelpers.size() );
+			for ( IndexReader.CacheHelper readerCacheHelper : readerCacheHelpers ) {
+				readerKeys.add( readerCacheHelper.getKey() );
+			}
+			this.key = key;
+			this.hashCode = Objects.hash( readerKeys, key );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key<?> other = (Key<?>) obj;
+			return readerKeys.equals( other.readerKeys )
+					&& key.equals( other.key );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private final long ramBytesUsed;
+
+		private Entry(V value, long ramBytesUsed) {
+			this.value = value;
+			this.ramBytesUsed = ramBytesUsed;
+		}
+	}
+}
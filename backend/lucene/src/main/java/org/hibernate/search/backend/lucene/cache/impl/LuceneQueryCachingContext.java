@@ -11,15 +11,24 @@
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.util.Version;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 
 public class LuceneQueryCachingContext implements QueryCachingConfigurationContext {
 
 	private final Version luceneVersion;
+	private final LuceneSearchResultCache searchResultCache;
+	private final NestedDocsBitSetCache nestedDocsBitSetCache;
+	private final OrdinalMapCache ordinalMapCache;
 	private QueryCache cache;
 	private QueryCachingPolicy policy;
 
-	public LuceneQueryCachingContext(Version luceneVersion) {
+	public LuceneQueryCachingContext(Version luceneVersion, Optional<LuceneSearchResultCache> searchResultCache,
+			Optional<NestedDocsBitSetCache> nestedDocsBitSetCache, Optional<OrdinalMapCache> ordinalMapCache) {
 		this.luceneVersion = luceneVersion;
+		this.searchResultCache = searchResultCache.orElse( null );
+		this.nestedDocsBitSetCache = nestedDocsBitSetCache.orElse( null );
+		this.ordinalMapCache = ordinalMapCache.orElse( null );
 	}
 
 	@Override
@@ -45,4 +54,16 @@ public Optional<QueryCachingPolicy> queryCachingPolicy() {
 		return Optional.ofNullable( policy );
 	}
 
+	public Optional<LuceneSearchResultCache> searchResultCache() {
+		return Optional.ofNullable( searchResultCache );
+	}
+
+	public Optional<NestedDocsBitSetCache> nestedDocsBitSetCache() {
+		return Optional.ofNullable( nestedDocsBitSetCache );
+	}
+
+	public Optional<OrdinalMapCache> ordinalMapCache() {
+		return Optional.ofNullable( ordinalMapCache );
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectedMatchingDocs;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+
+/**
+ * A least-recently-used cache of the documents matched by search queries,
+ * bounded both in number of entries and in estimated memory usage.
+ * <p>
+ * Entries are keyed on the query and on the exact index readers of every targeted shard:
+ * as soon as an index reader is refreshed, e.g. because
+ * {@link org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider}
+ * opened a new one, lookups stop matching entries collected with the previous reader,
+ * and those entries are evicted when the previous reader gets closed.
+ */
+public final class LuceneSearchResultCache implements SearchResultCacheStatistics {
+
+	private static final ConfigurationProperty<Integer> SEARCH_RESULT_CACHE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_RESULT_CACHE_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_RESULT_CACHE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_RESULT_CACHE_MAX_RAM_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_RESULT_CACHE_MAX_RAM_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_RESULT_CACHE_MAX_RAM_SIZE )
+					.build();
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	public static Optional<LuceneSearchResultCache> create(ConfigurationPropertySource propertySource) {
+		int maxSize = SEARCH_RESULT_CACHE_SIZE.get( propertySource );
+		if ( maxSize == 0 ) {
+			return Optional.empty();
+		}
+		int maxRamSizeInMegabytes = SEARCH_RESULT_CACHE_MAX_RAM_SIZE.get( propertySource );
+		return Optional.of( new LuceneSearchResultCache( maxSize, maxRamSizeInMegabytes * BYTES_PER_MEGABYTE ) );
+	}
+
+	private final IndexReaderKeyedCache<QueryKey, CollectedMatchingDocs> delegate;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private LuceneSearchResultCache(int maxSize, long maxRamBytes) {
+		this.delegate = new IndexReaderKeyedCache<>( maxSize, maxRamBytes, CollectedMatchingDocs::ramBytesUsed );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "delegate=" + delegate
+				+ ", hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ "]";
+	}
+
+	@Override
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public long ramBytesUsed() {
+		return delegate.ramBytesUsed();
+	}
+
+	/**
+	 * @param indexReader The top-level index reader the query is executed on.
+	 * @param query The Lucene query.
+	 * @param sort The Lucene sort, or {@code null}.
+	 * @param matchingDocsCacheKey A key representing the data collected from matching docs,
+	 * in particular for projections and aggregations.
+	 * @param offset The offset of the first top doc.
+	 * @param limit The maximum number of top docs.
+	 * @param totalHitCountThreshold The threshold for the total hit count.
+	 * @return A cache key, or {@code null} if the query cannot be cached because of its index readers.
+	 */
+	public IndexReaderKeyedCache.Key<QueryKey> keyOrNull(IndexReader indexReader, Query query, Sort sort,
+			Object matchingDocsCacheKey, int offset, int limit, int totalHitCountThreshold) {
+		return delegate.keyOrNull( indexReader,
+				new QueryKey( query, sort, matchingDocsCacheKey, offset, limit, totalHitCountThreshold ) );
+	}
+
+	public CollectedMatchingDocs get(IndexReaderKeyedCache.Key<QueryKey> key) {
+		CollectedMatchingDocs result = delegate.get( key );
+		if ( result == null ) {
+			missCount.increment();
+		}
+		else {
+			hitCount.increment();
+		}
+		return result;
+	}
+
+	/**
+	 * @param key The cache key.
+	 * @param collectedMatchingDocs The matching docs to cache.
+	 * The index readers the key was created from must still be open.
+	 */
+	public void put(IndexReaderKeyedCache.Key<QueryKey> key, CollectedMatchingDocs collectedMatchingDocs) {
+		delegate.put( key, collectedMatchingDocs );
+	}
+
+	public static final class QueryKey {
+		private final Query query;
+		private final Sort sort;
+		private final Object matchingDocsCacheKey;
+		private final int offset;
+		private final int limit;
+		private final int totalHitCountThreshold;
+
+		private QueryKey(Query query, Sort sort, Object matchingDocsCacheKey, int offset, int limit,
+				int totalHitCountThreshold) {
+			this.query = query;
+			this.sort = sort;
+			this.matchingDocsCacheKey = matchingDocsCacheKey;
+			this.offset = offset;
+			this.limit = limit;
+			this.totalHitCountThreshold = totalHitCountThreshold;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			QueryKey other = (QueryKey) obj;
+			return offset == other.offset
+					&& limit == other.limit
+					&& totalHitCountThreshold == other.totalHitCountThreshold
+					&& query.equals( other.query )
+					&& Objects.equals( sort, other.sort )
+					&& matchingDocsCacheKey.equals( other.matchingDocsCacheKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( query, sort, matchingDocsCacheKey, offset, limit, totalHitCountThreshold );
+		}
+	}
+}
@@ -91,6 +91,132 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search index segments in parallel when executing a single query.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE},
+	 * which disables parallel search: each query is executed entirely in the thread that submitted it.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The size of the queue of the thread pool used to search index segments in parallel.
+	 * <p>
+	 * When the queue is full, threads executing queries will block until the queue accepts more tasks.
+	 * <p>
+	 * Only effective if parallel search is enabled through {@link #SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_QUEUE_SIZE}.
+	 */
+	public static final String SEARCH_QUEUE_SIZE = "search.thread_pool.queue_size";
+
+	/**
+	 * The maximum number of documents in a single slice when searching index segments in parallel.
+	 * <p>
+	 * Consecutive index segments are grouped into slices, and each slice is searched in a separate task.
+	 * A slice will never be extended past this number of documents,
+	 * but a single segment larger than this number will always form its own slice.
+	 * <p>
+	 * Only effective if parallel search is enabled through {@link #SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_DOCS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_DOCS = "search.slice.max_docs";
+
+	/**
+	 * The maximum number of index segments in a single slice when searching index segments in parallel.
+	 * <p>
+	 * Only effective if parallel search is enabled through {@link #SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String SEARCH_SLICE_MAX_SEGMENTS = "search.slice.max_segments";
+
+	/**
+	 * The maximum number of entries in the search result cache.
+	 * <p>
+	 * When enabled, the documents matched by search queries, along with data collected for aggregations,
+	 * are cached and reused by later executions of the same query on the same index readers,
+	 * i.e. until the index readers are refreshed.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_SIZE},
+	 * which disables the search result cache.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Search result cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_RESULT_CACHE_SIZE = "search.result_cache.size";
+
+	/**
+	 * The maximum total size of the entries in the search result cache, in megabytes.
+	 * <p>
+	 * The size of entries is estimated from the top docs and the data collected for aggregations they retain.
+	 * Least recently used entries are evicted when the cache exceeds this size,
+	 * and entries larger than this size are not cached at all.
+	 * This bound applies in addition to the maximum number of entries,
+	 * see {@link #SEARCH_RESULT_CACHE_SIZE}.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 32},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_RESULT_CACHE_MAX_RAM_SIZE}.
+	 */
+	public static final String SEARCH_RESULT_CACHE_MAX_RAM_SIZE = "search.result_cache.max_ram_size";
+
+	/**
+	 * The maximum total size of the nested document bitset cache, in megabytes.
+	 * <p>
+	 * Nested predicates, sorts, projections and aggregations need to know which documents are parents
+	 * and which documents are children in each segment.
+	 * When enabled, the corresponding bitsets are cached per segment and shared by all indexes of the backend,
+	 * so that they are not recomputed for every query.
+	 * Bitsets of a segment are evicted when that segment is closed,
+	 * and least recently used bitsets are evicted when the cache is full.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes, such as {@code 32},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#NESTED_BITSET_CACHE_MAX_SIZE}.
+	 * {@code 0} disables the cache.
+	 */
+	public static final String NESTED_BITSET_CACHE_MAX_SIZE = "search.nested_bitset_cache.max_size";
+
+	/**
+	 * The maximum total size of the ordinal map cache, in megabytes.
+	 * <p>
+	 * Terms aggregations on text fields need to map the term ordinals of each segment to global ordinals,
+	 * which requires merging the term dictionaries of all segments.
+	 * When enabled, the corresponding ordinal maps are cached per index reader and field,
+	 * so that they are not rebuilt for every query until the index reader is refreshed.
+	 * Ordinal maps are evicted when their index reader is closed,
+	 * and least recently used ordinal maps are evicted when the cache is full.
+	 * <p>
+	 * Expects a positive or zero Integer value in megabytes, such as {@code 32},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#ORDINAL_MAP_CACHE_MAX_SIZE}.
+	 * {@code 0} disables the cache.
+	 */
+	public static final String ORDINAL_MAP_CACHE_MAX_SIZE = "search.ordinal_map_cache.max_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -108,5 +234,21 @@ private Defaults() {
 		 */
 		@Deprecated
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		public static final int SEARCH_QUEUE_SIZE = 1000;
+
+		public static final int SEARCH_SLICE_MAX_DOCS = 250_000;
+
+		public static final int SEARCH_SLICE_MAX_SEGMENTS = 5;
+
+		public static final int SEARCH_RESULT_CACHE_SIZE = 0;
+
+		public static final int SEARCH_RESULT_CACHE_MAX_RAM_SIZE = 32;
+
+		public static final int NESTED_BITSET_CACHE_MAX_SIZE = 32;
+
+		public static final int ORDINAL_MAP_CACHE_MAX_SIZE = 32;
 	}
 }
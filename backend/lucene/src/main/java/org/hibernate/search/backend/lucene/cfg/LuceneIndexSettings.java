@@ -11,7 +11,10 @@
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshModeName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
+import org.hibernate.search.backend.lucene.warming.WarmingConfigurer;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
 
@@ -79,6 +82,53 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * Whether small, newly flushed segments are cached in memory
+	 * instead of being written to the filesystem immediately.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * When enabled, segments created by flushes or merges that are small enough
+	 * are kept in memory until the next commit, when they are written to the filesystem.
+	 * This avoids writing many tiny files when the index is refreshed frequently,
+	 * e.g. with a short {@link #IO_REFRESH_INTERVAL refresh interval}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_ENABLED}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_ENABLED =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_ENABLED;
+
+	/**
+	 * The maximum size of a segment for it to be cached in memory, in megabytes.
+	 * <p>
+	 * Only effective if caching was enabled through {@link #DIRECTORY_NRT_CACHING_ENABLED}.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_SEGMENT_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_SEGMENT_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_MAX_SEGMENT_SIZE;
+
+	/**
+	 * The maximum total size of segments cached in memory, in megabytes.
+	 * <p>
+	 * When the cache is full, new segments are written to the filesystem immediately.
+	 * <p>
+	 * Only effective if caching was enabled through {@link #DIRECTORY_NRT_CACHING_ENABLED}.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHING_MAX_SIZE}.
+	 */
+	public static final String DIRECTORY_NRT_CACHING_MAX_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHING_MAX_SIZE;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -146,6 +196,23 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * How index readers are refreshed after index changes.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * With the "on-query" mode, a search query that finds the index reader stale
+	 * refreshes it synchronously, and concurrent search queries wait for that refresh.
+	 * With the "background" mode, index readers are refreshed ahead of time by a background task
+	 * after index changes or once the {@link #IO_REFRESH_INTERVAL refresh interval} expires,
+	 * and search queries always use the latest index reader that is ready, without waiting.
+	 * <p>
+	 * Expects a {@link IORefreshModeName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_MODE}.
+	 */
+	public static final String IO_REFRESH_MODE = IO_PREFIX + IORadicals.REFRESH_MODE;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -175,6 +242,23 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.RAM_BUFFER_SIZE;
 
+	/**
+	 * The value to pass to {@link IndexWriterConfig#setRAMBufferSizeMB(double)}
+	 * while the index is being bulk-loaded, e.g. by a mass indexer with bulk-load mode enabled.
+	 * <p>
+	 * During bulk loading, the index writer only commits once, at the very end,
+	 * and index readers are not refreshed:
+	 * a larger RAM buffer allows writing fewer, larger segments.
+	 * The {@link #IO_WRITER_RAM_BUFFER_SIZE regular RAM buffer size} is restored when bulk loading ends.
+	 * <p>
+	 * Expects a positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE}.
+	 */
+	public static final String IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE =
+			IO_WRITER_PREFIX + WriterRadicals.BULK_LOAD_RAM_BUFFER_SIZE;
+
 	/**
 	 * Whether to log the {@link IndexWriterConfig#setInfoStream(InfoStream)} (at the trace level) or not.
 	 * <p>
@@ -266,6 +350,26 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * The prefix for warming-related property keys.
+	 */
+	public static final String WARMING_PREFIX = "warming.";
+
+	/**
+	 * The warming configurer to use,
+	 * declaring warm-up queries executed on new index segments before search queries can see them.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Expects a reference to a bean of type {@link WarmingConfigurer}.
+	 * <p>
+	 * Defaults to no value.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String WARMING_CONFIGURER = WARMING_PREFIX + WarmingRadicals.CONFIGURER;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -344,6 +448,72 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The target duration of each batch of works processed by an indexing queue, in milliseconds.
+	 * <p>
+	 * When set, the number of works in each batch adapts to the duration of previous batches:
+	 * batches are shrunk when they take longer than this target,
+	 * and grow again (up to the maximum batch size) when they take less time.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning batches always include as many works as possible.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.BATCH_TARGET_LATENCY;
+
+	/**
+	 * The maximum time an indexing queue may wait for more works before starting a batch that is not full,
+	 * in milliseconds.
+	 * <p>
+	 * Only effective when {@link #INDEXING_BATCH_TARGET_LATENCY} is set,
+	 * and only while batches complete within that target.
+	 * <p>
+	 * A queue that waits for more works keeps a thread of the shared write thread pool busy while it waits,
+	 * so with many queues, high values may delay the processing of other queues.
+	 * <p>
+	 * Expects a positive or zero integer value in milliseconds, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_MAX_LINGER}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_MAX_LINGER = INDEXING_PREFIX + IndexingRadicals.BATCH_MAX_LINGER;
+
+	/**
+	 * Whether indexing queues should skip works that are superseded by a later work of the same batch.
+	 * <p>
+	 * When enabled, if a batch includes multiple works for the same document,
+	 * works preceding the last work that replaces or deletes that document are skipped,
+	 * and complete when that last work completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BATCH_COALESCING}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BATCH_COALESCING = INDEXING_PREFIX + IndexingRadicals.BATCH_COALESCING;
+
+	/**
+	 * The listener to notify of events in the indexing pipeline, e.g. to collect metrics.
+	 * <p>
+	 * Expects a reference to a bean of type {@link IndexingMetricsListener}.
+	 * <p>
+	 * Defaults to no value, meaning no metrics are collected.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String INDEXING_METRICS_LISTENER = INDEXING_PREFIX + IndexingRadicals.METRICS_LISTENER;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -421,6 +591,9 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String NRT_CACHING_ENABLED = "nrt_caching.enabled";
+		public static final String NRT_CACHING_MAX_SEGMENT_SIZE = "nrt_caching.max_segment_size";
+		public static final String NRT_CACHING_MAX_SIZE = "nrt_caching.max_size";
 	}
 
 	/**
@@ -434,6 +607,18 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_MODE = "refresh_mode";
+	}
+
+	/**
+	 * Configuration property keys for warming, without the {@link #WARMING_PREFIX prefix}.
+	 */
+	public static final class WarmingRadicals {
+
+		private WarmingRadicals() {
+		}
+
+		public static final String CONFIGURER = "configurer";
 	}
 
 	/**
@@ -447,6 +632,7 @@ private WriterRadicals() {
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
+		public static final String BULK_LOAD_RAM_BUFFER_SIZE = "bulk_load.ram_buffer_size";
 
 	}
 
@@ -490,6 +676,10 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String BATCH_TARGET_LATENCY = "batch.target_latency";
+		public static final String BATCH_MAX_LINGER = "batch.max_linger";
+		public static final String BATCH_COALESCING = "batch.coalescing";
+		public static final String METRICS_LISTENER = "metrics_listener";
 	}
 
 	/**
@@ -504,11 +694,18 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		public static final boolean DIRECTORY_NRT_CACHING_ENABLED = false;
+		public static final int DIRECTORY_NRT_CACHING_MAX_SEGMENT_SIZE = 5;
+		public static final int DIRECTORY_NRT_CACHING_MAX_SIZE = 60;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final IORefreshModeName IO_REFRESH_MODE = IORefreshModeName.ON_QUERY;
+		public static final int IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE = 256;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_BATCH_MAX_LINGER = 0;
+		public static final boolean INDEXING_BATCH_COALESCING = false;
 	}
 }
@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSearchParallelism;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
@@ -43,6 +44,9 @@
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 
 public class LuceneBackendFactory implements BackendFactory {
 
@@ -85,7 +89,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			);
 
 			LuceneQueryCachingContext cachingContext
-					= new LuceneQueryCachingContext( luceneVersion );
+					= new LuceneQueryCachingContext( luceneVersion, LuceneSearchResultCache.create( propertySource ),
+							NestedDocsBitSetCache.create( propertySource ), OrdinalMapCache.create( propertySource ) );
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
@@ -95,6 +100,7 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					LuceneSearchParallelism.create( propertySource, backendThreads ),
 					multiTenancyStrategy,
 					buildContext.timingSource(),
 					buildContext.failureHandler()
@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSearchParallelism;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -35,6 +36,7 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.search.similarities.Similarity;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 
 
@@ -48,6 +50,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
+	private final LuceneQueryCachingContext cachingContext;
+
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
@@ -57,6 +61,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			LuceneSearchParallelism searchParallelism,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			FailureHandler failureHandler) {
@@ -64,14 +69,16 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		this.threads = threads;
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.cachingContext = cachingContext;
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext,
+				searchParallelism
 		);
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
-				this, eventContext, threads, similarity,
+				this, eventContext, threads, similarity, cachingContext,
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
@@ -129,6 +136,11 @@ public Optional<Analyzer> normalizer(String name) {
 		return Optional.ofNullable( analysisDefinitionRegistry.getNormalizerDefinition( name ) );
 	}
 
+	@Override
+	public Optional<? extends SearchResultCacheStatistics> searchResultCacheStatistics() {
+		return cachingContext.searchResultCache();
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName,
@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -19,6 +25,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
@@ -39,7 +48,13 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionBackendContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.backend.lucene.warming.WarmingConfigurer;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
+import org.hibernate.search.backend.lucene.warming.impl.WarmUpQuery;
+import org.hibernate.search.backend.lucene.warming.impl.WarmingConfigurationContextImpl;
+import org.hibernate.search.backend.lucene.warming.impl.WarmingSessionContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
@@ -50,27 +65,45 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<BeanReference<? extends WarmingConfigurer>> WARMING_CONFIGURER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.WARMING_CONFIGURER )
+					.asBeanReference( WarmingConfigurer.class )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexingMetricsListener>> INDEXING_METRICS_LISTENER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_METRICS_LISTENER )
+					.asBeanReference( IndexingMetricsListener.class )
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
 	private final BackendThreads threads;
 	private final Similarity similarity;
+	private final LuceneQueryCachingContext cachingContext;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
@@ -82,6 +115,7 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
 			BackendThreads threads,
 			Similarity similarity,
+			LuceneQueryCachingContext cachingContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
@@ -92,6 +126,7 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.eventContext = eventContext;
 		this.threads = threads;
 		this.similarity = similarity;
+		this.cachingContext = cachingContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
@@ -174,6 +209,10 @@ LuceneBackend toAPI() {
 		return backendAPI;
 	}
 
+	LuceneQueryCachingContext cachingContext() {
+		return cachingContext;
+	}
+
 	EventContext getEventContext() {
 		return eventContext;
 	}
@@ -192,30 +231,70 @@ IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	SegmentWarmer createSegmentWarmer(LuceneScopeIndexManagerContext indexManagerContext,
+			IndexManagerStartContext startContext) {
+		Optional<BeanHolder<? extends WarmingConfigurer>> configurerHolderOptional =
+				WARMING_CONFIGURER.getAndMap( startContext.configurationPropertySource(),
+						startContext.beanResolver()::resolve );
+		if ( !configurerHolderOptional.isPresent() ) {
+			return null;
+		}
+		String indexName = indexManagerContext.model().hibernateSearchName();
+		EventContext indexEventContext = EventContexts.fromIndexName( indexName );
+		try ( BeanHolder<? extends WarmingConfigurer> configurerHolder = configurerHolderOptional.get() ) {
+			LuceneSearchQueryIndexScope<?> scope = createSearchContext( WarmingSessionContext.INSTANCE,
+					Collections.singleton( indexManagerContext ) );
+			WarmingConfigurationContextImpl context = new WarmingConfigurationContextImpl( indexName, scope );
+			configurerHolder.get().configure( context );
+			List<WarmUpQuery> queries = context.build();
+			if ( queries.isEmpty() ) {
+				return null;
+			}
+			return SegmentWarmer.create( indexEventContext, queries, similarity, cachingContext );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToApplyWarmingConfiguration( e.getMessage(), indexEventContext, e );
+		}
+	}
+
+	BeanHolder<? extends IndexingMetricsListener> createIndexingMetricsListener(IndexManagerStartContext startContext) {
+		return INDEXING_METRICS_LISTENER.getAndMap( startContext.configurationPropertySource(),
+				startContext.beanResolver()::resolve )
+				.orElse( null );
+	}
+
 	LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext context) {
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
-	Shard createShard(LuceneIndexModel model, EventContext shardEventContext, DirectoryHolder directoryHolder,
-			IOStrategy ioStrategy, ConfigurationPropertySource propertySource) {
+	Shard createShard(LuceneIndexModel model, Optional<String> shardId, EventContext shardEventContext,
+			DirectoryHolder directoryHolder, IOStrategy ioStrategy, SegmentWarmer segmentWarmer,
+			IndexingMetricsListener metricsListener, ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.hibernateSearchName();
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), segmentWarmer, propertySource, shardEventContext
 		);
+		ShardIndexingMetrics metrics = metricsListener == null
+				? null
+				: new ShardIndexingMetrics( metricsListener, indexName, shardId );
 
 		try {
 			indexAccessor = ioStrategy.createIndexAccessor(
-					indexName, shardEventContext, directoryHolder, writerConfigSource
+					indexName, shardEventContext, directoryHolder, writerConfigSource, segmentWarmer, metrics
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
-			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
+			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor, metrics );
+			if ( metrics != null ) {
+				metrics.indexingQueueSizes( indexingOrchestrator::queueSizes );
+			}
 
 			Shard shard = new Shard(
 					shardEventContext, indexAccessor,
-					managementOrchestrator, indexingOrchestrator
+					managementOrchestrator, indexingOrchestrator,
+					metrics
 			);
 			return shard;
 		}
@@ -238,11 +317,11 @@ private LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(Eve
 	}
 
 	private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventContext,
-			IndexAccessorImpl indexAccessor) {
+			IndexAccessorImpl indexAccessor, ShardIndexingMetrics metrics) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
 				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
+						eventContext, indexAccessor, metrics
 				),
 				threads,
 				failureHandler
@@ -13,6 +13,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
@@ -20,6 +21,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
@@ -82,7 +84,8 @@ public String toString() {
 
 	@Override
 	public void start(IndexManagerStartContext context) {
-		shardHolder.start( context );
+		SegmentWarmer segmentWarmer = backendContext.createSegmentWarmer( this, context );
+		shardHolder.start( context, segmentWarmer );
 	}
 
 	@Override
@@ -150,6 +153,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		shardHolder.openIndexReaders( routingKeys, readerCollector );
 	}
 
+	@Override
+	public LuceneQueryCachingContext cachingContext() {
+		return shardHolder.cachingContext();
+	}
+
 	@Override
 	public LuceneIndexModel model() {
 		return model;
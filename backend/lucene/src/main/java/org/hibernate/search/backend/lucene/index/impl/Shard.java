@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -32,14 +33,17 @@ public final class Shard {
 	private final IndexAccessorImpl indexAccessor;
 	private final LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private final LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+	private final ShardIndexingMetrics metrics;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
 			LuceneParallelWorkOrchestratorImpl managementOrchestrator,
-			LuceneSerialWorkOrchestratorImpl indexingOrchestrator) {
+			LuceneSerialWorkOrchestratorImpl indexingOrchestrator,
+			ShardIndexingMetrics metrics) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.managementOrchestrator = managementOrchestrator;
 		this.indexingOrchestrator = indexingOrchestrator;
+		this.metrics = metrics;
 	}
 
 	void start(ConfigurationPropertySource propertySource) {
@@ -47,6 +51,9 @@ void start(ConfigurationPropertySource propertySource) {
 			indexAccessor.start();
 			managementOrchestrator.start( propertySource );
 			indexingOrchestrator.start( propertySource );
+			if ( metrics != null ) {
+				metrics.shardStarted();
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
@@ -71,6 +78,9 @@ void stop() {
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			if ( metrics != null ) {
+				closer.push( ShardIndexingMetrics::shardStopped, metrics );
+			}
 		}
 	}
 
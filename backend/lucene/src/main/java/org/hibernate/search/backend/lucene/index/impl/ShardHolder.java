@@ -16,13 +16,16 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -37,6 +40,7 @@ class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerC
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+	private BeanHolder<? extends IndexingMetricsListener> metricsListenerHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
 
@@ -50,12 +54,16 @@ public String toString() {
 		return getClass().getSimpleName() + "[indexName=" + model.hibernateSearchName() + "]";
 	}
 
-	void start(IndexManagerStartContext startContext) {
+	void start(IndexManagerStartContext startContext, SegmentWarmer segmentWarmer) {
 		ConfigurationPropertySource propertySource = startContext.configurationPropertySource();
 
 		try {
+			this.metricsListenerHolder = backendContext.createIndexingMetricsListener( startContext );
 			ShardingStrategyInitializationContextImpl initializationContext =
-					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, propertySource );
+					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext,
+							segmentWarmer,
+							metricsListenerHolder == null ? null : metricsListenerHolder.get(),
+							propertySource );
 			this.shardingStrategyHolder = initializationContext.create( shards );
 
 			if ( startContext.failureCollector().hasFailure() ) {
@@ -70,9 +78,11 @@ void start(IndexManagerStartContext startContext) {
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.pushAll( Shard::stop, shards.values() );
+					.pushAll( Shard::stop, shards.values() )
+					.push( metricsListenerHolder );
 			shards.clear();
 			managementOrchestrators.clear();
+			metricsListenerHolder = null;
 			throw e;
 		}
 	}
@@ -92,6 +102,9 @@ void stop() {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			// Release the metrics listener after the shards, which may notify it until they are stopped
+			closer.push( BeanHolder::close, metricsListenerHolder );
+			metricsListenerHolder = null;
 		}
 	}
 
@@ -104,6 +117,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		}
 	}
 
+	@Override
+	public LuceneQueryCachingContext cachingContext() {
+		return backendContext.cachingContext();
+	}
+
 	@Override
 	public String mappedTypeName() {
 		return model.mappedTypeName();
@@ -22,6 +22,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -55,6 +57,8 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 	private final IndexManagerStartContext startContext;
+	private final SegmentWarmer segmentWarmer;
+	private final IndexingMetricsListener metricsListener;
 	private final ConfigurationPropertySource indexPropertySource;
 	private final ConfigurationPropertySource shardingPropertySource;
 
@@ -62,10 +66,13 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 
 	ShardingStrategyInitializationContextImpl(IndexManagerBackendContext backendContext,
 			LuceneIndexModel model, IndexManagerStartContext startContext,
+			SegmentWarmer segmentWarmer, IndexingMetricsListener metricsListener,
 			ConfigurationPropertySource indexPropertySource) {
 		this.backendContext = backendContext;
 		this.model = model;
 		this.startContext = startContext;
+		this.segmentWarmer = segmentWarmer;
+		this.metricsListener = metricsListener;
 		this.indexPropertySource = indexPropertySource;
 		this.shardingPropertySource = indexPropertySource.withMask( "sharding" );
 	}
@@ -138,8 +145,8 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 
 			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
 
-			Shard shard = backendContext.createShard( model, shardEventContext, directoryHolder, ioStrategy,
-					shardPropertySource );
+			Shard shard = backendContext.createShard( model, shardId, shardEventContext, directoryHolder, ioStrategy,
+					segmentWarmer, metricsListener, shardPropertySource );
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
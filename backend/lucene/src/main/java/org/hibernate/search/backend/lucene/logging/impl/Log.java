@@ -605,4 +605,30 @@ SearchException invalidContextForProjectionOnField(String absolutePath,
 	SearchException invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(String absolutePath,
 			String objectFieldAbsolutePath);
 
+	@Message(id = ID_OFFSET + 154,
+			value = "Invalid search cursor: '%1$s'."
+					+ " A cursor can only be used with the query that produced it, or with a query with the same sorts.")
+	SearchException invalidSearchCursor(Object cursor);
+
+	@Message(id = ID_OFFSET + 155,
+			value = "Invalid I/O refresh mode name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIORefreshModeName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 156,
+			value = "Unable to refresh the index reader: %1$s")
+	SearchException unableToRefreshIndexReader(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET + 157,
+			value = "Unable to warm up a new index segment: %1$s"
+					+ " Search queries will run on this segment without warming. %2$s")
+	void unableToWarmUpSegment(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 158,
+			value = "Unable to apply warming configuration: %1$s")
+	SearchException unableToApplyWarmingConfiguration(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
 }
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Collector;
 
 public interface CollectorFactory<C extends Collector> {
@@ -16,4 +18,36 @@
 
 	CollectorKey<C> getCollectorKey();
 
+	/**
+	 * Merges collectors that were created by this factory and applied to distinct slices of the same index reader,
+	 * when index segments are searched in parallel.
+	 *
+	 * @param collectors The collectors to merge, in the order of the slices they were applied to.
+	 * @return A collector holding the same data as if a single collector had been applied to all slices.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	C reduce(Collection<C> collectors) throws IOException;
+
+	/**
+	 * Re-targets a collector that was created by this factory and applied to an index reader
+	 * to another top-level index reader composed of the exact same sub-readers, in the same order,
+	 * when collected data is reused from the search result cache.
+	 * <p>
+	 * The given collector must not be altered: it may be re-targeted multiple times, concurrently.
+	 *
+	 * @param collector The collector to re-target.
+	 * @param indexReader The top-level index reader to re-target the collector to.
+	 * @return A collector holding the same data, but referring to the leaves of {@code indexReader}.
+	 */
+	C rebind(C collector, IndexReader indexReader);
+
+	/**
+	 * Estimates the memory retained by a collector that was created by this factory,
+	 * when collected data is kept in the search result cache.
+	 *
+	 * @param collector The collector.
+	 * @return The estimated memory usage of {@code collector}, in bytes.
+	 */
+	long ramBytesUsed(C collector);
+
 }
@@ -6,13 +6,26 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollector.MatchingDocs;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.RamUsageEstimator;
 
 public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
 	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
 
 	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
 
+	private static final long MATCHING_DOCS_SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance( MatchingDocs.class );
+
 	@Override
 	public FacetsCollector createCollector(CollectorExecutionContext context) {
 		return new FacetsCollector();
@@ -22,4 +35,53 @@ public FacetsCollector createCollector(CollectorExecutionContext context) {
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
+
+	@Override
+	public FacetsCollector reduce(Collection<FacetsCollector> collectors) throws IOException {
+		return new FacetsCollectorManager().reduce( collectors );
+	}
+
+	@Override
+	public FacetsCollector rebind(FacetsCollector collector, IndexReader indexReader) {
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		List<MatchingDocs> originalMatchingDocs = collector.getMatchingDocs();
+		List<MatchingDocs> reboundMatchingDocs = new ArrayList<>( originalMatchingDocs.size() );
+		for ( MatchingDocs matchingDocs : originalMatchingDocs ) {
+			// The leaves are the same, in the same order: only the top-level reader they refer to changes.
+			reboundMatchingDocs.add( new MatchingDocs( leaves.get( matchingDocs.context.ord ),
+					matchingDocs.bits, matchingDocs.totalHits, matchingDocs.scores ) );
+		}
+		return new ReboundFacetsCollector( collector.getKeepScores(), reboundMatchingDocs );
+	}
+
+	@Override
+	public long ramBytesUsed(FacetsCollector collector) {
+		long ramBytesUsed = RamUsageEstimator.shallowSizeOf( collector );
+		for ( MatchingDocs matchingDocs : collector.getMatchingDocs() ) {
+			ramBytesUsed += MATCHING_DOCS_SHALLOW_SIZE + matchingDocs.bits.ramBytesUsed();
+			if ( matchingDocs.scores != null ) {
+				ramBytesUsed += RamUsageEstimator.sizeOf( matchingDocs.scores );
+			}
+		}
+		return ramBytesUsed;
+	}
+
+	/**
+	 * A facets collector exposing matching docs that were collected by another collector.
+	 * <p>
+	 * Not meant to collect any document.
+	 */
+	private static final class ReboundFacetsCollector extends FacetsCollector {
+		private final List<MatchingDocs> matchingDocs;
+
+		private ReboundFacetsCollector(boolean keepScores, List<MatchingDocs> matchingDocs) {
+			super( keepScores );
+			this.matchingDocs = Collections.unmodifiableList( matchingDocs );
+		}
+
+		@Override
+		public List<MatchingDocs> getMatchingDocs() {
+			return matchingDocs;
+		}
+	}
 }
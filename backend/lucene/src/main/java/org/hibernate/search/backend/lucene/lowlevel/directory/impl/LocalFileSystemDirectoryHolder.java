@@ -18,6 +18,7 @@
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
@@ -26,15 +27,19 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final LocalFileSystemDirectoryProvider.NrtCachingConfiguration nrtCaching;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier,
+			LocalFileSystemDirectoryProvider.NrtCachingConfiguration nrtCaching,
+			EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.nrtCaching = nrtCaching;
 		this.eventContext = eventContext;
 	}
 
@@ -47,7 +52,16 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		Directory fsDirectory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		if ( nrtCaching == null ) {
+			this.directory = fsDirectory;
+		}
+		else {
+			// Small segments are kept in memory until they get committed (synced) or merged away,
+			// which avoids writing many tiny files to the filesystem on frequent refreshes.
+			this.directory = new NRTCachingDirectory( fsDirectory,
+					nrtCaching.maxSegmentSizeMb, nrtCaching.maxSizeMb );
+		}
 	}
 
 	@Override
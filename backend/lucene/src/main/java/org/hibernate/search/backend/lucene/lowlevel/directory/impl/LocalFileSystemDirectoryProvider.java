@@ -43,6 +43,24 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> NRT_CACHING_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_MAX_SEGMENT_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_SEGMENT_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHING_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHING_MAX_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHING_MAX_SIZE )
+					.build();
+
 	@Override
 	@SuppressWarnings("deprecation")
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
@@ -63,9 +81,25 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 			directoryPath = directoryPath.resolve( shardId.get() );
 		}
 
+		NrtCachingConfiguration nrtCaching = null;
+		if ( NRT_CACHING_ENABLED.get( propertySource ) ) {
+			nrtCaching = new NrtCachingConfiguration( NRT_CACHING_MAX_SEGMENT_SIZE.get( propertySource ),
+					NRT_CACHING_MAX_SIZE.get( propertySource ) );
+		}
+
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier, nrtCaching, context.eventContext()
 		);
 	}
 
+	static final class NrtCachingConfiguration {
+		final int maxSegmentSizeMb;
+		final int maxSizeMb;
+
+		private NrtCachingConfiguration(int maxSegmentSizeMb, int maxSizeMb) {
+			this.maxSegmentSizeMb = maxSegmentSizeMb;
+			this.maxSizeMb = maxSizeMb;
+		}
+	}
+
 }
@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A per-segment iterator over the values of a field, decoded from doc values.
+ * <p>
+ * Used to project on fields without loading stored fields.
+ * Note that doc values do not preserve the order of values in the original document,
+ * so this should only be used for single-valued fields.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class DecodingDocValues<F> extends DocIdSetIterator {
+
+	public static <F> DecodingDocValues<F> fromSortedNumeric(SortedNumericDocValues docValues,
+			LongFunction<F> decoder) {
+		return new SortedNumericDecodingDocValues<>(
+				docValues == null ? DocValues.emptySortedNumeric() : docValues, decoder );
+	}
+
+	public static <F> DecodingDocValues<F> fromSortedSet(SortedSetDocValues docValues,
+			Function<BytesRef, F> decoder) {
+		return new SortedSetDecodingDocValues<>(
+				docValues == null ? DocValues.emptySortedSet() : docValues, decoder );
+	}
+
+	/**
+	 * Advance the iterator to exactly {@code doc} and return whether {@code doc} has a value.
+	 * {@code doc} must be greater than or equal to the current {@link #docID() doc ID} and must be a valid doc ID.
+	 *
+	 * @param doc The doc ID.
+	 * @return {@code true} if the document has at least one value.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public abstract boolean advanceExact(int doc) throws IOException;
+
+	/**
+	 * @return {@code true} if there is another value for the current document.
+	 */
+	public abstract boolean hasNextValue();
+
+	/**
+	 * @return The next value for the current document.
+	 * Can only be called after {@link #advanceExact(int)} returned {@code true} and {@link #hasNextValue()}
+	 * returned {@code true}.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public abstract F nextValue() throws IOException;
+
+	private static final class SortedNumericDecodingDocValues<F> extends DecodingDocValues<F> {
+		private final SortedNumericDocValues values;
+		private final LongFunction<F> decoder;
+		private int remaining;
+
+		private SortedNumericDecodingDocValues(SortedNumericDocValues values, LongFunction<F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				remaining = values.docValueCount();
+				return true;
+			}
+			remaining = 0;
+			return false;
+		}
+
+		@Override
+		public boolean hasNextValue() {
+			return remaining > 0;
+		}
+
+		@Override
+		public F nextValue() throws IOException {
+			--remaining;
+			return decoder.apply( values.nextValue() );
+		}
+
+		@Override
+		public int docID() {
+			return values.docID();
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			return values.nextDoc();
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			return values.advance( target );
+		}
+
+		@Override
+		public long cost() {
+			return values.cost();
+		}
+	}
+
+	private static final class SortedSetDecodingDocValues<F> extends DecodingDocValues<F> {
+		private final SortedSetDocValues values;
+		private final Function<BytesRef, F> decoder;
+		private long nextOrd = SortedSetDocValues.NO_MORE_ORDS;
+
+		private SortedSetDecodingDocValues(SortedSetDocValues values, Function<BytesRef, F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			if ( values.advanceExact( doc ) ) {
+				nextOrd = values.nextOrd();
+				return true;
+			}
+			nextOrd = SortedSetDocValues.NO_MORE_ORDS;
+			return false;
+		}
+
+		@Override
+		public boolean hasNextValue() {
+			return nextOrd != SortedSetDocValues.NO_MORE_ORDS;
+		}
+
+		@Override
+		public F nextValue() throws IOException {
+			F value = decoder.apply( values.lookupOrd( nextOrd ) );
+			nextOrd = values.nextOrd();
+			return value;
+		}
+
+		@Override
+		public int docID() {
+			return values.docID();
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			return values.nextDoc();
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			return values.advance( target );
+		}
+
+		@Override
+		public long cost() {
+			return values.cost();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cache.impl.IndexReaderKeyedCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A bounded, least-recently-used cache of {@link OrdinalMap}s, i.e. of the mapping between per-segment ordinals and global ordinals
+ * of text doc values, per index reader and field.
+ * <p>
+ * Building an ordinal map requires merging the term dictionaries of all segments,
+ * which is expensive for high-cardinality fields,
+ * but the result only depends on the segments, so it can be reused by every query
+ * executed on the same index readers.
+ * <p>
+ * Entries are keyed on the field and on the exact index readers of every targeted shard:
+ * as soon as an index reader is refreshed, lookups stop matching entries built for the previous reader,
+ * and those entries are evicted when the previous reader gets closed.
+ * Least recently used entries are also evicted when the total size of ordinal maps exceeds the configured maximum.
+ */
+public final class OrdinalMapCache {
+
+	private static final ConfigurationProperty<Integer> ORDINAL_MAP_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.ORDINAL_MAP_CACHE_MAX_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.ORDINAL_MAP_CACHE_MAX_SIZE )
+					.build();
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	public static Optional<OrdinalMapCache> create(ConfigurationPropertySource propertySource) {
+		int maxSizeInMegabytes = ORDINAL_MAP_CACHE_MAX_SIZE.get( propertySource );
+		if ( maxSizeInMegabytes == 0 ) {
+			return Optional.empty();
+		}
+		return Optional.of( new OrdinalMapCache( maxSizeInMegabytes * BYTES_PER_MEGABYTE ) );
+	}
+
+	private final IndexReaderKeyedCache<String, OrdinalMap> delegate;
+
+	private OrdinalMapCache(long maxRamBytes) {
+		// Bounded by memory usage only.
+		this.delegate = new IndexReaderKeyedCache<>( Integer.MAX_VALUE, maxRamBytes, OrdinalMap::ramBytesUsed );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "delegate=" + delegate
+				+ "]";
+	}
+
+	public int size() {
+		return delegate.size();
+	}
+
+	public long ramBytesUsed() {
+		return delegate.ramBytesUsed();
+	}
+
+	/**
+	 * Equivalent to {@link org.apache.lucene.index.MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * except the ordinal map is retrieved from this cache if possible.
+	 *
+	 * @param reader The top-level index reader.
+	 * @param field The name of the field.
+	 * @return The doc values for the given field, or {@code null} if the field has no doc values.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public SortedSetDocValues getSortedSetValues(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		else if ( size == 1 ) {
+			return leaves.get( 0 ).reader().getSortedSetDocValues( field );
+		}
+
+		boolean anyReal = false;
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues v = context.reader().getSortedSetDocValues( field );
+			if ( v == null ) {
+				v = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = v;
+			starts[i] = context.docBase;
+			totalCost += v.cost();
+		}
+		starts[size] = reader.maxDoc();
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap mapping = getOrBuild( reader, field, values );
+		return new MultiSortedSetDocValues( values, starts, mapping, totalCost );
+	}
+
+	private OrdinalMap getOrBuild(IndexReader reader, String field, SortedSetDocValues[] values)
+			throws IOException {
+		IndexReaderKeyedCache.Key<String> key = delegate.keyOrNull( reader, field );
+		if ( key == null ) {
+			// The reader does not support caching
+			return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		}
+
+		OrdinalMap mapping = delegate.get( key );
+		if ( mapping != null ) {
+			return mapping;
+		}
+
+		// Build outside the lock: concurrent builds of the same map are harmless.
+		mapping = OrdinalMap.build( null, values, PackedInts.DEFAULT );
+		delegate.put( key, mapping );
+		return mapping;
+	}
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 
 import com.carrotsearch.hppc.IntHashSet;
 import com.carrotsearch.hppc.procedures.IntProcedure;
@@ -45,7 +46,12 @@ public class TextMultiValueFacetCounts extends Facets {
 	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
+		OrdinalMapCache ordinalMapCache = reader instanceof HibernateSearchMultiReader
+				? ( (HibernateSearchMultiReader) reader ).getOrdinalMapCache()
+				: null;
+		dv = ordinalMapCache != null
+				? ordinalMapCache.getSortedSetValues( reader, field )
+				: MultiDocValues.getSortedSetValues( reader, field );
 		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
 			// We may want to remove this limitation?
 			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
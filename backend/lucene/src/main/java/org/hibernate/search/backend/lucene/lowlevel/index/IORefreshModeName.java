@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+@Incubating
+public enum IORefreshModeName {
+
+	/**
+	 * The default mode, where the index reader is refreshed when a search query
+	 * detects that it is stale.
+	 * <p>
+	 * The search query that detects the stale index reader pays for the refresh,
+	 * and concurrent search queries wait for the refresh to complete.
+	 */
+	ON_QUERY( "on-query" ),
+	/**
+	 * A mode where the index reader is refreshed ahead of time in a background task,
+	 * after index changes or when the refresh interval expires.
+	 * <p>
+	 * Search queries never wait for a refresh: they always use the latest index reader that is ready,
+	 * which may lag slightly behind index changes.
+	 * Explicit refreshes (e.g. the "searchable" automatic indexing synchronization strategy in the ORM mapper)
+	 * are still performed synchronously, by the indexing thread.
+	 */
+	BACKGROUND( "background" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IORefreshModeName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				IORefreshModeName.values(),
+				IORefreshModeName::externalRepresentation,
+				log::invalidIORefreshModeName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IORefreshModeName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -11,7 +11,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -27,19 +29,22 @@ private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ShardIndexingMetrics metrics) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler, metrics
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider,
+			SegmentWarmer segmentWarmer, ShardIndexingMetrics metrics) {
+		// Readers are opened for each search query: warming them or reporting them to metrics would be pointless.
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
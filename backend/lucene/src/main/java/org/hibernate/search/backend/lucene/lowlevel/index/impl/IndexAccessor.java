@@ -56,6 +56,24 @@ public interface IndexAccessor {
 	 */
 	void mergeSegments();
 
+	/**
+	 * Switches the index to a write-optimized profile until {@link #stopBulkLoad()} is called:
+	 * index writers use a larger RAM buffer,
+	 * and commits and background refreshes after batches of index changes are suspended.
+	 * <p>
+	 * Calls may be nested: the index only goes back to its regular profile
+	 * when {@link #stopBulkLoad()} has been called as many times as this method.
+	 */
+	void startBulkLoad();
+
+	/**
+	 * Ends bulk loading, see {@link #startBulkLoad()}.
+	 * <p>
+	 * Restores the regular index writer settings
+	 * and commits pending changes, or delays the commit as for any other batch of changes.
+	 */
+	void stopBulkLoad();
+
 	/**
 	 * @return The index writer delegator.
 	 */
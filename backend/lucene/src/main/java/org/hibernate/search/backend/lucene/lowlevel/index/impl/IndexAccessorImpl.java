@@ -40,6 +40,8 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	private volatile int bulkLoadCount = 0;
+
 	public IndexAccessorImpl(EventContext eventContext,
 			DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
@@ -141,6 +143,12 @@ public void commitOrDelay() {
 		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
 		if ( delegator != null ) {
 			delegator.commitOrDelay();
+			if ( bulkLoadCount == 0 ) {
+				// This is called at the end of each batch of index changes:
+				// give the reader provider a chance to refresh ahead of time.
+				// We don't when bulk loading: refreshing would only slow down writes.
+				indexReaderProvider.afterWrite();
+			}
 		}
 	}
 
@@ -159,6 +167,27 @@ public void mergeSegments() {
 		}
 	}
 
+	@Override
+	public synchronized void startBulkLoad() {
+		if ( bulkLoadCount == 0 ) {
+			indexWriterProvider.startBulkLoad();
+		}
+		++bulkLoadCount;
+	}
+
+	@Override
+	public synchronized void stopBulkLoad() {
+		if ( bulkLoadCount == 0 ) {
+			return;
+		}
+		--bulkLoadCount;
+		if ( bulkLoadCount == 0 ) {
+			indexWriterProvider.stopBulkLoad();
+			// Changes were not committed while bulk loading: make sure they will be.
+			commitOrDelay();
+		}
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
 		return indexWriterProvider.getOrCreate();
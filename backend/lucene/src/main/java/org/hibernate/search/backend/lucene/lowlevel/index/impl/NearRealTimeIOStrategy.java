@@ -8,11 +8,14 @@
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.IORefreshModeName;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
@@ -33,12 +36,19 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<IORefreshModeName> REFRESH_MODE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_MODE )
+					.as( IORefreshModeName.class, IORefreshModeName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_MODE )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		IORefreshModeName refreshMode = REFRESH_MODE.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				timingSource, commitInterval, refreshInterval,
+				timingSource, commitInterval, refreshInterval, refreshMode,
 				threads, failureHandler
 		);
 	}
@@ -46,19 +56,23 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final IORefreshModeName refreshMode;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			IORefreshModeName refreshMode,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.refreshMode = refreshMode;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource) {
+			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
+			ShardIndexingMetrics metrics) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
@@ -66,17 +80,22 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, configSource,
 				timingSource, commitInterval, threads,
-				failureHandler
+				failureHandler, metrics
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext,
+			DirectoryHolder directoryHolder, IndexWriterProvider indexWriterProvider,
+			SegmentWarmer segmentWarmer, ShardIndexingMetrics metrics) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider(
+				eventContext, indexWriterProvider, timingSource, refreshInterval,
+				IORefreshModeName.BACKGROUND.equals( refreshMode ), segmentWarmer, threads, failureHandler,
+				metrics
+		);
 	}
 
 }
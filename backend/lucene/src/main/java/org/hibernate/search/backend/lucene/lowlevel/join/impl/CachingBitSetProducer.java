@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A {@link BitSetProducer} relying on the backend-wide {@link NestedDocsBitSetCache} whenever possible,
+ * so that bitsets are shared between queries instead of being recomputed for every query.
+ * <p>
+ * Falls back to a {@link QueryBitSetProducer}, local to this instance,
+ * when executing on readers that do not expose the backend cache.
+ */
+public final class CachingBitSetProducer implements BitSetProducer {
+
+	private final Query query;
+	private final QueryBitSetProducer fallback;
+
+	public CachingBitSetProducer(Query query) {
+		this.query = query;
+		this.fallback = new QueryBitSetProducer( query );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "(" + query + ")";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		CachingBitSetProducer other = (CachingBitSetProducer) obj;
+		return query.equals( other.query );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * getClass().hashCode() + query.hashCode();
+	}
+
+	@Override
+	public BitSet getBitSet(LeafReaderContext context) throws IOException {
+		NestedDocsBitSetCache cache = NestedDocsBitSetCache.forContext( context );
+		if ( cache == null ) {
+			return fallback.getBitSet( context );
+		}
+		return cache.getOrCompute( query, context );
+	}
+
+}
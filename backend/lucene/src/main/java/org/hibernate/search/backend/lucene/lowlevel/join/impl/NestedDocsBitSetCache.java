@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cache.impl.IndexReaderKeyedCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSet;
+
+/**
+ * A bounded, least-recently-used cache of the bitsets of parent and child documents
+ * used by nested predicates, sorts, projections and aggregations.
+ * <p>
+ * Entries are keyed on the filter query and on the core of each segment:
+ * bitsets computed by scorers do not take deletions into account,
+ * so they remain valid as long as the segment exists, even across index reader refreshes,
+ * and are evicted when the segment core gets closed.
+ * <p>
+ * The cache is shared by all indexes of a backend,
+ * and is reached from leaf contexts through the top-level {@link HibernateSearchMultiReader}.
+ */
+public final class NestedDocsBitSetCache {
+
+	private static final ConfigurationProperty<Integer> NESTED_BITSET_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.NESTED_BITSET_CACHE_MAX_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.NESTED_BITSET_CACHE_MAX_SIZE )
+					.build();
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	public static Optional<NestedDocsBitSetCache> create(ConfigurationPropertySource propertySource) {
+		int maxSizeInMegabytes = NESTED_BITSET_CACHE_MAX_SIZE.get( propertySource );
+		if ( maxSizeInMegabytes == 0 ) {
+			return Optional.empty();
+		}
+		return Optional.of( new NestedDocsBitSetCache( maxSizeInMegabytes * BYTES_PER_MEGABYTE ) );
+	}
+
+	/**
+	 * @param context A leaf reader context.
+	 * @return The cache attached to the top-level reader of the given context,
+	 * or {@code null} if there is none, e.g. when executing on a reader that was not opened by Hibernate Search.
+	 */
+	public static NestedDocsBitSetCache forContext(LeafReaderContext context) {
+		IndexReader topLevelReader = ReaderUtil.getTopLevelContext( context ).reader();
+		if ( topLevelReader instanceof HibernateSearchMultiReader ) {
+			return ( (HibernateSearchMultiReader) topLevelReader ).getNestedDocsBitSetCache();
+		}
+		return null;
+	}
+
+	/**
+	 * Compute the bitset of documents matching the given query in the given segment,
+	 * without taking deletions into account.
+	 *
+	 * @param query The query.
+	 * @param context A leaf reader context.
+	 * @return The bitset, or {@code null} if no document matches.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public static BitSet compute(Query query, LeafReaderContext context) throws IOException {
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		// Caching is our job here: don't let the searcher cache the filter in the query cache as well.
+		searcher.setQueryCache( null );
+		Weight weight = searcher.createWeight( searcher.rewrite( query ), ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return null;
+		}
+		DocIdSetIterator iterator = scorer.iterator();
+		return BitSet.of( iterator, context.reader().maxDoc() );
+	}
+
+	private final IndexReaderKeyedCache<Query, Entry> delegate;
+
+	private NestedDocsBitSetCache(long maxRamBytes) {
+		// Bounded by memory usage only.
+		this.delegate = new IndexReaderKeyedCache<>( Integer.MAX_VALUE, maxRamBytes, Entry::ramBytesUsed );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "delegate=" + delegate
+				+ "]";
+	}
+
+	public int size() {
+		return delegate.size();
+	}
+
+	public long ramBytesUsed() {
+		return delegate.ramBytesUsed();
+	}
+
+	/**
+	 * @param query The filter query.
+	 * @param context A leaf reader context.
+	 * @return The bitset of documents matching the given query in the given segment,
+	 * retrieved from the cache if possible, or {@code null} if no document matches.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public BitSet getOrCompute(Query query, LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper coreCacheHelper = context.reader().getCoreCacheHelper();
+		if ( coreCacheHelper == null ) {
+			// The reader does not support caching
+			return compute( query, context );
+		}
+
+		IndexReaderKeyedCache.Key<Query> key = delegate.key( coreCacheHelper, query );
+		Entry entry = delegate.get( key );
+		if ( entry != null ) {
+			return entry.bitSet;
+		}
+
+		// Compute outside the lock: concurrent computations of the same bitset are harmless.
+		BitSet bitSet = compute( query, context );
+		delegate.put( key, new Entry( bitSet ) );
+		return bitSet;
+	}
+
+	private static final class Entry {
+		// Null if no document matches
+		private final BitSet bitSet;
+
+		private Entry(BitSet bitSet) {
+			this.bitSet = bitSet;
+		}
+
+		private long ramBytesUsed() {
+			return bitSet == null ? 0L : bitSet.ramBytesUsed();
+		}
+	}
+}
@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -24,8 +25,8 @@
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.BitSetIterator;
 
 /**
  * Provides various representations of nested docs for a pre-defined nested document path.
@@ -37,6 +38,8 @@ public class NestedDocsProvider {
 
 	private final BitSetProducer parentFilter;
 	private final Query childQuery;
+	// Null if child docs are filtered: filters are query-specific and not worth caching.
+	private final BitSetProducer allChildDocs;
 
 	public NestedDocsProvider(String parentDocumentPath, String nestedDocumentPath) {
 		this( parentDocumentPath, Collections.singleton( nestedDocumentPath ), null );
@@ -55,8 +58,27 @@ public NestedDocsProvider(String parentDocumentPath, Set<String> nestedDocumentP
 		// Note: this filter should include *all* parents, not just the matched ones.
 		// Otherwise we will not "see" non-matched parents,
 		// and we will consider its matching children as children of the next matching parent.
-		this.parentFilter = new QueryBitSetProducer( parentsFilterQuery );
+		this.parentFilter = new CachingBitSetProducer( parentsFilterQuery );
 		this.childQuery = Queries.childDocumentsQuery( nestedDocumentPaths, nestedFilter );
+		this.allChildDocs = nestedFilter == null ? new CachingBitSetProducer( childQuery ) : null;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		NestedDocsProvider other = (NestedDocsProvider) obj;
+		return parentFilter.equals( other.parentFilter )
+				&& childQuery.equals( other.childQuery );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( parentFilter, childQuery );
 	}
 
 	public ChildDocIds childDocs(LeafReaderContext context, DocIdSetIterator childFilter) throws IOException {
@@ -76,8 +98,17 @@ public ChildDocIds childDocs(Weight childDocsWeight, LeafReaderContext context,
 			return null;
 		}
 
-		Scorer s = childDocsWeight.scorer( context );
-		DocIdSetIterator childDocs = s == null ? null : s.iterator();
+		DocIdSetIterator childDocs;
+		if ( allChildDocs != null && NestedDocsBitSetCache.forContext( context ) != null ) {
+			BitSet childDocsBitSet = allChildDocs.getBitSet( context );
+			childDocs = childDocsBitSet == null ? null
+					: new BitSetIterator( childDocsBitSet, childDocsBitSet.approximateCardinality() );
+		}
+		else {
+			// Without the backend cache, iterating the scorer directly is cheaper than building a bitset.
+			Scorer s = childDocsWeight.scorer( context );
+			childDocs = s == null ? null : s.iterator();
+		}
 		if ( childDocs == null ) {
 			return null;
 		}
@@ -19,7 +19,10 @@
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -49,6 +52,8 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
 					indexManagerContext.openIndexReaders( routingKeys, builder );
+					// All index managers of a backend share the same caches
+					builder.cachingContext = indexManagerContext.cachingContext();
 				}
 				return builder.build();
 			}
@@ -64,18 +69,35 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 
 	private final List<DirectoryReader> directoryReaders;
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final LuceneQueryCachingContext cachingContext;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver) throws IOException {
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver,
+			LuceneQueryCachingContext cachingContext) throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
 		this.metadataResolver = metadataResolver;
+		this.cachingContext = cachingContext;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @return The backend-wide cache of nested docs bitsets, or {@code null} if disabled.
+	 */
+	public NestedDocsBitSetCache getNestedDocsBitSetCache() {
+		return cachingContext.nestedDocsBitSetCache().orElse( null );
+	}
+
+	/**
+	 * @return The backend-wide cache of ordinal maps for text doc values, or {@code null} if disabled.
+	 */
+	public OrdinalMapCache getOrdinalMapCache() {
+		return cachingContext.ordinalMapCache().orElse( null );
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = log.isTraceEnabled();
@@ -102,6 +124,7 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private LuceneQueryCachingContext cachingContext;
 
 		private Builder() {
 		}
@@ -115,7 +138,7 @@ public void collect(String mappedTypeName, DirectoryReader directoryReader) {
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, metadataResolver, cachingContext );
 		}
 	}
 }
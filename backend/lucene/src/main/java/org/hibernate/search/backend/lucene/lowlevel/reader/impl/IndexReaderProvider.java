@@ -25,6 +25,12 @@ public interface IndexReaderProvider {
 	 */
 	void refresh();
 
+	/**
+	 * Notify this provider that changes were applied to the index writer,
+	 * so that it can prepare an up-to-date index reader ahead of time if it wants to.
+	 */
+	void afterWrite();
+
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
 	 * Callers are responsible for calling {@link DirectoryReader#decRef()} when they are done with the index reader.
@@ -7,9 +7,23 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,25 +36,62 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Optionally, the index reader can be refreshed in the background, ahead of time,
+ * after index changes or when the refresh interval expires:
+ * search queries then always get the latest index reader that is ready,
+ * and never wait for a refresh.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final SegmentWarmer segmentWarmer;
+	private final EventContext eventContext;
+	private final FailureHandler failureHandler;
+	private final ShardIndexingMetrics metrics;
+	private final boolean backgroundRefresh;
+	private final BackendThreads threads;
+
+	/**
+	 * The task refreshing the index reader in the background,
+	 * or null when refreshing on query or when no reader is open.
+	 * <p>
+	 * A {@link SingletonTask} cannot be reused once stopped,
+	 * so a new task is created every time a reader is opened after the provider was cleared.
+	 */
+	private volatile SingletonTask backgroundRefreshTask = null;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * @param backgroundRefresh {@code true} to refresh the index reader in the background, using the write executor,
+	 * {@code false} to refresh the index reader on query.
+	 * @param segmentWarmer The warmer to apply to new segments before exposing them to search queries,
+	 * or {@code null} to expose new segments without warming them.
+	 * @param metrics The metrics to report reader refreshes to, or {@code null} to not report anything.
+	 */
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			boolean backgroundRefresh, SegmentWarmer segmentWarmer,
+			BackendThreads threads, FailureHandler failureHandler, ShardIndexingMetrics metrics) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.segmentWarmer = segmentWarmer;
+		this.eventContext = eventContext;
+		this.failureHandler = failureHandler;
+		this.metrics = metrics;
+		this.backgroundRefresh = backgroundRefresh;
+		this.threads = threads;
 	}
 
 	@Override
@@ -56,13 +107,47 @@ public void refresh() {
 			return;
 		}
 
+		if ( backgroundRefresh ) {
+			// Search queries never refresh the reader in this mode:
+			// refresh it right now, in the calling (indexing) thread,
+			// so that changes are visible to search queries as soon as this method returns.
+			try {
+				refreshCurrentReaderEntry( true );
+			}
+			catch (IOException e) {
+				throw log.unableToRefreshIndexReader( e.getMessage(), eventContext, e );
+			}
+			return;
+		}
+
 		entry.forceRefresh();
 	}
 
+	@Override
+	public void afterWrite() {
+		SingletonTask task = backgroundRefreshTask;
+		if ( task == null ) {
+			// Either we refresh on query, or no reader was opened yet and the next query will open one.
+			return;
+		}
+		task.ensureScheduled();
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
 
+		if ( backgroundRefresh ) {
+			// The background task takes care of refreshing the reader:
+			// just use the latest reader that is ready, without checking its freshness,
+			// which would require locking in the index writer.
+			if ( entry != null && entry.reader.tryIncRef() ) {
+				return entry.reader;
+			}
+			// There is no reader yet, or it was replaced and closed since we retrieved it.
+			return getFreshIndexReader().reader;
+		}
+
 		// Optimistic locking and checks to avoid synchronization
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
@@ -79,43 +164,151 @@ public DirectoryReader getOrCreate() throws IOException {
 	}
 
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
+		IndexReaderEntry freshEntry = currentReaderEntry;
+		if ( freshEntry == null ) {
+			IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrCreate();
+			long openStart = System.nanoTime();
+			DirectoryReader newReader = indexWriterDelegator.openReader();
+			readerOpened( openStart );
+			warmNewSegments( newReader, null );
+			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			setCurrentReaderEntry( freshEntry );
+		}
+		else {
+			freshEntry = refreshCurrentReaderEntry( true );
+		}
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		freshEntry.reader.incRef();
+
+		return freshEntry;
+	}
+
+	/**
+	 * @param createWriterIfMissing Whether the index writer should be created if it doesn't exist yet.
+	 * @return The refreshed entry, or {@code null} if there was no entry to refresh
+	 * or if there was no index writer and {@code createWriterIfMissing} is {@code false}.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private synchronized IndexReaderEntry refreshCurrentReaderEntry(boolean createWriterIfMissing) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
-		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			return null;
+		}
+		IndexWriterDelegatorImpl indexWriterDelegator = createWriterIfMissing
+				? indexWriterProvider.getOrCreate()
+				: indexWriterProvider.getOrNull();
+		if ( indexWriterDelegator == null ) {
+			return null;
+		}
+		IndexReaderEntry freshEntry;
+		long openStart = System.nanoTime();
+		DirectoryReader newReaderOrNull = indexWriterDelegator.openReaderIfChanged( oldEntry.reader );
+		if ( newReaderOrNull == null ) {
+			// No change, keep the old reader
+			freshEntry = oldEntry;
 		}
 		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
-			if ( newReaderOrNull == null ) {
-				// No change, keep the old reader
-				freshEntry = oldEntry;
-			}
-			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
-			}
+			readerOpened( openStart );
+			warmNewSegments( newReaderOrNull, oldEntry.reader );
+			freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
 		}
 
 		if ( oldEntry != freshEntry ) {
 			setCurrentReaderEntry( freshEntry );
 		}
 
-		// At this point the reference count is at least one, for the holder.
-		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
-
 		return freshEntry;
 	}
 
+	private void readerOpened(long openStart) {
+		if ( metrics != null ) {
+			metrics.readerOpened( openStart, System.nanoTime() - openStart );
+		}
+	}
+
+	private void warmNewSegments(DirectoryReader newReader, DirectoryReader previousReaderOrNull) {
+		if ( segmentWarmer != null ) {
+			segmentWarmer.warmNewSegments( newReader, previousReaderOrNull );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
+		if ( newEntry == null ) {
+			stopBackgroundRefresh();
+			if ( metrics != null ) {
+				metrics.readerClosed();
+			}
+		}
+		else if ( oldEntry == null && backgroundRefresh ) {
+			backgroundRefreshTask = new SingletonTask(
+					"Background index reader refresh for " + eventContext.render(),
+					new BackgroundRefreshWorker(),
+					new BackgroundRefreshScheduler( threads ),
+					failureHandler
+			);
+		}
 		if ( oldEntry != null ) {
 			// Make sure to close the old reader as soon as no user thread is using it.
 			oldEntry.reader.decRef();
 		}
 	}
 
+	private void stopBackgroundRefresh() {
+		SingletonTask task = backgroundRefreshTask;
+		if ( task == null ) {
+			return;
+		}
+		backgroundRefreshTask = null;
+		// Cancel any pending refresh, so that it doesn't run against a closed index writer or directory.
+		task.stop();
+	}
+
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		@Override
+		public CompletableFuture<?> work() {
+			try {
+				// Don't create the index writer if it was closed in the meantime:
+				// the next index change or search query will take care of that.
+				refreshCurrentReaderEntry( false );
+			}
+			catch (RuntimeException | IOException e) {
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable(
+						log.unableToRefreshIndexReader( e.getMessage(), eventContext, e ) );
+				failureContextBuilder.failingOperation( "Background refresh of the index reader" );
+				failureHandler.handle( failureContextBuilder.build() );
+			}
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: the reader was refreshed in work().
+		}
+	}
+
+	private class BackgroundRefreshScheduler implements SingletonTask.Scheduler {
+		private final BackendThreads threads;
+
+		private BackgroundRefreshScheduler(BackendThreads threads) {
+			this.threads = threads;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			// Schedule the refresh for execution as soon as the current reader expires.
+			IndexReaderEntry entry = currentReaderEntry;
+			long timeToExpiration = entry == null ? 0L : entry.timeToExpiration();
+			return threads.getWriteExecutor().schedule( runnable, Math.max( 0L, timeToExpiration ), TimeUnit.MILLISECONDS );
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
@@ -129,6 +322,10 @@ private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int
 			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
 		}
 
+		long timeToExpiration() {
+			return expiration == 0 ? 0L : expiration - timingSource.monotonicTimeEstimate();
+		}
+
 		public void forceRefresh() {
 			refreshForced = true;
 		}
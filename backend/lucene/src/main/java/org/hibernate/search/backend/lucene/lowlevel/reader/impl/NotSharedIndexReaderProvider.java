@@ -34,6 +34,11 @@ public void refresh() {
 		// Nothing to do
 	}
 
+	@Override
+	public void afterWrite() {
+		// Nothing to do
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
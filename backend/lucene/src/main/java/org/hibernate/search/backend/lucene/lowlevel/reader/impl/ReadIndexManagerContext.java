@@ -9,6 +9,8 @@
 import java.io.IOException;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+
 /**
  * An interface with knowledge of the index manager internals,
  * able to retrieve components related to index reading.
@@ -17,4 +19,9 @@ public interface ReadIndexManagerContext {
 
 	void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
 
+	/**
+	 * @return The backend-wide caching context, giving access to caches used while reading.
+	 */
+	LuceneQueryCachingContext cachingContext();
+
 }
@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -35,14 +37,30 @@ class HibernateSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 	private final String contextDescription;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
+	private final ShardIndexingMetrics metrics;
 
 	HibernateSearchConcurrentMergeScheduler(String indexName, String contextDescription,
 			ThreadProvider threadProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, ShardIndexingMetrics metrics) {
 		this.indexName = indexName;
 		this.contextDescription = contextDescription;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
+	}
+
+	@Override
+	protected void doMerge(MergeSource mergeSource, MergePolicy.OneMerge merge) throws IOException {
+		if ( metrics == null ) {
+			super.doMerge( mergeSource, merge );
+			return;
+		}
+		long start = System.nanoTime();
+		super.doMerge( mergeSource, merge );
+		if ( merge.isAborted() ) {
+			return;
+		}
+		metrics.merged( merge.segments.size(), merge.totalBytesSize(), System.nanoTime() - start );
 	}
 
 	@Override
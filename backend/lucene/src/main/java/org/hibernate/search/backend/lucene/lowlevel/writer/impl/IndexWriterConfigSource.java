@@ -8,7 +8,10 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.warming.impl.SegmentWarmer;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -29,20 +32,33 @@
  */
 public class IndexWriterConfigSource {
 
+	private static final ConfigurationProperty<Integer> BULK_LOAD_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE )
+					.build();
+
 	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
+			SegmentWarmer segmentWarmer,
 			ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, values );
+		int bulkLoadRamBufferSize = BULK_LOAD_RAM_BUFFER_SIZE.get( propertySource );
+		return new IndexWriterConfigSource( similarity, analyzer, segmentWarmer, values, bulkLoadRamBufferSize );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
+	private final SegmentWarmer segmentWarmer;
 	private final List<IndexWriterSettingValue<?>> values;
+	private final int bulkLoadRamBufferSize;
 
-	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, List<IndexWriterSettingValue<?>> values) {
+	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, SegmentWarmer segmentWarmer,
+			List<IndexWriterSettingValue<?>> values, int bulkLoadRamBufferSize) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
+		this.segmentWarmer = segmentWarmer;
 		this.values = values;
+		this.bulkLoadRamBufferSize = bulkLoadRamBufferSize;
 	}
 
 	@Override
@@ -57,6 +73,9 @@ public String toString() {
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		writerConfig.setSimilarity( similarity );
+		if ( segmentWarmer != null ) {
+			writerConfig.setMergedSegmentWarmer( segmentWarmer );
+		}
 		for ( IndexWriterSettingValue<?> value : values ) {
 			value.applySetting( writerConfig );
 		}
@@ -64,6 +83,13 @@ public IndexWriterConfig createIndexWriterConfig() {
 		return writerConfig;
 	}
 
+	/**
+	 * @return The RAM buffer size, in megabytes, to use on index writers while bulk loading.
+	 */
+	public int bulkLoadRamBufferSize() {
+		return bulkLoadRamBufferSize;
+	}
+
 	private LogByteSizeMergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
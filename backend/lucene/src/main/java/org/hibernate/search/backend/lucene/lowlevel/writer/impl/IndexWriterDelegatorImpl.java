@@ -14,6 +14,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -40,22 +41,28 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final FailureHandler failureHandler;
+	private final ShardIndexingMetrics metrics;
 
 	private final SingletonTask delayedCommitTask;
 	private final Object commitLock = new Object();
 
 	private long commitExpiration;
 
+	private volatile boolean bulkLoading = false;
+	private double ramBufferSizeBeforeBulkLoad;
+
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
 			TimingSource timingSource, int commitInterval,
 			FailureHandler failureHandler,
-			DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			DelayedCommitFailureHandler delayedCommitFailureHandler,
+			ShardIndexingMetrics metrics) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -101,6 +108,11 @@ public void commit() {
 	}
 
 	public void commitOrDelay() {
+		if ( bulkLoading ) {
+			// Bulk loading: commit only once, at the end.
+			return;
+		}
+
 		if ( !delegate.hasUncommittedChanges() ) {
 			// No need to either commit or plan a delayed commit: there's nothing to commit.
 			return;
@@ -125,6 +137,23 @@ public void commitOrDelay() {
 		}
 	}
 
+	void startBulkLoad(int ramBufferSize) {
+		if ( bulkLoading ) {
+			return;
+		}
+		ramBufferSizeBeforeBulkLoad = delegate.getConfig().getRAMBufferSizeMB();
+		delegate.getConfig().setRAMBufferSizeMB( ramBufferSize );
+		bulkLoading = true;
+	}
+
+	void stopBulkLoad() {
+		if ( !bulkLoading ) {
+			return;
+		}
+		bulkLoading = false;
+		delegate.getConfig().setRAMBufferSizeMB( ramBufferSizeBeforeBulkLoad );
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -173,15 +202,21 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	}
 
 	private void doCommit() {
+		long commitDuration;
 		try {
 			synchronized (commitLock) {
+				long commitStart = System.nanoTime();
 				delegate.commit();
+				commitDuration = System.nanoTime() - commitStart;
 				updateCommitExpiration();
 			}
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( e.getMessage(), eventContext, e );
 		}
+		if ( metrics != null ) {
+			metrics.committed( commitDuration );
+		}
 	}
 
 	/**
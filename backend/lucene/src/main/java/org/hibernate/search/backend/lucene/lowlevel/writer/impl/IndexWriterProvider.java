@@ -13,6 +13,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -23,6 +24,7 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -39,6 +41,7 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final ShardIndexingMetrics metrics;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -50,11 +53,16 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * Whether writers should be set up for bulk loading; guarded by {@link #currentWriterModificationLock}.
+	 */
+	private boolean bulkLoading = false;
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler, ShardIndexingMetrics metrics) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -63,6 +71,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metrics = metrics;
 	}
 
 	/**
@@ -120,8 +129,12 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 							threads.getWriteExecutor(),
 							timingSource, commitInterval,
 							failureHandler,
-							this::clearAfterFailure
+							this::clearAfterFailure,
+							metrics
 					);
+					if ( bulkLoading ) {
+						indexWriterDelegator.startBulkLoad( configSource.bulkLoadRamBufferSize() );
+					}
 					log.trace( "IndexWriter opened" );
 					currentWriter.set( indexWriterDelegator );
 				}
@@ -133,17 +146,53 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 		return indexWriterDelegator;
 	}
 
+	/**
+	 * Sets up the current index writer, and any index writer created later,
+	 * for bulk loading, until {@link #stopBulkLoad()} is called.
+	 */
+	public void startBulkLoad() {
+		currentWriterModificationLock.lock();
+		try {
+			bulkLoading = true;
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.startBulkLoad( configSource.bulkLoadRamBufferSize() );
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	public void stopBulkLoad() {
+		currentWriterModificationLock.lock();
+		try {
+			bulkLoading = false;
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.stopBulkLoad();
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
 	private IndexWriter createNewIndexWriter() throws IOException {
 		// Each writer config can be attached only once to an IndexWriter
 		final IndexWriterConfig indexWriterConfig = createWriterConfig();
-		return new IndexWriter( directoryHolder.get(), indexWriterConfig );
+		Directory directory = directoryHolder.get();
+		if ( metrics != null ) {
+			directory = metrics.wrapWriterDirectory( directory );
+		}
+		return new IndexWriter( directory, indexWriterConfig );
 	}
 
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
 		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
-				threads.getThreadProvider(), failureHandler
+				threads.getThreadProvider(), failureHandler, metrics
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
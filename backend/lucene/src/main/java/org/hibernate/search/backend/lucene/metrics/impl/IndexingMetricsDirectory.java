@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+
+/**
+ * A directory reporting the number of bytes written by flushes to {@link ShardIndexingMetrics}.
+ * <p>
+ * Only meant to be passed to the index writer:
+ * outputs created for purposes other than flushes are not wrapped.
+ */
+final class IndexingMetricsDirectory extends FilterDirectory {
+
+	private final ShardIndexingMetrics metrics;
+
+	IndexingMetricsDirectory(Directory in, ShardIndexingMetrics metrics) {
+		super( in );
+		this.metrics = metrics;
+	}
+
+	@Override
+	public IndexOutput createOutput(String name, IOContext context) throws IOException {
+		IndexOutput output = super.createOutput( name, context );
+		return wrapIfFlush( output, context );
+	}
+
+	@Override
+	public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+		IndexOutput output = super.createTempOutput( prefix, suffix, context );
+		return wrapIfFlush( output, context );
+	}
+
+	private IndexOutput wrapIfFlush(IndexOutput output, IOContext context) {
+		if ( context.context != IOContext.Context.FLUSH ) {
+			return output;
+		}
+		return new FlushIndexOutput( output, metrics );
+	}
+
+	private static final class FlushIndexOutput extends IndexOutput {
+		private final IndexOutput delegate;
+		private final ShardIndexingMetrics metrics;
+		private boolean closed = false;
+
+		private FlushIndexOutput(IndexOutput delegate, ShardIndexingMetrics metrics) {
+			super( "FlushIndexOutput(" + delegate + ")", delegate.getName() );
+			this.delegate = delegate;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+			long bytes = delegate.getFilePointer();
+			delegate.close();
+			metrics.bytesFlushed( bytes );
+		}
+
+		@Override
+		public long getFilePointer() {
+			return delegate.getFilePointer();
+		}
+
+		@Override
+		public long getChecksum() throws IOException {
+			return delegate.getChecksum();
+		}
+
+		@Override
+		public void writeByte(byte b) throws IOException {
+			delegate.writeByte( b );
+		}
+
+		@Override
+		public void writeBytes(byte[] b, int offset, int length) throws IOException {
+			delegate.writeBytes( b, offset, length );
+		}
+
+		@Override
+		public void writeShort(short i) throws IOException {
+			delegate.writeShort( i );
+		}
+
+		@Override
+		public void writeInt(int i) throws IOException {
+			delegate.writeInt( i );
+		}
+
+		@Override
+		public void writeLong(long i) throws IOException {
+			delegate.writeLong( i );
+		}
+
+		@Override
+		public void copyBytes(DataInput input, long numBytes) throws IOException {
+			delegate.copyBytes( input, numBytes );
+		}
+	}
+
+}
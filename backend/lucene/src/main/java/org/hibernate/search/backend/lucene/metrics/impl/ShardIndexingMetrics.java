@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsContext;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * Forwards events of the indexing pipeline of a single shard to an {@link IndexingMetricsListener}.
+ * <p>
+ * Components of the indexing pipeline hold a {@code null} reference instead of an instance of this class
+ * when metrics are disabled.
+ */
+public final class ShardIndexingMetrics implements IndexingMetricsContext {
+
+	private final IndexingMetricsListener listener;
+	private final String indexName;
+	private final Optional<String> shardIdentifier;
+
+	private volatile Supplier<List<Integer>> indexingQueueSizes = Collections::emptyList;
+	/**
+	 * The value of {@link System#nanoTime()} when the current reader was opened,
+	 * or {@code null} if there is no current reader.
+	 */
+	private volatile Long currentReaderOpenNanoTime;
+
+	public ShardIndexingMetrics(IndexingMetricsListener listener, String indexName,
+			Optional<String> shardIdentifier) {
+		this.listener = listener;
+		this.indexName = indexName;
+		this.shardIdentifier = shardIdentifier;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexName=" + indexName + ", shardIdentifier=" + shardIdentifier + "]";
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public Optional<String> shardIdentifier() {
+		return shardIdentifier;
+	}
+
+	@Override
+	public List<Integer> indexingQueueSizes() {
+		return indexingQueueSizes.get();
+	}
+
+	@Override
+	public OptionalLong readerAgeNanos() {
+		Long openNanoTime = currentReaderOpenNanoTime;
+		return openNanoTime == null ? OptionalLong.empty() : OptionalLong.of( System.nanoTime() - openNanoTime );
+	}
+
+	public void indexingQueueSizes(Supplier<List<Integer>> indexingQueueSizes) {
+		this.indexingQueueSizes = indexingQueueSizes;
+	}
+
+	public Directory wrapWriterDirectory(Directory directory) {
+		return new IndexingMetricsDirectory( directory, this );
+	}
+
+	public void shardStarted() {
+		listener.shardStarted( this );
+	}
+
+	public void shardStopped() {
+		listener.shardStopped( this );
+	}
+
+	public void batchExecuted(int workCount, long durationNanos) {
+		listener.batchExecuted( this, workCount, durationNanos );
+	}
+
+	public void committed(long durationNanos) {
+		listener.committed( this, durationNanos );
+	}
+
+	public void readerOpened(long openNanoTime, long durationNanos) {
+		currentReaderOpenNanoTime = openNanoTime;
+		listener.readerOpened( this, durationNanos );
+	}
+
+	public void readerClosed() {
+		currentReaderOpenNanoTime = null;
+	}
+
+	public void bytesFlushed(long bytes) {
+		listener.bytesFlushed( this, bytes );
+	}
+
+	public void merged(int segmentCount, long bytes, long durationNanos) {
+		listener.merged( this, segmentCount, bytes, durationNanos );
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.spi;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The context passed to an {@link IndexingMetricsListener}, identifying the shard an event originates from
+ * and exposing gauges for that shard.
+ */
+@Incubating
+public interface IndexingMetricsContext {
+
+	/**
+	 * @return The name of the index.
+	 */
+	String indexName();
+
+	/**
+	 * @return The identifier of the shard, or an empty optional if the index is not sharded.
+	 */
+	Optional<String> shardIdentifier();
+
+	/**
+	 * @return The number of works currently waiting in each indexing queue of the shard.
+	 * The list is empty if the shard is not started.
+	 */
+	List<Integer> indexingQueueSizes();
+
+	/**
+	 * @return The time elapsed since the index reader currently used by search queries was opened, in nanoseconds,
+	 * regardless of whether changes happened since then,
+	 * or an empty optional if no index reader is currently open
+	 * or the reader is not shared between search queries (see the {@code debug} I/O strategy).
+	 */
+	OptionalLong readerAgeNanos();
+
+}
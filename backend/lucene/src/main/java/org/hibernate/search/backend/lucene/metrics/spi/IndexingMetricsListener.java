@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.spi;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A listener notified of events in the indexing pipeline of a Lucene index,
+ * e.g. to feed a metrics library or to emit JFR events.
+ * <p>
+ * Configured through {@link LuceneIndexSettings#INDEXING_METRICS_LISTENER}.
+ * <p>
+ * The same listener instance is notified of events for all shards of an index,
+ * each event being passed the {@link IndexingMetricsContext context} of the shard it originates from.
+ * Methods are called from indexing, merge and refresh threads, potentially in parallel:
+ * implementations must be thread-safe, and should return quickly,
+ * since most notifications happen while holding locks in the indexing pipeline.
+ * Implementations must not throw exceptions.
+ * <p>
+ * All methods do nothing by default.
+ */
+@Incubating
+public interface IndexingMetricsListener {
+
+	/**
+	 * Called once a shard has started, before it accepts any work.
+	 * <p>
+	 * Implementations may retain the given context to register gauges
+	 * based on {@link IndexingMetricsContext#indexingQueueSizes()}
+	 * or {@link IndexingMetricsContext#readerAgeNanos()}.
+	 *
+	 * @param context The context of the shard.
+	 */
+	default void shardStarted(IndexingMetricsContext context) {
+	}
+
+	/**
+	 * Called once a shard has stopped.
+	 * <p>
+	 * Gauges exposed by the given context should no longer be polled after this call.
+	 *
+	 * @param context The context of the shard.
+	 */
+	default void shardStopped(IndexingMetricsContext context) {
+	}
+
+	/**
+	 * Called when a batch of indexing works was completely executed,
+	 * including the resulting commit, if any.
+	 *
+	 * @param context The context of the shard.
+	 * @param workCount The number of works in the batch.
+	 * @param durationNanos The duration of the batch, in nanoseconds.
+	 */
+	default void batchExecuted(IndexingMetricsContext context, int workCount, long durationNanos) {
+	}
+
+	/**
+	 * Called when the index writer committed its changes.
+	 *
+	 * @param context The context of the shard.
+	 * @param durationNanos The duration of the commit, in nanoseconds.
+	 */
+	default void committed(IndexingMetricsContext context, long durationNanos) {
+	}
+
+	/**
+	 * Called when a new index reader was opened to expose changes to search queries,
+	 * excluding any warming of new segments.
+	 *
+	 * @param context The context of the shard.
+	 * @param durationNanos The time it took to open the reader, in nanoseconds.
+	 */
+	default void readerOpened(IndexingMetricsContext context, long durationNanos) {
+	}
+
+	/**
+	 * Called when a file written while flushing in-memory changes to a new segment was closed.
+	 * <p>
+	 * A single flush generally writes multiple files, and thus triggers multiple calls to this method.
+	 *
+	 * @param context The context of the shard.
+	 * @param bytes The number of bytes written to the file.
+	 */
+	default void bytesFlushed(IndexingMetricsContext context, long bytes) {
+	}
+
+	/**
+	 * Called when a merge of segments completed.
+	 *
+	 * @param context The context of the shard.
+	 * @param segmentCount The number of merged segments.
+	 * @param bytes The total size of the merged segments, in bytes.
+	 * @param durationNanos The duration of the merge, in nanoseconds.
+	 */
+	default void merged(IndexingMetricsContext context, int segmentCount, long bytes, long durationNanos) {
+	}
+
+}
@@ -9,9 +9,10 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
 
-public class LuceneBatchedWork<T> implements BatchedWork<LuceneBatchedWorkProcessor> {
+public class LuceneBatchedWork<T> implements CoalescableBatchedWork<LuceneBatchedWorkProcessor> {
 	public final IndexingWork<T> work;
 	public final CompletableFuture<T> future;
 
@@ -36,6 +37,27 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object coalescingKey() {
+		if ( work instanceof SingleDocumentIndexingWork ) {
+			return ( (SingleDocumentIndexingWork) work ).getDocumentKey();
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		return work instanceof SingleDocumentIndexingWork
+				&& ( (SingleDocumentIndexingWork) work ).replacesDocument();
+	}
+
+	@Override
+	public CompletableFuture<T> future() {
+		return future;
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.metrics.impl.ShardIndexingMetrics;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -22,11 +23,13 @@ public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	private final ShardIndexingMetrics metrics;
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
-			IndexAccessor indexAccessor) {
+			IndexAccessor indexAccessor, ShardIndexingMetrics metrics) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -58,6 +61,13 @@ public void complete() {
 		}
 	}
 
+	@Override
+	public void batchCompleted(int workCount, long durationNanos) {
+		if ( metrics != null ) {
+			metrics.batchExecuted( workCount, durationNanos );
+		}
+	}
+
 	public <T> T submit(IndexingWork<T> work) {
 		try {
 			return work.execute( context );
@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+/**
+ * Creates index searchers that search index segments in parallel,
+ * using the search executor of the backend,
+ * if parallel search was enabled.
+ */
+public final class LuceneSearchParallelism {
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_SLICE_MAX_SEGMENTS )
+					.build();
+
+	public static LuceneSearchParallelism create(ConfigurationPropertySource propertySource,
+			BackendThreads threads) {
+		return new LuceneSearchParallelism( threads,
+				SEARCH_SLICE_MAX_DOCS.get( propertySource ),
+				SEARCH_SLICE_MAX_SEGMENTS.get( propertySource ) );
+	}
+
+	private final BackendThreads threads;
+	private final int maxDocsPerSlice;
+	private final int maxSegmentsPerSlice;
+
+	private LuceneSearchParallelism(BackendThreads threads, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+		this.threads = threads;
+		this.maxDocsPerSlice = maxDocsPerSlice;
+		this.maxSegmentsPerSlice = maxSegmentsPerSlice;
+	}
+
+	IndexSearcher createSearcher(IndexReader indexReader) {
+		Optional<ExecutorService> searchExecutor = threads.getSearchExecutor();
+		if ( !searchExecutor.isPresent() ) {
+			return new IndexSearcher( indexReader );
+		}
+		return new SlicingIndexSearcher( indexReader,
+				new SlicingExecutor( searchExecutor.get(), maxDocsPerSlice, maxSegmentsPerSlice ) );
+	}
+
+	/**
+	 * An executor that also carries the slicing configuration.
+	 * <p>
+	 * Necessary because {@link IndexSearcher} computes its slices from its constructor,
+	 * before any field of a subclass could be initialized,
+	 * while the executor is available through {@link IndexSearcher#getExecutor()} at that point.
+	 */
+	private static final class SlicingExecutor implements Executor {
+		private final Executor delegate;
+		private final int maxDocsPerSlice;
+		private final int maxSegmentsPerSlice;
+
+		private SlicingExecutor(Executor delegate, int maxDocsPerSlice, int maxSegmentsPerSlice) {
+			this.delegate = delegate;
+			this.maxDocsPerSlice = maxDocsPerSlice;
+			this.maxSegmentsPerSlice = maxSegmentsPerSlice;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			delegate.execute( command );
+		}
+	}
+
+	private static final class SlicingIndexSearcher extends IndexSearcher {
+
+		private SlicingIndexSearcher(IndexReader reader, SlicingExecutor executor) {
+			super( reader, executor );
+		}
+
+		@Override
+		protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+			SlicingExecutor executor = (SlicingExecutor) getExecutor();
+			// Group consecutive segments, so that the order of slices matches the order of documents:
+			// this guarantees that ties between hits are broken the same way as in a sequential search.
+			List<LeafSlice> slices = new ArrayList<>();
+			List<LeafReaderContext> currentSlice = new ArrayList<>();
+			long currentSliceDocs = 0;
+			for ( LeafReaderContext leaf : leaves ) {
+				int leafDocs = leaf.reader().maxDoc();
+				if ( !currentSlice.isEmpty()
+						&& ( currentSliceDocs + leafDocs > executor.maxDocsPerSlice
+								|| currentSlice.size() >= executor.maxSegmentsPerSlice ) ) {
+					slices.add( new LeafSlice( currentSlice.toArray( new LeafReaderContext[0] ) ) );
+					currentSlice.clear();
+					currentSliceDocs = 0;
+				}
+				currentSlice.add( leaf );
+				currentSliceDocs += leafDocs;
+			}
+			if ( !currentSlice.isEmpty() ) {
+				slices.add( new LeafSlice( currentSlice.toArray( new LeafReaderContext[0] ) ) );
+			}
+			return slices.toArray( new LeafSlice[0] );
+		}
+
+		@Override
+		public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager)
+				throws IOException {
+			try {
+				return super.search( query, collectorManager );
+			}
+			catch (RuntimeException e) {
+				// Lucene wraps failures of slices executed in the search executor;
+				// unwrap them so that callers see the same exceptions as in a sequential search.
+				Throwable cause = e.getCause();
+				if ( !( cause instanceof ExecutionException ) ) {
+					throw e;
+				}
+				cause = cause.getCause();
+				if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				else if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				else if ( cause instanceof IOException ) {
+					throw (IOException) cause;
+				}
+				throw e;
+			}
+		}
+	}
+}
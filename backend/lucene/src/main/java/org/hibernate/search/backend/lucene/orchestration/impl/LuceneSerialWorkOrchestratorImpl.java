@@ -6,13 +6,18 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchSizingPolicy;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
@@ -36,6 +41,23 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> BATCH_TARGET_LATENCY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_TARGET_LATENCY )
+					.asIntegerStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_MAX_LINGER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_MAX_LINGER )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_MAX_LINGER )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BATCH_COALESCING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BATCH_COALESCING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BATCH_COALESCING )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -68,10 +90,30 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	/**
+	 * @return The number of works currently waiting in each queue,
+	 * or an empty list if this orchestrator is not started.
+	 */
+	public List<Integer> queueSizes() {
+		HashTable<BatchingExecutor<LuceneBatchedWorkProcessor>> currentExecutors = executors;
+		if ( currentExecutors == null ) {
+			return Collections.emptyList();
+		}
+		List<Integer> sizes = new ArrayList<>( currentExecutors.size() );
+		for ( BatchingExecutor<?> executor : currentExecutors ) {
+			sizes.add( executor.queueSize() );
+		}
+		return sizes;
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		BatchSizingPolicy sizingPolicy = BATCH_TARGET_LATENCY.get( propertySource )
+				.map( targetLatency -> BatchSizingPolicy.adaptive( targetLatency, BATCH_MAX_LINGER.get( propertySource ) ) )
+				.orElseGet( BatchSizingPolicy::fixed );
+		boolean coalescing = BATCH_COALESCING.get( propertySource );
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
@@ -80,6 +122,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					sizingPolicy,
+					coalescing,
 					failureHandler
 			) );
 		}
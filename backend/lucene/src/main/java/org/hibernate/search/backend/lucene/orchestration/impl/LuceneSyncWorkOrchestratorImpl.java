@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -28,6 +29,7 @@
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.similarities.Similarity;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 
 public class LuceneSyncWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneSyncWorkOrchestratorImpl.WorkExecution<?>>
@@ -37,13 +39,15 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final LuceneSearchParallelism parallelism;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext, LuceneSearchParallelism parallelism) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.parallelism = parallelism;
 	}
 
 	@Override
@@ -51,7 +55,8 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext,
+				parallelism
 		);
 		Throwable throwable = null;
 		try {
@@ -104,6 +109,7 @@ protected void doStop() {
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
 		private final LuceneQueryCachingContext cachingContext;
+		private final LuceneSearchParallelism parallelism;
 
 		private T result;
 
@@ -111,7 +117,8 @@ protected void doStop() {
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
+				LuceneQueryCachingContext cachingContext,
+				LuceneSearchParallelism parallelism) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
 			this.work = work;
@@ -125,11 +132,12 @@ protected void doStop() {
 				this.closeIndexReader = false;
 			}
 			this.cachingContext = cachingContext;
+			this.parallelism = parallelism;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			IndexSearcher searcher = parallelism.createSearcher( indexReader );
 			searcher.setSimilarity( similarity );
 
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
@@ -143,6 +151,11 @@ public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
 			return indexReader.getMetadataResolver();
 		}
 
+		@Override
+		public Optional<LuceneSearchResultCache> getSearchResultCache() {
+			return cachingContext.searchResultCache();
+		}
+
 		@Override
 		public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
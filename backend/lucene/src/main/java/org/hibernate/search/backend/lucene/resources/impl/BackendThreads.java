@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -25,10 +26,23 @@ public class BackendThreads {
 					.asIntegerStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_QUEUE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_QUEUE_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -48,11 +62,21 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			// Search tasks are short-lived and CPU-bound:
+			// we use a separate, bounded pool so that they never wait behind (or delay) write operations.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					searchThreadPoolSize, prefix + " - Search thread", SEARCH_QUEUE_SIZE.get( propertySource )
+			);
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
@@ -66,6 +90,15 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use when searching index segments in parallel,
+	 * or an empty optional if parallel search is disabled.
+	 */
+	public Optional<ExecutorService> getSearchExecutor() {
+		checkStarted();
+		return Optional.ofNullable( searchExecutor );
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -58,4 +58,15 @@ public Analyzer searchAnalyzerOrNormalizer() {
 				"searchAnalyzerOrNormalizer" );
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		// Doc values may be enabled in some indexes only: just fall back to stored fields in that case.
+		for ( LuceneSearchIndexValueFieldContext<F> indexField : nodeForEachIndex ) {
+			if ( !indexField.type().projectableFromDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
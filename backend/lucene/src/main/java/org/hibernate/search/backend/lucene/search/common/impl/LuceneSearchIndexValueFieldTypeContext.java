@@ -15,4 +15,10 @@
 
 	Analyzer searchAnalyzerOrNormalizer();
 
+	/**
+	 * @return {@code true} if values of this field can be projected on by reading doc values
+	 * instead of stored fields, with the same results.
+	 */
+	boolean projectableFromDocValues();
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * The outcome of the collection of matching docs (phase 1 in {@link LuceneCollectors}),
+ * detached from the index searcher it was collected with,
+ * so that it can be cached and reused by later executions of the same query on the same index readers.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class CollectedMatchingDocs implements Accountable {
+
+	private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance( CollectedMatchingDocs.class );
+
+	private final SearchResultTotal resultTotal;
+	private final TopDocs topDocs;
+	private final CollectorSet detachedCollectorsForAllMatchingDocs;
+
+	CollectedMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs,
+			CollectorSet detachedCollectorsForAllMatchingDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+		this.detachedCollectorsForAllMatchingDocs = detachedCollectorsForAllMatchingDocs;
+	}
+
+	/**
+	 * @return An estimate of the memory retained by this object, in bytes.
+	 * Computed on each call.
+	 */
+	@Override
+	public long ramBytesUsed() {
+		return SHALLOW_SIZE + RamUsageEstimator.shallowSizeOf( resultTotal )
+				+ ramBytesUsed( topDocs )
+				+ detachedCollectorsForAllMatchingDocs.ramBytesUsed();
+	}
+
+	private static long ramBytesUsed(TopDocs topDocs) {
+		if ( topDocs == null ) {
+			return 0L;
+		}
+		long ramBytesUsed = RamUsageEstimator.shallowSizeOf( topDocs )
+				+ RamUsageEstimator.shallowSizeOf( topDocs.totalHits )
+				+ RamUsageEstimator.shallowSizeOf( topDocs.scoreDocs );
+		for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+			ramBytesUsed += RamUsageEstimator.shallowSizeOf( scoreDoc );
+			if ( scoreDoc instanceof FieldDoc ) {
+				Object[] fields = ( (FieldDoc) scoreDoc ).fields;
+				if ( fields != null ) {
+					ramBytesUsed += RamUsageEstimator.shallowSizeOf( fields );
+					for ( Object field : fields ) {
+						ramBytesUsed += RamUsageEstimator.sizeOfObject( field );
+					}
+				}
+			}
+		}
+		return ramBytesUsed;
+	}
+
+	SearchResultTotal resultTotal() {
+		return resultTotal;
+	}
+
+	TopDocs topDocs() {
+		return topDocs;
+	}
+
+	CollectorSet detachedCollectorsForAllMatchingDocs() {
+		return detachedCollectorsForAllMatchingDocs;
+	}
+}
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,18 +20,103 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.TimeLimitingCollector;
 
 public class CollectorSet {
 
+	public interface Factory {
+		CollectorSet create() throws IOException;
+	}
+
 	private final Collector composed;
 	private final Map<CollectorKey<?>, Collector> components;
+	private final Map<CollectorKey<?>, CollectorFactory<?>> factories;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
+	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components,
+			Map<CollectorKey<?>, CollectorFactory<?>> factories) {
 		this.composed = composed;
 		this.components = components;
+		this.factories = factories;
+	}
+
+	/**
+	 * Merges collector sets that were applied to distinct slices of the same index reader.
+	 * <p>
+	 * Only collectors created from a {@link CollectorFactory} are merged;
+	 * other collectors must be handled by the caller.
+	 *
+	 * @param sliceCollectorSets The collector sets to merge, in the order of the slices they were applied to.
+	 * @return A collector set containing the merged collectors. Its {@link #getComposed() composed collector}
+	 * is {@code null}, as it is not meant to be applied to any other document.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public static CollectorSet reduce(List<CollectorSet> sliceCollectorSets) throws IOException {
+		Map<CollectorKey<?>, Collector> reducedComponents = new LinkedHashMap<>();
+		Map<CollectorKey<?>, CollectorFactory<?>> factories = sliceCollectorSets.get( 0 ).factories;
+		for ( CollectorFactory<?> factory : factories.values() ) {
+			reducedComponents.put( factory.getCollectorKey(), reduce( factory, sliceCollectorSets ) );
+		}
+		return new CollectorSet( null, reducedComponents, factories );
+	}
+
+	private static <C extends Collector> C reduce(CollectorFactory<C> factory, List<CollectorSet> sliceCollectorSets)
+			throws IOException {
+		List<C> sliceCollectors = new ArrayList<>( sliceCollectorSets.size() );
+		for ( CollectorSet sliceCollectorSet : sliceCollectorSets ) {
+			sliceCollectors.add( sliceCollectorSet.get( factory.getCollectorKey() ) );
+		}
+		return factory.reduce( sliceCollectors );
+	}
+
+	/**
+	 * @return A collector set containing only the collectors created from a {@link CollectorFactory},
+	 * suitable for caching and {@link #rebind(IndexReader) re-targeting}.
+	 * Its {@link #getComposed() composed collector} is {@code null},
+	 * as it is not meant to be applied to any other document.
+	 */
+	CollectorSet detach() {
+		Map<CollectorKey<?>, Collector> detachedComponents = new LinkedHashMap<>();
+		for ( CollectorKey<?> key : factories.keySet() ) {
+			detachedComponents.put( key, components.get( key ) );
+		}
+		return new CollectorSet( null, detachedComponents, factories );
+	}
+
+	/**
+	 * @param indexReader A top-level index reader composed of the exact same sub-readers, in the same order,
+	 * as the index reader this collector set was applied to.
+	 * @return A collector set containing the collectors of this {@link #detach() detached} set,
+	 * re-targeted to {@code indexReader}.
+	 * @see CollectorFactory#rebind(Collector, IndexReader)
+	 */
+	CollectorSet rebind(IndexReader indexReader) {
+		Map<CollectorKey<?>, Collector> reboundComponents = new LinkedHashMap<>();
+		for ( CollectorFactory<?> factory : factories.values() ) {
+			reboundComponents.put( factory.getCollectorKey(), rebind( factory, indexReader ) );
+		}
+		return new CollectorSet( null, reboundComponents, factories );
+	}
+
+	private <C extends Collector> C rebind(CollectorFactory<C> factory, IndexReader indexReader) {
+		return factory.rebind( get( factory.getCollectorKey() ), indexReader );
+	}
+
+	/**
+	 * @return The estimated memory usage of the collectors of this {@link #detach() detached} set, in bytes.
+	 */
+	long ramBytesUsed() {
+		long ramBytesUsed = 0L;
+		for ( CollectorFactory<?> factory : factories.values() ) {
+			ramBytesUsed += ramBytesUsed( factory );
+		}
+		return ramBytesUsed;
+	}
+
+	private <C extends Collector> long ramBytesUsed(CollectorFactory<C> factory) {
+		return factory.ramBytesUsed( get( factory.getCollectorKey() ) );
 	}
 
 	public Collector getComposed() {
@@ -47,6 +134,7 @@ public static class Builder {
 		private final TimeoutManager timeoutManager;
 
 		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?>, CollectorFactory<?>> factories = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
@@ -61,12 +149,13 @@ public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOExcepti
 			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
 				Collector collector = collectorFactory.createCollector( executionContext );
 				components.put( collectorFactory.getCollectorKey(), collector );
+				factories.put( collectorFactory.getCollectorKey(), collectorFactory );
 			}
 		}
 
 		public CollectorSet build() {
 			if ( components.isEmpty() ) {
-				return new CollectorSet( null, components );
+				return new CollectorSet( null, components, factories );
 			}
 
 			Collector composed = wrapTimeLimitingCollectorIfNecessary(
@@ -77,7 +166,7 @@ public CollectorSet build() {
 					timeoutManager
 			);
 
-			return new CollectorSet( composed, components );
+			return new CollectorSet( composed, components, factories );
 		}
 
 		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
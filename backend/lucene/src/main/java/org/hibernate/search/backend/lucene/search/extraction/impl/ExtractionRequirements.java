@@ -7,20 +7,26 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocsCollector;
@@ -34,6 +40,8 @@
  */
 public final class ExtractionRequirements {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final boolean requireScore;
 	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsSourceFactoryOrNull;
@@ -45,7 +53,7 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			IndexReaderMetadataResolver metadataResolver, ScoreDoc after, int maxDocs, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,56 +71,87 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean useTopScoreDocCollector = sort == null || isDescendingScoreSort( sort );
+		if ( after != null ) {
+			checkAfterMatchesSort( after, useTopScoreDocCollector ? null : sort );
+		}
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
+		if ( maxDocs > 0 && !useTopScoreDocCollector && requireScore ) {
+			// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+			// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+			// Thus we will have to set the scores ourselves.
+			requireFieldDocRescoring = true;
+			// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+			scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+		}
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, maxDocs );
 
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
+		// Collectors are created lazily, because searching index segments in parallel
+		// requires creating one set of collectors per index slice.
+		CollectorSet.Factory collectorsForAllMatchingDocsFactory = () -> {
+			CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
+					new CollectorSet.Builder( executionContext, timeoutManager );
 
-		if ( maxDocs > 0 ) {
-			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
-			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+			TopDocsCollector<?> topDocsCollector = null;
+			if ( maxDocs > 0 ) {
+				if ( useTopScoreDocCollector ) {
+					topDocsCollector = TopScoreDocCollector.create( maxDocs, after, totalHitCountThreshold );
+				}
+				else {
+					// Only hits after the given one are collected,
+					// so we don't need to collect the hits of previous pages.
+					topDocsCollector = TopFieldCollector.create( sort, maxDocs, (FieldDoc) after,
+							totalHitCountThreshold );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
-		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
-			// Normally the topDocsCollector collects the total hit count,
-			// but if it's not there and not all docs are matched, we need a separate collector.
-			// Note that adding this collector can have a significant cost in some situations
-			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
-		}
-		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+			if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
+				// Normally the topDocsCollector collects the total hit count,
+				// but if it's not there and not all docs are matched, we need a separate collector.
+				// Note that adding this collector can have a significant cost in some situations
+				// (e.g. for queries matching many hits), so we only add it if it's really necessary.
+				TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+				collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			}
+			collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
+			return collectorsForAllMatchingDocsBuilder.build();
+		};
 
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
 				rewrittenLuceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
-				collectorsForAllMatchingDocs,
+				collectorsForAllMatchingDocsFactory,
 				storedFieldsSourceFactoryOrNull,
 				timeoutManager
 		);
 	}
 
+	/**
+	 * @return An object that is equal to the key returned by other extraction requirements
+	 * if and only if both would collect the same data from matching docs (phase 1 in {@link LuceneCollectors}).
+	 * Data extracted from top docs (phase 2) is not taken into account.
+	 */
+	public Object matchingDocsCacheKey() {
+		return Arrays.asList( requireScore, requiredCollectorForAllMatchingDocsFactories );
+	}
+
+	private void checkAfterMatchesSort(ScoreDoc after, Sort sortOrNull) {
+		// Hits collected with a score sort are simple ScoreDocs,
+		// while hits collected with a field sort are FieldDocs holding one value per sort field.
+		boolean matches = sortOrNull == null
+				? !( after instanceof FieldDoc )
+				: after instanceof FieldDoc && ( (FieldDoc) after ).fields.length == sortOrNull.getSort().length;
+		if ( !matches ) {
+			throw log.invalidSearchCursor( after );
+		}
+	}
+
 	private boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
@@ -23,11 +24,13 @@
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
@@ -49,18 +52,19 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorSet.Factory collectorsForAllMatchingDocsFactory;
 	private final StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull;
 
 	private final TimeoutManager timeoutManager;
 
+	private CollectorSet collectorsForAllMatchingDocs;
 	private SearchResultTotal resultTotal;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
 			Query rewrittenLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			CollectorSet.Factory collectorsForAllMatchingDocsFactory,
 			StoredFieldsValuesDelegate.Factory storedFieldsValuesDelegateOrNull,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
@@ -68,7 +72,7 @@ public class LuceneCollectors {
 		this.rewrittenLuceneQuery = rewrittenLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsFactory = collectorsForAllMatchingDocsFactory;
 		this.storedFieldsValuesDelegateOrNull = storedFieldsValuesDelegateOrNull;
 		this.timeoutManager = timeoutManager;
 	}
@@ -83,11 +87,18 @@ public class LuceneCollectors {
 	 */
 	public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
+			collectorsForAllMatchingDocs = collectorsForAllMatchingDocsFactory.create();
 			resultTotal = SimpleSearchResultTotal.lowerBound( 0L );
 			// in case of timeout before the query execution, skip the query
 			return;
 		}
 
+		if ( isParallelCollectionPossible() ) {
+			collectMatchingDocsInParallel( offset, limit );
+			return;
+		}
+
+		collectorsForAllMatchingDocs = collectorsForAllMatchingDocsFactory.create();
 		try {
 			Collector composed = collectorsForAllMatchingDocs.getComposed();
 			if ( composed != null ) {
@@ -102,31 +113,74 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 			deadline.forceTimeout( e );
 		}
 
-		processCollectedMatchingDocs( offset, limit );
+		TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		processCollectedMatchingDocs(
+				totalHitCountCollector == null ? null : totalHitCountCollector.getTotalHits(),
+				topDocsCollector == null ? null : extractTopDocs( topDocsCollector, offset, limit )
+		);
+	}
+
+	private boolean isParallelCollectionPossible() {
+		IndexSearcher.LeafSlice[] slices = indexSearcher.getSlices();
+		// Timeouts rely on partial results being available when the deadline is reached,
+		// which is only possible with sequential collection.
+		return slices != null && slices.length > 1 && timeoutManager.deadlineOrNull() == null;
 	}
 
-	private void processCollectedMatchingDocs(int offset, Integer limit) throws IOException {
+	private void collectMatchingDocsInParallel(int offset, Integer limit) throws IOException {
+		CollectorSet firstSliceCollectorSet = collectorsForAllMatchingDocsFactory.create();
+		if ( firstSliceCollectorSet.getComposed() == null ) {
+			// Nothing to collect.
+			collectorsForAllMatchingDocs = firstSliceCollectorSet;
+			processCollectedMatchingDocs( null, null );
+			return;
+		}
+
+		SliceCollectorSetManager collectorManager = new SliceCollectorSetManager( firstSliceCollectorSet );
+		collectorsForAllMatchingDocs = indexSearcher.search( rewrittenLuceneQuery, collectorManager );
+
+		List<CollectorSet> sliceCollectorSets = collectorManager.sliceCollectorSets;
+		Integer totalHitCount = null;
+		TopDocs[] sliceTopDocs = null;
+		for ( int i = 0; i < sliceCollectorSets.size(); i++ ) {
+			CollectorSet sliceCollectorSet = sliceCollectorSets.get( i );
+			TotalHitCountCollector totalHitCountCollector = sliceCollectorSet.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCountCollector != null ) {
+				totalHitCount = ( totalHitCount == null ? 0 : totalHitCount ) + totalHitCountCollector.getTotalHits();
+			}
+			TopDocsCollector<?> topDocsCollector = sliceCollectorSet.get( TOP_DOCS_KEY );
+			if ( topDocsCollector != null ) {
+				if ( sliceTopDocs == null ) {
+					sliceTopDocs = new TopDocs[sliceCollectorSets.size()];
+				}
+				sliceTopDocs[i] = topDocsCollector.topDocs();
+			}
+		}
+
+		processCollectedMatchingDocs( totalHitCount,
+				sliceTopDocs == null ? null : mergeTopDocs( sliceTopDocs, offset, limit ) );
+	}
+
+	private void processCollectedMatchingDocs(Integer totalHitCountOrNull, TopDocs collectedTopDocsOrNull)
+			throws IOException {
 		if ( rewrittenLuceneQuery instanceof MatchAllDocsQuery ) {
 			// We can compute the total hit count in constant time.
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
-		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
-				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
-			}
+		else if ( totalHitCountOrNull != null ) {
+			boolean exact = !timeoutManager.isTimedOut();
+			resultTotal = SimpleSearchResultTotal.of( totalHitCountOrNull, exact );
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		if ( collectedTopDocsOrNull == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		topDocs = collectedTopDocsOrNull;
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -144,6 +198,26 @@ else if ( resultTotal.isHitCountExact() ) {
 		}
 	}
 
+	/**
+	 * @return The outcome of phase 1, detached from the index searcher, so that it can be cached.
+	 */
+	public CollectedMatchingDocs getCollectedMatchingDocs() {
+		return new CollectedMatchingDocs( resultTotal, topDocs, collectorsForAllMatchingDocs.detach() );
+	}
+
+	/**
+	 * Alternative to phase 1: reuse matching docs collected by an earlier execution of the same query,
+	 * on index readers composed of the exact same sub-readers, in the same order.
+	 *
+	 * @param collectedMatchingDocs The outcome of phase 1 in the earlier execution.
+	 */
+	public void restoreCollectedMatchingDocs(CollectedMatchingDocs collectedMatchingDocs) {
+		collectorsForAllMatchingDocs = collectedMatchingDocs.detachedCollectorsForAllMatchingDocs()
+				.rebind( indexSearcher.getIndexReader() );
+		resultTotal = collectedMatchingDocs.resultTotal();
+		topDocs = collectedMatchingDocs.topDocs();
+	}
+
 	public CollectorSet getCollectorsForAllMatchingDocs() {
 		return collectorsForAllMatchingDocs;
 	}
@@ -189,7 +263,32 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
+	private final class SliceCollectorSetManager implements CollectorManager<Collector, CollectorSet> {
+		private final List<CollectorSet> sliceCollectorSets = new ArrayList<>();
+		private CollectorSet unusedCollectorSet;
+
+		private SliceCollectorSetManager(CollectorSet unusedCollectorSet) {
+			this.unusedCollectorSet = unusedCollectorSet;
+		}
+
+		@Override
+		public Collector newCollector() throws IOException {
+			// Lucene calls this method from the calling thread, once per slice, in the order of slices.
+			CollectorSet sliceCollectorSet = unusedCollectorSet != null
+					? unusedCollectorSet
+					: collectorsForAllMatchingDocsFactory.create();
+			unusedCollectorSet = null;
+			sliceCollectorSets.add( sliceCollectorSet );
+			return sliceCollectorSet.getComposed();
+		}
+
+		@Override
+		public CollectorSet reduce(Collection<Collector> collectors) throws IOException {
+			return CollectorSet.reduce( sliceCollectorSets );
+		}
+	}
+
+	private static TopDocs extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( offset >= topDocsCollector.getTotalHits() ) {
 			// Hack.
 			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
@@ -199,17 +298,34 @@ private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, In
 			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
 			// So we get just one topDoc, and infer everything from there.
 			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
+			return firstTopDoc instanceof TopFieldDocs
 					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
 					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
-			return;
 		}
 
 		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+			return topDocsCollector.topDocs( offset );
+		}
+		else {
+			return topDocsCollector.topDocs( offset, limit );
+		}
+	}
+
+	private static TopDocs mergeTopDocs(TopDocs[] sliceTopDocs, int offset, Integer limit) {
+		// Offset + limit was checked not to exceed Integer.MAX_VALUE before executing the query.
+		int size = limit == null ? Integer.MAX_VALUE - offset : limit;
+		// Slices are ordered consistently with document IDs,
+		// so setting the shard index results in ties being broken as in a sequential search.
+		if ( sliceTopDocs[0] instanceof TopFieldDocs ) {
+			TopFieldDocs[] sliceTopFieldDocs = new TopFieldDocs[sliceTopDocs.length];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopFieldDocs[i] = (TopFieldDocs) sliceTopDocs[i];
+			}
+			Sort sort = new Sort( sliceTopFieldDocs[0].fields );
+			return TopDocs.merge( sort, offset, size, sliceTopFieldDocs, true );
 		}
 		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+			return TopDocs.merge( offset, size, sliceTopDocs, true );
 		}
 	}
 
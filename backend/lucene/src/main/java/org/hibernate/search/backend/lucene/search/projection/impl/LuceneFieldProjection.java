@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.function.Function;
 
@@ -13,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodingDocValues;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -45,23 +47,35 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, F> decodeFunction;
+	private final LuceneFieldCodec<F> docValuesCodec;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator.Provider<V, P> accumulatorProvider;
 
 	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
-		this( builder.scope, builder.field, builder.codec::decode, builder.converter, accumulatorProvider );
+		this( builder.scope, builder.field, builder.codec::decode,
+				canUseDocValues( builder.field ) ? builder.codec : null,
+				builder.converter, accumulatorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
 			LuceneSearchIndexValueFieldContext<?> field,
 			Function<IndexableField, F> decodeFunction, ProjectionConverter<F, ? extends V> converter,
 			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
+		this( scope, field, decodeFunction, null, converter, accumulatorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, F> decodeFunction, LuceneFieldCodec<F> docValuesCodec,
+			ProjectionConverter<F, ? extends V> converter,
+			ProjectionAccumulator.Provider<V, P> accumulatorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
 		this.requiredContextAbsoluteFieldPath = accumulatorProvider.isSingleValued()
 				? field.closestMultiValuedParentAbsolutePath() : null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesCodec = docValuesCodec;
 		this.converter = converter;
 		this.accumulatorProvider = accumulatorProvider;
 	}
@@ -71,6 +85,7 @@ public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "absoluteFieldPath=" + absoluteFieldPath
 				+ ", accumulatorProvider=" + accumulatorProvider
+				+ ", fromDocValues=" + ( docValuesCodec != null )
 				+ "]";
 	}
 
@@ -82,7 +97,9 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw log.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesCodec == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 		return new ValueFieldExtractor<>( context.absoluteCurrentFieldPath(), accumulatorProvider.get() );
 	}
 
@@ -109,9 +126,37 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesCodec != null ) {
+				return new DocValuesValues( accumulator, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( accumulator, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesValues extends AbstractNestingAwareAccumulatingValues<F, A> {
+			private DecodingDocValues<F> currentLeafValues;
+
+			public DocValuesValues(ProjectionAccumulator<F, V, A, P> accumulator,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, accumulator, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = docValuesCodec.decodingDocValues( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					while ( currentLeafValues.hasNextValue() ) {
+						accumulated = accumulator.accumulate( accumulated, currentLeafValues.nextValue() );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<F, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -149,6 +194,14 @@ public P transform(LoadingResult<?, ?> loadingResult, A extractedData,
 		}
 	}
 
+	private static boolean canUseDocValues(LuceneSearchIndexValueFieldContext<?> field) {
+		// Doc values do not preserve the order of values in the original document,
+		// so we can only use them when there is at most one value per document.
+		// Doc values also lose information for some types (truncation, normalization, ...),
+		// in which case we need to stick to stored fields.
+		return !field.multiValuedInRoot() && field.type().projectableFromDocValues();
+	}
+
 	public static class Factory<F>
 			extends
 			AbstractLuceneCodecAwareSearchQueryElementFactory<FieldProjectionBuilder.TypeSelector, F, LuceneFieldCodec<F>> {
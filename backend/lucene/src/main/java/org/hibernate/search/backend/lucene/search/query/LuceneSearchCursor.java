@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * An opaque cursor pointing to a hit in the results of a {@link LuceneSearchQuery},
+ * to fetch the hits that come right after it.
+ * <p>
+ * A cursor is built from the sort values and the internal document ID of the hit,
+ * so that fetching the next page only requires collecting the hits of that page,
+ * regardless of how many pages were fetched before.
+ * <p>
+ * Cursors are only meant to be passed to {@link LuceneSearchQuery#fetchAfter(LuceneSearchCursor, Integer)}
+ * on a query with the same sorts as the query that produced them.
+ * Internal document IDs change when the index is modified,
+ * so if documents are indexed or deleted between two pages,
+ * some hits with the same sort values as the cursor may be skipped or returned twice.
+ *
+ * @see LuceneSearchResult#cursor()
+ */
+@Incubating
+public interface LuceneSearchCursor {
+
+}
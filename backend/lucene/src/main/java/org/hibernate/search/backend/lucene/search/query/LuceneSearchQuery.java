@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query;
 
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Sort;
@@ -43,6 +44,26 @@
 	 */
 	Explanation explain(String typeName, Object id);
 
+	/**
+	 * Execute the query and get the hits that come after the hit the given cursor points to.
+	 * <p>
+	 * Contrary to {@link #fetch(Integer, Integer)} with an offset,
+	 * the cost of fetching a page with this method does not grow with the number of previous pages,
+	 * because Lucene only needs to collect the hits of the requested page.
+	 * This makes it well suited to deep pagination.
+	 *
+	 * @param cursor A cursor obtained from {@link LuceneSearchResult#cursor()}
+	 * on the result of a previous execution of this query, or of a query with the same sorts.
+	 * If {@code null}, the first page is returned.
+	 * @param limit The maximum number of hits to be included in the {@link LuceneSearchResult}.
+	 * {@code null} means no limit.
+	 * @return The {@link LuceneSearchResult}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if the cursor was produced by a query with different sorts.
+	 */
+	@Incubating
+	LuceneSearchResult<H> fetchAfter(LuceneSearchCursor cursor, Integer limit);
+
 	/**
 	 * @return The Lucene {@link org.apache.lucene.search.Sort} this query relies on.
 	 */
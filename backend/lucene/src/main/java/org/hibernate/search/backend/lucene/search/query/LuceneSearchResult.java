@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query;
 
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.search.TopDocs;
 
@@ -21,4 +22,12 @@
 	 */
 	TopDocs topDocs();
 
+	/**
+	 * @return A cursor pointing to the last hit of this result,
+	 * to be passed to {@link LuceneSearchQuery#fetchAfter(LuceneSearchCursor, Integer)} in order to fetch the next page,
+	 * or {@code null} if this result does not contain any hit.
+	 */
+	@Incubating
+	LuceneSearchCursor cursor();
+
 }
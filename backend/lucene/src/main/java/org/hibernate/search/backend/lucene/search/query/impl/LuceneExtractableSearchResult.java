@@ -91,6 +91,10 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	ScoreDoc scoreDoc(int index) {
+		return luceneCollectors.getTopDocs().scoreDocs[index];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchCursor;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+
+final class LuceneSearchCursorImpl implements LuceneSearchCursor {
+
+	private final ScoreDoc scoreDoc;
+
+	LuceneSearchCursorImpl(ScoreDoc scoreDoc) {
+		this.scoreDoc = scoreDoc;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "doc=" ).append( scoreDoc.doc )
+				.append( ", score=" ).append( scoreDoc.score );
+		if ( scoreDoc instanceof FieldDoc ) {
+			sb.append( ", fields=" ).append( Arrays.toString( ( (FieldDoc) scoreDoc ).fields ) );
+		}
+		return sb.append( "]" ).toString();
+	}
+
+	ScoreDoc scoreDoc() {
+		return scoreDoc;
+	}
+}
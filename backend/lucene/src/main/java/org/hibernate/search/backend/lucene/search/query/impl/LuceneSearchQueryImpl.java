@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchCursor;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchScroll;
@@ -35,6 +36,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 
@@ -105,6 +107,18 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return doFetch( offset, limit, false ).hits();
 	}
 
+	@Override
+	public LuceneSearchResult<H> fetchAfter(LuceneSearchCursor cursor, Integer limit) {
+		ScoreDoc after = null;
+		if ( cursor != null ) {
+			if ( !( cursor instanceof LuceneSearchCursorImpl ) ) {
+				throw log.invalidSearchCursor( cursor );
+			}
+			after = ( (LuceneSearchCursorImpl) cursor ).scoreDoc();
+		}
+		return doFetch( workFactory.searchAfter( searcher, after, limit, totalHitCountThreshold( true ) ) );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -172,9 +186,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 	}
 
 	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
+		return doFetch( workFactory.search( searcher, offset, limit, totalHitCountThreshold( trackTotalHitCount ) ) );
+	}
+
+	private LuceneSearchResult<H> doFetch(ReadWork<LuceneLoadableSearchResult<H>> work) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
-				totalHitCountThreshold( trackTotalHitCount ) );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
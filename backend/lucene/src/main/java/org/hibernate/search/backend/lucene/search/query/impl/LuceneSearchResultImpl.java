@@ -10,11 +10,13 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchCursor;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 
 class LuceneSearchResultImpl<H> extends SimpleSearchResult<H>
@@ -32,4 +34,13 @@
 	public TopDocs topDocs() {
 		return topDocs;
 	}
+
+	@Override
+	public LuceneSearchCursor cursor() {
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		return new LuceneSearchCursorImpl( scoreDocs[scoreDocs.length - 1] );
+	}
 }
@@ -24,6 +24,8 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -88,12 +90,22 @@ public LuceneSearchScrollResult<H> next() {
 
 	private LuceneSearchScrollResult<H> doNext() {
 		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
+			ScoreDoc after = null;
+			int offsetInQuery = nextChunkOffset;
 			if ( currentPage != null ) {
 				currentPageLimit *= 2;
+				int lastHitIndexInPage = Math.min( nextChunkOffset - currentPageOffset, currentPage.hitSize() ) - 1;
+				if ( lastHitIndexInPage >= 0 ) {
+					// The index reader doesn't change during the scroll, so document IDs are stable:
+					// just collect the hits after the last one we returned,
+					// instead of collecting all hits from the very first one.
+					after = currentPage.scoreDoc( lastHitIndexInPage );
+					offsetInQuery = 0;
+				}
 			}
 			currentPageOffset = nextChunkOffset;
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, offsetInQuery, currentPageLimit, after, totalHitCountThreshold ),
 					indexReader );
 		}
 
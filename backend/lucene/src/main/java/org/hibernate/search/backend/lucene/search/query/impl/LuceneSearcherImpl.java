@@ -9,11 +9,15 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.impl.IndexReaderKeyedCache;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.CollectedMatchingDocs;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
@@ -28,6 +32,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -69,21 +74,58 @@ public String toString() {
 
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+			IndexReaderMetadataResolver metadataResolver, Optional<LuceneSearchResultCache> searchResultCache,
+			int offset, Integer limit, ScoreDoc after, int totalHitCountThreshold) throws IOException {
+		IndexReaderKeyedCache.Key<LuceneSearchResultCache.QueryKey> cacheKey = null;
+		// Queries without a limit could retain a large amount of top docs: don't cache them.
+		if ( searchResultCache.isPresent() && after == null && limit != null ) {
+			cacheKey = searchResultCache.get().keyOrNull( indexSearcher.getIndexReader(),
+					requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
+					extractionRequirements.matchingDocsCacheKey(), offset, limit, totalHitCountThreshold );
+		}
+		if ( cacheKey == null ) {
+			return doSearch( indexSearcher, metadataResolver, offset, limit, after, totalHitCountThreshold ).extract();
+		}
+
+		LuceneCollectors luceneCollectors;
+		CollectedMatchingDocs cached = searchResultCache.get().get( cacheKey );
+		if ( cached != null ) {
+			queryLog.tracef( "Reusing cached matching docs for Lucene query '%s'", requestContext.getLuceneQuery() );
+			luceneCollectors = buildCollectors( indexSearcher, metadataResolver, null,
+					getMaxDocs( indexSearcher.getIndexReader(), offset, limit ), totalHitCountThreshold );
+			luceneCollectors.restoreCollectedMatchingDocs( cached );
+		}
+		else {
+			luceneCollectors = collect( indexSearcher, metadataResolver, offset, limit, null,
+					totalHitCountThreshold );
+			// Partial results must not be reused.
+			if ( !timeoutManager.isTimedOut() ) {
+				searchResultCache.get().put( cacheKey, luceneCollectors.getCollectedMatchingDocs() );
+			}
+		}
+		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+				rootExtractor, aggregations, timeoutManager ).extract();
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+			int offset, int limit, ScoreDoc after, int totalHitCountThreshold) throws IOException {
+		return doSearch( indexSearcher, metadataResolver, offset, limit, after, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException {
+			int offset, Integer limit, ScoreDoc after, int totalHitCountThreshold) throws IOException {
+		LuceneCollectors luceneCollectors = collect( indexSearcher, metadataResolver, offset, limit, after,
+				totalHitCountThreshold );
+
+		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+				rootExtractor, aggregations, timeoutManager );
+	}
+
+	private LuceneCollectors collect(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
+			int offset, Integer limit, ScoreDoc after, int totalHitCountThreshold) throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw log.offsetLimitExceedsMaxValue( offset, limit );
 		}
@@ -91,12 +133,11 @@ private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
-		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE ) ?
-				collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold ) :
-				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, maxDocs, totalHitCountThreshold );
-
-		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
-				rootExtractor, aggregations, timeoutManager );
+		return ( limit != null || maxDocs <= PREFETCH_HITS_SIZE ) ?
+				collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after, maxDocs,
+						totalHitCountThreshold ) :
+				collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, limit, after, maxDocs,
+						totalHitCountThreshold );
 	}
 
 	@Override
@@ -130,26 +171,26 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
+			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, totalHitCountThreshold );
+				after, maxDocs, totalHitCountThreshold );
 		luceneCollectors.collectMatchingDocs( offset, limit );
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
+			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -159,14 +200,15 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, offset, limit, after,
+				exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
+			ScoreDoc after, int maxDocs, int totalHitCountThreshold) throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
+				metadataResolver, after, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
 
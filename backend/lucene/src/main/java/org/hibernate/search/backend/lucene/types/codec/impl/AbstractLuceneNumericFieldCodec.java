@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodingDocValues;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.index.LeafReader;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number>
 		implements LuceneStandardFieldCodec<F, E> {
 
@@ -63,10 +68,31 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		return DocValues.ENABLED == docValues && isDocValuesEncodingLossless();
+	}
+
+	@Override
+	public DecodingDocValues<F> decodingDocValues(LeafReader reader, String absoluteFieldPath) throws IOException {
+		LuceneNumericDomain<E> domain = getDomain();
+		return DecodingDocValues.fromSortedNumeric( reader.getSortedNumericDocValues( absoluteFieldPath ),
+				value -> decode( domain.sortedDocValueToTerm( value ) ) );
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number) decoding} the {@link #encode(Object) encoded} value
+	 * always returns a value equal to the original value,
+	 * i.e. if doc values hold the same information as stored fields.
+	 */
+	boolean isDocValuesEncodingLossless() {
+		return false;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodingDocValues;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -38,6 +43,32 @@
 	 */
 	F decode(IndexableField field);
 
+	/**
+	 * @return {@code true} if values can be decoded from doc values
+	 * through {@link #decodingDocValues(LeafReader, String)},
+	 * with the exact same result as {@link #decode(IndexableField)} on stored fields.
+	 * {@code false} if doc values are disabled, or if encoding values to doc values loses information
+	 * (truncation, normalization, ...).
+	 */
+	default boolean canDecodeDocValues() {
+		return false;
+	}
+
+	/**
+	 * Extract values from doc values instead of stored fields.
+	 * <p>
+	 * Typically used in projections, to avoid loading stored fields.
+	 * Must only be called if {@link #canDecodeDocValues()} returns {@code true}.
+	 *
+	 * @param reader The leaf reader to extract doc values from.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return The decoding doc values for this field in the given leaf reader.
+	 * @throws IOException If reading from the index fails.
+	 */
+	default DecodingDocValues<F> decodingDocValues(LeafReader reader, String absoluteFieldPath) throws IOException {
+		throw new AssertionFailure( "Codec " + this + " cannot decode doc values" );
+	}
+
 	/**
 	 * Determine whether the given codec provides an encoding that is compatible with this codec,
 	 * i.e. whether its {@link #decode(IndexableField)}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodingDocValues;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -13,6 +16,7 @@
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.util.BytesRef;
 
 public final class LuceneStringFieldCodec implements LuceneStandardFieldCodec<String, String> {
@@ -60,6 +64,19 @@ public String decode(IndexableField field) {
 		return field.stringValue();
 	}
 
+	@Override
+	public boolean canDecodeDocValues() {
+		// Normalized doc values may differ from the original value.
+		return DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
+	@Override
+	public DecodingDocValues<String> decodingDocValues(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		return DecodingDocValues.fromSortedSet( reader.getSortedSetDocValues( absoluteFieldPath ),
+				BytesRef::utf8ToString );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -47,6 +47,11 @@ public Analyzer searchAnalyzerOrNormalizer() {
 		return searchAnalyzerOrNormalizer;
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		return codec.canDecodeDocValues();
+	}
+
 	public static class Builder<F>
 			extends AbstractIndexValueFieldType.Builder<
 							LuceneSearchIndexScope<?>,
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
@@ -20,4 +22,25 @@ public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
 				: new NestedDocsProvider( nestedDocumentPath, filter );
 	}
 
+	/*
+	 * Equality is necessary for Lucene sorts, and thus search result cache keys,
+	 * to be equal when the same sort is built twice.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocsProvider, other.nestedDocsProvider );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocsProvider );
+	}
+
 }
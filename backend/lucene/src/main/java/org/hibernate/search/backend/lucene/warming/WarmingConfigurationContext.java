@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
+import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A context allowing the configuration of warming for a Lucene index.
+ * <p>
+ * Warm-up queries are executed on every new index segment,
+ * be it the result of a merge or of a flush,
+ * before search queries can see that segment.
+ * This loads the data structures these queries need (postings, norms, doc values, ...),
+ * and feeds the query cache,
+ * so that the first search queries executed on a new segment do not pay the cold-cache penalty.
+ * <p>
+ * Warm-up queries are built before the mapping is fully available:
+ * values passed to predicates on fields with a DSL converter that relies on the mapping,
+ * such as a bridge, should be passed with {@link ValueConvert#NO}.
+ */
+@Incubating
+public interface WarmingConfigurationContext {
+
+	/**
+	 * @return The name of the index being configured.
+	 */
+	String indexName();
+
+	/**
+	 * Declares a warm-up query.
+	 *
+	 * @param predicateContributor A function that will use the factory passed in parameter to create a predicate,
+	 * returning the final step in the predicate DSL.
+	 * Should generally be a lambda expression.
+	 * @return The next step, to set sorts and aggregations on the warm-up query.
+	 */
+	WarmingQueryOptionsStep query(
+			Function<? super LuceneSearchPredicateFactory, ? extends PredicateFinalStep> predicateContributor);
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A configurer for the warming of new index segments.
+ * <p>
+ * Users can select a configurer through the
+ * {@link LuceneIndexSettings#WARMING_CONFIGURER configuration properties}.
+ */
+@Incubating
+public interface WarmingConfigurer {
+
+	/**
+	 * Configures warming as necessary using the given {@code context}.
+	 * @param context A context exposing methods to configure warming.
+	 */
+	void configure(WarmingConfigurationContext context);
+
+}
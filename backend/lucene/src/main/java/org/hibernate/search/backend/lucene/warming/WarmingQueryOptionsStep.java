@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
+import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
+import org.hibernate.search.engine.search.aggregation.dsl.AggregationFinalStep;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * The step in the definition of a warm-up query where sorts and aggregations can be set.
+ */
+@Incubating
+public interface WarmingQueryOptionsStep {
+
+	/**
+	 * Sorts the hits of the warm-up query,
+	 * so that the data structures necessary to sort are loaded for new segments.
+	 *
+	 * @param sortContributor A function that will use the factory passed in parameter to create a sort,
+	 * returning the final step in the sort DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 */
+	WarmingQueryOptionsStep sort(Function<? super LuceneSearchSortFactory, ? extends SortFinalStep> sortContributor);
+
+	/**
+	 * Adds an aggregation to the warm-up query,
+	 * so that the data structures necessary to aggregate are loaded for new segments.
+	 *
+	 * @param aggregationContributor A function that will use the factory passed in parameter to create an aggregation,
+	 * returning the final step in the aggregation DSL.
+	 * Should generally be a lambda expression.
+	 * @return {@code this}, for method chaining.
+	 */
+	WarmingQueryOptionsStep aggregation(
+			Function<? super LuceneSearchAggregationFactory, ? extends AggregationFinalStep<?>> aggregationContributor);
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentValueConvertContextImpl;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.similarities.Similarity;
+
+/**
+ * Warms up new index segments by executing user-declared warm-up queries on them.
+ * <p>
+ * Merged segments are warmed up by the index writer, before the merge is committed
+ * (see {@link IndexWriter.IndexReaderWarmer}),
+ * while flushed segments are warmed up by the index reader provider, when refreshing the index reader.
+ */
+public final class SegmentWarmer implements IndexWriter.IndexReaderWarmer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static SegmentWarmer create(EventContext eventContext, List<WarmUpQuery> queries,
+			Similarity similarity, LuceneQueryCachingContext cachingContext) throws IOException {
+		SegmentWarmer warmer = new SegmentWarmer( eventContext, queries, similarity, cachingContext );
+		// Execute warm-up queries once on an empty reader,
+		// so that invalid queries are reported on startup rather than on every new segment.
+		try ( IndexReader emptyReader = new MultiReader() ) {
+			IndexSearcher indexSearcher = warmer.createSearcher( emptyReader );
+			for ( WarmUpQuery query : queries ) {
+				query.execute( indexSearcher, warmer.fromDocumentValueConvertContext );
+			}
+		}
+		return warmer;
+	}
+
+	private final EventContext eventContext;
+	private final List<WarmUpQuery> queries;
+	private final Similarity similarity;
+	private final LuceneQueryCachingContext cachingContext;
+	private final FromDocumentValueConvertContext fromDocumentValueConvertContext;
+
+	private SegmentWarmer(EventContext eventContext, List<WarmUpQuery> queries,
+			Similarity similarity, LuceneQueryCachingContext cachingContext) {
+		this.eventContext = eventContext;
+		this.queries = queries;
+		this.similarity = similarity;
+		this.cachingContext = cachingContext;
+		this.fromDocumentValueConvertContext = new FromDocumentValueConvertContextImpl( WarmingSessionContext.INSTANCE );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queries=" + queries + "]";
+	}
+
+	/**
+	 * Warms up a merged segment.
+	 * <p>
+	 * Called by the index writer before the merge is committed.
+	 *
+	 * @param reader A reader on the merged segment.
+	 */
+	@Override
+	public void warm(LeafReader reader) {
+		warmSegment( reader );
+	}
+
+	/**
+	 * Warms up the segments of a newly opened index reader
+	 * that were not already visible through the previous reader and were not warmed up by the index writer.
+	 *
+	 * @param newReader The newly opened index reader.
+	 * @param previousReaderOrNull The index reader that {@code newReader} replaces, if any.
+	 */
+	public void warmNewSegments(DirectoryReader newReader, DirectoryReader previousReaderOrNull) {
+		Set<IndexReader.CacheKey> previousCoreKeys = new HashSet<>();
+		if ( previousReaderOrNull != null ) {
+			for ( LeafReaderContext leaf : previousReaderOrNull.leaves() ) {
+				addCoreKey( previousCoreKeys, leaf.reader() );
+			}
+		}
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			LeafReader leafReader = leaf.reader();
+			if ( !addCoreKey( previousCoreKeys, leafReader ) ) {
+				// The segment was already visible through the previous reader:
+				// it's already warm.
+				continue;
+			}
+			if ( previousReaderOrNull != null && isMergedSegment( leafReader ) ) {
+				// The index writer warmed up this segment when merging.
+				continue;
+			}
+			warmSegment( leafReader );
+		}
+	}
+
+	private void warmSegment(LeafReader reader) {
+		IndexSearcher indexSearcher = createSearcher( reader );
+		for ( WarmUpQuery query : queries ) {
+			try {
+				query.execute( indexSearcher, fromDocumentValueConvertContext );
+			}
+			catch (IOException | RuntimeException e) {
+				// Warming is only an optimization: don't let it fail merges or refreshes.
+				log.unableToWarmUpSegment( e.getMessage(), eventContext, e );
+			}
+		}
+	}
+
+	private IndexSearcher createSearcher(IndexReader reader) {
+		IndexSearcher searcher = new IndexSearcher( reader );
+		searcher.setSimilarity( similarity );
+		// Use the same query cache as search queries, so that warm-up queries populate it.
+		cachingContext.queryCache().ifPresent( searcher::setQueryCache );
+		cachingContext.queryCachingPolicy().ifPresent( searcher::setQueryCachingPolicy );
+		return searcher;
+	}
+
+	private static boolean addCoreKey(Set<IndexReader.CacheKey> coreKeys, LeafReader reader) {
+		IndexReader.CacheHelper coreCacheHelper = reader.getCoreCacheHelper();
+		// Readers without a core cache helper cannot be identified: consider them new.
+		return coreCacheHelper == null || coreKeys.add( coreCacheHelper.getKey() );
+	}
+
+	private static boolean isMergedSegment(LeafReader reader) {
+		return reader instanceof SegmentReader
+				&& IndexWriter.SOURCE_MERGE.equals( ( (SegmentReader) reader ).getSegmentInfo().info.getDiagnostics()
+						.get( IndexWriter.SOURCE ) );
+	}
+}
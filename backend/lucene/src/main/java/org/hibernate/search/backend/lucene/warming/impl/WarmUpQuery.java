@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentValueConvertContext;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+
+public final class WarmUpQuery {
+
+	private final Query luceneQuery;
+	private final Sort luceneSort;
+	private final List<LuceneSearchAggregation<?>> aggregations;
+	private final ExtractionRequirements extractionRequirements;
+	private final TimeoutManager timeoutManager;
+
+	WarmUpQuery(Query luceneQuery, Sort luceneSort, List<LuceneSearchAggregation<?>> aggregations,
+			ExtractionRequirements extractionRequirements, TimeoutManager timeoutManager) {
+		this.luceneQuery = luceneQuery;
+		this.luceneSort = luceneSort;
+		this.aggregations = aggregations;
+		this.extractionRequirements = extractionRequirements;
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "luceneQuery=" + luceneQuery
+				+ ", luceneSort=" + luceneSort
+				+ ", aggregations=" + aggregations
+				+ "]";
+	}
+
+	void execute(IndexSearcher indexSearcher, FromDocumentValueConvertContext fromDocumentValueConvertContext)
+			throws IOException {
+		// We don't need any hit, but collecting the top hit forces the evaluation of sorts.
+		// We don't project on hits either, so we don't need a metadata resolver.
+		// We want to go through all matching documents to warm up the whole segment,
+		// so we disable the total hit count threshold.
+		LuceneCollectors luceneCollectors = extractionRequirements.createCollectors(
+				indexSearcher, luceneQuery, luceneSort, null, null, 1, timeoutManager, Integer.MAX_VALUE
+		);
+		luceneCollectors.collectMatchingDocs( 0, 1 );
+
+		if ( aggregations.isEmpty() ) {
+			return;
+		}
+		// Most aggregations only access doc values upon extraction.
+		AggregationExtractContext aggregationExtractContext = new AggregationExtractContext(
+				indexSearcher.getIndexReader(), fromDocumentValueConvertContext,
+				luceneCollectors.getCollectorsForAllMatchingDocs()
+		);
+		for ( LuceneSearchAggregation<?> aggregation : aggregations ) {
+			aggregation.extract( aggregationExtractContext );
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
+import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
+import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryIndexScope;
+import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
+import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSort;
+import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
+import org.hibernate.search.backend.lucene.warming.WarmingConfigurationContext;
+import org.hibernate.search.backend.lucene.warming.WarmingQueryOptionsStep;
+import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.aggregation.dsl.AggregationFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+public final class WarmingConfigurationContextImpl implements WarmingConfigurationContext {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
+	private final LuceneSearchQueryIndexScope<?> scope;
+	private final List<WarmUpQueryBuilder> queryBuilders = new ArrayList<>();
+
+	public WarmingConfigurationContextImpl(String indexName, LuceneSearchQueryIndexScope<?> scope) {
+		this.indexName = indexName;
+		this.scope = scope;
+	}
+
+	@Override
+	public String indexName() {
+		return indexName;
+	}
+
+	@Override
+	public WarmingQueryOptionsStep query(
+			Function<? super LuceneSearchPredicateFactory, ? extends PredicateFinalStep> predicateContributor) {
+		LuceneSearchPredicate predicate = LuceneSearchPredicate.from( scope,
+				predicateContributor.apply( scope.predicateFactory() ).toPredicate() );
+		WarmUpQueryBuilder builder = new WarmUpQueryBuilder( predicate.toQuery( PredicateRequestContext.root() ) );
+		queryBuilders.add( builder );
+		return builder;
+	}
+
+	public List<WarmUpQuery> build() {
+		List<WarmUpQuery> queries = new ArrayList<>( queryBuilders.size() );
+		for ( WarmUpQueryBuilder builder : queryBuilders ) {
+			queries.add( builder.build() );
+		}
+		return queries;
+	}
+
+	private final class WarmUpQueryBuilder implements WarmingQueryOptionsStep, LuceneSearchSortCollector {
+
+		private final Query luceneQuery;
+		private final List<SortField> sortFields = new ArrayList<>();
+		private final List<LuceneSearchAggregation<?>> aggregations = new ArrayList<>();
+
+		private WarmUpQueryBuilder(Query luceneQuery) {
+			this.luceneQuery = luceneQuery;
+		}
+
+		@Override
+		public WarmingQueryOptionsStep sort(
+				Function<? super LuceneSearchSortFactory, ? extends SortFinalStep> sortContributor) {
+			LuceneSearchSort.from( scope, sortContributor.apply( scope.sortFactory() ).toSort() )
+					.toSortFields( this );
+			return this;
+		}
+
+		@Override
+		public WarmingQueryOptionsStep aggregation(
+				Function<? super LuceneSearchAggregationFactory, ? extends AggregationFinalStep<?>> aggregationContributor) {
+			SearchAggregation<?> aggregation = aggregationContributor.apply( scope.aggregationFactory() )
+					.toAggregation();
+			if ( !( aggregation instanceof LuceneSearchAggregation ) ) {
+				throw log.cannotMixLuceneSearchQueryWithOtherAggregations( aggregation );
+			}
+			aggregations.add( (LuceneSearchAggregation<?>) aggregation );
+			return this;
+		}
+
+		@Override
+		public void collectSortField(SortField sortField) {
+			sortFields.add( sortField );
+		}
+
+		@Override
+		public void collectSortField(SortField sortField, LuceneFieldComparatorSource nestedFieldSort) {
+			collectSortField( sortField );
+		}
+
+		@Override
+		public void collectSortFields(SortField[] sortFields) {
+			Collections.addAll( this.sortFields, sortFields );
+		}
+
+		WarmUpQuery build() {
+			Query definitiveLuceneQuery = luceneQuery;
+			if ( scope.hasNestedDocuments() ) {
+				definitiveLuceneQuery = new BooleanQuery.Builder()
+						.add( luceneQuery, BooleanClause.Occur.MUST )
+						.add( Queries.mainDocumentQuery(), BooleanClause.Occur.FILTER )
+						.build();
+			}
+
+			Sort luceneSort = sortFields.isEmpty() ? null : new Sort( sortFields.toArray( new SortField[0] ) );
+
+			ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
+			AggregationRequestContext aggregationRequestContext =
+					new AggregationRequestContext( extractionRequirementsBuilder );
+			for ( LuceneSearchAggregation<?> aggregation : aggregations ) {
+				aggregation.request( aggregationRequestContext );
+			}
+
+			return new WarmUpQuery( definitiveLuceneQuery, luceneSort, new ArrayList<>( aggregations ),
+					extractionRequirementsBuilder.build(),
+					scope.createTimeoutManager( null, null, false ) );
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.warming.impl;
+
+import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentValueConvertContextImpl;
+
+/**
+ * The mapping and session context for warm-up queries,
+ * which are built and executed by the backend alone, outside of any mapping or session.
+ */
+public final class WarmingSessionContext implements BackendMappingContext, BackendSessionContext {
+
+	public static final WarmingSessionContext INSTANCE = new WarmingSessionContext();
+
+	private final ToDocumentValueConvertContext toDocumentValueConvertContext =
+			new ToDocumentValueConvertContextImpl( this );
+
+	private WarmingSessionContext() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public ToDocumentValueConvertContext toDocumentValueConvertContext() {
+		return toDocumentValueConvertContext;
+	}
+
+	@Override
+	public BackendMappingContext mappingContext() {
+		return this;
+	}
+
+	@Override
+	public String tenantIdentifier() {
+		// Warm-up queries target all tenants.
+		return null;
+	}
+}
@@ -54,6 +54,16 @@ public CompletableFuture<?> refresh() {
 		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false );
 	}
 
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.startBulkLoad(), false );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.stopBulkLoad(), false );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
@@ -27,6 +27,12 @@ public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public boolean replacesDocument() {
+		// Previous versions of the document, if any, are left untouched.
+		return false;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -32,6 +32,11 @@ public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.filter = filter;
 	}
 
+	@Override
+	public boolean replacesDocument() {
+		return true;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -7,21 +7,25 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold) throws IOException;
+			Optional<LuceneSearchResultCache> searchResultCache,
+			int offset, Integer limit, ScoreDoc after, int totalHitCountThreshold) throws IOException;
 
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException;
+			int offset, int limit, ScoreDoc after, int totalHitCountThreshold) throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
 
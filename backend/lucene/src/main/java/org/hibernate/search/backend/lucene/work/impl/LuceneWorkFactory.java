@@ -18,6 +18,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -51,6 +52,14 @@ public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
 
+	public IndexManagementWork<?> startBulkLoad() {
+		return new StartBulkLoadWork();
+	}
+
+	public IndexManagementWork<?> stopBulkLoad() {
+		return new StopBulkLoadWork();
+	}
+
 	public IndexManagementWork<Long> computeSizeInBytes() {
 		return new ComputeSizeInBytesWork();
 	}
@@ -88,11 +97,17 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 	}
 
 	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
-		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
+		return new SearchWork<>( searcher, offset, limit, null, totalHitCountThreshold );
+	}
+
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R, ?> searcher, ScoreDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, null, limit, after, totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, ScoreDoc after,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, offset, limit, after, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
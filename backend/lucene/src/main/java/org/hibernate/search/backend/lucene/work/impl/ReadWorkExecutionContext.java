@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cache.impl.LuceneSearchResultCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -18,6 +21,8 @@ public interface ReadWorkExecutionContext {
 
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
+	Optional<LuceneSearchResultCache> getSearchResultCache();
+
 	EventContext getEventContext();
 
 }
@@ -13,6 +13,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public class ScrollWork<ER> implements ReadWork<ER> {
@@ -23,11 +24,13 @@
 
 	private final int offset;
 	private final int limit;
+	private final ScoreDoc after;
 	private final int totalHitCountThreshold;
 
-	ScrollWork(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
+	ScrollWork(LuceneSearcher<?, ER> searcher, int offset, int limit, ScoreDoc after, int totalHitCountThreshold) {
 		this.offset = offset;
 		this.limit = limit;
+		this.after = after;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
@@ -37,7 +40,7 @@ public ER execute(ReadWorkExecutionContext context) {
 		try {
 			IndexSearcher indexSearcher = context.createSearcher();
 
-			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit,
+			return searcher.scroll( indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, after,
 					totalHitCountThreshold );
 		}
 		catch (IOException e) {
@@ -52,6 +55,7 @@ public String toString() {
 				.append( "[" )
 				.append( "searcher=" ).append( searcher )
 				.append( ", limit=" ).append( limit )
+				.append( ", after=" ).append( after )
 				.append( "]" );
 		return sb.toString();
 	}
@@ -13,6 +13,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public class SearchWork<R> implements ReadWork<R> {
@@ -23,13 +24,15 @@
 
 	private final int offset;
 	private final Integer limit;
+	private final ScoreDoc after;
 	private final int totalHitCountThreshold;
 
 	SearchWork(LuceneSearcher<R, ?> searcher,
-			Integer offset, Integer limit,
+			Integer offset, Integer limit, ScoreDoc after,
 			int totalHitCountThreshold) {
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
+		this.after = after;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
@@ -40,7 +43,8 @@ public R execute(ReadWorkExecutionContext context) {
 			IndexSearcher indexSearcher = context.createSearcher();
 
 			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit, totalHitCountThreshold
+					indexSearcher, context.getIndexReaderMetadataResolver(), context.getSearchResultCache(),
+					offset, limit, after, totalHitCountThreshold
 			);
 		}
 		catch (IOException e) {
@@ -56,6 +60,7 @@ public String toString() {
 				.append( "searcher=" ).append( searcher )
 				.append( ", offset=" ).append( offset )
 				.append( ", limit=" ).append( limit )
+				.append( ", after=" ).append( after )
 				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
 				.append( "]" );
 		return sb.toString();
@@ -13,4 +13,17 @@ public interface SingleDocumentIndexingWork extends IndexingWork<Long> {
 
 	Object getEntityIdentifier();
 
+	/**
+	 * @return A key identifying the document affected by this work within an index,
+	 * such that two works with equal keys affect the same document.
+	 */
+	Object getDocumentKey();
+
+	/**
+	 * @return {@code true} if this work replaces or deletes all previous versions of the document,
+	 * so that its outcome does not depend on previous works affecting the same document;
+	 * {@code false} otherwise.
+	 */
+	boolean replacesDocument();
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class IndexReaderKeyedCacheTest {
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig() );
+		// Two segments
+		indexWriter.addDocument( new Document() );
+		indexWriter.commit();
+		indexWriter.addDocument( new Document() );
+		indexWriter.commit();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if ( indexWriter.isOpen() ) {
+			indexWriter.close();
+		}
+		directory.close();
+	}
+
+	@Test
+	public void getPut() throws IOException {
+		IndexReaderKeyedCache<String, String> cache = new IndexReaderKeyedCache<>( 10, 100L, String::length );
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isNull();
+			cache.put( cache.keyOrNull( reader, "a" ), "valueA" );
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isEqualTo( "valueA" );
+			assertThat( cache.get( cache.keyOrNull( reader, "b" ) ) ).isNull();
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( cache.ramBytesUsed() ).isEqualTo( 6L );
+
+			// Replacing a value
+			cache.put( cache.keyOrNull( reader, "a" ), "otherValueA" );
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isEqualTo( "otherValueA" );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( cache.ramBytesUsed() ).isEqualTo( 11L );
+		}
+	}
+
+	@Test
+	public void readerChange() throws IOException {
+		IndexReaderKeyedCache<String, String> cache = new IndexReaderKeyedCache<>( 10, 100L, String::length );
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			cache.put( cache.keyOrNull( reader, "a" ), "valueA" );
+
+			indexWriter.addDocument( new Document() );
+			try ( DirectoryReader newReader = DirectoryReader.openIfChanged( reader, indexWriter ) ) {
+				assertThat( newReader ).isNotNull();
+				// The new reader has a different set of segments: entries for the old reader must not match.
+				assertThat( cache.get( cache.keyOrNull( newReader, "a" ) ) ).isNull();
+				cache.put( cache.keyOrNull( newReader, "a" ), "newValueA" );
+				assertThat( cache.get( cache.keyOrNull( newReader, "a" ) ) ).isEqualTo( "newValueA" );
+				assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isEqualTo( "valueA" );
+				assertThat( cache.size() ).isEqualTo( 2 );
+			}
+		}
+		// Entries are evicted when their segment readers get closed,
+		// which only happens when the writer closes, since it keeps pooled segment readers open.
+		indexWriter.close();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.ramBytesUsed() ).isZero();
+	}
+
+	@Test
+	public void maxSize() throws IOException {
+		IndexReaderKeyedCache<String, String> cache = new IndexReaderKeyedCache<>( 2, 100L, String::length );
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			cache.put( cache.keyOrNull( reader, "a" ), "valueA" );
+			cache.put( cache.keyOrNull( reader, "b" ), "valueB" );
+			// Make "b" the least recently used entry
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isEqualTo( "valueA" );
+			cache.put( cache.keyOrNull( reader, "c" ), "valueC" );
+
+			assertThat( cache.size() ).isEqualTo( 2 );
+			assertThat( cache.ramBytesUsed() ).isEqualTo( 12L );
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isEqualTo( "valueA" );
+			assertThat( cache.get( cache.keyOrNull( reader, "b" ) ) ).isNull();
+			assertThat( cache.get( cache.keyOrNull( reader, "c" ) ) ).isEqualTo( "valueC" );
+		}
+	}
+
+	@Test
+	public void maxRamBytes() throws IOException {
+		IndexReaderKeyedCache<String, String> cache = new IndexReaderKeyedCache<>( 10, 10L, String::length );
+		try ( DirectoryReader reader = DirectoryReader.open( indexWriter ) ) {
+			cache.put( cache.keyOrNull( reader, "a" ), "valueA" );
+			cache.put( cache.keyOrNull( reader, "b" ), "valueB" );
+
+			// The least recently used entry was evicted to make room
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( cache.ramBytesUsed() ).isEqualTo( 6L );
+			assertThat( cache.get( cache.keyOrNull( reader, "a" ) ) ).isNull();
+			assertThat( cache.get( cache.keyOrNull( reader, "b" ) ) ).isEqualTo( "valueB" );
+
+			// Values that would not fit even in an empty cache are ignored
+			cache.put( cache.keyOrNull( reader, "c" ), "tooLargeValueC" );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( cache.get( cache.keyOrNull( reader, "b" ) ) ).isEqualTo( "valueB" );
+			assertThat( cache.get( cache.keyOrNull( reader, "c" ) ) ).isNull();
+		}
+	}
+
+}
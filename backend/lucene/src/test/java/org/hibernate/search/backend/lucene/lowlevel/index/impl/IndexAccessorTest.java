@@ -112,6 +112,7 @@ public void commitOrDelay() {
 		accessor.commitOrDelay();
 
 		verify( indexWriterDelegatorMock ).commitOrDelay();
+		verify( indexReaderProviderMock ).afterWrite();
 		verifyNoOtherIndexInteractions();
 	}
 
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class NearRealTimeIndexReaderProviderTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	// Long enough that a background refresh never executes during a test.
+	private static final int REFRESH_INTERVAL = 60_000;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	@Mock
+	private IndexWriterProvider indexWriterProviderMock;
+	@Mock
+	private IndexWriterDelegatorImpl indexWriterDelegatorMock;
+	@Mock
+	private TimingSource timingSourceMock;
+	@Mock
+	private BackendThreads threadsMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+
+	private final ScheduledThreadPoolExecutor writeExecutor = new ScheduledThreadPoolExecutor( 1 );
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	private NearRealTimeIndexReaderProvider provider;
+
+	@Before
+	public void setup() throws IOException {
+		// Cancelled tasks are removed from the queue, so that we can check that nothing is pending.
+		writeExecutor.setRemoveOnCancelPolicy( true );
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig() );
+
+		when( threadsMock.getWriteExecutor() ).thenReturn( writeExecutor );
+		when( timingSourceMock.monotonicTimeEstimate() ).thenReturn( 0L );
+		when( indexWriterProviderMock.getOrCreate() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.openReader() ).thenAnswer( ignored -> DirectoryReader.open( indexWriter ) );
+
+		provider = new NearRealTimeIndexReaderProvider( indexEventContext, indexWriterProviderMock,
+				timingSourceMock, REFRESH_INTERVAL, true, null,
+				threadsMock, failureHandlerMock, null );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writeExecutor.shutdownNow();
+		if ( indexWriter.isOpen() ) {
+			indexWriter.close();
+		}
+		directory.close();
+	}
+
+	@Test
+	public void clear_pendingBackgroundRefresh() throws IOException {
+		openAndReleaseReader();
+
+		indexWriter.addDocument( new Document() );
+		provider.afterWrite();
+		assertThat( writeExecutor.getQueue() ).hasSize( 1 );
+
+		// Close the index, in the same order as the index accessor.
+		provider.clear();
+		indexWriter.close();
+
+		// The pending refresh must have been cancelled:
+		// it would otherwise fail against the closed index writer.
+		assertThat( writeExecutor.getQueue() ).isEmpty();
+		verifyNoInteractions( failureHandlerMock );
+	}
+
+	@Test
+	public void clear_thenReopen() throws IOException {
+		openAndReleaseReader();
+		provider.clear();
+
+		// The provider may be used again after being cleared:
+		// background refresh must still work.
+		openAndReleaseReader();
+		indexWriter.addDocument( new Document() );
+		provider.afterWrite();
+		assertThat( writeExecutor.getQueue() ).hasSize( 1 );
+
+		provider.clear();
+		assertThat( writeExecutor.getQueue() ).isEmpty();
+		verifyNoInteractions( failureHandlerMock );
+	}
+
+	private void openAndReleaseReader() throws IOException {
+		DirectoryReader reader = provider.getOrCreate();
+		reader.decRef();
+	}
+
+}
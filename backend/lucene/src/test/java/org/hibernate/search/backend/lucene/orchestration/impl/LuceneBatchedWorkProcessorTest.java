@@ -57,7 +57,7 @@ public class LuceneBatchedWorkProcessorTest {
 
 	@Before
 	public void setup() {
-		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock );
+		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock, null );
 	}
 
 	@Test
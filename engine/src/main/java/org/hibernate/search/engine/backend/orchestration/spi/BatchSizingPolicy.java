@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A policy deciding how many works a {@link BatchingExecutor} puts in each batch,
+ * and how long it may wait for more works before starting a batch.
+ */
+public final class BatchSizingPolicy {
+
+	private static final BatchSizingPolicy FIXED = new BatchSizingPolicy( -1L, 0L );
+
+	/**
+	 * @return A policy that always puts as many works as possible in each batch,
+	 * up to the maximum number of tasks per batch, and never waits for more works.
+	 */
+	public static BatchSizingPolicy fixed() {
+		return FIXED;
+	}
+
+	/**
+	 * @param targetBatchLatencyMs The target duration of each batch, in milliseconds, strictly positive,
+	 * from the beginning of the batch to the completion of the future returned by {@link BatchedWorkProcessor#endBatch()}.
+	 * Batches will be shrunk when they take longer than this,
+	 * and will be allowed to grow again (up to the maximum number of tasks per batch) when they take less time.
+	 * @param maxLingerMs The maximum duration, in milliseconds, to wait for more works
+	 * when a batch is not full and the previous batch took less time than the target.
+	 * Waiting allows more works to be processed in a single batch,
+	 * but delays the processing of works that are already in the queue,
+	 * and keeps the executor's thread busy while waiting.
+	 * {@code 0} to never wait.
+	 * @return A policy that adapts the size of batches to the duration of previous batches.
+	 */
+	public static BatchSizingPolicy adaptive(int targetBatchLatencyMs, int maxLingerMs) {
+		Contracts.assertStrictlyPositive( targetBatchLatencyMs, "targetBatchLatencyMs" );
+		Contracts.assertPositiveOrZero( maxLingerMs, "maxLingerMs" );
+		return new BatchSizingPolicy( TimeUnit.MILLISECONDS.toNanos( targetBatchLatencyMs ),
+				TimeUnit.MILLISECONDS.toNanos( maxLingerMs ) );
+	}
+
+	private final long targetBatchLatencyNanos;
+	private final long maxLingerNanos;
+
+	private BatchSizingPolicy(long targetBatchLatencyNanos, long maxLingerNanos) {
+		this.targetBatchLatencyNanos = targetBatchLatencyNanos;
+		this.maxLingerNanos = maxLingerNanos;
+	}
+
+	@Override
+	public String toString() {
+		if ( targetBatchLatencyNanos < 0 ) {
+			return "BatchSizingPolicy[fixed]";
+		}
+		return "BatchSizingPolicy["
+				+ "targetBatchLatency=" + TimeUnit.NANOSECONDS.toMillis( targetBatchLatencyNanos ) + "ms"
+				+ ", maxLinger=" + TimeUnit.NANOSECONDS.toMillis( maxLingerNanos ) + "ms"
+				+ "]";
+	}
+
+	Sizer createSizer(int maxTasksPerBatch) {
+		return new Sizer( maxTasksPerBatch );
+	}
+
+	/**
+	 * The state of the policy for a single executor.
+	 * <p>
+	 * Not thread-safe: expected to be accessed by a single thread at a time,
+	 * with happens-before relationships between accesses from different threads.
+	 */
+	final class Sizer {
+		private final int maxTasksPerBatch;
+
+		private int batchSize;
+		private boolean lastBatchWithinTarget = true;
+
+		private Sizer(int maxTasksPerBatch) {
+			this.maxTasksPerBatch = maxTasksPerBatch;
+			this.batchSize = maxTasksPerBatch;
+		}
+
+		/**
+		 * @return The maximum number of works to put in the next batch.
+		 */
+		int batchSize() {
+			return batchSize;
+		}
+
+		/**
+		 * @return How long to wait for more works when the next batch is not full, in nanoseconds.
+		 */
+		long lingerNanos() {
+			// Waiting when batches are already too slow would only make things worse.
+			return lastBatchWithinTarget ? maxLingerNanos : 0L;
+		}
+
+		/**
+		 * @param workCount The number of works in the batch that just completed.
+		 * @param durationNanos The duration of that batch, in nanoseconds.
+		 */
+		void onBatchCompleted(int workCount, long durationNanos) {
+			if ( targetBatchLatencyNanos < 0 ) {
+				// Fixed sizing
+				return;
+			}
+			if ( durationNanos > targetBatchLatencyNanos ) {
+				// Too slow: shrink the batch proportionally to the overshoot.
+				lastBatchWithinTarget = false;
+				batchSize = (int) Math.max( 1L,
+						(long) ( workCount * ( (double) targetBatchLatencyNanos / durationNanos ) ) );
+			}
+			else {
+				lastBatchWithinTarget = true;
+				if ( workCount >= batchSize ) {
+					// The batch was full, yet fast enough: allow larger batches.
+					batchSize = (int) Math.min( maxTasksPerBatch, batchSize * 2L );
+				}
+			}
+		}
+	}
+}
@@ -37,4 +37,18 @@ public interface BatchedWorkProcessor {
 	 */
 	void complete();
 
+	/**
+	 * Called when a batch is completely executed,
+	 * i.e. when the future returned by {@link #endBatch()} completes.
+	 * <p>
+	 * Useful to collect metrics; does nothing by default.
+	 *
+	 * @param workCount The number of works submitted in this batch.
+	 * @param durationNanos The time elapsed between the call to {@link #beginBatch()}
+	 * and the completion of the batch, in nanoseconds.
+	 */
+	default void batchCompleted(int workCount, long durationNanos) {
+		// Nothing to do by default
+	}
+
 }
@@ -8,12 +8,16 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -53,10 +57,52 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, BatchSizingPolicy.fixed(), failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param sizingPolicy A policy deciding how many tasks (up to {@code maxTasksPerBatch})
+	 * to process in each batch.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			BatchSizingPolicy sizingPolicy,
+			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, sizingPolicy, false, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param sizingPolicy A policy deciding how many tasks (up to {@code maxTasksPerBatch})
+	 * to process in each batch.
+	 * @param coalesce if {@code true}, {@link CoalescableBatchedWork coalescable works}
+	 * that are superseded by a later work of the same batch are not submitted to the processor,
+	 * and complete when the superseding work completes.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			BatchSizingPolicy sizingPolicy, boolean coalesce,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, sizingPolicy.createSizer( maxTasksPerBatch ),
+				coalesce, this::ensureProcessingScheduled );
 	}
 
 	@Override
@@ -129,6 +175,20 @@ public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
 
+	/**
+	 * @return The number of works currently waiting in the queue of this executor.
+	 */
+	public int queueSize() {
+		return workQueue.size();
+	}
+
+	private void ensureProcessingScheduled() {
+		SingletonTask task = processingTask;
+		if ( task != null ) {
+			task.ensureScheduled();
+		}
+	}
+
 	/**
 	 * Takes a batch of works from the queue and submits them to the processor.
 	 */
@@ -138,34 +198,62 @@ public CompletableFuture<?> completion() {
 		private final String name;
 		private final P processor;
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
-		private final int maxTasksPerBatch;
+		private final BatchSizingPolicy.Sizer sizer;
+		private final Runnable rescheduler;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Map<Object, CoalescableBatchedWork<?>> supersedingWorks;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				BatchSizingPolicy.Sizer sizer, boolean coalesce, Runnable rescheduler) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
-			this.maxTasksPerBatch = maxTasksPerBatch;
-			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.sizer = sizer;
+			this.rescheduler = rescheduler;
+			this.workBuffer = new ArrayList<>( sizer.batchSize() );
+			this.supersedingWorks = coalesce ? new HashMap<>() : null;
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
 			workBuffer.clear();
-			workQueue.drainTo( workBuffer, maxTasksPerBatch );
+			int batchSize = sizer.batchSize();
+			workQueue.drainTo( workBuffer, batchSize );
 
 			if ( workBuffer.isEmpty() ) {
 				// Nothing to do
 				return completedFuture;
 			}
 
+			long lingerNanos = sizer.lingerNanos();
+			if ( lingerNanos > 0L && workBuffer.size() < batchSize ) {
+				lingerForMoreWorks( batchSize, lingerNanos );
+			}
+
+			if ( !workQueue.isEmpty() ) {
+				// The batch was too small to take all works from the queue:
+				// make sure we will process the remaining ones in the next batch,
+				// even if no other work gets submitted.
+				rescheduler.run();
+			}
+
 			int workCount = workBuffer.size();
 			boolean traceEnabled = log.isTraceEnabled();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
 			}
 
+			if ( supersedingWorks != null ) {
+				int supersededWorkCount = coalesce();
+				if ( traceEnabled && supersededWorkCount > 0 ) {
+					log.tracef( "Skipping %d superseded works in executor '%s'", supersededWorkCount, name );
+				}
+			}
+			// Superseded works are not submitted to the processor:
+			// they must not be taken into account when sizing the next batches.
+			int submittedWorkCount = workBuffer.size();
+
+			long batchStart = System.nanoTime();
 			processor.beginBatch();
 
 			for ( BatchedWork<? super P> work : workBuffer ) {
@@ -185,7 +273,75 @@ public CompletableFuture<?> work() {
 				} );
 			}
 
-			return future;
+			// Return the dependent future, so that the next batch is sized
+			// according to the duration of this one.
+			return future.whenComplete( (result, throwable) -> {
+				long batchDuration = System.nanoTime() - batchStart;
+				sizer.onBatchCompleted( submittedWorkCount, batchDuration );
+				processor.batchCompleted( submittedWorkCount, batchDuration );
+			} );
+		}
+
+		/**
+		 * Removes works that are superseded by a later work of the same batch from the work buffer.
+		 *
+		 * @return The number of removed works.
+		 */
+		private int coalesce() {
+			int supersededWorkCount = 0;
+			try {
+				// Iterate backwards, so that we know about superseding works
+				// before we reach the works they supersede.
+				for ( int i = workBuffer.size() - 1; i >= 0; i-- ) {
+					BatchedWork<? super P> work = workBuffer.get( i );
+					if ( !( work instanceof CoalescableBatchedWork ) ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> coalescableWork = (CoalescableBatchedWork<?>) work;
+					Object key = coalescableWork.coalescingKey();
+					if ( key == null ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> supersedingWork = supersedingWorks.get( key );
+					if ( supersedingWork != null ) {
+						coalescableWork.markAsSuperseded( supersedingWork.future() );
+						workBuffer.set( i, null );
+						++supersededWorkCount;
+					}
+					else if ( coalescableWork.supersedesPreviousWorks() ) {
+						supersedingWorks.put( key, coalescableWork );
+					}
+				}
+			}
+			finally {
+				supersedingWorks.clear();
+			}
+			if ( supersededWorkCount > 0 ) {
+				workBuffer.removeIf( Objects::isNull );
+			}
+			return supersededWorkCount;
+		}
+
+		private void lingerForMoreWorks(int batchSize, long lingerNanos) {
+			long lingerEnd = System.nanoTime() + lingerNanos;
+			try {
+				while ( workBuffer.size() < batchSize ) {
+					long remainingNanos = lingerEnd - System.nanoTime();
+					if ( remainingNanos <= 0L ) {
+						break;
+					}
+					BatchedWork<? super P> work = workQueue.poll( remainingNanos, TimeUnit.NANOSECONDS );
+					if ( work == null ) {
+						break;
+					}
+					workBuffer.add( work );
+					workQueue.drainTo( workBuffer, batchSize - workBuffer.size() );
+				}
+			}
+			catch (InterruptedException e) {
+				// Stop waiting, but process the works we already have.
+				Thread.currentThread().interrupt();
+			}
 		}
 
 		@Override
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link BatchedWork} that may be skipped when a later work of the same batch
+ * makes its execution irrelevant, e.g. because that later work replaces the same document entirely.
+ * <p>
+ * Only taken into account by {@link BatchingExecutor}s with coalescing enabled.
+ *
+ * @param <P> The type of processor this work can be submitted to.
+ */
+public interface CoalescableBatchedWork<P> extends BatchedWork<P> {
+
+	/**
+	 * @return A key identifying the target of this work, typically a document,
+	 * such that two works with equal keys affect the same target;
+	 * or {@code null} if this work must never be skipped.
+	 */
+	Object coalescingKey();
+
+	/**
+	 * @return {@code true} if this work entirely replaces (or deletes) its target,
+	 * so that previous works of the same batch with the same {@link #coalescingKey() coalescing key}
+	 * do not need to be executed; {@code false} otherwise.
+	 */
+	boolean supersedesPreviousWorks();
+
+	/**
+	 * @return A future that completes when this work completes, successfully or not.
+	 */
+	CompletableFuture<?> future();
+
+	/**
+	 * Marks this work as superseded by a later work of the same batch:
+	 * this work will not be submitted to the processor,
+	 * and its outcome should be the same as the outcome of the superseding work.
+	 * <p>
+	 * By default, {@link #future() this work's future} completes with a {@code null} result
+	 * when the superseding work succeeds, and with the same exception when it fails.
+	 *
+	 * @param supersedingWorkFuture The {@link #future()} of the superseding work.
+	 */
+	default void markAsSuperseded(CompletableFuture<?> supersedingWorkFuture) {
+		CompletableFuture<?> future = future();
+		// Superseded works don't have a result of their own.
+		supersedingWorkFuture.whenComplete( (result, throwable) -> {
+			if ( throwable != null ) {
+				future.completeExceptionally( throwable );
+			}
+			else {
+				future.complete( null );
+			}
+		} );
+	}
+
+}
@@ -22,4 +22,24 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Switches the index to a profile optimized for bulk loading,
+	 * e.g. disabling refreshes and replication, until {@link #stopBulkLoad()} is called.
+	 * <p>
+	 * Index changes may not be visible to search queries, nor safe from crashes,
+	 * until {@link #stopBulkLoad()}, then {@link #flush()} and {@link #refresh()} are called.
+	 *
+	 * @return A future that completes when the index has been switched to the bulk-loading profile.
+	 */
+	CompletableFuture<?> startBulkLoad();
+
+	/**
+	 * Restores the settings that were in effect before {@link #startBulkLoad()} was called on this workspace.
+	 * <p>
+	 * Does nothing if {@link #startBulkLoad()} was not called.
+	 *
+	 * @return A future that completes when the index settings have been restored.
+	 */
+	CompletableFuture<?> stopBulkLoad();
+
 }
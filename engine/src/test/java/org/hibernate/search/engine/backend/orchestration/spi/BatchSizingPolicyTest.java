@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class BatchSizingPolicyTest {
+
+	private static final long MS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+	@Test
+	public void fixed() {
+		BatchSizingPolicy.Sizer sizer = BatchSizingPolicy.fixed().createSizer( 100 );
+		assertThat( sizer.batchSize() ).isEqualTo( 100 );
+		assertThat( sizer.lingerNanos() ).isZero();
+
+		sizer.onBatchCompleted( 100, 10_000 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 100 );
+		assertThat( sizer.lingerNanos() ).isZero();
+	}
+
+	@Test
+	public void adaptive_invalidTargetLatency() {
+		assertThatThrownBy( () -> BatchSizingPolicy.adaptive( 0, 0 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "targetBatchLatencyMs" );
+		assertThatThrownBy( () -> BatchSizingPolicy.adaptive( -1, 0 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "targetBatchLatencyMs" );
+	}
+
+	@Test
+	public void adaptive_shrink() {
+		BatchSizingPolicy.Sizer sizer = BatchSizingPolicy.adaptive( 50, 0 ).createSizer( 100 );
+		assertThat( sizer.batchSize() ).isEqualTo( 100 );
+
+		// Twice as slow as the target: halve the batch
+		sizer.onBatchCompleted( 100, 100 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 50 );
+
+		// Much slower than the target: never go below one work per batch
+		sizer.onBatchCompleted( 50, 1_000_000 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void adaptive_grow() {
+		BatchSizingPolicy.Sizer sizer = BatchSizingPolicy.adaptive( 50, 0 ).createSizer( 100 );
+		sizer.onBatchCompleted( 100, 1_000 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 5 );
+
+		// Fast enough, but the batch wasn't full: no reason to grow
+		sizer.onBatchCompleted( 3, 10 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 5 );
+
+		// Fast enough and full: grow, up to the maximum
+		sizer.onBatchCompleted( 5, 10 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 10 );
+		sizer.onBatchCompleted( 10, 10 * MS );
+		sizer.onBatchCompleted( 20, 10 * MS );
+		sizer.onBatchCompleted( 40, 10 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 80 );
+		sizer.onBatchCompleted( 80, 10 * MS );
+		assertThat( sizer.batchSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void adaptive_linger() {
+		BatchSizingPolicy.Sizer sizer = BatchSizingPolicy.adaptive( 50, 5 ).createSizer( 100 );
+		assertThat( sizer.lingerNanos() ).isEqualTo( 5 * MS );
+
+		// Batches are too slow: waiting would only make it worse
+		sizer.onBatchCompleted( 100, 100 * MS );
+		assertThat( sizer.lingerNanos() ).isZero();
+
+		sizer.onBatchCompleted( 50, 10 * MS );
+		assertThat( sizer.lingerNanos() ).isEqualTo( 5 * MS );
+	}
+}
@@ -9,9 +9,13 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -97,6 +101,7 @@ public void simple_batchEndsImmediately() throws InterruptedException {
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( work1Mock ).submitTo( processorMock );
 			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			// Since the queue is empty, works should be considered complete.
 			inOrder.verify( processorMock ).complete();
 		} );
@@ -142,6 +147,7 @@ public void simple_batchEndsLater_someAdditionalWorkBeforeComplete() throws Inte
 		// End the first batch: the second batch should begin
 		batch1Future.complete( null );
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( work2Mock ).submitTo( processorMock );
 			inOrder.verify( work3Mock ).submitTo( processorMock );
@@ -152,6 +158,7 @@ public void simple_batchEndsLater_someAdditionalWorkBeforeComplete() throws Inte
 		// End the second batch
 		batch2Future.complete( null );
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 2 ), anyLong() );
 			// Since the queue is empty, works should be considered complete.
 			inOrder.verify( processorMock ).complete();
 			// The relative order of these two is undefined
@@ -185,6 +192,7 @@ public void simple_batchEndsLater_noAdditionalWork() throws InterruptedException
 		// End the first batch
 		batch1Future.complete( null );
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			// Since the queue is empty, works should be considered complete.
 			inOrder.verify( processorMock ).complete();
 			inOrder.verify( completionListenerAfterSubmit ).onComplete();
@@ -214,6 +222,7 @@ public void beginBatchFailure() throws InterruptedException {
 		doThrow( simulatedFailure ).when( processorMock ).beginBatch();
 		unblockExecutorSwitch.run();
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( failureHandlerMock ).handle( failureContextCaptor.capture() );
 			// The next works should not be submitted to the processor: something is very wrong
@@ -257,6 +266,7 @@ public void submitFailure() throws InterruptedException {
 		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
 		unblockExecutorSwitch.run();
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( work1Mock ).submitTo( processorMock );
 			inOrder.verify( work2Mock ).submitTo( processorMock );
@@ -264,6 +274,7 @@ public void submitFailure() throws InterruptedException {
 			// The next works should still be submitted to the processor
 			inOrder.verify( work3Mock ).submitTo( processorMock );
 			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 3 ), anyLong() );
 			// Since the queue is empty, works should be considered complete.
 			inOrder.verify( processorMock ).complete();
 			inOrder.verify( completionListenerAfterSubmit ).onComplete();
@@ -295,6 +306,7 @@ public void endBatchFailure() throws InterruptedException {
 		doThrow( simulatedFailure ).when( processorMock ).endBatch();
 		unblockExecutorSwitch.run();
 		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( work1Mock ).submitTo( processorMock );
 			inOrder.verify( work2Mock ).submitTo( processorMock );
@@ -315,6 +327,198 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void adaptiveSizing_slowBatchShrinksNextBatches() throws InterruptedException {
+		// Every batch will take longer than the target latency,
+		// so batches will be shrunk to a single work.
+		createAndStartExecutor( 4, true, BatchSizingPolicy.adaptive( 1, 0 ) );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet
+		} );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batchFuture = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenAnswer( invocation -> {
+			// Make sure the batch takes longer than the target latency
+			Thread.sleep( 10 );
+			return batchFuture;
+		} );
+		unblockExecutorSwitch.run();
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// Works remaining in the queue should be processed in the next batches,
+			// even though no other work was submitted.
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+			inOrder.verify( completionListenerAfterSubmit ).onComplete();
+		} );
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void adaptiveSizing_linger() throws InterruptedException {
+		// Batches are fast enough, so the executor will wait for more works
+		// before starting a batch that isn't full.
+		createAndStartExecutor( 4, true, BatchSizingPolicy.adaptive( 10_000, 5_000 ) );
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		StubWork work4Mock = workMock( 4 );
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// All works should be processed in a single batch
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 4 ), anyLong() );
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+		} );
+	}
+
+	@Test
+	public void batchCompleted() throws InterruptedException {
+		createAndStartExecutor( 10, true );
+
+		Runnable unblockExecutorRunnable = blockExecutor();
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet
+		} );
+
+		CompletableFuture<Object> batch2Future = new CompletableFuture<>();
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch2Future );
+		unblockExecutorRunnable.run();
+		await().untilAsserted( () -> verify( processorMock ).endBatch() );
+		// The batch didn't end yet
+		verify( processorMock, never() ).batchCompleted( eq( 3 ), anyLong() );
+
+		batch2Future.complete( null );
+		verify( processorMock ).batchCompleted( eq( 3 ), longThat( duration -> duration >= 0L ) );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			inOrder.verify( processorMock ).beginBatch();
+			inOrder.verify( work1Mock ).submitTo( processorMock );
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void coalescing() throws InterruptedException {
+		createAndStartExecutor( 10, true, BatchSizingPolicy.fixed(), true );
+
+		Runnable unblockExecutorRunnable = blockExecutor();
+
+		StubCoalescableWork work1Mock = coalescableWorkMock( 1 );
+		StubCoalescableWork work2Mock = coalescableWorkMock( 2 );
+		StubCoalescableWork work3Mock = coalescableWorkMock( 3 );
+		StubCoalescableWork work4Mock = coalescableWorkMock( 4 );
+		StubCoalescableWork work5Mock = coalescableWorkMock( 5 );
+		StubWork work6Mock = workMock( 6 );
+		CompletableFuture<Object> work3Future = new CompletableFuture<>();
+
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		executor.submit( work5Mock );
+		executor.submit( work6Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet
+		} );
+
+		// Not superseding, but superseded by work3
+		when( work1Mock.coalescingKey() ).thenReturn( "A" );
+		// Superseding, but no other work with the same key
+		when( work2Mock.coalescingKey() ).thenReturn( "B" );
+		when( work2Mock.supersedesPreviousWorks() ).thenReturn( true );
+		// Superseding work1
+		when( work3Mock.coalescingKey() ).thenReturn( "A" );
+		when( work3Mock.supersedesPreviousWorks() ).thenReturn( true );
+		when( work3Mock.future() ).thenReturn( (CompletableFuture) work3Future );
+		// Never skipped
+		when( work4Mock.coalescingKey() ).thenReturn( null );
+		// Not superseding, and not superseded since no later work has the same key
+		when( work5Mock.coalescingKey() ).thenReturn( "A" );
+		when( work5Mock.supersedesPreviousWorks() ).thenReturn( false );
+		// work6 is not coalescable
+
+		CompletableFuture<Object> batch2Future = CompletableFuture.completedFuture( null );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch2Future );
+		unblockExecutorRunnable.run();
+		verifyAsynchronouslyAndReset( inOrder -> {
+			verify( work1Mock ).coalescingKey();
+			verify( work2Mock ).coalescingKey();
+			verify( work2Mock ).supersedesPreviousWorks();
+			verify( work3Mock ).coalescingKey();
+			verify( work3Mock ).supersedesPreviousWorks();
+			verify( work3Mock ).future();
+			verify( work4Mock ).coalescingKey();
+			verify( work5Mock ).coalescingKey();
+			verify( work5Mock ).supersedesPreviousWorks();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
+			inOrder.verify( work1Mock ).markAsSuperseded( work3Future );
+			inOrder.verify( processorMock ).beginBatch();
+			// work1 is superseded and thus skipped
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work3Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( work5Mock ).submitTo( processorMock );
+			inOrder.verify( work6Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// The superseded work is not taken into account
+			inOrder.verify( processorMock ).batchCompleted( eq( 5 ), anyLong() );
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+		} );
+
+		checkPostExecution();
+	}
+
 	private void verifyAsynchronouslyAndReset(Consumer<InOrder> verify) {
 		await().untilAsserted( () -> {
 			InOrder inOrder = inOrder( mocks.toArray() );
@@ -345,8 +549,17 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, BatchSizingPolicy.fixed() );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, BatchSizingPolicy sizingPolicy) {
+		createAndStartExecutor( maxTasksPerBatch, fair, sizingPolicy, false );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, BatchSizingPolicy sizingPolicy,
+			boolean coalesce) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, sizingPolicy, coalesce, failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
@@ -398,6 +611,7 @@ private void checkPostExecution() throws InterruptedException {
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( workMock ).submitTo( processorMock );
 			inOrder.verify( processorMock ).endBatch();
+			inOrder.verify( processorMock ).batchCompleted( eq( 1 ), anyLong() );
 			// Since the queue is empty, works should be considered complete.
 			inOrder.verify( processorMock ).complete();
 		} );
@@ -409,9 +623,18 @@ private StubWork workMock(int id) {
 		return mock;
 	}
 
+	private StubCoalescableWork coalescableWorkMock(int id) {
+		StubCoalescableWork mock = mock( StubCoalescableWork.class, "coalescable work #" + id );
+		mocks.add( mock );
+		return mock;
+	}
+
 	private interface StubWork extends BatchedWork<StubWorkProcessor> {
 	}
 
+	private interface StubCoalescableWork extends CoalescableBatchedWork<StubWorkProcessor> {
+	}
+
 	private interface StubWorkProcessor extends BatchedWorkProcessor {
 	}
 
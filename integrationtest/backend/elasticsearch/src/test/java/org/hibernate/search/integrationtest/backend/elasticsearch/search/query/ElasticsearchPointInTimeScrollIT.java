@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchHitsAssert.assertThatHits;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollStrategyName;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.NormalizedDocRefHit;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test scrolling with the {@link ElasticsearchScrollStrategyName#POINT_IN_TIME point-in-time} scroll strategy.
+ */
+public class ElasticsearchPointInTimeScrollIT {
+
+	private static final int DOCUMENT_COUNT = 500;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		assumeTrue(
+				"This test only makes sense if the Elasticsearch cluster supports point in time",
+				ElasticsearchTestDialect.get().supportsPointInTime()
+		);
+
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withBackendProperty(
+						ElasticsearchBackendSettings.SCROLL_STRATEGY, ElasticsearchScrollStrategyName.POINT_IN_TIME
+				)
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	@Test
+	public void sorted() {
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._PIT )
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+		for ( int i = 0; i < DOCUMENT_COUNT / CHUNK_SIZE + 2; i++ ) {
+			clientSpy.expectNext(
+					ElasticsearchRequest.post()
+							.pathComponent( Paths._SEARCH )
+							.build(),
+					ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+			);
+		}
+		clientSpy.expectNext(
+				ElasticsearchRequest.delete()
+						.pathComponent( Paths._PIT )
+						.build(),
+				ElasticsearchRequestAssertionMode.PATH_AND_METHOD
+		);
+
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				hits.addAll( chunk.hits() );
+			}
+		}
+		clientSpy.verifyExpectationsMet();
+
+		assertThatHits( hits ).hasDocRefHitsExactOrder( this::allDocs );
+	}
+
+	@Test
+	public void unsorted() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		// Hits are sorted by score, and all have the same score:
+		// we only expect each document to be returned exactly once.
+		assertThatHits( hits ).hasDocRefHitsAnyOrder( this::allDocs );
+	}
+
+	private void allDocs(NormalizedDocRefHit.Builder builder) {
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			builder.doc( index.typeName(), docId( i ) );
+		}
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Test the extraction of search results from actual Elasticsearch responses
+ * with {@link ElasticsearchBackendSettings#SEARCH_RESPONSE_STREAMING_ENABLED response streaming} enabled.
+ */
+public class ElasticsearchSearchResponseStreamingIT {
+
+	private static final int DOCUMENT_COUNT = 20;
+	private static final int GROUP_COUNT = 4;
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "groups" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.SEARCH_RESPONSE_STREAMING_ENABLED, true )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> {
+							document.addValue( index.binding().integer, i );
+							document.addValue( index.binding().group, group( i ) );
+						}
+				) )
+				.join();
+	}
+
+	@Test
+	public void projections() {
+		SearchResult<List<?>> result = index.query()
+				.select( f -> f.composite( f.id( String.class ), f.field( "integer", Integer.class ),
+						f.field( "group", String.class ) ) )
+				.where( f -> f.range().field( "integer" ).atLeast( 5 ) )
+				.sort( f -> f.field( "integer" ) )
+				.fetch( 2, 3 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT - 5 );
+		assertThat( result.took() ).isNotNull();
+		assertThat( result.timedOut() ).isFalse();
+		assertThat( result.hits() ).containsExactly(
+				Arrays.asList( docId( 7 ), 7, group( 7 ) ),
+				Arrays.asList( docId( 8 ), 8, group( 8 ) )
+		);
+	}
+
+	@Test
+	public void documentReferences() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.fetch( 3 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( docId( 19 ), docId( 18 ), docId( 17 ) );
+	}
+
+	@Test
+	public void noHits() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.match().field( "group" ).matching( "unknownGroup" ) )
+				.fetch( 10 );
+
+		assertThat( result.total().hitCount() ).isZero();
+		assertThat( result.hits() ).isEmpty();
+	}
+
+	@Test
+	public void aggregations() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "group", String.class ) )
+				.fetch( 1 );
+
+		assertThat( result.hits() ).hasSize( 1 );
+		assertThat( result.aggregation( AGGREGATION_KEY ) )
+				.hasSize( GROUP_COUNT )
+				.allSatisfy( ( group, count ) -> assertThat( count ).isEqualTo( DOCUMENT_COUNT / GROUP_COUNT ) );
+	}
+
+	@Test
+	public void responseBody() {
+		ElasticsearchSearchResult<DocumentReference> result = index.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.fetch( 5 );
+
+		assertThat( result.hits() ).hasSize( 5 );
+		// Hits are streamed, so they are not part of the response body; everything else is.
+		JsonObject responseBody = result.responseBody();
+		assertThat( responseBody.has( "took" ) ).isTrue();
+		assertThat( responseBody.has( "_shards" ) ).isTrue();
+		assertThat( responseBody.getAsJsonObject( "hits" ).has( "total" ) ).isTrue();
+		assertThat( responseBody.getAsJsonObject( "hits" ).has( "hits" ) ).isFalse();
+	}
+
+	@Test
+	public void scroll() {
+		List<Integer> values = new ArrayList<>();
+		try ( SearchScroll<Integer> scroll = index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.scroll( 6 ) ) {
+			for ( SearchScrollResult<Integer> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( 6 );
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				values.addAll( chunk.hits() );
+			}
+		}
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( i );
+		}
+		assertThat( values ).isEqualTo( expected );
+	}
+
+	private static String docId(int i) {
+		return "document_" + i;
+	}
+
+	private static String group(int i) {
+		return "group" + ( i % GROUP_COUNT );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString()
+					.projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the effect of {@link IndexWorkspace#startBulkLoad()} and {@link IndexWorkspace#stopBulkLoad()}
+ * on Elasticsearch index settings.
+ */
+public class ElasticsearchIndexWorkspaceBulkLoadIT {
+
+	private static final String REFRESH_INTERVAL = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS = "index.number_of_replicas";
+	private static final String TRANSLOG_DURABILITY = "index.translog.durability";
+	private static final String READ_ONLY_BLOCK = "index.blocks.read_only";
+
+	private static final String NOT_SET = "{}";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				// Set some, but not all, of the settings changed when bulk loading.
+				.withIndexProperty( index.name(), ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_SETTINGS_FILE,
+						"index-settings-for-tests/bulk-load.json" )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	public void bulkLoad() {
+		assertInitialSettings();
+
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.startBulkLoad().join();
+
+		assertThat( setting( REFRESH_INTERVAL ) ).isEqualTo( "\"-1\"" );
+		assertThat( setting( NUMBER_OF_REPLICAS ) ).isEqualTo( "\"0\"" );
+		assertThat( setting( TRANSLOG_DURABILITY ) ).isEqualTo( "\"async\"" );
+
+		// Starting again must not overwrite the settings to restore with the bulk load settings.
+		workspace.startBulkLoad().join();
+
+		IndexIndexingPlan plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.execute().join();
+
+		workspace.stopBulkLoad().join();
+
+		// The original settings should be restored,
+		// and the setting that was not set explicitly should be reset to its default.
+		assertInitialSettings();
+
+		workspace.refresh().join();
+		assertThatQuery( index.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 1L );
+	}
+
+	@Test
+	public void stopWithoutStart() {
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.stopBulkLoad().join();
+
+		assertInitialSettings();
+	}
+
+	@Test
+	public void startFailure() {
+		// Index settings cannot be changed while the index is read-only, but they can still be read.
+		elasticsearchClient.index( index.name() ).settings( READ_ONLY_BLOCK ).putDynamic( "true" );
+
+		IndexWorkspace workspace = index.createWorkspace();
+		assertThatThrownBy( () -> workspace.startBulkLoad().join() )
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class );
+
+		assertInitialSettings();
+
+		elasticsearchClient.index( index.name() ).settings( READ_ONLY_BLOCK ).putDynamic( "false" );
+
+		// Stopping must still restore the original settings, in case the failed request was partially applied.
+		workspace.stopBulkLoad().join();
+
+		assertInitialSettings();
+	}
+
+	private void assertInitialSettings() {
+		assertThat( setting( REFRESH_INTERVAL ) ).isEqualTo( "\"30s\"" );
+		assertThat( setting( NUMBER_OF_REPLICAS ) ).isEqualTo( "\"1\"" );
+		assertThat( setting( TRANSLOG_DURABILITY ) ).isEqualTo( NOT_SET );
+	}
+
+	private String setting(String path) {
+		return elasticsearchClient.index( index.name() ).settings( path ).get();
+	}
+}
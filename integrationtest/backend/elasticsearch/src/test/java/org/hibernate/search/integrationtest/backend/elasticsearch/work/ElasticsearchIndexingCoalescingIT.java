@@ -0,0 +1,222 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that coalescing works in indexing queues does not affect the outcome of indexing,
+ * in particular when works target the same document identifier with different routing keys
+ * or different refresh strategies.
+ */
+public class ElasticsearchIndexingCoalescingIT {
+
+	private static final int DOCUMENT_COUNT = 3;
+	private static final int UPDATES_PER_DOCUMENT = 200;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_BATCH_COALESCING, true )
+				// Use a single queue, so that works on different documents end up in the same batches.
+				.withBackendProperty( ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				// Use multiple shards, so that routing keys matter,
+				// and disable periodic refresh, so that only explicit refreshes make documents visible.
+				.withBackendProperty( ElasticsearchIndexSettings.SCHEMA_MANAGEMENT_SETTINGS_FILE,
+						"index-settings-for-tests/4-shards-rare-periodic-refresh.json" )
+				.setup();
+	}
+
+	@Test
+	public void updates() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			for ( int j = 0; j < DOCUMENT_COUNT; j++ ) {
+				futures.add( addOrUpdate( indexer, String.valueOf( j ), null, "value" + i ) );
+			}
+		}
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasHitsAnyOrder( "value" + ( UPDATES_PER_DOCUMENT - 1 ), "value" + ( UPDATES_PER_DOCUMENT - 1 ),
+						"value" + ( UPDATES_PER_DOCUMENT - 1 ) );
+	}
+
+	@Test
+	public void updatesThenDelete() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			futures.add( addOrUpdate( indexer, "1", null, "value" + i ) );
+		}
+		futures.add( delete( indexer, "1", null ) );
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void deleteThenUpdates() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.add( addOrUpdate( indexer, "1", null, "initial" ) );
+		futures.add( delete( indexer, "1", null ) );
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			futures.add( addOrUpdate( indexer, "1", null, "value" + i ) );
+		}
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasHitsAnyOrder( "value" + ( UPDATES_PER_DOCUMENT - 1 ) );
+	}
+
+	@Test
+	public void differentRoutingKeys() {
+		String routingKey1 = "routingKey1";
+		String routingKey2 = routingKeyOnOtherShardThan( routingKey1 );
+
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			futures.add( addOrUpdate( indexer, "1", routingKey1, "value" + i ) );
+		}
+		// Same document identifier, but a different routing key, thus a different document:
+		// this must not supersede the updates above.
+		futures.add( delete( indexer, "1", routingKey2 ) );
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.routing( routingKey1 )
+				.toQuery() )
+				.hasHitsAnyOrder( "value" + ( UPDATES_PER_DOCUMENT - 1 ) );
+	}
+
+	@Test
+	public void differentRefreshStrategies() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> forceRefreshFutures = new ArrayList<>();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			for ( int j = 0; j < DOCUMENT_COUNT; j++ ) {
+				String id = String.valueOf( j );
+				CompletableFuture<?> future = indexer.addOrUpdate( referenceProvider( id ),
+						document -> document.addValue( index.binding().text, "forced" ),
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+				forceRefreshFutures.add( future );
+				futures.add( future );
+				// A later work on the same document without a refresh
+				// must not supersede the work requiring a refresh:
+				// that would complete the future of the first work without a refresh.
+				futures.add( addOrUpdate( indexer, id, null, "value" + i ) );
+			}
+		}
+		joinAndCheckSuccessful( forceRefreshFutures );
+
+		// No explicit refresh here: the documents must be visible thanks to the forced refresh alone.
+		assertThatQuery( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+
+		joinAndCheckSuccessful( futures );
+	}
+
+	private static void joinAndCheckSuccessful(List<CompletableFuture<?>> futures) {
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		// Superseded works must complete too, and successfully
+		for ( CompletableFuture<?> future : futures ) {
+			assertThatFuture( future ).isSuccessful();
+		}
+	}
+
+	private String routingKeyOnOtherShardThan(String routingKey) {
+		IndexIndexer indexer = index.createIndexer();
+		addOrUpdate( indexer, "probe", routingKey, "probe" ).join();
+		index.createWorkspace().refresh().join();
+		try {
+			for ( int i = 0; i < 100; i++ ) {
+				String candidate = "otherRoutingKey" + i;
+				// Routed queries only target the shard of the routing key:
+				// the probe is not visible from other shards.
+				long hitCount = index.createScope().query()
+						.where( f -> f.id().matching( "probe" ) )
+						.routing( candidate )
+						.fetchTotalHitCount();
+				if ( hitCount == 0L ) {
+					return candidate;
+				}
+			}
+			throw new AssertionError( "Could not find a routing key on another shard than " + routingKey );
+		}
+		finally {
+			delete( indexer, "probe", routingKey ).join();
+			index.createWorkspace().refresh().join();
+		}
+	}
+
+	private CompletableFuture<?> addOrUpdate(IndexIndexer indexer, String id, String routingKey, String value) {
+		return indexer.addOrUpdate( referenceProvider( id, routingKey ),
+				document -> document.addValue( index.binding().text, value ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+	}
+
+	private CompletableFuture<?> delete(IndexIndexer indexer, String id, String routingKey) {
+		return indexer.delete( referenceProvider( id, routingKey ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -75,4 +75,9 @@ public void normalizer_missing() {
 		// Analyzers are not normalizers
 		assertThat( backend.normalizer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) ).isEmpty();
 	}
+
+	@Test
+	public void searchResultCacheStatistics_disabledByDefault() {
+		assertThat( backend.searchResultCacheStatistics() ).isEmpty();
+	}
 }
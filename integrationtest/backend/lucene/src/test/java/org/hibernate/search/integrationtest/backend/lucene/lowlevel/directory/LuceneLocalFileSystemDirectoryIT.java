@@ -8,6 +8,8 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -17,8 +19,12 @@
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
 import org.hibernate.search.backend.lucene.index.impl.Shard;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
 import org.hibernate.search.util.impl.test.annotation.PortedFromSearch5;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
@@ -31,6 +37,7 @@
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NRTCachingDirectory;
 
 public class LuceneLocalFileSystemDirectoryIT extends AbstractBuiltInDirectoryIT {
 
@@ -123,6 +130,52 @@ public void filesystemAccessStrategy_invalid() {
 				);
 	}
 
+	@Test
+	public void nrtCaching() throws IOException {
+		Path indexDirectory = temporaryFolder.getRoot().toPath().resolve( index.name() );
+
+		setup( c -> c.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT,
+						temporaryFolder.getRoot().getAbsolutePath() )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY, "nio" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_NRT_CACHING_ENABLED, true )
+				// Make sure changes are only committed when we ask for it
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 3_600_000 ) );
+
+		NRTCachingDirectory directory = nrtCachingDirectory();
+		assertThat( directory.getDelegate() ).isInstanceOf( NIOFSDirectory.class );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.execute().join();
+
+		// The new, small segment is searchable, but kept in memory
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThat( directory.listCachedFiles() ).isNotEmpty();
+		long contentSizeBeforeCommit = directorySize( indexDirectory );
+
+		index.createWorkspace().flush().join();
+
+		// Committing writes the segment to the filesystem
+		assertThat( directory.listCachedFiles() ).isEmpty();
+		assertThat( directorySize( indexDirectory ) ).isGreaterThan( contentSizeBeforeCommit );
+	}
+
+	@Test
+	public void nrtCaching_disabledByDefault() {
+		setup( c -> c );
+
+		checkIndexingAndQuerying();
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::indexAccessorForTests )
+				.extracting( IndexAccessorImpl::getDirectoryForTests )
+				.isNotEmpty()
+				.allSatisfy( directory -> assertThat( directory ).isNotInstanceOf( NRTCachingDirectory.class ) );
+	}
+
 	@Override
 	protected Object getDirectoryType() {
 		return "local-filesystem";
@@ -165,6 +218,14 @@ private void testFileSystemAccessStrategy(String strategyName,
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private NRTCachingDirectory nrtCachingDirectory() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		Directory directory = luceneIndexManager.getShardsForTests().get( 0 )
+				.indexAccessorForTests().getDirectoryForTests();
+		assertThat( directory ).isInstanceOf( NRTCachingDirectory.class );
+		return (NRTCachingDirectory) directory;
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
@@ -70,7 +70,7 @@ public LuceneIndexReaderRefreshBaseIT(DocumentCommitStrategy commitStrategy, Int
 
 	@Test
 	public void ioStrategyDefault_refreshIntervalDefault() {
-		setup( null, null );
+		setup( null, null, null );
 
 		SearchQuery<DocumentReference> query = index.createScope().query()
 				.where( f -> f.match().field( "text" ).matching( "text1" ) )
@@ -92,7 +92,7 @@ public void ioStrategyDefault_refreshIntervalDefault() {
 
 	@Test
 	public void ioStrategyDefault_refreshIntervalZero() {
-		setup( null, 0 );
+		setup( null, 0, null );
 
 		SearchQuery<DocumentReference> query = index.createScope().query()
 				.where( f -> f.match().field( "text" ).matching( "text1" ) )
@@ -114,7 +114,7 @@ public void ioStrategyDefault_refreshIntervalZero() {
 
 	@Test
 	public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyNone() {
-		setup( null, NON_ZERO_DELAY );
+		setup( null, NON_ZERO_DELAY, null );
 
 		SearchQuery<DocumentReference> query = index.createScope().query()
 				.where( f -> f.match().field( "text" ).matching( "text1" ) )
@@ -139,7 +139,76 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyNone() {
 
 	@Test
 	public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
-		setup( null, NON_ZERO_DELAY );
+		setup( null, NON_ZERO_DELAY, null );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the end of the refresh interval
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshModeBackground_refreshIntervalZero_refreshStrategyNone() {
+		setup( null, 0, "background" );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // The refresh will be executed in the background
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date shortly after indexing finishes, without any query having to wait
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshModeBackground_refreshIntervalPositive_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, "background" );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until after the refresh interval
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshModeBackground_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, "background" );
 
 		SearchQuery<DocumentReference> query = index.createScope().query()
 				.where( f -> f.match().field( "text" ).matching( "text1" ) )
@@ -161,7 +230,7 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 
 	@Test
 	public void ioStrategyDebug() {
-		setup( "debug", null );
+		setup( "debug", null, null );
 
 		SearchQuery<DocumentReference> query = index.createScope().query()
 				.where( f -> f.match().field( "text" ).matching( "text1" ) )
@@ -181,11 +250,12 @@ public void ioStrategyDebug() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
-	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, String refreshModeName) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_MODE, refreshModeName )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
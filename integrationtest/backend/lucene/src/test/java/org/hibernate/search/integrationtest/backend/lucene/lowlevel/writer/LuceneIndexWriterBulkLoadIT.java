@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Test the effect of {@link IndexWorkspace#startBulkLoad()} and {@link IndexWorkspace#stopBulkLoad()}
+ * on Lucene index writers.
+ */
+public class LuceneIndexWriterBulkLoadIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final StubMappedIndex index = StubMappedIndex.withoutFields();
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, "42" )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_BULK_LOAD_RAM_BUFFER_SIZE, "420" )
+				// Commit after each batch of changes, unless bulk loading.
+				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, "0" )
+				.setup();
+	}
+
+	@Test
+	public void bulkLoad() {
+		assertThat( writers() )
+				.isNotEmpty()
+				.allSatisfy( writer -> assertThat( writer.getConfig().getRAMBufferSizeMB() ).isEqualTo( 42 ) );
+
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.startBulkLoad().join();
+
+		assertThat( writers() )
+				.allSatisfy( writer -> assertThat( writer.getConfig().getRAMBufferSizeMB() ).isEqualTo( 420 ) );
+
+		IndexIndexingPlan plan = index.createIndexingPlan( new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		plan.add( referenceProvider( "1" ), document -> { } );
+		plan.execute().join();
+
+		// Bulk loading: the changes should not have been committed.
+		assertThat( writers() )
+				.anySatisfy( writer -> assertThat( writer.hasUncommittedChanges() ).isTrue() );
+
+		workspace.stopBulkLoad().join();
+
+		// The original settings should be restored, and the changes committed.
+		assertThat( writers() )
+				.allSatisfy( writer -> {
+					assertThat( writer.getConfig().getRAMBufferSizeMB() ).isEqualTo( 42 );
+					assertThat( writer.hasUncommittedChanges() ).isFalse();
+				} );
+
+		workspace.refresh().join();
+		assertThatQuery( index.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 1L );
+	}
+
+	@Test
+	public void stopWithoutStart() {
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.stopBulkLoad().join();
+
+		assertThat( writers() )
+				.allSatisfy( writer -> assertThat( writer.getConfig().getRAMBufferSizeMB() ).isEqualTo( 42 ) );
+	}
+
+	private List<IndexWriter> writers() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		return luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::indexAccessorForTests )
+				.map( accessor -> {
+					try {
+						return accessor.getWriterForTests();
+					}
+					catch (IOException e) {
+						throw new IllegalStateException( e );
+					}
+				} )
+				.collect( Collectors.toList() );
+	}
+}
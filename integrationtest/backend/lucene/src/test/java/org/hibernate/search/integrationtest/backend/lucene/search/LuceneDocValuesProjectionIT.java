@@ -0,0 +1,262 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.projection.SearchProjection;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that projections on single-valued fields with doc values read doc values instead of stored fields,
+ * but only when doing so yields the same results.
+ */
+public class LuceneDocValuesProjectionIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	// Instants are truncated to milliseconds in doc values
+	private static final Instant INSTANT_1 = Instant.parse( "2018-02-01T10:15:30.000000001Z" );
+	private static final Instant INSTANT_2 = Instant.parse( "2018-03-01T10:15:30.000000002Z" );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( "main" );
+	private final SimpleMappedIndex<OtherIndexBinding> otherIndex =
+			SimpleMappedIndex.of( OtherIndexBinding::new ).name( "other" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+		initData();
+	}
+
+	@Test
+	public void docValues() {
+		StubMappingScope scope = index.createScope();
+
+		assertFromDocValues( scope.projection().field( "string", String.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "string", String.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( "Some Text", "Other Text", null );
+
+		assertFromDocValues( scope.projection().field( "integer", Integer.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "integer", Integer.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( -42, 42, null );
+
+		assertFromDocValues( scope.projection().field( "double", Double.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "double", Double.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( -0.0, 42.42, null );
+
+		assertFromDocValues( scope.projection().field( "localDate", LocalDate.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "localDate", LocalDate.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( LocalDate.of( 1970, 1, 1 ), LocalDate.of( 2018, 2, 1 ), null );
+
+		assertFromDocValues( scope.projection().field( "localTime", LocalTime.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "localTime", LocalTime.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( LocalTime.of( 10, 15, 30, 1 ), LocalTime.MIDNIGHT, null );
+
+		assertFromDocValues( scope.projection().field( "nested.integer", Integer.class ).toProjection(), true );
+		assertThatQuery( scope.query().select( f -> f.field( "nested.integer", Integer.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( 1, 2, null );
+
+		// Multiple projections at once, some from doc values, some from stored fields
+		assertThatQuery( scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "instant", Instant.class ),
+						f.field( "notSortable", Integer.class )
+				) )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( 42, INSTANT_1, 4242 ) );
+	}
+
+	@Test
+	public void storedFields_lossyDocValues() {
+		StubMappingScope scope = index.createScope();
+
+		assertFromDocValues( scope.projection().field( "normalizedString", String.class ).toProjection(), false );
+		assertThatQuery( scope.query().select( f -> f.field( "normalizedString", String.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( "Some Text", "Other Text", null );
+
+		assertFromDocValues( scope.projection().field( "instant", Instant.class ).toProjection(), false );
+		assertThatQuery( scope.query().select( f -> f.field( "instant", Instant.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( INSTANT_1, INSTANT_2, null );
+	}
+
+	@Test
+	public void storedFields_noDocValues() {
+		StubMappingScope scope = index.createScope();
+
+		assertFromDocValues( scope.projection().field( "notSortable", Integer.class ).toProjection(), false );
+		assertThatQuery( scope.query().select( f -> f.field( "notSortable", Integer.class ) )
+				.where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( 4242, 4343, null );
+	}
+
+	@Test
+	public void storedFields_multiValued() {
+		StubMappingScope scope = index.createScope();
+
+		// Doc values don't preserve the order of values
+		assertFromDocValues( scope.projection().field( "multiValued", Integer.class ).multi().toProjection(), false );
+		assertThatQuery( scope.query().select( f -> f.field( "multiValued", Integer.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( 3, 1, 2 ) );
+
+		assertFromDocValues( scope.projection().field( "flattened.integer", Integer.class ).multi().toProjection(),
+				false );
+		assertThatQuery( scope.query().select( f -> f.field( "flattened.integer", Integer.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( 6, 5 ) );
+	}
+
+	@Test
+	public void storedFields_multiIndex_docValuesInSomeIndexesOnly() {
+		StubMappingScope scope = index.createScope( otherIndex );
+
+		assertFromDocValues( scope.projection().field( "integer", Integer.class ).toProjection(), false );
+		assertThatQuery( scope.query().select( f -> f.field( "integer", Integer.class ) ).where( f -> f.matchAll() ) )
+				.hasHitsAnyOrder( -42, 42, null, 43 );
+	}
+
+	private static void assertFromDocValues(SearchProjection<?> projection, boolean expected) {
+		assertThat( projection ).asString().contains( "fromDocValues=" + expected );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					IndexBinding binding = index.binding();
+					document.addValue( binding.string, "Some Text" );
+					document.addValue( binding.normalizedString, "Some Text" );
+					document.addValue( binding.integer, 42 );
+					document.addValue( binding.double_, -0.0 );
+					document.addValue( binding.localDate, LocalDate.of( 2018, 2, 1 ) );
+					document.addValue( binding.localTime, LocalTime.of( 10, 15, 30, 1 ) );
+					document.addValue( binding.instant, INSTANT_1 );
+					document.addValue( binding.notSortable, 4242 );
+					document.addValue( binding.multiValued, 3 );
+					document.addValue( binding.multiValued, 1 );
+					document.addValue( binding.multiValued, 2 );
+					DocumentElement nested = document.addObject( binding.nested );
+					nested.addValue( binding.nestedInteger, 1 );
+					DocumentElement flattened = document.addObject( binding.flattened );
+					flattened.addValue( binding.flattenedInteger, 6 );
+					flattened = document.addObject( binding.flattened );
+					flattened.addValue( binding.flattenedInteger, 5 );
+				} )
+				.add( DOCUMENT_2, document -> {
+					IndexBinding binding = index.binding();
+					document.addValue( binding.string, "Other Text" );
+					document.addValue( binding.normalizedString, "Other Text" );
+					document.addValue( binding.integer, -42 );
+					document.addValue( binding.double_, 42.42 );
+					document.addValue( binding.localDate, LocalDate.of( 1970, 1, 1 ) );
+					document.addValue( binding.localTime, LocalTime.MIDNIGHT );
+					document.addValue( binding.instant, INSTANT_2 );
+					document.addValue( binding.notSortable, 4343 );
+					DocumentElement nested = document.addObject( binding.nested );
+					nested.addValue( binding.nestedInteger, 2 );
+				} )
+				.add( EMPTY, document -> { } )
+				.join();
+		otherIndex.bulkIndexer()
+				.add( "other", document -> document.addValue( otherIndex.binding().integer, 43 ) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> normalizedString;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> double_;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<LocalTime> localTime;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<Integer> notSortable;
+		final IndexFieldReference<Integer> multiValued;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+		final IndexObjectFieldReference flattened;
+		final IndexFieldReference<Integer> flattenedInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			normalizedString = root.field( "normalizedString", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			double_ = root.field( "double", f -> f.asDouble().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) )
+					.toReference();
+			localTime = root.field( "localTime", f -> f.asLocalTime().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) )
+					.toReference();
+			instant = root.field( "instant", f -> f.asInstant().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			notSortable = root.field( "notSortable", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+			multiValued = root.field( "multiValued", f -> f.asInteger().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) )
+					.multiValued()
+					.toReference();
+
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedField.toReference();
+			nestedInteger = nestedField.field( "integer", f -> f.asInteger().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) )
+					.toReference();
+
+			IndexSchemaObjectField flattenedField = root.objectField( "flattened", ObjectStructure.FLATTENED )
+					.multiValued();
+			flattened = flattenedField.toReference();
+			flattenedInteger = flattenedField.field( "integer", f -> f.asInteger().sortable( Sortable.YES )
+					.projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class OtherIndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		OtherIndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
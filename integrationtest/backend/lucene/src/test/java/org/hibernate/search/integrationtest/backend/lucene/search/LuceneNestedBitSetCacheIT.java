@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsBitSetCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.common.SortMode;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.NormalizedDocRefHit;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Checks that the bitsets of parent and child documents used by nested predicates and sorts
+ * are cached across queries and evicted when segments are closed.
+ */
+public class LuceneNestedBitSetCacheIT {
+
+	private static final int DOCUMENT_COUNT_PER_BATCH = 10;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void reusedAcrossQueries() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+		NestedDocsBitSetCache cache = cache();
+		assertThat( cache ).isNotNull();
+
+		initData( 0 );
+		initData( 1 );
+		assertThat( cache.size() ).isZero();
+
+		assertThatQuery( nestedQuery() ).hasDocRefHitsExactOrder( this::expectedHits );
+		int sizeAfterFirstQuery = cache.size();
+		long ramBytesUsedAfterFirstQuery = cache.ramBytesUsed();
+		assertThat( sizeAfterFirstQuery ).isPositive();
+		assertThat( ramBytesUsedAfterFirstQuery ).isPositive();
+
+		// A distinct, but equivalent query must reuse the cached bitsets instead of adding new ones.
+		assertThatQuery( nestedQuery() ).hasDocRefHitsExactOrder( this::expectedHits );
+		assertThat( cache.size() ).isEqualTo( sizeAfterFirstQuery );
+		assertThat( cache.ramBytesUsed() ).isEqualTo( ramBytesUsedAfterFirstQuery );
+	}
+
+	@Test
+	public void evictedOnSegmentClose() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+		NestedDocsBitSetCache cache = cache();
+
+		initData( 0 );
+		initData( 1 );
+
+		assertThatQuery( nestedQuery() ).hasDocRefHitsExactOrder( this::expectedHits );
+		assertThat( cache.size() ).isPositive();
+
+		// Purging drops all segments, which get closed as soon as the index reader is refreshed.
+		index.createWorkspace().purge( Collections.emptySet() ).join();
+		index.createWorkspace().refresh().join();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.ramBytesUsed() ).isZero();
+
+		initData( 0 );
+		initData( 1 );
+
+		assertThatQuery( nestedQuery() ).hasDocRefHitsExactOrder( this::expectedHits );
+		assertThat( cache.size() ).isPositive();
+	}
+
+	@Test
+	public void disabled() throws IOException {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.NESTED_BITSET_CACHE_MAX_SIZE, 0 )
+				.withIndex( index )
+				.setup();
+		assertThat( cache() ).isNull();
+
+		initData( 0 );
+		initData( 1 );
+
+		assertThatQuery( nestedQuery() ).hasDocRefHitsExactOrder( this::expectedHits );
+	}
+
+	private NestedDocsBitSetCache cache() throws IOException {
+		StubMappingScope scope = index.createScope();
+		try ( IndexReader indexReader = scope.extension( LuceneExtension.get() ).openIndexReader() ) {
+			return ( (HibernateSearchMultiReader) indexReader ).getNestedDocsBitSetCache();
+		}
+	}
+
+	private SearchQuery<?> nestedQuery() {
+		return index.query()
+				.where( f -> f.nested( "nested" )
+						.must( f.range().field( "nested.value" ).atLeast( 0 ) ) )
+				.sort( f -> f.field( "nested.value" ).order( SortOrder.DESC ).mode( SortMode.MAX ) )
+				.toQuery();
+	}
+
+	private void expectedHits(NormalizedDocRefHit.Builder builder) {
+		int documentCount = DOCUMENT_COUNT_PER_BATCH * 2;
+		for ( int i = documentCount - 1; i >= 0; i-- ) {
+			builder.doc( index.typeName(), documentId( i ) );
+		}
+	}
+
+	private void initData(int batch) {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT_PER_BATCH, i -> {
+					int docIndex = batch * DOCUMENT_COUNT_PER_BATCH + i;
+					return documentProvider( documentId( docIndex ), document -> {
+						for ( int j = 0; j <= docIndex; j++ ) {
+							DocumentElement nested = document.addObject( index.binding().nested );
+							nested.addValue( index.binding().nestedValue, j );
+						}
+					} );
+				} )
+				.join();
+	}
+
+	private static String documentId(int i) {
+		return "doc" + i;
+	}
+
+	private static class IndexBinding {
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedValue;
+
+		IndexBinding(IndexSchemaElement root) {
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nested = nestedField.toReference();
+			nestedValue = nestedField.field( "value", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.OrdinalMapCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Checks that ordinal maps used by text terms aggregations are built once per index reader,
+ * and not reused after the index reader is refreshed.
+ * <p>
+ * Also checks that the cache keeps track of the memory used by ordinal maps, and that it can be disabled.
+ */
+public class LuceneOrdinalMapCacheIT {
+
+	private static final int DOCUMENT_COUNT = 40;
+	private static final int GROUP_COUNT = 10;
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "groups" );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Test
+	public void reusedAcrossQueries() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+		OrdinalMapCache cache = cache();
+		assertThat( cache ).isNotNull();
+		initData();
+		assertThat( cache.size() ).isZero();
+		assertThat( cache.ramBytesUsed() ).isZero();
+
+		SearchResult<?> first = aggregationQuery();
+		assertThat( first.aggregation( AGGREGATION_KEY ) )
+				.hasSize( GROUP_COUNT )
+				.allSatisfy( ( group, count ) -> assertThat( count ).isEqualTo( 4L ) );
+		assertThat( cache.size() ).isEqualTo( 1 );
+		long ramBytesUsedAfterFirstQuery = cache.ramBytesUsed();
+		assertThat( ramBytesUsedAfterFirstQuery ).isPositive();
+
+		SearchResult<?> second = aggregationQuery();
+		assertThat( second.aggregation( AGGREGATION_KEY ) ).isEqualTo( first.aggregation( AGGREGATION_KEY ) );
+		assertThat( cache.size() ).isEqualTo( 1 );
+		assertThat( cache.ramBytesUsed() ).isEqualTo( ramBytesUsedAfterFirstQuery );
+	}
+
+	@Test
+	public void indexChange() throws IOException {
+		setupHelper.start().withIndex( index ).setup();
+		OrdinalMapCache cache = cache();
+		initData();
+
+		aggregationQuery();
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		index.bulkIndexer()
+				.add( documentProvider( "new", document -> document.addValue( index.binding().group, "newGroup" ) ) )
+				.join();
+
+		// The index reader changed, so the ordinal map must be rebuilt,
+		// and the previous one evicted when the previous index reader is closed.
+		SearchResult<?> result = aggregationQuery();
+		assertThat( result.aggregation( AGGREGATION_KEY ) )
+				.hasSize( GROUP_COUNT + 1 )
+				.containsEntry( "newGroup", 1L );
+		assertThat( cache.size() ).isEqualTo( 1 );
+		assertThat( cache.ramBytesUsed() ).isPositive();
+	}
+
+	@Test
+	public void disabled() throws IOException {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.ORDINAL_MAP_CACHE_MAX_SIZE, 0 )
+				.withIndex( index )
+				.setup();
+		assertThat( cache() ).isNull();
+		initData();
+
+		assertThat( aggregationQuery().aggregation( AGGREGATION_KEY ) )
+				.hasSize( GROUP_COUNT )
+				.allSatisfy( ( group, count ) -> assertThat( count ).isEqualTo( 4L ) );
+	}
+
+	private OrdinalMapCache cache() throws IOException {
+		StubMappingScope scope = index.createScope();
+		try ( IndexReader indexReader = scope.extension( LuceneExtension.get() ).openIndexReader() ) {
+			return ( (HibernateSearchMultiReader) indexReader ).getOrdinalMapCache();
+		}
+	}
+
+	private void initData() {
+		IndexIndexer indexer = index.createIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String group = "group" + ( i % GROUP_COUNT );
+			// Commit each document separately, so that we end up with multiple segments
+			indexer.add( referenceProvider( "doc" + i ),
+					document -> document.addValue( index.binding().group, group ),
+					DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.join();
+		}
+		index.createWorkspace().refresh().join();
+	}
+
+	private SearchResult<?> aggregationQuery() {
+		return index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "group", String.class ).maxTermCount( 100 ) )
+				.fetch( 0 );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			group = root.field( "group", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that searching index segments in parallel returns the same results as a sequential search.
+ */
+public class LuceneParallelSearchIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int GROUP_COUNT = 10;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 2 )
+				// Force one slice per segment, and many segments.
+				.withBackendProperty( LuceneBackendSettings.SEARCH_SLICE_MAX_DOCS, 1 )
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 10 )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						documentId( i ),
+						document -> {
+							document.addValue( index.binding().sortKey, i );
+							document.addValue( index.binding().group, "group" + ( i % GROUP_COUNT ) );
+						}
+				) )
+				.join();
+	}
+
+	@Test
+	public void sort() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sortKey" ).desc() )
+				.fetchAll();
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( documentIds( DOCUMENT_COUNT - 1, -1 ) );
+	}
+
+	@Test
+	public void sort_offsetLimit() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "sortKey" ).atLeast( 50 ) )
+				.sort( f -> f.field( "sortKey" ) )
+				.fetch( 95, 10 );
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT - 50 );
+		assertThat( result.hits() )
+				.extracting( DocumentReference::id )
+				.containsExactly( documentIds( 145, 155 ) );
+	}
+
+	@Test
+	public void sort_offsetBeyondHits() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "sortKey" ).atLeast( 50 ) )
+				.sort( f -> f.field( "sortKey" ) )
+				.fetch( DOCUMENT_COUNT, 10 );
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT - 50 );
+		assertThat( result.hits() ).isEmpty();
+	}
+
+	@Test
+	public void score() {
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.match().field( "group" ).matching( "group3" ).constantScore() )
+				.fetchAll();
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT / GROUP_COUNT );
+		assertThat( result.hits() )
+				.extracting( DocumentReference::id )
+				.containsExactlyInAnyOrder( documentIdsInGroup( 3 ) );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "groups" );
+		SearchResult<DocumentReference> result = index.query()
+				.where( f -> f.range().field( "sortKey" ).lessThan( 100 ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "group", String.class ) )
+				.fetch( 0 );
+
+		Map<String, Long> expected = new LinkedHashMap<>();
+		for ( int i = 0; i < GROUP_COUNT; i++ ) {
+			expected.put( "group" + i, 100L / GROUP_COUNT );
+		}
+		assertThat( result.total().hitCount() ).isEqualTo( 100 );
+		assertThat( result.aggregation( aggregationKey ) ).containsExactlyInAnyOrderEntriesOf( expected );
+	}
+
+	@Test
+	public void count() {
+		assertThat( index.query()
+				.where( f -> f.range().field( "sortKey" ).lessThan( 42 ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 42 );
+	}
+
+	private static String documentId(int i) {
+		return "doc" + i;
+	}
+
+	private static String[] documentIds(int fromInclusive, int toExclusive) {
+		List<String> ids = new ArrayList<>();
+		int step = fromInclusive <= toExclusive ? 1 : -1;
+		for ( int i = fromInclusive; i != toExclusive; i += step ) {
+			ids.add( documentId( i ) );
+		}
+		return ids.toArray( new String[0] );
+	}
+
+	private static String[] documentIdsInGroup(int group) {
+		List<String> ids = new ArrayList<>();
+		for ( int i = group; i < DOCUMENT_COUNT; i += GROUP_COUNT ) {
+			ids.add( documentId( i ) );
+		}
+		return ids.toArray( new String[0] );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> sortKey;
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			sortKey = root.field( "sortKey", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
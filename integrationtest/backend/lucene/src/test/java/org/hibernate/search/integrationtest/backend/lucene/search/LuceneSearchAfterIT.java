@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchCursor;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test cursor-based pagination with {@link LuceneSearchQuery#fetchAfter(LuceneSearchCursor, Integer)}.
+ */
+public class LuceneSearchAfterIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int PAGE_SIZE = 7;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	public void fieldSort() {
+		LuceneSearchQuery<DocumentReference> query = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				// Many documents share the same value: ties are broken using the document ID.
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		assertThat( fetchAllPages( query ) ).containsExactlyElementsOf( query.fetchAllHits() );
+	}
+
+	@Test
+	public void scoreSort() {
+		LuceneSearchQuery<DocumentReference> query = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.bool()
+						.should( f.matchAll() )
+						.should( f.range().field( "integer" ).atMost( 10 ) ) )
+				.toQuery();
+
+		assertThat( fetchAllPages( query ) ).containsExactlyElementsOf( query.fetchAllHits() );
+	}
+
+	@Test
+	public void nullCursor() {
+		LuceneSearchQuery<DocumentReference> query = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		assertThat( query.fetchAfter( null, PAGE_SIZE ).hits() )
+				.containsExactlyElementsOf( query.fetchHits( PAGE_SIZE ) );
+	}
+
+	@Test
+	public void totalHitCount() {
+		LuceneSearchQuery<DocumentReference> query = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.range().field( "integer" ).atLeast( 10 ) )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		LuceneSearchResult<DocumentReference> firstPage = query.fetchAfter( null, PAGE_SIZE );
+		LuceneSearchResult<DocumentReference> secondPage = query.fetchAfter( firstPage.cursor(), PAGE_SIZE );
+
+		// The total hit count includes hits before the cursor
+		assertThat( secondPage.total().hitCount() ).isEqualTo( firstPage.total().hitCount() );
+	}
+
+	@Test
+	public void noHit() {
+		LuceneSearchQuery<DocumentReference> query = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchNone() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		LuceneSearchResult<DocumentReference> result = query.fetchAfter( null, PAGE_SIZE );
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.cursor() ).isNull();
+	}
+
+	@Test
+	public void incompatibleSort() {
+		LuceneSearchQuery<DocumentReference> scoreSortedQuery = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+		LuceneSearchQuery<DocumentReference> fieldSortedQuery = index.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		LuceneSearchCursor scoreSortCursor = scoreSortedQuery.fetchAfter( null, PAGE_SIZE ).cursor();
+		LuceneSearchCursor fieldSortCursor = fieldSortedQuery.fetchAfter( null, PAGE_SIZE ).cursor();
+
+		assertThatThrownBy( () -> fieldSortedQuery.fetchAfter( scoreSortCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be used with the query that produced it, or with a query with the same sorts." );
+		assertThatThrownBy( () -> scoreSortedQuery.fetchAfter( fieldSortCursor, PAGE_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid search cursor",
+						"A cursor can only be used with the query that produced it, or with a query with the same sorts." );
+	}
+
+	private static List<DocumentReference> fetchAllPages(LuceneSearchQuery<DocumentReference> query) {
+		List<DocumentReference> hits = new ArrayList<>();
+		LuceneSearchCursor cursor = null;
+		LuceneSearchResult<DocumentReference> page;
+		do {
+			page = query.fetchAfter( cursor, PAGE_SIZE );
+			assertThat( page.hits() ).hasSizeLessThanOrEqualTo( PAGE_SIZE );
+			assertThat( page.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+			hits.addAll( page.hits() );
+			cursor = page.cursor();
+		}
+		while ( cursor != null );
+		return hits;
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i % 20 )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
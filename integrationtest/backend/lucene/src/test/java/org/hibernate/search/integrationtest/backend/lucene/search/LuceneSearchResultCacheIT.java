@@ -0,0 +1,204 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.SearchResultCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the search result cache returns the same results as an uncached search,
+ * and that it does not return stale results after the index changes.
+ */
+public class LuceneSearchResultCacheIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int GROUP_COUNT = 10;
+	private static final int CACHE_SIZE = 3;
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "groups" );
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SearchResultCacheStatistics statistics;
+
+	@Before
+	public void setup() {
+		SearchIntegration integration = setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_RESULT_CACHE_SIZE, CACHE_SIZE )
+				.withIndex( index )
+				.setup();
+		statistics = integration.backend().unwrap( LuceneBackend.class ).searchResultCacheStatistics()
+				.orElseThrow( () -> new AssertionError( "The search result cache should be enabled" ) );
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						documentId( i ),
+						document -> {
+							document.addValue( index.binding().sortKey, i );
+							document.addValue( index.binding().group, "group" + ( i % GROUP_COUNT ) );
+						}
+				) )
+				.join();
+	}
+
+	@Test
+	public void sameQuery() {
+		SearchQuery<Integer> query = sortKeyQuery( 50 );
+
+		SearchResult<Integer> first = query.fetch( 5, 10 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isZero();
+		long ramBytesUsedAfterFirstQuery = statistics.ramBytesUsed();
+		assertThat( ramBytesUsedAfterFirstQuery ).isPositive();
+
+		SearchResult<Integer> second = query.fetch( 5, 10 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		assertThat( statistics.ramBytesUsed() ).isEqualTo( ramBytesUsedAfterFirstQuery );
+
+		assertThat( second.total().hitCount() ).isEqualTo( first.total().hitCount() ).isEqualTo( 50 );
+		assertThat( second.hits() ).isEqualTo( first.hits() )
+				.containsExactly( 55, 56, 57, 58, 59, 60, 61, 62, 63, 64 );
+		assertThat( second.aggregation( AGGREGATION_KEY ) ).isEqualTo( first.aggregation( AGGREGATION_KEY ) )
+				.hasSize( GROUP_COUNT )
+				.allSatisfy( ( group, count ) -> assertThat( count ).isEqualTo( 5L ) );
+	}
+
+	@Test
+	public void equivalentQuery() {
+		sortKeyQuery( 50 ).fetch( 0, 10 );
+		// A distinct, but equivalent query object must hit the cache too.
+		SearchResult<Integer> result = sortKeyQuery( 50 ).fetch( 0, 10 );
+		assertThat( statistics.missCount() ).isEqualTo( 1 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		assertThat( result.hits() ).containsExactly( 50, 51, 52, 53, 54, 55, 56, 57, 58, 59 );
+	}
+
+	@Test
+	public void differentQuery() {
+		sortKeyQuery( 50 ).fetch( 0, 10 );
+		sortKeyQuery( 60 ).fetch( 0, 10 );
+		sortKeyQuery( 50 ).fetch( 10, 10 );
+		SearchResult<Integer> result = sortKeyQuery( 50 ).fetch( 0, 5 );
+		assertThat( statistics.missCount() ).isEqualTo( 4 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( result.hits() ).containsExactly( 50, 51, 52, 53, 54 );
+	}
+
+	@Test
+	public void indexChange() {
+		SearchQuery<Integer> query = sortKeyQuery( 50 );
+		query.fetch( 0, 10 );
+
+		index.bulkIndexer()
+				.add( documentId( DOCUMENT_COUNT ), document -> {
+					document.addValue( index.binding().sortKey, 1000 );
+					document.addValue( index.binding().group, "newGroup" );
+				} )
+				.join();
+
+		SearchResult<Integer> result = query.fetch( 0, 10 );
+		// The index reader changed, so the cached result must not be used.
+		assertThat( statistics.missCount() ).isEqualTo( 2 );
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( result.total().hitCount() ).isEqualTo( 51 );
+		assertThat( result.hits() ).containsExactly( 50, 51, 52, 53, 54, 55, 56, 57, 58, 59 );
+		assertThat( result.aggregation( AGGREGATION_KEY ) ).containsEntry( "newGroup", 1L );
+	}
+
+	@Test
+	public void evictedOnReaderClose() {
+		sortKeyQuery( 50 ).fetch( 0, 10 );
+		assertThat( statistics.size() ).isEqualTo( 1 );
+		assertThat( statistics.ramBytesUsed() ).isPositive();
+
+		// Purging drops all segments, which get closed as soon as the index reader is refreshed.
+		index.createWorkspace().purge( Collections.emptySet() ).join();
+		index.createWorkspace().refresh().join();
+		assertThat( sortKeyQuery( 50 ).fetch( 0, 10 ).hits() ).isEmpty();
+
+		// Only the entry for the new, empty index reader remains.
+		assertThat( statistics.size() ).isEqualTo( 1 );
+		sortKeyQuery( 50 ).fetch( 0, 10 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void noLimit() {
+		sortKeyQuery( 50 ).fetchAll();
+		sortKeyQuery( 50 ).fetchAll();
+		assertThat( statistics.missCount() ).isZero();
+		assertThat( statistics.hitCount() ).isZero();
+		assertThat( statistics.size() ).isZero();
+	}
+
+	@Test
+	public void bounded() {
+		for ( int i = 0; i < CACHE_SIZE * 2; i++ ) {
+			sortKeyQuery( i ).fetch( 0, 10 );
+		}
+		assertThat( statistics.size() ).isEqualTo( CACHE_SIZE );
+		assertThat( statistics.ramBytesUsed() ).isPositive()
+				.isLessThanOrEqualTo( LuceneBackendSettings.Defaults.SEARCH_RESULT_CACHE_MAX_RAM_SIZE * 1024L * 1024L );
+
+		// Least recently used entries are evicted first.
+		sortKeyQuery( CACHE_SIZE * 2 - 1 ).fetch( 0, 10 );
+		sortKeyQuery( 0 ).fetch( 0, 10 );
+		assertThat( statistics.hitCount() ).isEqualTo( 1 );
+		assertThat( statistics.missCount() ).isEqualTo( CACHE_SIZE * 2 + 1 );
+	}
+
+	private SearchQuery<Integer> sortKeyQuery(int lowerBound) {
+		return index.query()
+				.select( f -> f.field( "sortKey", Integer.class ) )
+				.where( f -> f.range().field( "sortKey" ).atLeast( lowerBound ) )
+				.sort( f -> f.field( "sortKey" ) )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "group", String.class ) )
+				.toQuery();
+	}
+
+	private static String documentId(int i) {
+		return "doc" + i;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> sortKey;
+		final IndexFieldReference<String> group;
+
+		IndexBinding(IndexSchemaElement root) {
+			sortKey = root.field( "sortKey", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
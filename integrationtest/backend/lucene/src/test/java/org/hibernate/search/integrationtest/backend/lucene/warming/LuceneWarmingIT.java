@@ -0,0 +1,191 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.warming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.warming.WarmingConfigurer;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+
+/**
+ * Tests for the warming of new index segments with user-declared warm-up queries.
+ */
+public class LuceneWarmingIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final AtomicInteger warmUpQueryExecutionCount = new AtomicInteger();
+
+	@Test
+	public void warmUpOnRefresh() {
+		setup( context -> context.query( f -> f.fromLuceneQuery( new CountingQuery( warmUpQueryExecutionCount ) ) ) );
+
+		// The initial reader on an empty index has no segment to warm up.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+		int executionCountBeforeIndexing = warmUpQueryExecutionCount.get();
+
+		index( "1", "text1", 1 );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 1 );
+		// The new segment was warmed up before being exposed to search queries.
+		assertThat( warmUpQueryExecutionCount ).hasValueGreaterThan( executionCountBeforeIndexing );
+		int executionCountAfterFirstRefresh = warmUpQueryExecutionCount.get();
+
+		// Searching again without changes should not warm up anything.
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 1 );
+		assertThat( warmUpQueryExecutionCount ).hasValue( executionCountAfterFirstRefresh );
+
+		index( "2", "text2", 2 );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 2 );
+		// Only the new segment was warmed up.
+		assertThat( warmUpQueryExecutionCount ).hasValue( executionCountAfterFirstRefresh + 1 );
+	}
+
+	@Test
+	public void warmUpOnMerge() {
+		setup( context -> context.query( f -> f.fromLuceneQuery( new CountingQuery( warmUpQueryExecutionCount ) ) ) );
+
+		index( "1", "text1", 1 );
+		index( "2", "text2", 2 );
+		int executionCountBeforeMerge = warmUpQueryExecutionCount.get();
+
+		index.createWorkspace().mergeSegments().join();
+
+		// The merged segment was warmed up by the index writer, before any search query.
+		assertThat( warmUpQueryExecutionCount ).hasValueGreaterThan( executionCountBeforeMerge );
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasTotalHitCount( 2 );
+	}
+
+	@Test
+	public void warmUpWithSortAndAggregation() {
+		setup( context -> context.query( f -> f.match().field( "text" ).matching( "text1" ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.aggregation( f -> f.terms().field( "text", String.class ) )
+				.aggregation( f -> f.range().field( "integer", Integer.class )
+						.range( 0, 10 ) ) );
+
+		index( "1", "text1", 1 );
+		index( "2", "text2", 2 );
+		index.createWorkspace().mergeSegments().join();
+
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "text1" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).sort( f -> f.field( "integer" ).desc() ) )
+				.hasDocRefHitsExactOrder( index.typeName(), "2", "1" );
+	}
+
+	@Test
+	public void invalidWarmUpQuery() {
+		assertThatThrownBy( () -> setup( context -> context.query( f -> f.match().field( "unknownField" )
+				.matching( "text1" ) ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to apply warming configuration",
+						"Unknown field 'unknownField'"
+				);
+	}
+
+	private void setup(WarmingConfigurer configurer) {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.WARMING_CONFIGURER, BeanReference.ofInstance( configurer ) )
+				.setup();
+	}
+
+	private void index(String id, String text, int integer) {
+		IndexIndexingPlan plan = index.createIndexingPlan(
+				new StubBackendSessionContext(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE
+		);
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( index.binding().text, text );
+			document.addValue( index.binding().integer, integer );
+		} );
+		plan.execute().join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+
+	/**
+	 * A query that matches all documents and counts how many times it is executed.
+	 */
+	private static class CountingQuery extends Query {
+		private final AtomicInteger executionCount;
+		private final Query delegate = new MatchAllDocsQuery();
+
+		private CountingQuery(AtomicInteger executionCount) {
+			this.executionCount = executionCount;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			executionCount.incrementAndGet();
+			return delegate.createWeight( searcher, scoreMode, boost );
+		}
+
+		@Override
+		public void visit(QueryVisitor visitor) {
+			visitor.visitLeaf( this );
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
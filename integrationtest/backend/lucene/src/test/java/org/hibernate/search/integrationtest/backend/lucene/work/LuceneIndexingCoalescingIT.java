@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that coalescing works in indexing queues does not affect the outcome of indexing.
+ */
+public class LuceneIndexingCoalescingIT {
+
+	private static final int DOCUMENT_COUNT = 3;
+	private static final int UPDATES_PER_DOCUMENT = 200;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_BATCH_COALESCING, true )
+				// Use a single queue, so that works on different documents end up in the same batches.
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.setup();
+	}
+
+	@Test
+	public void updates() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			for ( int j = 0; j < DOCUMENT_COUNT; j++ ) {
+				futures.add( addOrUpdate( indexer, String.valueOf( j ), "value" + i ) );
+			}
+		}
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasHitsAnyOrder( "value" + ( UPDATES_PER_DOCUMENT - 1 ), "value" + ( UPDATES_PER_DOCUMENT - 1 ),
+						"value" + ( UPDATES_PER_DOCUMENT - 1 ) );
+	}
+
+	@Test
+	public void updatesThenDelete() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			futures.add( addOrUpdate( indexer, "1", "value" + i ) );
+		}
+		futures.add( indexer.delete( referenceProvider( "1" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ) );
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void deleteThenUpdates() {
+		IndexIndexer indexer = index.createIndexer();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.add( addOrUpdate( indexer, "1", "initial" ) );
+		futures.add( indexer.delete( referenceProvider( "1" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ) );
+		for ( int i = 0; i < UPDATES_PER_DOCUMENT; i++ ) {
+			futures.add( addOrUpdate( indexer, "1", "value" + i ) );
+		}
+		joinAndCheckSuccessful( futures );
+		index.createWorkspace().refresh().join();
+
+		assertThatQuery( index.createScope().query()
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasHitsAnyOrder( "value" + ( UPDATES_PER_DOCUMENT - 1 ) );
+	}
+
+	private static void joinAndCheckSuccessful(List<CompletableFuture<?>> futures) {
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		// Superseded works must complete too, and successfully
+		for ( CompletableFuture<?> future : futures ) {
+			assertThatFuture( future ).isSuccessful();
+		}
+	}
+
+	private CompletableFuture<?> addOrUpdate(IndexIndexer indexer, String id, String value) {
+		return indexer.addOrUpdate( referenceProvider( id ),
+				document -> document.addValue( index.binding().text, value ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
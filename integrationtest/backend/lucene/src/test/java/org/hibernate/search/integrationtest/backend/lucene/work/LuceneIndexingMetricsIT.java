@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsContext;
+import org.hibernate.search.backend.lucene.metrics.spi.IndexingMetricsListener;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneIndexingMetricsIT {
+
+	private static final int DOCUMENT_COUNT = 50;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingListener listener = new RecordingListener();
+
+	@Test
+	public void indexingQueryingMerging() {
+		SearchIntegration integration = setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_METRICS_LISTENER,
+						BeanReference.ofInstance( listener ) )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 3 )
+				.setup();
+
+		assertThat( listener.started ).hasSize( 1 );
+		IndexingMetricsContext context = listener.started.get( 0 );
+		assertThat( context.indexName() ).isEqualTo( index.name() );
+		assertThat( context.shardIdentifier() ).isEmpty();
+		assertThat( context.indexingQueueSizes() ).containsExactly( 0, 0, 0 );
+		assertThat( context.readerAgeNanos() ).isEmpty();
+
+		IndexIndexer indexer = index.createIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			// Commit each document separately, so that we end up with segments to merge
+			indexer.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( index.binding().text, "some text" ),
+					DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+					.join();
+		}
+
+		// Batch completion is notified asynchronously, after the works themselves complete
+		await().untilAsserted( () -> assertThat( listener.batchedWorkCount ).hasValue( DOCUMENT_COUNT ) );
+		assertThat( listener.commitCount ).hasPositiveValue();
+		assertThat( listener.flushedBytes ).hasPositiveValue();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+		assertThat( listener.readerOpenCount ).hasPositiveValue();
+		assertThat( context.readerAgeNanos() ).isPresent();
+		assertThat( context.readerAgeNanos().getAsLong() ).isNotNegative();
+
+		index.createWorkspace().mergeSegments().join();
+		// Merges are notified from merge threads, potentially after the merge is reported as complete
+		await().untilAsserted( () -> {
+			assertThat( listener.mergedSegmentCount ).hasPositiveValue();
+			assertThat( listener.mergedBytes ).hasPositiveValue();
+		} );
+
+		integration.close();
+
+		assertThat( listener.stopped ).containsExactly( context );
+	}
+
+	@Test
+	public void sharding() {
+		SearchIntegration integration = setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_METRICS_LISTENER,
+						BeanReference.ofInstance( listener ) )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withBackendProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 )
+				.setup();
+
+		assertThat( listener.started )
+				.extracting( IndexingMetricsContext::shardIdentifier )
+				.containsExactlyInAnyOrder( Optional.of( "0" ), Optional.of( "1" ), Optional.of( "2" ) );
+
+		integration.close();
+
+		assertThat( listener.stopped ).containsExactlyInAnyOrderElementsOf( listener.started );
+	}
+
+	@Test
+	public void disabledByDefault() {
+		setupHelper.start()
+				.withIndex( index )
+				.setup();
+
+		index.index( "1", document -> document.addValue( index.binding().text, "some text" ) );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThat( listener.started ).isEmpty();
+	}
+
+	private static class RecordingListener implements IndexingMetricsListener {
+		final List<IndexingMetricsContext> started = new CopyOnWriteArrayList<>();
+		final List<IndexingMetricsContext> stopped = new CopyOnWriteArrayList<>();
+		final AtomicInteger batchedWorkCount = new AtomicInteger();
+		final AtomicInteger commitCount = new AtomicInteger();
+		final AtomicInteger readerOpenCount = new AtomicInteger();
+		final AtomicLong flushedBytes = new AtomicLong();
+		final AtomicInteger mergedSegmentCount = new AtomicInteger();
+		final AtomicLong mergedBytes = new AtomicLong();
+
+		@Override
+		public void shardStarted(IndexingMetricsContext context) {
+			started.add( context );
+		}
+
+		@Override
+		public void shardStopped(IndexingMetricsContext context) {
+			stopped.add( context );
+		}
+
+		@Override
+		public void batchExecuted(IndexingMetricsContext context, int workCount, long durationNanos) {
+			assertThat( durationNanos ).isNotNegative();
+			batchedWorkCount.addAndGet( workCount );
+		}
+
+		@Override
+		public void committed(IndexingMetricsContext context, long durationNanos) {
+			assertThat( durationNanos ).isNotNegative();
+			commitCount.incrementAndGet();
+		}
+
+		@Override
+		public void readerOpened(IndexingMetricsContext context, long durationNanos) {
+			assertThat( durationNanos ).isNotNegative();
+			readerOpenCount.incrementAndGet();
+		}
+
+		@Override
+		public void bytesFlushed(IndexingMetricsContext context, long bytes) {
+			flushedBytes.addAndGet( bytes );
+		}
+
+		@Override
+		public void merged(IndexingMetricsContext context, int segmentCount, long bytes, long durationNanos) {
+			assertThat( durationNanos ).isNotNegative();
+			mergedSegmentCount.addAndGet( segmentCount );
+			mergedBytes.addAndGet( bytes );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
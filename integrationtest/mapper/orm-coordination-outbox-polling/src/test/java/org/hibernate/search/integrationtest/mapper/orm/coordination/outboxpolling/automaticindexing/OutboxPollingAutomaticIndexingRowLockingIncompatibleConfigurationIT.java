@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.coordination.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.function.UnaryOperator;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.Environment;
+import org.hibernate.search.engine.backend.analysis.AnalyzerNames;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test for the row-locking claiming strategy where it is configured in an incompatible way,
+ * or where some nodes rely on sharding instead.
+ */
+public class OutboxPollingAutomaticIndexingRowLockingIncompatibleConfigurationIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock )
+			.coordinationStrategy( CoordinationStrategyExpectations.outboxPolling() );
+
+	@Test
+	public void invalidClaimingStrategy() {
+		assertThatThrownBy( () -> setup( context -> context
+				.withProperty( "hibernate.search.coordination.event_processor.claiming_strategy", "invalid" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Invalid value for configuration property 'hibernate.search.coordination.event_processor.claiming_strategy'",
+						"Invalid event processor claiming strategy name: 'invalid'",
+						"Valid names are: [sharding, row-locking]" );
+	}
+
+	@Test
+	public void staticSharding() {
+		assertThatThrownBy( () -> setup( context -> context
+				.withProperty( "hibernate.search.coordination.event_processor.claiming_strategy", "row-locking" )
+				.withProperty( "hibernate.search.coordination.event_processor.shards.total_count", "2" )
+				.withProperty( "hibernate.search.coordination.event_processor.shards.assigned", "0" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Static sharding cannot be used with the event processor claiming strategy 'row-locking'",
+						"'hibernate.search.coordination.event_processor.shards.total_count'",
+						"'hibernate.search.coordination.event_processor.shards.assigned'" );
+	}
+
+	@Test
+	public void conflictingClaimingStrategies() throws InterruptedException {
+		TestFailureHandler sessionFactory1FailureHandler = new TestFailureHandler();
+		TestFailureHandler sessionFactory2FailureHandler = new TestFailureHandler();
+
+		setup( context -> context
+				.withProperty( Environment.HBM2DDL_AUTO, "create-drop" )
+				.withProperty( "hibernate.search.background_failure_handler", sessionFactory1FailureHandler )
+				.withProperty( "hibernate.search.coordination.event_processor.claiming_strategy", "row-locking" ) );
+		setup( context -> context
+				.withProperty( Environment.HBM2DDL_AUTO, "none" )
+				.withProperty( "hibernate.search.background_failure_handler", sessionFactory2FailureHandler )
+				.withProperty( "hibernate.search.coordination.event_processor.claiming_strategy", "sharding" ) );
+		backendMock.verifyExpectationsMet();
+
+		await().untilAsserted( () -> {
+			assertThat( sessionFactory1FailureHandler.genericFailures ).isNotEmpty();
+			assertThat( sessionFactory2FailureHandler.genericFailures ).isNotEmpty();
+		} );
+
+		String[] expectedContent = new String[] {
+				"claims events by locking rows,",
+				"but this conflicts with agent '#",
+				"' which relies on sharding.",
+				"This can be a temporary situation caused by some application instances being forcibly stopped and replacements being spun up",
+				"consider setting the same claiming strategy on all application instances.",
+				"Registered agents:"
+		};
+		assertThat( sessionFactory1FailureHandler.genericFailures )
+				.allSatisfy( failureContext -> {
+					assertThat( failureContext.throwable() )
+							.hasMessageContainingAll( expectedContent );
+				} );
+		assertThat( sessionFactory2FailureHandler.genericFailures )
+				.allSatisfy( failureContext -> {
+					assertThat( failureContext.throwable() )
+							.hasMessageContainingAll( expectedContent );
+				} );
+
+		// Also check that we don't flood the logs because of repeated pulses every few milliseconds
+		Thread.sleep( 1000 );
+		assertThat( sessionFactory1FailureHandler.genericFailures ).hasSizeLessThan( 3 );
+		assertThat( sessionFactory2FailureHandler.genericFailures ).hasSizeLessThan( 3 );
+	}
+
+	private void setup(UnaryOperator<OrmSetupHelper.SetupContext> config) {
+		backendMock.expectSchema( IndexedEntity.NAME, b -> b
+				.field( "text", String.class, f -> f.analyzerName( AnalyzerNames.DEFAULT ) ) );
+		ormSetupHelper.start()
+				.with( config )
+				.setup( IndexedEntity.class );
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed
+	public static class IndexedEntity {
+
+		static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@FullTextField
+		private String text;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+}
@@ -17,6 +17,7 @@
 import org.hibernate.Transaction;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.Agent;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentState;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentType;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.PersistenceRunner;
 
 public class OutboxPollingTestUtils {
@@ -47,4 +48,24 @@ public static void awaitAllAgentsRunningInOneCluster(PersistenceRunner<Session,
 					} );
 				} );
 	}
+
+	// Wait for all agents to be registered and running with the row-locking claiming strategy.
+	public static void awaitAllAgentsRunningWithRowLocking(PersistenceRunner<Session, Transaction> runner, int expectedAgentCount) {
+		await( "Waiting for " + expectedAgentCount + " row-locking agents to run" )
+				.pollDelay( Duration.ZERO )
+				.pollInterval( Duration.ofMillis( 5 ) )
+				.atMost( Duration.ofSeconds( 5 ) )
+				.untilAsserted( () -> {
+					runner.runInTransaction( session -> {
+						List<Agent> agents = session.createQuery( "select a from Agent a order by a.id", Agent.class )
+								.list();
+						assertThat( agents )
+								.hasSize( expectedAgentCount )
+								.allSatisfy( agent -> {
+									assertThat( agent.getType() ).isEqualTo( AgentType.EVENT_PROCESSING_ROW_LOCKING );
+									assertThat( agent.getState() ).isEqualTo( AgentState.RUNNING );
+								} );
+					} );
+				} );
+	}
 }
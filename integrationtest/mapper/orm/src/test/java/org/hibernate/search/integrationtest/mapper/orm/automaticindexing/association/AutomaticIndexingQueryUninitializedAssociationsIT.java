@@ -0,0 +1,272 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing.association;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that, with {@link HibernateOrmMapperSettings#AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS} enabled,
+ * entities to reindex are resolved through a query instead of by initializing the inverse side of associations.
+ */
+public class AutomaticIndexingQueryUninitializedAssociationsIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Author.INDEX );
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS, true )
+				.setup( Author.class, Book.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Author author = new Author();
+			author.setId( 1 );
+			author.setName( "initialName" );
+			session.persist( author );
+			for ( int i = 2; i <= 4; i++ ) {
+				Book book = new Book();
+				book.setId( i );
+				book.setTitle( "title" + i );
+				book.setAuthor( author );
+				author.getBooks().add( book );
+				session.persist( book );
+			}
+
+			backendMock.expectWorks( Author.INDEX )
+					.add( "1", b -> b.field( "name", "initialName" ) );
+			backendMock.expectWorks( Book.INDEX )
+					.add( "2", b -> b.field( "title", "title2" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) )
+					.add( "3", b -> b.field( "title", "title3" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) )
+					.add( "4", b -> b.field( "title", "title4" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void uninitializedAssociation() {
+		AtomicReference<Author> authorFromModifyingTransaction = new AtomicReference<>();
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Author author = session.getReference( Author.class, 1 );
+			authorFromModifyingTransaction.set( author );
+			author.setName( "updatedName" );
+
+			backendMock.expectWorks( Author.INDEX )
+					.addOrUpdate( "1", b -> b.field( "name", "updatedName" ) );
+			backendMock.expectWorks( Book.INDEX )
+					.addOrUpdate( "2", b -> b.field( "title", "title2" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "3", b -> b.field( "title", "title3" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "4", b -> b.field( "title", "title4" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( Hibernate.isInitialized( authorFromModifyingTransaction.get().getBooks() ) )
+				.as( "The books should not be initialized by Hibernate Search" )
+				.isFalse();
+	}
+
+	@Test
+	public void initializedAssociation() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Author author = session.getReference( Author.class, 1 );
+			Hibernate.initialize( author.getBooks() );
+			// Only modify one book, to check that the in-session state is taken into account
+			author.getBooks().get( 0 ).setTitle( "updatedTitle" );
+			author.setName( "updatedName" );
+
+			backendMock.expectWorks( Author.INDEX )
+					.addOrUpdate( "1", b -> b.field( "name", "updatedName" ) );
+			backendMock.expectWorks( Book.INDEX )
+					.addOrUpdate( "2", b -> b.field( "title", "updatedTitle" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "3", b -> b.field( "title", "title3" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "4", b -> b.field( "title", "title4" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void uninitializedAssociation_containingEntityAlsoModified() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Book book = session.getReference( Book.class, 3 );
+			book.setTitle( "updatedTitle" );
+			Author author = session.getReference( Author.class, 1 );
+			author.setName( "updatedName" );
+
+			backendMock.expectWorks( Author.INDEX )
+					.addOrUpdate( "1", b -> b.field( "name", "updatedName" ) );
+			backendMock.expectWorks( Book.INDEX )
+					.addOrUpdate( "3", b -> b.field( "title", "updatedTitle" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "2", b -> b.field( "title", "title2" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) )
+					.addOrUpdate( "4", b -> b.field( "title", "title4" )
+							.objectField( "author", b2 -> b2.field( "name", "updatedName" ) ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void uninitializedAssociation_queuedOperations() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Author author = session.getReference( Author.class, 1 );
+			Book book = new Book();
+			book.setId( 5 );
+			book.setTitle( "title5" );
+			book.setAuthor( author );
+			// Adding to an uninitialized inverse collection queues the operation instead of initializing it.
+			author.getBooks().add( book );
+			assertThat( Hibernate.isInitialized( author.getBooks() ) ).isFalse();
+			session.persist( book );
+
+			backendMock.expectWorks( Author.INDEX )
+					.addOrUpdate( "1", b -> b.field( "name", "initialName" ) );
+			backendMock.expectWorks( Book.INDEX )
+					.addOrUpdate( "5", b -> b.field( "title", "title5" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) )
+					.addOrUpdate( "2", b -> b.field( "title", "title2" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) )
+					.addOrUpdate( "3", b -> b.field( "title", "title3" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) )
+					.addOrUpdate( "4", b -> b.field( "title", "title4" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) );
+
+			// Execute the indexing plan before the flush:
+			// the new book is not in the database yet, so querying the association would miss it.
+			SearchIndexingPlan indexingPlan = Search.session( session ).indexingPlan();
+			indexingPlan.addOrUpdate( author );
+			indexingPlan.execute();
+			backendMock.verifyExpectationsMet();
+
+			assertThat( Hibernate.isInitialized( author.getBooks() ) )
+					.as( "The books should be initialized by Hibernate Search, because of queued operations" )
+					.isTrue();
+			assertThat( author.getBooks() ).contains( book );
+
+			backendMock.expectWorks( Book.INDEX )
+					.add( "5", b -> b.field( "title", "title5" )
+							.objectField( "author", b2 -> b2.field( "name", "initialName" ) ) );
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "Author")
+	@Indexed(index = Author.INDEX)
+	public static class Author {
+		public static final String INDEX = "Author";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ManyToOne
+		@IndexedEmbedded(includePaths = "name")
+		private Author author;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+}
@@ -255,6 +255,51 @@ Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrate
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void threadsToLoadIdentifiers() {
+		setupHolder.with( targetTenantId() ).runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			// More threads than entities: some identifier ranges will be empty
+			MassIndexer indexer = searchSession.massIndexer().threadsToLoadIdentifiers( 5 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, targetTenantId(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// so we expect 1 purge, 1 mergeSegments and 1 flush calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, targetTenantId() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void fromMappingWithoutSession() throws Exception {
 		SearchMapping searchMapping = Search.mapping( setupHolder.sessionFactory() );
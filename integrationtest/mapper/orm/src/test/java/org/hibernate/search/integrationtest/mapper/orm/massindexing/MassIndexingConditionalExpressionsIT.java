@@ -184,6 +184,35 @@ public void noHierarchy_withParams() {
 		} );
 	}
 
+	@Test
+	public void noHierarchy_threadsToLoadIdentifiers() {
+		setupHolder.runNoTransaction( session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer( H0_Indexed.class )
+					.threadsToLoadIdentifiers( 2 );
+			indexer.type( H0_Indexed.class ).reindexOnly( "e.number = 2" );
+
+			backendMock.expectWorks( H0_Indexed.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.add( "4", b -> b.field( "text", "text4" ) );
+
+			backendMock.expectIndexScaleWorks( H0_Indexed.NAME, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void rootNotIndexed_someSubclassesIndexed_requestMassIndexingOnRoot_conditionOnRoot() {
 		setupHolder.runNoTransaction( session -> {
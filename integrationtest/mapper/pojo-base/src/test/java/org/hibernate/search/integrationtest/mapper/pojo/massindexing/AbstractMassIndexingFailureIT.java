@@ -371,6 +371,40 @@ public void mergeSegmentsAfter() {
 		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
 	}
 
+	@Test
+	public void mergeSegmentsAfter_bulkLoad() {
+		SearchMapping mapping = setup();
+
+		String exceptionMessage = "MERGE_SEGMENTS failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				mapping.scope( Object.class ).massIndexer()
+						.mergeSegmentsOnFinish( true )
+						.bulkLoad( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SearchException.class )
+						.hasMessageContainingAll(
+								"1 failure(s) occurred during mass indexing",
+								"See the logs for details.",
+								"First failure: ",
+								exceptionMessage
+						)
+						.hasCauseInstanceOf( SimulatedFailure.class ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.PURGE, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.START_BULK_LOAD, ExecutionExpectation.SUCCEED ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.FAIL ),
+				// The original index settings must be restored despite the failure
+				expectIndexScaleWork( StubIndexScaleWork.Type.STOP_BULK_LOAD, ExecutionExpectation.SUCCEED )
+		);
+
+		assertMassIndexerOperationFailureHandling( SimulatedFailure.class, exceptionMessage, failingOperationAsString );
+	}
+
 	@Test
 	public void flush() {
 		SearchMapping mapping = setup();
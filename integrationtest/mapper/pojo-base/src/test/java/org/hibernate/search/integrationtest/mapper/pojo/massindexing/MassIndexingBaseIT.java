@@ -164,6 +164,55 @@ public void dropAndCreateSchemaOnStart() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void bulkLoad() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.bulkLoad( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+					.field( "title", TITLE_1 )
+					.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+					.field( "title", TITLE_2 )
+					.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+					.field( "title", TITLE_3 )
+					.field( "author", AUTHOR_3 )
+					);
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// and bulkLoad is enabled explicitly,
+			// so we expect bulk loading to start after the purge and to stop before the flush:
+			backendMock.expectIndexScaleWorks( Book.INDEX, searchSession.tenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.startBulkLoad()
+					.stopBulkLoad()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void mergeSegmentsOnFinish() {
 		try ( SearchSession searchSession = mapping.createSession() ) {
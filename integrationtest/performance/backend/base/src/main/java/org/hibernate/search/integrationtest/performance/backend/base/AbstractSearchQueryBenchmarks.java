@@ -0,0 +1,246 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to search queries,
+ * from building the query with the DSL to collecting, projecting and loading hits.
+ * <p>
+ * Each thread queries its own index, which is populated once per trial and never modified,
+ * so that these benchmarks only measure the query side.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchQueryBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final String LONG_TEXT_TERMS = "pip | estella | joe | havisham";
+
+	/**
+	 * A numeric upper bound that matches only a fraction of the documents,
+	 * but still more documents than the maximum number of results.
+	 */
+	private static final long SELECTIVE_NUMERIC_UPPER_BOUND = 500L;
+
+	/**
+	 * The maximum number of chunks to retrieve when scrolling,
+	 * so that the cost of a scroll does not depend on the size of the index.
+	 */
+	private static final int SCROLL_MAX_CHUNKS = 10;
+
+	private static final AggregationKey<Map<String, Long>> SHORT_TEXT_TERMS_KEY = AggregationKey.of( "shortTextTerms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> NUMERIC_RANGES_KEY = AggregationKey.of( "numericRanges" );
+
+	/**
+	 * Builds a moderately complex query, but does not execute it.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void predicateDsl(Blackhole blackhole) {
+		StubMappingScope scope = getIndexPartition().getIndex().createScope();
+
+		SearchPredicate predicate = scope.predicate().bool()
+				.must( f -> f.simpleQueryString().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( LONG_TEXT_TERMS ) )
+				.should( f -> f.match().field( MappedIndex.SHORT_TEXT_FIELD_NAME ).matching( "chapter" ) )
+				.filter( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).between( 0L, 10_000L ) )
+				.mustNot( f -> f.match().field( MappedIndex.SHORT_TEXT_FIELD_NAME ).matching( "preface" ) )
+				.toPredicate();
+
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( predicate )
+				.sort( f -> f.score().then().field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.toQuery();
+
+		blackhole.consume( query );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void scoredQuery(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.simpleQueryString().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( LONG_TEXT_TERMS ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void sortedQuery(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME )
+						.then().field( MappedIndex.NUMERIC_FIELD_NAME ).desc() )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	/**
+	 * Fetches a limited number of hits:
+	 * with the Lucene backend, this collects the top hits directly.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void fetchLimited(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atMost( SELECTIVE_NUMERIC_UPPER_BOUND ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	/**
+	 * Fetches all hits without a limit:
+	 * with the Lucene backend, this goes through the "prefetch" path,
+	 * which runs a first query to estimate the number of hits before collecting them.
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void fetchAll(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atMost( SELECTIVE_NUMERIC_UPPER_BOUND ) )
+				.fetchAll();
+
+		consume( blackhole, results );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void count(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		long hitCount = index.createScope().query()
+				.where( f -> f.simpleQueryString().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( LONG_TEXT_TERMS ) )
+				.fetchTotalHitCount();
+
+		blackhole.consume( hitCount );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void projections(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<List<?>> results = index.createScope().query()
+				.select( f -> f.composite(
+						f.documentReference(),
+						f.score(),
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.simpleQueryString().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( LONG_TEXT_TERMS ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.total().hitCount() );
+		for ( List<?> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void aggregations(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( SHORT_TEXT_TERMS_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( 10 ) )
+				.aggregation( NUMERIC_RANGES_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( Range.canonical( null, 100L ) )
+						.range( Range.canonical( 100L, 1_000L ) )
+						.range( Range.canonical( 1_000L, null ) ) )
+				.fetch( 0 );
+
+		blackhole.consume( results.total().hitCount() );
+		blackhole.consume( results.aggregation( SHORT_TEXT_TERMS_KEY ) );
+		blackhole.consume( results.aggregation( NUMERIC_RANGES_KEY ) );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void scroll(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		try ( SearchScroll<DocumentReference> scroll = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ) )
+				.scroll( params.getQueryMaxResults() ) ) {
+			for ( int i = 0; i < SCROLL_MAX_CHUNKS; i++ ) {
+				SearchScrollResult<DocumentReference> chunk = scroll.next();
+				if ( !chunk.hasHits() ) {
+					break;
+				}
+				for ( DocumentReference hit : chunk.hits() ) {
+					blackhole.consume( hit );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fetches entities, going through the loading of hits
+	 * (which is trivial for the stub mapper, so this mostly measures the overhead of the backend and engine).
+	 */
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void resultLoading(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.select( f -> f.entity() )
+				.where( f -> f.simpleQueryString().field( MappedIndex.LONG_TEXT_FIELD_NAME )
+						.matching( LONG_TEXT_TERMS ) )
+				.fetch( params.getQueryMaxResults() );
+
+		consume( blackhole, results );
+	}
+
+	private static void consume(Blackhole blackhole, SearchResult<DocumentReference> results) {
+		blackhole.consume( results.total().hitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.AllAwareConfigurationPropertySource;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.filesystem.TemporaryFileHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A backend holder allowing to compare sequential and parallel search,
+ * on single-shard and multi-shard indexes.
+ */
+@State(Scope.Benchmark)
+public class LuceneParallelSearchBackendHolder extends AbstractBackendHolder {
+
+	/**
+	 * The size of the thread pool used for parallel search; 0 to disable parallel search.
+	 */
+	@Param({ "0", "4" })
+	private int searchThreadPoolSize;
+
+	/**
+	 * The number of shards of each index.
+	 */
+	@Param({ "1", "4" })
+	private int numberOfShards;
+
+	/**
+	 * The maximum number of documents buffered in memory before being flushed to a new segment.
+	 * <p>
+	 * Low values lead to many segments, and thus to many slices when parallel search is enabled.
+	 */
+	@Param({ "1000" })
+	private int maxBufferedDocs;
+
+	@Override
+	protected ConfigurationPropertySource getDefaultBackendProperties(TemporaryFileHolder temporaryFileHolder)
+			throws IOException {
+		Map<String, Object> map = new LinkedHashMap<>();
+
+		map.put( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFileHolder.getIndexesDirectory().toAbsolutePath() );
+		map.put( LuceneBackendSettings.ANALYSIS_CONFIGURER, LucenePerformanceAnalysisConfigurer.class );
+
+		return AllAwareConfigurationPropertySource.fromMap( map );
+	}
+
+	@Override
+	protected String getConfigurationParameter() {
+		StringBuilder builder = new StringBuilder();
+		builder.append( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE ).append( '=' ).append( searchThreadPoolSize );
+		builder.append( '&' ).append( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS ).append( '=' )
+				.append( maxBufferedDocs );
+		if ( numberOfShards > 1 ) {
+			builder.append( '&' ).append( LuceneIndexSettings.SHARDING_STRATEGY ).append( "=hash" );
+			builder.append( '&' ).append( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS ).append( '=' )
+					.append( numberOfShards );
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.AbstractBackendBenchmarks;
+import org.hibernate.search.integrationtest.performance.backend.base.QueryParams;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * JMH benchmarks comparing sequential search with parallel search of index segments,
+ * on single-shard and multi-shard indexes.
+ * <p>
+ * Parameters of {@link LuceneParallelSearchBackendHolder} select the configurations to compare.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class LuceneParallelSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	@Setup(Level.Trial)
+	public void setupTrial(LuceneParallelSearchBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		doSetupTrial( backendHolder, indexInitializer, threadParams );
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void sortedQuery(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.total().hitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void scoredQuery(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.bool()
+						.should( f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atMost( 1_000L ) )
+						.should( f.matchAll() ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.total().hitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void count(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		long hitCount = index.createScope().query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).atLeast( 0L ) )
+				.fetchTotalHitCount();
+
+		blackhole.consume( hitCount );
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.massindexing;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The previous implementation of the mass indexer's producer/consumer queue,
+ * based on an {@link ArrayBlockingQueue} and a "poison" token,
+ * kept as a baseline for benchmarks.
+ *
+ * @param <T> produced type
+ */
+final class ArrayBlockingProducerConsumerQueue<T> {
+
+	private static final Object exitToken = new Object();
+
+	private final BlockingQueue<Object> queue;
+	private final AtomicInteger producersToWaitFor;
+
+	ArrayBlockingProducerConsumerQueue(int queueLength, int producersToWaitFor) {
+		queue = new ArrayBlockingQueue<>( queueLength );
+		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
+	}
+
+	@SuppressWarnings("unchecked")
+	T take() throws InterruptedException {
+		Object obj = queue.take();
+		if ( obj == exitToken ) {
+			//restore exit signal for other threads
+			queue.put( exitToken );
+			return null;
+		}
+		else {
+			return (T) obj;
+		}
+	}
+
+	void put(T obj) throws InterruptedException {
+		queue.put( obj );
+	}
+
+	void producerStopping() throws InterruptedException {
+		if ( producersToWaitFor.decrementAndGet() == 0 ) {
+			queue.put( exitToken );
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.massindexing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.pojo.massindexing.impl.PojoProducerConsumerQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the queue between identifier loading threads (producers)
+ * and entity loading threads (consumers) in the mass indexer.
+ * <p>
+ * Each invocation transfers a fixed number of elements from all producers to all consumers,
+ * so the score is the number of elements transferred per second.
+ * Consumers do not do any work besides taking elements from the queue,
+ * which exaggerates contention compared to actual mass indexing.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProducerConsumerQueueBenchmarks {
+
+	private static final int ELEMENTS_PER_INVOCATION = 100_000;
+
+	@Param({ "LOCK_FREE", "ARRAY_BLOCKING" })
+	private QueueImplementation implementation;
+
+	@Param({ "1", "4" })
+	private int producerCount;
+
+	@Param({ "1", "8", "32" })
+	private int consumerCount;
+
+	/**
+	 * Equivalent to the MassIndexer's default queue length.
+	 */
+	@Param({ "1000" })
+	private int queueLength;
+
+	private ExecutorService executor;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		executor = Executors.newFixedThreadPool( producerCount + consumerCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ELEMENTS_PER_INVOCATION)
+	public void transfer(Blackhole blackhole) throws InterruptedException, ExecutionException {
+		QueueAdapter queue = implementation.create( queueLength, producerCount );
+		int elementsPerProducer = ELEMENTS_PER_INVOCATION / producerCount;
+
+		List<Future<?>> futures = new ArrayList<>( producerCount + consumerCount );
+		for ( int i = 0; i < consumerCount; i++ ) {
+			futures.add( executor.submit( () -> {
+				Object element;
+				while ( ( element = queue.take() ) != null ) {
+					blackhole.consume( element );
+				}
+				return null;
+			} ) );
+		}
+		for ( int i = 0; i < producerCount; i++ ) {
+			futures.add( executor.submit( () -> {
+				try {
+					for ( int j = 0; j < elementsPerProducer; j++ ) {
+						queue.put( j );
+					}
+				}
+				finally {
+					queue.producerStopping();
+				}
+				return null;
+			} ) );
+		}
+
+		for ( Future<?> future : futures ) {
+			future.get();
+		}
+	}
+
+	public enum QueueImplementation {
+		LOCK_FREE {
+			@Override
+			QueueAdapter create(int queueLength, int producerCount) {
+				PojoProducerConsumerQueue<Object> queue = new PojoProducerConsumerQueue<>( queueLength, producerCount );
+				return new QueueAdapter() {
+					@Override
+					public Object take() throws InterruptedException {
+						return queue.take();
+					}
+
+					@Override
+					public void put(Object element) throws InterruptedException {
+						queue.put( element );
+					}
+
+					@Override
+					public void producerStopping() {
+						queue.producerStopping();
+					}
+				};
+			}
+		},
+		ARRAY_BLOCKING {
+			@Override
+			QueueAdapter create(int queueLength, int producerCount) {
+				ArrayBlockingProducerConsumerQueue<Object> queue =
+						new ArrayBlockingProducerConsumerQueue<>( queueLength, producerCount );
+				return new QueueAdapter() {
+					@Override
+					public Object take() throws InterruptedException {
+						return queue.take();
+					}
+
+					@Override
+					public void put(Object element) throws InterruptedException {
+						queue.put( element );
+					}
+
+					@Override
+					public void producerStopping() throws InterruptedException {
+						queue.producerStopping();
+					}
+				};
+			}
+		};
+
+		abstract QueueAdapter create(int queueLength, int producerCount);
+	}
+
+	interface QueueAdapter {
+		Object take() throws InterruptedException;
+
+		void put(Object element) throws InterruptedException;
+
+		void producerStopping() throws InterruptedException;
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.reflect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for reading the properties of a wide entity through value read handles,
+ * the way the POJO mapper does when building documents.
+ * <p>
+ * Each operation reads all properties of one entity,
+ * through a single call site for all handles, like in the indexing processor tree.
+ * The {@link #directCalls(Blackhole) directCalls} benchmark gives a lower bound,
+ * reading properties through direct calls to getters, and boxing values like handles do.
+ * The {@link Strategy#LAMBDA_METAFACTORY LAMBDA_METAFACTORY} strategy is the one used by the JavaBean mapper
+ * to read properties through getters.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueReadHandleBenchmarks {
+
+	private static final int ENTITY_COUNT = 1_000;
+
+	@Param({ "JAVA_LANG_REFLECT", "METHOD_HANDLE", "LAMBDA_METAFACTORY" })
+	private Strategy strategy;
+
+	private ValueReadHandle<?>[] handles;
+	private WideEntity[] entities;
+
+	@Setup
+	public void setup() throws NoSuchMethodException, IllegalAccessException {
+		ValueReadHandleFactory factory = strategy.create( MethodHandles.lookup() );
+		handles = new ValueReadHandle<?>[WideEntity.PROPERTY_COUNT];
+		for ( int i = 0; i < handles.length; i++ ) {
+			Method getter = WideEntity.class.getMethod( "getProperty" + ( i + 1 ) );
+			handles[i] = factory.createForMethod( getter );
+		}
+		entities = new WideEntity[ENTITY_COUNT];
+		for ( int i = 0; i < entities.length; i++ ) {
+			entities[i] = new WideEntity( i );
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITY_COUNT)
+	public void readAllProperties(Blackhole blackhole) {
+		for ( WideEntity entity : entities ) {
+			for ( ValueReadHandle<?> handle : handles ) {
+				blackhole.consume( handle.get( entity ) );
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITY_COUNT)
+	public void directCalls(Blackhole blackhole) {
+		for ( WideEntity entity : entities ) {
+			blackhole.consume( (Object) entity.getProperty1() );
+			blackhole.consume( (Object) entity.getProperty2() );
+			blackhole.consume( (Object) entity.getProperty3() );
+			blackhole.consume( (Object) entity.getProperty4() );
+			blackhole.consume( (Object) entity.getProperty5() );
+			blackhole.consume( (Object) entity.getProperty6() );
+			blackhole.consume( (Object) entity.getProperty7() );
+			blackhole.consume( (Object) entity.getProperty8() );
+			blackhole.consume( (Object) entity.getProperty9() );
+			blackhole.consume( (Object) entity.getProperty10() );
+			blackhole.consume( (Object) entity.getProperty11() );
+			blackhole.consume( (Object) entity.getProperty12() );
+			blackhole.consume( (Object) entity.getProperty13() );
+			blackhole.consume( (Object) entity.getProperty14() );
+			blackhole.consume( (Object) entity.getProperty15() );
+			blackhole.consume( (Object) entity.getProperty16() );
+			blackhole.consume( (Object) entity.getProperty17() );
+			blackhole.consume( (Object) entity.getProperty18() );
+			blackhole.consume( (Object) entity.getProperty19() );
+			blackhole.consume( (Object) entity.getProperty20() );
+		}
+	}
+
+	public enum Strategy {
+		JAVA_LANG_REFLECT {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingJavaLangReflect();
+			}
+		},
+		METHOD_HANDLE {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingMethodHandle( lookup );
+			}
+		},
+		LAMBDA_METAFACTORY {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+			}
+		};
+
+		abstract ValueReadHandleFactory create(MethodHandles.Lookup lookup);
+	}
+
+}
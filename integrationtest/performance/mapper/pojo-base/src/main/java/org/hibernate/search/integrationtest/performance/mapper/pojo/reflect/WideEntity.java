@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.reflect;
+
+import java.time.LocalDate;
+
+/**
+ * An entity with many properties, all exposed through public getters,
+ * as typically found in domain models.
+ */
+public class WideEntity {
+
+	static final int PROPERTY_COUNT = 20;
+
+	private final String property1;
+	private final int property2;
+	private final long property3;
+	private final Integer property4;
+	private final boolean property5;
+	private final double property6;
+	private final LocalDate property7;
+	private final String property8;
+	private final Long property9;
+	private final String property10;
+	private final String property11;
+	private final int property12;
+	private final long property13;
+	private final Integer property14;
+	private final boolean property15;
+	private final double property16;
+	private final LocalDate property17;
+	private final String property18;
+	private final Long property19;
+	private final String property20;
+
+	WideEntity(int seed) {
+		this.property1 = "value1-" + seed;
+		this.property2 = seed + 2;
+		this.property3 = seed * 3L;
+		this.property4 = seed % 5 == 0 ? null : seed;
+		this.property5 = seed % 6 == 0;
+		this.property6 = seed / 6.0;
+		this.property7 = LocalDate.ofEpochDay( seed + 7 );
+		this.property8 = "value8-" + seed;
+		this.property9 = (long) seed + 9;
+		this.property10 = "value10-" + seed;
+		this.property11 = "value11-" + seed;
+		this.property12 = seed + 12;
+		this.property13 = seed * 13L;
+		this.property14 = seed % 15 == 0 ? null : seed;
+		this.property15 = seed % 16 == 0;
+		this.property16 = seed / 16.0;
+		this.property17 = LocalDate.ofEpochDay( seed + 17 );
+		this.property18 = "value18-" + seed;
+		this.property19 = (long) seed + 19;
+		this.property20 = "value20-" + seed;
+	}
+
+	public String getProperty1() {
+		return property1;
+	}
+
+	public int getProperty2() {
+		return property2;
+	}
+
+	public long getProperty3() {
+		return property3;
+	}
+
+	public Integer getProperty4() {
+		return property4;
+	}
+
+	public boolean getProperty5() {
+		return property5;
+	}
+
+	public double getProperty6() {
+		return property6;
+	}
+
+	public LocalDate getProperty7() {
+		return property7;
+	}
+
+	public String getProperty8() {
+		return property8;
+	}
+
+	public Long getProperty9() {
+		return property9;
+	}
+
+	public String getProperty10() {
+		return property10;
+	}
+
+	public String getProperty11() {
+		return property11;
+	}
+
+	public int getProperty12() {
+		return property12;
+	}
+
+	public long getProperty13() {
+		return property13;
+	}
+
+	public Integer getProperty14() {
+		return property14;
+	}
+
+	public boolean getProperty15() {
+		return property15;
+	}
+
+	public double getProperty16() {
+		return property16;
+	}
+
+	public LocalDate getProperty17() {
+		return property17;
+	}
+
+	public String getProperty18() {
+		return property18;
+	}
+
+	public Long getProperty19() {
+		return property19;
+	}
+
+	public String getProperty20() {
+		return property20;
+	}
+}
@@ -100,6 +100,26 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Switches the indexes to a profile optimized for bulk loading while indexing,
+	 * and restores their original settings afterwards, even if mass indexing fails.
+	 * <p>
+	 * With the Elasticsearch backend, this disables periodic refreshes and replicas,
+	 * and switches the translog to asynchronous durability.
+	 * With the Lucene backend, this disables commits and background refreshes of index readers
+	 * until the end of mass indexing, and uses a larger RAM buffer for index writers.
+	 * <p>
+	 * Changes to the indexes will not be visible to search queries, nor safe from crashes,
+	 * until mass indexing ends.
+	 * The indexes also lose their replicas during mass indexing,
+	 * so this should only be used when the indexes are not relied upon while mass indexing.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this operation, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer bulkLoad(boolean enable);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
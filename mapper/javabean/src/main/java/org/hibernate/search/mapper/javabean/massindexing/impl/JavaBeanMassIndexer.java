@@ -66,6 +66,12 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer bulkLoad(boolean enable) {
+		delegate.bulkLoad( enable );
+		return this;
+	}
+
 	@Override
 	public CompletionStage<?> start() {
 		return delegate.start();
@@ -40,18 +40,26 @@ public class JavaBeanBootstrapIntrospector extends AbstractPojoHCAnnBootstrapInt
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static JavaBeanBootstrapIntrospector create(MethodHandles.Lookup lookup) {
-		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
-		return new JavaBeanBootstrapIntrospector( valueReadHandleFactory );
+		// Properties are read every time an entity is indexed:
+		// call getters directly through functions spun by the LambdaMetafactory whenever possible.
+		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+		// Annotation attributes are only read once, on bootstrap:
+		// method handles are cheaper to create and good enough.
+		ValueReadHandleFactory annotationValueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
+		return new JavaBeanBootstrapIntrospector( valueReadHandleFactory, annotationValueReadHandleFactory );
 	}
 
 	private final ValueReadHandleFactory valueReadHandleFactory;
+	private final ValueReadHandleFactory annotationValueReadHandleFactory;
 	private final PojoHCannOrmGenericContextHelper genericContextHelper;
 
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
-	private JavaBeanBootstrapIntrospector(ValueReadHandleFactory valueReadHandleFactory) {
+	private JavaBeanBootstrapIntrospector(ValueReadHandleFactory valueReadHandleFactory,
+			ValueReadHandleFactory annotationValueReadHandleFactory) {
 		super( new JavaReflectionManager() );
 		this.valueReadHandleFactory = valueReadHandleFactory;
+		this.annotationValueReadHandleFactory = annotationValueReadHandleFactory;
 		this.genericContextHelper = new PojoHCannOrmGenericContextHelper( this );
 	}
 
@@ -75,7 +83,7 @@ public PojoRawTypeModel<?> typeModel(String name) {
 
 	@Override
 	public ValueReadHandleFactory annotationValueReadHandleFactory() {
-		return valueReadHandleFactory;
+		return annotationValueReadHandleFactory;
 	}
 
 	ValueReadHandle<?> createValueReadHandle(Member member) throws IllegalAccessException {
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.generated.impl.PojoIndexingQueueEventPayloadDto;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
@@ -17,8 +19,8 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
 import org.apache.avro.io.DecoderFactory;
-import org.apache.avro.io.Encoder;
 import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.specific.SpecificDatumReader;
 import org.apache.avro.specific.SpecificDatumWriter;
@@ -27,39 +29,115 @@ public final class EventPayloadSerializationUtils {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// Datum writers and readers are thread-safe once created, and expensive to create:
+	// share them.
+	private static final SpecificDatumWriter<PojoIndexingQueueEventPayloadDto> WRITER =
+			new SpecificDatumWriter<>( PojoIndexingQueueEventPayloadDto.class );
+	private static final SpecificDatumReader<PojoIndexingQueueEventPayloadDto> READER =
+			new SpecificDatumReader<>( PojoIndexingQueueEventPayloadDto.class );
+
+	// Encoders, decoders and buffers are not thread-safe, but can be reused from one payload to the next:
+	// pool them.
+	// We don't use thread-locals, as they would leak the classloader when threads are pooled by a container.
+	private static final int MAX_POOLED_CODECS = 2 * Runtime.getRuntime().availableProcessors();
+	private static final Queue<Codec> CODEC_POOL = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger POOLED_CODEC_COUNT = new AtomicInteger();
+
 	private EventPayloadSerializationUtils() {
 	}
 
 	public static byte[] serialize(PojoIndexingQueueEventPayload payload) {
-		SpecificDatumWriter<PojoIndexingQueueEventPayloadDto> writer =
-				new SpecificDatumWriter<>( PojoIndexingQueueEventPayloadDto.class );
-
-		ByteArrayOutputStream out = new ByteArrayOutputStream();
-		Encoder encoder = EncoderFactory.get().directBinaryEncoder( out, null );
-
+		Codec codec = acquireCodec();
+		byte[] result;
 		try {
-			writer.write( EventPayloadToDtoConverterUtils.convert( payload ), encoder );
-			encoder.flush();
+			result = codec.serialize( EventPayloadToDtoConverterUtils.convert( payload ) );
 		}
 		catch (IOException | RuntimeException e) {
+			// The codec may hold leftovers of the failed payload: don't return it to the pool.
 			throw log.unableToSerializeOutboxEventPayloadWithAvro( e.getMessage(), e );
 		}
-
-		return out.toByteArray();
+		releaseCodec( codec );
+		return result;
 	}
 
 	public static PojoIndexingQueueEventPayload deserialize(byte[] payloadData) {
-		SpecificDatumReader<PojoIndexingQueueEventPayloadDto> reader = new SpecificDatumReader<>(
-				PojoIndexingQueueEventPayloadDto.class );
-
-		ByteArrayInputStream in = new ByteArrayInputStream( payloadData );
-		BinaryDecoder decoder = DecoderFactory.get().binaryDecoder( in, null );
-
+		Codec codec = acquireCodec();
+		PojoIndexingQueueEventPayloadDto dto;
 		try {
-			return EventPayloadFromDtoConverterUtils.convert( reader.read( null, decoder ) );
+			dto = codec.deserialize( payloadData );
 		}
 		catch (IOException | RuntimeException e) {
+			// The codec may hold leftovers of the failed payload: don't return it to the pool.
 			throw log.unableToDeserializeOutboxEventPayloadWithAvro( e.getMessage(), e );
 		}
+		releaseCodec( codec );
+		try {
+			return EventPayloadFromDtoConverterUtils.convert( dto );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToDeserializeOutboxEventPayloadWithAvro( e.getMessage(), e );
+		}
+	}
+
+	private static Codec acquireCodec() {
+		Codec codec = CODEC_POOL.poll();
+		if ( codec == null ) {
+			return new Codec();
+		}
+		POOLED_CODEC_COUNT.decrementAndGet();
+		return codec;
+	}
+
+	private static void releaseCodec(Codec codec) {
+		if ( POOLED_CODEC_COUNT.incrementAndGet() <= MAX_POOLED_CODECS ) {
+			CODEC_POOL.offer( codec );
+		}
+		else {
+			// The pool is full: let this codec be garbage-collected.
+			POOLED_CODEC_COUNT.decrementAndGet();
+		}
+	}
+
+	static final class Codec {
+		// Buffers that grew larger than this are dropped after use,
+		// so that a single huge payload does not retain memory forever.
+		static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+		private static final int INITIAL_BUFFER_SIZE = 512;
+
+		private ByteArrayOutputStream out = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+		private BinaryEncoder encoder;
+		private BinaryDecoder decoder;
+
+		byte[] serialize(PojoIndexingQueueEventPayloadDto dto) throws IOException {
+			boolean success = false;
+			try {
+				// Configure the encoder before resetting the buffer:
+				// configuring a reused encoder flushes whatever it still holds into the previous buffer.
+				encoder = EncoderFactory.get().binaryEncoder( out, encoder );
+				out.reset();
+				WRITER.write( dto, encoder );
+				encoder.flush();
+				success = true;
+				return out.toByteArray();
+			}
+			finally {
+				if ( !success ) {
+					// The encoder may hold bytes of the failed payload: never reuse it.
+					encoder = null;
+				}
+				if ( out.size() > MAX_RETAINED_BUFFER_SIZE ) {
+					out = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+				}
+			}
+		}
+
+		PojoIndexingQueueEventPayloadDto deserialize(byte[] payloadData) throws IOException {
+			decoder = DecoderFactory.get().binaryDecoder( payloadData, decoder );
+			return READER.read( null, decoder );
+		}
+
+		ByteArrayOutputStream bufferForTests() {
+			return out;
+		}
 	}
 }
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
+import org.hibernate.search.util.common.annotation.Incubating;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The strategy used by event processors to decide which outbox events they process.
+ *
+ * @see HibernateOrmMapperOutboxPollingSettings#COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY
+ */
+@Incubating
+public enum EventProcessorClaimingStrategyName {
+
+	/**
+	 * Event processors split outbox events into shards, based on the hash of the entity identifier,
+	 * and each event processor only processes events from the shards assigned to it.
+	 * <p>
+	 * Shards are assigned either dynamically, depending on the number of event processors in the cluster,
+	 * or statically, through configuration.
+	 * In both cases, the cluster must be rebalanced whenever an event processor joins or leaves the cluster,
+	 * which pauses event processing for a short while.
+	 */
+	SHARDING( "sharding" ),
+
+	/**
+	 * Event processors do not own any part of the outbox events:
+	 * they all poll the whole outbox table and claim chunks of events by locking the corresponding rows,
+	 * skipping rows already locked by another event processor.
+	 * <p>
+	 * Event processors can join or leave the cluster without any rebalancing,
+	 * and an idle event processor will pick up events that would otherwise wait for a busy one.
+	 * Events are still processed in order for any given entity.
+	 * <p>
+	 * Row locks are held for the whole processing of a chunk of events,
+	 * which requires a database that supports skipping locked rows
+	 * (e.g. {@code SELECT ... FOR UPDATE SKIP LOCKED}) for event processors to actually work in parallel.
+	 * <p>
+	 * All event processors in the cluster must use this strategy:
+	 * it cannot be combined with sharding.
+	 */
+	ROW_LOCKING( "row-locking" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static EventProcessorClaimingStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				EventProcessorClaimingStrategyName.values(),
+				EventProcessorClaimingStrategyName::externalRepresentation,
+				log::invalidEventProcessorClaimingStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	EventProcessorClaimingStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -61,6 +61,28 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_ENABLED =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_ENABLED;
 
+	/**
+	 * How event processors decide which outbox events they process.
+	 * <p>
+	 * <strong>WARNING:</strong> This property must have the same value for all application nodes.
+	 * Event processors using different strategies cannot work together,
+	 * and will stop processing events until the situation is resolved.
+	 * <p>
+	 * Only available when {@link HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * When this property is set to {@link EventProcessorClaimingStrategyName#ROW_LOCKING row-locking},
+	 * {@value #COORDINATION_EVENT_PROCESSOR_SHARDS_TOTAL_COUNT} and {@value #COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED}
+	 * must not be set.
+	 * <p>
+	 * Expects one of the strings defined in {@link EventProcessorClaimingStrategyName},
+	 * or a String that can be parsed into such value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY}.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY;
+
 	/**
 	 * The total number of shards across all application nodes for event processing.
 	 * <p>
@@ -359,6 +381,7 @@ private Radicals() {
 		public static final String COORDINATION_PREFIX = HibernateOrmMapperSettings.Radicals.COORDINATION_PREFIX;
 		public static final String COORDINATION_TENANTS = COORDINATION_PREFIX + CoordinationRadicals.TENANTS;
 		public static final String COORDINATION_EVENT_PROCESSOR_ENABLED = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_ENABLED;
+		public static final String COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_CLAIMING_STRATEGY;
 		public static final String COORDINATION_EVENT_PROCESSOR_SHARDS_TOTAL_COUNT = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_SHARDS_TOTAL_COUNT;
 		public static final String COORDINATION_EVENT_PROCESSOR_SHARDS_ASSIGNED = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_SHARDS_ASSIGNED;
 		public static final String COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL = COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_POLLING_INTERVAL;
@@ -383,6 +406,7 @@ private CoordinationRadicals() {
 		public static final String TENANTS = "tenants";
 		public static final String EVENT_PROCESSOR_PREFIX = "event_processor.";
 		public static final String EVENT_PROCESSOR_ENABLED = EVENT_PROCESSOR_PREFIX + "enabled";
+		public static final String EVENT_PROCESSOR_CLAIMING_STRATEGY = EVENT_PROCESSOR_PREFIX + "claiming_strategy";
 		public static final String EVENT_PROCESSOR_SHARDS_TOTAL_COUNT = EVENT_PROCESSOR_PREFIX + "shards.total_count";
 		public static final String EVENT_PROCESSOR_SHARDS_ASSIGNED = EVENT_PROCESSOR_PREFIX + "shards.assigned";
 		public static final String EVENT_PROCESSOR_POLLING_INTERVAL = EVENT_PROCESSOR_PREFIX + "polling_interval";
@@ -406,6 +430,8 @@ private Defaults() {
 		}
 
 		public static final boolean COORDINATION_EVENT_PROCESSOR_ENABLED = true;
+		public static final EventProcessorClaimingStrategyName COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY =
+				EventProcessorClaimingStrategyName.SHARDING;
 		public static final int COORDINATION_EVENT_PROCESSOR_POLLING_INTERVAL = 100;
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = 30000;
@@ -14,9 +14,15 @@ public enum AgentType {
 
 	EVENT_PROCESSING_DYNAMIC_SHARDING,
 	EVENT_PROCESSING_STATIC_SHARDING,
-	MASS_INDEXING;
+	MASS_INDEXING,
+	// Values are persisted by ordinal: new values must be added last.
+	EVENT_PROCESSING_ROW_LOCKING;
 
 	public static final Set<AgentType> EVENT_PROCESSING =
+			Collections.unmodifiableSet( EnumSet.of( EVENT_PROCESSING_DYNAMIC_SHARDING, EVENT_PROCESSING_STATIC_SHARDING,
+					EVENT_PROCESSING_ROW_LOCKING ) );
+
+	public static final Set<AgentType> EVENT_PROCESSING_SHARDING =
 			Collections.unmodifiableSet( EnumSet.of( EVENT_PROCESSING_DYNAMIC_SHARDING, EVENT_PROCESSING_STATIC_SHARDING ) );
 
 }
@@ -22,6 +22,8 @@ class ClusterTarget {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	static ClusterTarget create(List<Agent> allAgentsInIdOrder) {
+		checkNoRowLockingAgent( allAgentsInIdOrder );
+
 		Agent[] candidatesInIdOrder = allAgentsInIdOrder.toArray( new Agent[0] );
 		List<Agent> membersInShardOrder = new ArrayList<>();
 		List<Agent> excluded = new ArrayList<>();
@@ -34,6 +36,24 @@ static ClusterTarget create(List<Agent> allAgentsInIdOrder) {
 		return new ClusterTarget( membersInShardOrder, excluded );
 	}
 
+	private static void checkNoRowLockingAgent(List<Agent> allAgentsInIdOrder) {
+		Agent firstShardingAgent = null;
+		for ( Agent agent : allAgentsInIdOrder ) {
+			if ( AgentType.EVENT_PROCESSING_SHARDING.contains( agent.getType() ) ) {
+				firstShardingAgent = agent;
+				break;
+			}
+		}
+		for ( Agent agent : allAgentsInIdOrder ) {
+			if ( AgentType.EVENT_PROCESSING_ROW_LOCKING.equals( agent.getType() ) ) {
+				// Agents claiming events through row locks cannot be assigned shards,
+				// and sharding agents would process events that row-locking agents process too.
+				throw log.conflictingOutboxEventBackgroundProcessorAgentClaimingStrategy(
+						agent.getReference(), firstShardingAgent == null ? null : firstShardingAgent.getReference() );
+			}
+		}
+	}
+
 	private static void assignStaticAgents(Agent[] candidatesInIdOrder, List<Agent> membersInShardOrder) {
 		Agent firstStaticAgent = null;
 		Integer firstStaticAgentTotalShardCount = null;
@@ -134,7 +134,20 @@ public OutboxPollingEventProcessor create(ScheduledExecutorService scheduledExec
 					finderProvider, pollingInterval, pulseInterval, pulseExpiration, shardAssignmentOrNull );
 
 			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor,
-					agentRepositoryProvider, clusterLink );
+					agentRepositoryProvider, clusterLink, false );
+		}
+
+		public OutboxPollingEventProcessor createRowLocking(ScheduledExecutorService scheduledExecutor,
+				AgentRepositoryProvider agentRepositoryProvider) {
+			String agentName = namePrefix( tenantId );
+			OutboxPollingEventProcessorRowLockingClusterLink clusterLink = new OutboxPollingEventProcessorRowLockingClusterLink(
+					agentName, mapping.failureHandler(), clock,
+					new RowLockingOutboxEventFinder( agentName ), pollingInterval, pulseInterval, pulseExpiration );
+
+			// Row locks are what prevents other processors from claiming our events:
+			// they must be held until events are deleted or updated.
+			return new OutboxPollingEventProcessor( agentName, this, scheduledExecutor,
+					agentRepositoryProvider, clusterLink, true );
 		}
 	}
 
@@ -153,7 +166,8 @@ private enum Status {
 
 	private final AtomicReference<Status> status = new AtomicReference<>( Status.STOPPED );
 	private final AgentRepositoryProvider agentRepositoryProvider;
-	private final OutboxPollingEventProcessorClusterLink clusterLink;
+	private final AbstractAgentClusterLink<OutboxPollingEventProcessingInstructions> clusterLink;
+	private final boolean updateEventsInProcessingTransaction;
 	private final TransactionHelper transactionHelper;
 	private final FailureHandler failureHandler;
 	private final Worker worker;
@@ -162,7 +176,8 @@ private enum Status {
 	public OutboxPollingEventProcessor(String name, Factory factory,
 			ScheduledExecutorService executor,
 			AgentRepositoryProvider agentRepositoryProvider,
-			OutboxPollingEventProcessorClusterLink clusterLink) {
+			AbstractAgentClusterLink<OutboxPollingEventProcessingInstructions> clusterLink,
+			boolean updateEventsInProcessingTransaction) {
 		this.name = name;
 		this.mapping = factory.mapping;
 		this.tenantId = factory.tenantId;
@@ -172,6 +187,7 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 		this.retryDelay = factory.retryDelay;
 		this.agentRepositoryProvider = agentRepositoryProvider;
 		this.clusterLink = clusterLink;
+		this.updateEventsInProcessingTransaction = updateEventsInProcessingTransaction;
 
 		transactionHelper = new TransactionHelper( mapping.sessionFactory() );
 		failureHandler = mapping.failureHandler();
@@ -274,8 +290,20 @@ public CompletableFuture<?> work() {
 
 					// Process the events
 					eventProcessing.processEvents( events );
+
+					if ( updateEventsInProcessingTransaction ) {
+						// Events were claimed by locking their rows:
+						// delete/update them before the locks are released,
+						// so that no other processor can claim them in the meantime.
+						new OutboxEventUpdater( failureHandler, eventProcessing, session, name, retryDelay )
+								.process();
+					}
 				} );
 
+				if ( updateEventsInProcessingTransaction ) {
+					return CompletableFuture.completedFuture( null );
+				}
+
 				// Updating events involves database locks on a table that
 				// can see heavily concurrent access (the outbox table),
 				// so we do that in a separate transaction, one that is as short as possible.
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.Agent;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentPersister;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepository;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentState;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentType;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.logging.impl.Log;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The cluster link of event processors that claim events by locking rows in the outbox table.
+ * <p>
+ * Such event processors do not need any shard assignment,
+ * so joining or leaving the cluster does not involve any rebalancing:
+ * the only reason for such an event processor to stop processing events
+ * is a mass indexer being active, or an event processor relying on sharding being present.
+ */
+public final class OutboxPollingEventProcessorRowLockingClusterLink
+		extends AbstractAgentClusterLink<OutboxPollingEventProcessingInstructions> {
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final OutboxEventFinder eventFinder;
+
+	public OutboxPollingEventProcessorRowLockingClusterLink(String agentName,
+			FailureHandler failureHandler, Clock clock, OutboxEventFinder eventFinder,
+			Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration) {
+		super(
+				new AgentPersister( AgentType.EVENT_PROCESSING_ROW_LOCKING, agentName, null ),
+				failureHandler, clock,
+				pollingInterval, pulseInterval, pulseExpiration
+		);
+		this.eventFinder = eventFinder;
+		log.tracef( "Agent '%s': created, claiming events through row locks", agentName );
+	}
+
+	@Override
+	protected OutboxPollingEventProcessingInstructions doPulse(AgentRepository agentRepository, Instant now,
+			List<Agent> allAgentsInIdOrder, Agent self) {
+		for ( Agent agent : allAgentsInIdOrder ) {
+			if ( AgentType.MASS_INDEXING.equals( agent.getType() ) ) {
+				log.logf( self.getState() != AgentState.SUSPENDED ? Logger.Level.INFO : Logger.Level.TRACE,
+						"Agent '%s': another agent '%s' is currently mass indexing",
+						selfReference(), agent );
+				agentPersister.setSuspended( self );
+				return instructCommitAndRetryPulseAfterInterval( now );
+			}
+		}
+
+		for ( Agent agent : allAgentsInIdOrder ) {
+			if ( AgentType.EVENT_PROCESSING_SHARDING.contains( agent.getType() ) ) {
+				// Sharding agents would process the same events as this agent:
+				// let the user know, and stay out of the way until the situation is resolved.
+				SearchException e = log.conflictingOutboxEventBackgroundProcessorAgentClaimingStrategy(
+						selfReference(), agent.getReference() );
+				FailureContext.Builder contextBuilder = FailureContext.builder();
+				contextBuilder.throwable( log.outboxEventProcessorPulseFailed( selfReference(), e.getMessage(),
+						allAgentsInIdOrder, e ) );
+				contextBuilder.failingOperation( log.outboxEventProcessorPulse( selfReference() ) );
+				failureHandler.handle( contextBuilder.build() );
+				agentPersister.setSuspended( self );
+				return instructCommitAndRetryPulseAfterInterval( now );
+			}
+		}
+
+		// Other event processors claim events through row locks as well:
+		// we can all process events concurrently without any coordination.
+		agentPersister.setRunning( self, null );
+		return instructProceedWithEventProcessing( now );
+	}
+
+	@Override
+	protected OutboxPollingEventProcessingInstructions instructCommitAndRetryPulseASAP(Instant now) {
+		Instant expiration = now.plus( pollingInterval );
+		log.tracef( "Agent '%s': instructions are to not process events and to retry a pulse in %s, around %s",
+				selfReference(), pollingInterval, expiration );
+		// "As soon as possible" still means we wait for a polling interval,
+		// to avoid polling the database continuously.
+		return new OutboxPollingEventProcessingInstructions( clock, expiration, Optional.empty() );
+	}
+
+	private OutboxPollingEventProcessingInstructions instructCommitAndRetryPulseAfterInterval(Instant now) {
+		Instant expiration = now.plus( pulseInterval );
+		log.tracef( "Agent '%s': instructions are to not process events and to retry a pulse in %s, around %s",
+				selfReference(), pulseInterval, expiration );
+		return new OutboxPollingEventProcessingInstructions( clock, expiration, Optional.empty() );
+	}
+
+	private OutboxPollingEventProcessingInstructions instructProceedWithEventProcessing(Instant now) {
+		Instant expiration = now.plus( pulseInterval );
+		log.tracef( "Agent '%s': instructions are to process events and to retry a pulse in %s, around %s",
+				selfReference(), pulseInterval, expiration );
+		return new OutboxPollingEventProcessingInstructions( clock, expiration, Optional.of( eventFinder ) );
+	}
+
+}
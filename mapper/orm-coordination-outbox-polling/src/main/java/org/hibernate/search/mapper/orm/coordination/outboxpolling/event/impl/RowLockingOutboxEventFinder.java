@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl;
+
+import static org.hibernate.search.mapper.orm.coordination.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalJaxbMappingProducer.ENTITY_NAME;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+
+/**
+ * An event finder that claims events by locking the corresponding rows,
+ * so that multiple event processors can poll the whole outbox table concurrently
+ * without relying on sharding.
+ * <p>
+ * The finder lists (without locking) a window of the oldest pending events,
+ * splits that window into contiguous chunks of at most {@code maxResults} events,
+ * and locks the events of one chunk, picked at random,
+ * skipping rows that are already locked by another event processor.
+ * If all events of that chunk are already locked, it tries the next chunk, and so on.
+ * Picking chunks at random spreads event processors over the window,
+ * which keeps them from all competing for the very same rows.
+ * <p>
+ * Locks are held until the end of the transaction,
+ * so the caller must process the events and update the outbox table in that same transaction.
+ * <p>
+ * To preserve the order of events for a given entity,
+ * claimed events are ignored if an older pending event exists for the same entity
+ * and was not claimed in the same batch:
+ * they will be processed in a later batch, after the older event.
+ */
+public final class RowLockingOutboxEventFinder implements OutboxEventFinder {
+
+	// How many chunks of events to list when looking for events to claim.
+	// More chunks mean more event processors can claim events concurrently from a single window,
+	// but also larger queries.
+	private static final int CHUNKS_PER_WINDOW = 10;
+
+	private static final String PENDING_PREDICATE = "e.status = :status"
+			+ " and (e.processAfter is null or e.processAfter < :now)";
+
+	private static final String CANDIDATE_IDS_QUERY = "select e.id from " + ENTITY_NAME + " e"
+			+ " where " + PENDING_PREDICATE
+			+ " order by e.id";
+
+	private static final String OLDER_EVENTS_QUERY = "select e.id, e.entityName, e.entityId from " + ENTITY_NAME + " e"
+			+ " where " + PENDING_PREDICATE
+			+ " and e.entityIdHash in (:hashes)"
+			+ " and e.id < :maxId"
+			+ " and e.id not in (:ids)";
+
+	private final String processorName;
+
+	public RowLockingOutboxEventFinder(String processorName) {
+		this.processorName = processorName;
+	}
+
+	@Override
+	public List<OutboxEvent> findOutboxEvents(Session session, int maxResults) {
+		Instant now = Instant.now();
+		List<Long> candidateIds = findCandidateIds( session, now, maxResults );
+		if ( candidateIds.isEmpty() ) {
+			return Collections.emptyList();
+		}
+
+		int chunkCount = ( candidateIds.size() + maxResults - 1 ) / maxResults;
+		int firstChunk = ThreadLocalRandom.current().nextInt( chunkCount );
+		for ( int i = 0; i < chunkCount; i++ ) {
+			int chunk = ( firstChunk + i ) % chunkCount;
+			List<Long> chunkIds = candidateIds.subList( chunk * maxResults,
+					Math.min( ( chunk + 1 ) * maxResults, candidateIds.size() ) );
+			List<OutboxEvent> claimed = claim( session, now, chunkIds );
+			if ( !claimed.isEmpty() ) {
+				return claimed;
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private List<Long> findCandidateIds(Session session, Instant now, int maxResults) {
+		Query<Long> query = session.createQuery( CANDIDATE_IDS_QUERY, Long.class );
+		setPendingParams( query, now );
+		query.setMaxResults( maxResults * CHUNKS_PER_WINDOW );
+		return query.list();
+	}
+
+	private List<OutboxEvent> claim(Session session, Instant now, List<Long> chunkIds) {
+		List<OutboxEvent> locked = OutboxEventLoader.loadLocking( session, new HashSet<>( chunkIds ), processorName );
+		List<OutboxEvent> claimed = new ArrayList<>( locked.size() );
+		for ( OutboxEvent event : locked ) {
+			// Another processor may have processed or rescheduled this event
+			// between the time we listed candidates and the time we locked it.
+			if ( OutboxEvent.Status.PENDING.equals( event.getStatus() )
+					&& ( event.getProcessAfter() == null || event.getProcessAfter().isBefore( now ) ) ) {
+				claimed.add( event );
+			}
+		}
+		if ( claimed.isEmpty() ) {
+			return claimed;
+		}
+		claimed.sort( Comparator.comparing( OutboxEvent::getId ) );
+		return withoutEventsPrecededByUnclaimedEvents( session, now, claimed );
+	}
+
+	private List<OutboxEvent> withoutEventsPrecededByUnclaimedEvents(Session session, Instant now,
+			List<OutboxEvent> claimed) {
+		Set<Long> claimedIds = new HashSet<>();
+		Set<Integer> hashes = new HashSet<>();
+		for ( OutboxEvent event : claimed ) {
+			claimedIds.add( event.getId() );
+			hashes.add( event.getEntityIdHash() );
+		}
+		Long maxId = claimed.get( claimed.size() - 1 ).getId();
+
+		Query<Object[]> query = session.createQuery( OLDER_EVENTS_QUERY, Object[].class );
+		setPendingParams( query, now );
+		query.setParameter( "hashes", hashes );
+		query.setParameter( "maxId", maxId );
+		query.setParameter( "ids", claimedIds );
+		Map<OutboxEventReference, Long> oldestUnclaimedIdByReference = new HashMap<>();
+		for ( Object[] row : query.list() ) {
+			oldestUnclaimedIdByReference.merge( new OutboxEventReference( (String) row[1], (String) row[2] ),
+					(Long) row[0], Math::min );
+		}
+		if ( oldestUnclaimedIdByReference.isEmpty() ) {
+			return claimed;
+		}
+
+		List<OutboxEvent> result = new ArrayList<>( claimed.size() );
+		for ( OutboxEvent event : claimed ) {
+			Long oldestUnclaimedId = oldestUnclaimedIdByReference.get( event.getReference() );
+			if ( oldestUnclaimedId == null || event.getId() < oldestUnclaimedId ) {
+				result.add( event );
+			}
+			// Else: an older event for the same entity is still pending, and maybe being processed;
+			// leave this event for later.
+		}
+		return result;
+	}
+
+	private static void setPendingParams(Query<?> query, Instant now) {
+		query.setParameter( "status", OutboxEvent.Status.PENDING );
+		query.setParameter( "now", now );
+	}
+}
@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategy;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyPreStopContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyStartContext;
+import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.EventProcessorClaimingStrategyName;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
 import org.hibernate.search.mapper.orm.coordination.outboxpolling.cluster.impl.AgentRepositoryProvider;
@@ -57,6 +58,12 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_ENABLED )
 					.build();
 
+	private static final ConfigurationProperty<EventProcessorClaimingStrategyName> EVENT_PROCESSOR_CLAIMING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_CLAIMING_STRATEGY )
+					.as( EventProcessorClaimingStrategyName.class, EventProcessorClaimingStrategyName::of )
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_CLAIMING_STRATEGY )
+					.build();
+
 	private static final OptionalConfigurationProperty<Integer> EVENT_PROCESSOR_SHARDS_TOTAL_COUNT =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_SHARDS_TOTAL_COUNT )
 					.asIntegerStrictlyPositive()
@@ -236,6 +243,18 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 
 			boolean shardsStatic = EVENT_PROCESSOR_SHARDS_TOTAL_COUNT.get( configurationSource ).isPresent()
 					|| EVENT_PROCESSOR_SHARDS_ASSIGNED.get( configurationSource ).isPresent();
+
+			EventProcessorClaimingStrategyName claimingStrategy = EVENT_PROCESSOR_CLAIMING_STRATEGY.get( configurationSource );
+			if ( EventProcessorClaimingStrategyName.ROW_LOCKING.equals( claimingStrategy ) ) {
+				if ( shardsStatic ) {
+					throw log.staticShardingWithRowLockingClaimingStrategy( claimingStrategy.externalRepresentation(),
+							EVENT_PROCESSOR_SHARDS_TOTAL_COUNT.resolveOrRaw( configurationSource ),
+							EVENT_PROCESSOR_SHARDS_ASSIGNED.resolveOrRaw( configurationSource ) );
+				}
+				initializeRowLockingEventProcessor( context, factory );
+				return;
+			}
+
 			List<ShardAssignmentDescriptor> shardAssignmentOrNulls;
 			if ( shardsStatic ) {
 				int totalShardCount = EVENT_PROCESSOR_SHARDS_TOTAL_COUNT.getAndMapOrThrow(
@@ -268,6 +287,17 @@ private void initializeEventProcessors(CoordinationStrategyStartContext context,
 			}
 		}
 
+		private void initializeRowLockingEventProcessor(CoordinationStrategyStartContext context,
+				OutboxPollingEventProcessor.Factory factory) {
+			// A single processor is enough: processors on other application nodes will claim other events.
+			eventProcessorExecutor = context.threadPoolProvider()
+					.newScheduledExecutor( 1, OutboxPollingEventProcessor.namePrefix( tenantId ) );
+			OutboxPollingEventProcessor eventProcessor =
+					factory.createRowLocking( eventProcessorExecutor, agentRepositoryProviderHolder.get() );
+			eventProcessors = Collections.singletonList( eventProcessor );
+			eventProcessor.start();
+		}
+
 		private Integer checkTotalShardCount(Integer totalShardCount) {
 			if ( totalShardCount <= 0 ) {
 				throw log.invalidTotalShardCount();
@@ -160,4 +160,25 @@ SearchException conflictingOutboxEventBackgroundProcessorAgentShardsForStaticSha
 			value = "Multi-tenancy is not enabled but a tenant id is specified. Trying to use the tenant id: '%1$s'.")
 	SearchException multiTenancyNotEnabled(String tenantId);
 
+	@Message(id = ID_OFFSET + 26,
+			value = "Invalid event processor claiming strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidEventProcessorClaimingStrategyName(String invalidRepresentation,
+			List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 27, value = "Agent '%1$s' claims events by locking rows,"
+			+ " but this conflicts with agent '%2$s' which relies on sharding."
+			+ " This can be a temporary situation caused by some application instances being forcibly stopped and replacements being spun up,"
+			+ " in which case the problem will resolve itself after a few seconds once the registration of the old instances expires."
+			+ " However, if the situation persists, this indicates misconfiguration, with multiple application instances participating"
+			+ " in event processing and using different claiming strategies;"
+			+ " consider setting the same claiming strategy on all application instances.")
+	SearchException conflictingOutboxEventBackgroundProcessorAgentClaimingStrategy(
+			AgentReference reference, AgentReference conflictingAgentReference);
+
+	@Message(id = ID_OFFSET + 28,
+			value = "Static sharding cannot be used with the event processor claiming strategy '%1$s'."
+					+ " Either unset configuration properties '%2$s' and '%3$s', or use a different claiming strategy.")
+	SearchException staticShardingWithRowLockingClaimingStrategy(String claimingStrategy,
+			String totalShardCountPropertyKey, String assignedShardsPropertyKey);
+
 }
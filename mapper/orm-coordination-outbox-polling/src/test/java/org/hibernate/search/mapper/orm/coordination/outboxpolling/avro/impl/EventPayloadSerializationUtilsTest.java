@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.coordination.outboxpolling.avro.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+public class EventPayloadSerializationUtilsTest {
+
+	@Test
+	public void roundTrip() {
+		PojoIndexingQueueEventPayload payload = payload( "route1", "path1", "path2" );
+
+		PojoIndexingQueueEventPayload result =
+				EventPayloadSerializationUtils.deserialize( EventPayloadSerializationUtils.serialize( payload ) );
+
+		assertThat( result ).usingRecursiveComparison().isEqualTo( payload );
+	}
+
+	@Test
+	public void serialize_reuseAfterFailure() throws Exception {
+		PojoIndexingQueueEventPayload payload = payload( "route1", "path1", "path2" );
+		byte[] expected = new EventPayloadSerializationUtils.Codec()
+				.serialize( EventPayloadToDtoConverterUtils.convert( payload ) );
+
+		// Routes get written before the null path makes serialization fail.
+		PojoIndexingQueueEventPayload invalidPayload = payload( "someOtherRoute", "path1", null );
+
+		EventPayloadSerializationUtils.Codec codec = new EventPayloadSerializationUtils.Codec();
+		assertThatThrownBy( () -> codec.serialize( EventPayloadToDtoConverterUtils.convert( invalidPayload ) ) )
+				.isInstanceOf( NullPointerException.class );
+		assertThat( codec.serialize( EventPayloadToDtoConverterUtils.convert( payload ) ) )
+				.isEqualTo( expected );
+
+		assertThatThrownBy( () -> EventPayloadSerializationUtils.serialize( invalidPayload ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to serialize OutboxEvent payload with Avro" );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( EventPayloadSerializationUtils.serialize( payload ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void serialize_dropLargeBuffer() throws Exception {
+		EventPayloadSerializationUtils.Codec codec = new EventPayloadSerializationUtils.Codec();
+		ByteArrayOutputStream initialBuffer = codec.bufferForTests();
+
+		codec.serialize( EventPayloadToDtoConverterUtils.convert( payload( "route1", "path1" ) ) );
+		assertThat( codec.bufferForTests() ).isSameAs( initialBuffer );
+
+		char[] chars = new char[EventPayloadSerializationUtils.Codec.MAX_RETAINED_BUFFER_SIZE];
+		Arrays.fill( chars, 'a' );
+		PojoIndexingQueueEventPayload largePayload = payload( "route1", new String( chars ) );
+		byte[] largeResult = codec.serialize( EventPayloadToDtoConverterUtils.convert( largePayload ) );
+		assertThat( largeResult ).hasSizeGreaterThan( EventPayloadSerializationUtils.Codec.MAX_RETAINED_BUFFER_SIZE );
+		assertThat( codec.bufferForTests() ).isNotSameAs( initialBuffer );
+
+		// The codec remains usable with its new, smaller buffer.
+		PojoIndexingQueueEventPayload payload = payload( "route1", "path1" );
+		assertThat( EventPayloadFromDtoConverterUtils.convert(
+				codec.deserialize( codec.serialize( EventPayloadToDtoConverterUtils.convert( payload ) ) ) ) )
+				.usingRecursiveComparison().isEqualTo( payload );
+	}
+
+	private static PojoIndexingQueueEventPayload payload(String routingKey, String... dirtyPaths) {
+		Set<String> paths = new HashSet<>( Arrays.asList( dirtyPaths ) );
+		return new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( routingKey ) ),
+				new DirtinessDescriptor( false, true, paths, false ) );
+	}
+
+}
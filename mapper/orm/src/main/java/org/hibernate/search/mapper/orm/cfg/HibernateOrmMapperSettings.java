@@ -91,6 +91,25 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * Whether to use queries to retrieve the identifiers of entities to reindex
+	 * when resolving them requires traversing an uninitialized collection.
+	 * <p>
+	 * When enabled, and an entity to reindex is referenced from a modified entity through an uninitialized collection,
+	 * e.g. the inverse side of an {@code @IndexedEmbedded} association,
+	 * Hibernate Search will execute a query that selects the identifiers of entities in that collection
+	 * instead of initializing the collection,
+	 * then load the entities to reindex in batches.
+	 * This can avoid loading very large collections into the session,
+	 * but will execute one additional query per modified entity and association.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS = PREFIX + Radicals.AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -193,6 +212,7 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.STRATEGY;
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.SYNCHRONIZATION_STRATEGY;
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.ENABLE_DIRTY_CHECK;
+		public static final String AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS = AUTOMATIC_INDEXING_PREFIX + AutomaticIndexingRadicals.QUERY_UNINITIALIZED_ASSOCIATIONS;
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
@@ -222,6 +242,7 @@ private AutomaticIndexingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String SYNCHRONIZATION_STRATEGY = "synchronization.strategy";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
+		public static final String QUERY_UNINITIALIZED_ASSOCIATIONS = "query_uninitialized_associations";
 	}
 
 	/**
@@ -267,6 +288,7 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final boolean AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS = false;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
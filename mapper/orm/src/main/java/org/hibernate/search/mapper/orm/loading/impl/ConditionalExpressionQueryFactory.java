@@ -16,6 +16,8 @@
 public abstract class ConditionalExpressionQueryFactory<E, I> implements TypeQueryFactory<E, I> {
 
 	private static final String TYPES_PARAM_NAME = "HIBERNATE_SEARCH_INCLUDED_TYPES_FILTER";
+	private static final String ID_LOWER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_LOWER_BOUND";
+	private static final String ID_UPPER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_UPPER_BOUND";
 	protected final String uniquePropertyName;
 
 	public ConditionalExpressionQueryFactory(String uniquePropertyName) {
@@ -42,6 +44,48 @@ public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor
 		);
 	}
 
+	@Override
+	public Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			EntityPersister persister, Set<? extends Class<? extends E>> includedTypesFilter,
+			ConditionalExpression conditionalExpressionOrNull) {
+		String hql = "select min(e." + uniquePropertyName + "), max(e." + uniquePropertyName + ")"
+				+ " from " + persister.getEntityName() + " e";
+		if ( conditionalExpressionOrNull != null ) {
+			return createQueryWithConditionalExpression( session, hql, Object[].class, "e",
+					includedTypesFilter, conditionalExpressionOrNull );
+		}
+		if ( includedTypesFilter.isEmpty() ) {
+			return session.createQuery( hql, Object[].class );
+		}
+
+		hql += " where type(e) in (:" + TYPES_PARAM_NAME + ")";
+		Query<Object[]> query = session.createQuery( hql, Object[].class );
+		query.setParameterList( TYPES_PARAM_NAME, includedTypesFilter );
+		return query;
+	}
+
+	@Override
+	public ConditionalExpression createConditionForIdentifierRange(Object lowerBoundOrNull, Object upperBoundOrNull) {
+		StringBuilder hql = new StringBuilder();
+		if ( lowerBoundOrNull != null ) {
+			hql.append( "e." ).append( uniquePropertyName ).append( " >= :" ).append( ID_LOWER_BOUND_PARAM_NAME );
+		}
+		if ( upperBoundOrNull != null ) {
+			if ( hql.length() > 0 ) {
+				hql.append( " and " );
+			}
+			hql.append( "e." ).append( uniquePropertyName ).append( " < :" ).append( ID_UPPER_BOUND_PARAM_NAME );
+		}
+		ConditionalExpression expression = new ConditionalExpression( hql.toString() );
+		if ( lowerBoundOrNull != null ) {
+			expression.param( ID_LOWER_BOUND_PARAM_NAME, lowerBoundOrNull );
+		}
+		if ( upperBoundOrNull != null ) {
+			expression.param( ID_UPPER_BOUND_PARAM_NAME, upperBoundOrNull );
+		}
+		return expression;
+	}
+
 	private <T> Query<T> createQueryWithConditionalExpression(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression) {
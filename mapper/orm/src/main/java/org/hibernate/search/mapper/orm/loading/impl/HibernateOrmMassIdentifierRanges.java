@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifiers of entities to mass index into ranges,
+ * based on the lowest and highest identifier found in the database.
+ * <p>
+ * Only integer identifiers are supported:
+ * identifiers of other types are never split.
+ */
+public final class HibernateOrmMassIdentifierRanges {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private HibernateOrmMassIdentifierRanges() {
+	}
+
+	/**
+	 * @param typeQueryLoader The query loader, used to retrieve the lowest and highest identifiers.
+	 * @param options The mass loading options.
+	 * @param session The session to execute queries in.
+	 * @param maxRangeCount The maximum number of ranges.
+	 * @param <I> The type of identifiers.
+	 * @return Boundaries between ranges, in ascending order and without duplicates,
+	 * or an empty list if identifiers cannot be split.
+	 */
+	public static <I> List<I> boundaries(HibernateOrmQueryLoader<?, I> typeQueryLoader,
+			HibernateOrmMassLoadingOptions options, SharedSessionContractImplementor session,
+			int maxRangeCount) {
+		if ( maxRangeCount <= 1 ) {
+			return Collections.emptyList();
+		}
+		if ( options.objectsLimit() != 0 ) {
+			// Limits are applied to each identifier loader; splitting would load too many identifiers.
+			return Collections.emptyList();
+		}
+		if ( !typeQueryLoader.uniquePropertyIsTheEntityId() ) {
+			return Collections.emptyList();
+		}
+
+		TransactionHelper transactionHelper = new TransactionHelper( session.getFactory() );
+		Object[] bounds = transactionHelper.inTransaction( session, options.idLoadingTransactionTimeout(),
+				(Function<SharedSessionContractImplementor, Object[]>) s -> typeQueryLoader
+						.createIdentifierBoundsQuery( s ).setCacheable( false ).uniqueResult() );
+		List<I> result = boundaries( bounds[0], bounds[1], maxRangeCount );
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Identifiers in [%s, %s] split into %d ranges with boundaries %s",
+					bounds[0], bounds[1], result.size() + 1, result );
+		}
+		return result;
+	}
+
+	static <I> List<I> boundaries(Object min, Object max, int maxRangeCount) {
+		if ( min == null || max == null || !min.getClass().equals( max.getClass() ) ) {
+			// No entity, or unexpected results.
+			return Collections.emptyList();
+		}
+		Function<BigInteger, ?> converter = converter( min.getClass() );
+		if ( converter == null ) {
+			// Unsupported identifier type.
+			return Collections.emptyList();
+		}
+
+		BigInteger low = toBigInteger( min );
+		BigInteger span = toBigInteger( max ).subtract( low );
+		BigInteger rangeCount = BigInteger.valueOf( maxRangeCount );
+		List<I> result = new ArrayList<>( maxRangeCount - 1 );
+		BigInteger previous = low;
+		for ( int i = 1; i < maxRangeCount; i++ ) {
+			BigInteger boundary = low.add( span.multiply( BigInteger.valueOf( i ) ).divide( rangeCount ) );
+			if ( boundary.compareTo( previous ) <= 0 ) {
+				// Fewer identifiers than ranges: skip empty ranges.
+				continue;
+			}
+			@SuppressWarnings("unchecked")
+			I converted = (I) converter.apply( boundary );
+			result.add( converted );
+			previous = boundary;
+		}
+		return result;
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		if ( value instanceof BigInteger ) {
+			return (BigInteger) value;
+		}
+		return BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	private static Function<BigInteger, ?> converter(Class<?> type) {
+		if ( Long.class.equals( type ) ) {
+			return BigInteger::longValue;
+		}
+		else if ( Integer.class.equals( type ) ) {
+			return BigInteger::intValue;
+		}
+		else if ( Short.class.equals( type ) ) {
+			return BigInteger::shortValue;
+		}
+		else if ( BigInteger.class.equals( type ) ) {
+			return Function.identity();
+		}
+		else {
+			return null;
+		}
+	}
+}
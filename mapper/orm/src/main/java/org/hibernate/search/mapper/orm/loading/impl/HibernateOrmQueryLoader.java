@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.MultiIdentifierLoadAccess;
@@ -22,10 +23,10 @@
 	private final ConditionalExpression conditionalExpression;
 
 	public HibernateOrmQueryLoader(TypeQueryFactory<E, I> queryFactory,
-			Set<Class<? extends E>> includedTypesFilter) {
+			EntityPersister persister, Set<Class<? extends E>> includedTypesFilter) {
 		this.queryFactory = queryFactory;
 		this.includedTypesFilter = includedTypesFilter;
-		this.persister = null;
+		this.persister = persister;
 		this.conditionalExpression = null;
 	}
 
@@ -54,6 +55,27 @@ public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session)
 				);
 	}
 
+	public Query<Object[]> createIdentifierBoundsQuery(SharedSessionContractImplementor session) {
+		return queryFactory.createQueryForIdentifierBounds(
+				session, persister, includedTypesFilter, conditionalExpression
+		);
+	}
+
+	/**
+	 * @param lowerBound The lower bound of identifiers to load, inclusive, if any.
+	 * @param upperBound The upper bound of identifiers to load, exclusive, if any.
+	 * @return A loader whose count and identifier queries only target identifiers within the given bounds.
+	 */
+	public HibernateOrmQueryLoader<E, I> restrictToIdentifierRange(Optional<I> lowerBound, Optional<I> upperBound) {
+		if ( !lowerBound.isPresent() && !upperBound.isPresent() ) {
+			return this;
+		}
+		ConditionalExpression rangeExpression = queryFactory.createConditionForIdentifierRange(
+				lowerBound.orElse( null ), upperBound.orElse( null ) );
+		return new HibernateOrmQueryLoader<>( queryFactory, persister, includedTypesFilter,
+				conditionalExpression == null ? rangeExpression : conditionalExpression.and( rangeExpression ) );
+	}
+
 	public Query<E> createLoadingQuery(SessionImplementor session, String idParameterName) {
 		return queryFactory.createQueryForLoadByUniqueProperty( session, idParameterName );
 	}
@@ -47,6 +47,11 @@ Query<Long> createQueryForCount(SharedSessionContractImplementor session, Entity
 	Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session, EntityPersister persister,
 			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpression);
 
+	Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session, EntityPersister persister,
+			Set<? extends Class<? extends E>> includedTypesFilter, ConditionalExpression conditionalExpressionOrNull);
+
+	ConditionalExpression createConditionForIdentifierRange(Object lowerBoundOrNull, Object upperBoundOrNull);
+
 	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
 
 	MultiIdentifierLoadAccess<E> createMultiIdentifierLoadAccess(SessionImplementor session);
@@ -108,6 +108,11 @@ public List<PojoRawTypeIdentifier<? super E>> ascendingSuperTypes() {
 		return ascendingSuperTypes;
 	}
 
+	@Override
+	public boolean documentIdIsEntityId() {
+		return documentIdIsEntityId;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
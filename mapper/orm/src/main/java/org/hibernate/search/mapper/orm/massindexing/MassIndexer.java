@@ -50,6 +50,22 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of root entities, for each type indexed in parallel.
+	 * <p>
+	 * When set to a value higher than {@code 1},
+	 * identifiers are split into ranges based on the lowest and highest identifier in the database,
+	 * and each range is loaded in a separate transaction.
+	 * This is only supported for entities with integer identifiers,
+	 * and is disabled when {@link #limitIndexedObjectsTo(long) limiting the number of indexed objects}.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -117,6 +133,26 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Switches the indexes to a profile optimized for bulk loading while indexing,
+	 * and restores their original settings afterwards, even if mass indexing fails.
+	 * <p>
+	 * With the Elasticsearch backend, this disables periodic refreshes and replicas,
+	 * and switches the translog to asynchronous durability.
+	 * With the Lucene backend, this disables commits and background refreshes of index readers
+	 * until the end of mass indexing, and uses a larger RAM buffer for index writers.
+	 * <p>
+	 * Changes to the indexes will not be visible to search queries, nor safe from crashes,
+	 * until mass indexing ends.
+	 * The indexes also lose their replicas during mass indexing,
+	 * so this should only be used when the indexes are not relied upon while mass indexing.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this operation, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer bulkLoad(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -55,6 +55,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		delegate.threadsToLoadIdentifiers( numberOfThreads );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
@@ -85,6 +91,12 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer bulkLoad(boolean enable) {
+		delegate.bulkLoad( enable );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer limitIndexedObjectsTo(long maximum) {
 		context.objectsLimit( maximum );
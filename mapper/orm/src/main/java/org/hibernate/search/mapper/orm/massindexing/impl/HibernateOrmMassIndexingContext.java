@@ -11,6 +11,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.hibernate.CacheMode;
@@ -22,6 +23,7 @@
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmEntityLoadingStrategy;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmMassEntityLoader;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmMassIdentifierLoader;
+import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmMassIdentifierRanges;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmMassLoadingOptions;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmQueryLoader;
 import org.hibernate.search.mapper.orm.loading.impl.LoadingTypeContext;
@@ -168,6 +170,29 @@ public int hashCode() {
 			return Objects.hash( delegate, conditionalExpression );
 		}
 
+		@Override
+		public List<I> identifierRangeBoundaries(Set<PojoRawTypeIdentifier<? extends E>> includedTypes,
+				int maxRangeCount) {
+			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
+			List<LoadingTypeContext<? extends E>> typeContexts = includedTypes.stream()
+					.map( typeContextProvider::forExactType )
+					.collect( Collectors.toList() );
+
+			HibernateOrmQueryLoader<E, I> typeQueryLoader = delegate.createQueryLoader(
+					typeContexts, conditionalExpression );
+			SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
+					.withStatelessOptions()
+					.tenantIdentifier( sessionContext.tenantIdentifier() )
+					.openStatelessSession();
+			try {
+				return HibernateOrmMassIdentifierRanges.boundaries( typeQueryLoader,
+						HibernateOrmMassIndexingContext.this, session, maxRangeCount );
+			}
+			finally {
+				session.close();
+			}
+		}
+
 		@Override
 		public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifierLoadingContext<E, I> context) {
 			SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
@@ -176,7 +201,8 @@ public PojoMassIdentifierLoader createIdentifierLoader(PojoMassIndexingIdentifie
 					.collect( Collectors.toList() );
 
 			HibernateOrmQueryLoader<E, I> typeQueryLoader = delegate.createQueryLoader(
-					typeContexts, conditionalExpression );
+					typeContexts, conditionalExpression )
+					.restrictToIdentifierRange( context.lowerBound(), context.upperBound() );
 			SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
 					.withStatelessOptions()
 					.tenantIdentifier( sessionContext.tenantIdentifier() )
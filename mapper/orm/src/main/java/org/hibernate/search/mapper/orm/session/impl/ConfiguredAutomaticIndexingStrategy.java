@@ -59,12 +59,19 @@ public final class ConfiguredAutomaticIndexingStrategy {
 					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_UNINITIALIZED_ASSOCIATIONS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AutomaticIndexingRadicals.QUERY_UNINITIALIZED_ASSOCIATIONS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_QUERY_UNINITIALIZED_ASSOCIATIONS )
+					.build();
+
 	private final Function<AutomaticIndexingEventSendingSessionContext, AutomaticIndexingQueueEventSendingPlan> senderFactory;
 	private final boolean enlistsInTransaction;
 
 	private HibernateOrmSearchSessionMappingContext mappingContext;
 	private BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy defaultSynchronizationStrategy;
+	private boolean queryUninitializedAssociations;
 
 	public ConfiguredAutomaticIndexingStrategy(
 			Function<AutomaticIndexingEventSendingSessionContext, AutomaticIndexingQueueEventSendingPlan> senderFactory,
@@ -77,6 +84,10 @@ public boolean usesEventQueue() {
 		return senderFactory != null;
 	}
 
+	public boolean queryUninitializedAssociations() {
+		return queryUninitializedAssociations;
+	}
+
 	// Do everything related to runtime configuration or that doesn't involve I/O
 	public void start(HibernateOrmSearchSessionMappingContext mappingContext,
 			AutomaticIndexingStrategyStartContext startContext,
@@ -103,6 +114,8 @@ public void start(HibernateOrmSearchSessionMappingContext mappingContext,
 					}
 				} );
 		defaultSynchronizationStrategy = configure( defaultSynchronizationStrategyHolder.get() );
+
+		queryUninitializedAssociations = QUERY_UNINITIALIZED_ASSOCIATIONS.get( configurationSource );
 		if ( AUTOMATIC_INDEXING_ENABLED.get( configurationSource )
 				&& AUTOMATIC_INDEXING_ENABLED_LEGACY_STRATEGY.getAndMap( configurationSource, enabled -> {
 					log.automaticIndexingStrategyIsDeprecated( AUTOMATIC_INDEXING_ENABLED_LEGACY_STRATEGY.resolveOrRaw( configurationSource ),
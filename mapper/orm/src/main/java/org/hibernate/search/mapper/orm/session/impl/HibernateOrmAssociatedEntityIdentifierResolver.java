@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Retrieves the identifiers of entities referenced by an uninitialized collection
+ * through a query that selects identifiers only,
+ * so that resolution of entities to reindex does not need to initialize the collection.
+ */
+final class HibernateOrmAssociatedEntityIdentifierResolver {
+
+	private static final String HOLDER_PARAMETER_NAME = "holder";
+
+	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
+	private final SessionImplementor sessionImplementor;
+	private final int fetchSize;
+
+	HibernateOrmAssociatedEntityIdentifierResolver(HibernateOrmSessionTypeContextProvider typeContextProvider,
+			SessionImplementor sessionImplementor, int fetchSize) {
+		this.typeContextProvider = typeContextProvider;
+		this.sessionImplementor = sessionImplementor;
+		this.fetchSize = fetchSize;
+	}
+
+	Collection<?> identifiersOrNull(Object holder, String propertyName, Object propertyValue,
+			PojoRawTypeIdentifier<?> targetTypeIdentifier) {
+		if ( !( propertyValue instanceof PersistentCollection ) || Hibernate.isInitialized( propertyValue )
+				// Map keys and values may both be entities: don't bother.
+				|| propertyValue instanceof Map ) {
+			// Either we cannot query this association, or it's already in memory and querying would be slower.
+			return null;
+		}
+		PersistentCollection collection = (PersistentCollection) propertyValue;
+		String role = collection.getRole();
+		if ( collection.getOwner() != holder || role == null || !role.endsWith( "." + propertyName ) ) {
+			// The collection does not belong to the holder directly, e.g. it's in an embeddable.
+			return null;
+		}
+		if ( collection.hasQueuedOperations() ) {
+			// Elements were added to or removed from the collection without initializing it:
+			// the database does not reflect the content of the collection yet.
+			return null;
+		}
+
+		EntityEntry holderEntry = sessionImplementor.getPersistenceContext().getEntry( holder );
+		if ( holderEntry == null || holderEntry.getStatus() != Status.MANAGED ) {
+			// The holder is detached or deleted: the database may not reflect the content of the collection.
+			return null;
+		}
+
+		HibernateOrmSessionTypeContext<?> targetTypeContext =
+				typeContextProvider.indexedForExactType( targetTypeIdentifier );
+		if ( targetTypeContext == null || !targetTypeContext.documentIdIsEntityId() ) {
+			// We wouldn't be able to use the entity IDs as provided IDs in the indexing plan.
+			return null;
+		}
+		EntityPersister targetPersister = targetTypeContext.entityPersister();
+		String targetIdentifierPropertyName = targetPersister.getIdentifierPropertyName();
+		if ( targetIdentifierPropertyName == null ) {
+			// Non-aggregated composite ID: we can't select it easily.
+			return null;
+		}
+
+		CollectionPersister collectionPersister = sessionImplementor.getFactory().getMetamodel()
+				.collectionPersister( role );
+		Type elementType = collectionPersister.getElementType();
+		if ( !elementType.isEntityType() || !targetPersister.getEntityName().equals(
+				( (EntityType) elementType ).getAssociatedEntityName( sessionImplementor.getFactory() ) ) ) {
+			return null;
+		}
+
+		String hql = "select e." + targetIdentifierPropertyName
+				+ " from " + holderEntry.getPersister().getEntityName() + " h"
+				+ " join h." + propertyName + " e"
+				+ " where h = :" + HOLDER_PARAMETER_NAME;
+		Query<?> query = sessionImplementor.createQuery( hql );
+		query.setParameter( HOLDER_PARAMETER_NAME, holder );
+		// This is executed while processing the indexing plan, potentially during a flush:
+		// we must not trigger another flush.
+		query.setHibernateFlushMode( FlushMode.MANUAL );
+		query.setFetchSize( fetchSize );
+		return query.getResultList();
+	}
+
+}
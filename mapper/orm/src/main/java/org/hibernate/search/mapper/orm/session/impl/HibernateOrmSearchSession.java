@@ -41,6 +41,7 @@
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanImpl;
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanSessionContext;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoSelectionLoadingContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.session.spi.AbstractPojoSearchSession;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
@@ -102,6 +103,7 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 	private final SessionImplementor sessionImplementor;
 	private final HibernateOrmRuntimeIntrospector runtimeIntrospector;
 	private final ConfiguredAutomaticIndexingStrategy automaticIndexingStrategy;
+	private final HibernateOrmAssociatedEntityIdentifierResolver associatedEntityIdentifierResolver;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy indexingPlanSynchronizationStrategy;
 
 	private SearchIndexingPlanImpl indexingPlan;
@@ -113,6 +115,10 @@ private HibernateOrmSearchSession(Builder builder) {
 		this.automaticIndexingStrategy = builder.automaticIndexingStrategy;
 		this.sessionImplementor = builder.sessionImplementor;
 		this.runtimeIntrospector = builder.buildRuntimeIntrospector();
+		this.associatedEntityIdentifierResolver = automaticIndexingStrategy.queryUninitializedAssociations()
+				? new HibernateOrmAssociatedEntityIdentifierResolver( typeContextProvider, sessionImplementor,
+						mappingContext.fetchSize() )
+				: null;
 		this.indexingPlanSynchronizationStrategy = automaticIndexingStrategy.defaultIndexingPlanSynchronizationStrategy();
 	}
 
@@ -229,6 +235,16 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return runtimeIntrospector;
 	}
 
+	@Override
+	public Collection<?> associatedEntityIdentifiersOrNull(Object holder, String propertyName,
+			Object propertyValue, PojoRawTypeIdentifier<?> targetTypeIdentifier) {
+		if ( associatedEntityIdentifierResolver == null ) {
+			return null;
+		}
+		return associatedEntityIdentifierResolver.identifiersOrNull( holder, propertyName, propertyValue,
+				targetTypeIdentifier );
+	}
+
 	@Override
 	public PojoIndexingPlan currentIndexingPlan(boolean createIfDoesNotExist) {
 		HibernateOrmSearchSessionHolder holder =
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.pojo.identity.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
@@ -20,4 +21,12 @@
 
 	String jpaEntityName();
 
+	EntityPersister entityPersister();
+
+	/**
+	 * @return {@code true} if the document ID is the entity ID,
+	 * i.e. if entity IDs can be passed as provided IDs to indexing plans.
+	 */
+	boolean documentIdIsEntityId();
+
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.mapper.orm.loading.impl.LoadingIndexedTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospectorTypeContextProvider;
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanTypeContextProvider;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmSessionTypeContextProvider
 		extends HibernateOrmRuntimeIntrospectorTypeContextProvider,
@@ -16,4 +17,6 @@
 
 	HibernateOrmSessionTypeContext<?> forJpaEntityName(String indexName);
 
+	<E> HibernateOrmSessionTypeContext<E> indexedForExactType(PojoRawTypeIdentifier<E> typeIdentifier);
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class HibernateOrmMassIdentifierRangesTest {
+
+	@Test
+	public void integer() {
+		assertThat( HibernateOrmMassIdentifierRanges.<Integer>boundaries( 0, 100, 4 ) )
+				.containsExactly( 25, 50, 75 );
+		assertThat( HibernateOrmMassIdentifierRanges.<Integer>boundaries( -10, 10, 2 ) )
+				.containsExactly( 0 );
+	}
+
+	@Test
+	public void long_extremeValues() {
+		assertThat( HibernateOrmMassIdentifierRanges.<Long>boundaries( Long.MIN_VALUE, Long.MAX_VALUE, 2 ) )
+				.containsExactly( -1L );
+	}
+
+	@Test
+	public void short_() {
+		assertThat( HibernateOrmMassIdentifierRanges.<Short>boundaries( (short) 1, (short) 7, 3 ) )
+				.containsExactly( (short) 3, (short) 5 );
+	}
+
+	@Test
+	public void bigInteger() {
+		assertThat( HibernateOrmMassIdentifierRanges.<BigInteger>boundaries( BigInteger.ZERO, BigInteger.TEN, 2 ) )
+				.containsExactly( BigInteger.valueOf( 5 ) );
+	}
+
+	@Test
+	public void fewerIdentifiersThanRanges() {
+		assertThat( HibernateOrmMassIdentifierRanges.<Integer>boundaries( 1, 3, 10 ) )
+				.containsExactly( 2 );
+		assertThat( HibernateOrmMassIdentifierRanges.<Integer>boundaries( 42, 42, 10 ) )
+				.isEmpty();
+	}
+
+	@Test
+	public void noEntity() {
+		assertThat( HibernateOrmMassIdentifierRanges.<Integer>boundaries( null, null, 4 ) )
+				.isEmpty();
+	}
+
+	@Test
+	public void unsupportedType() {
+		assertThat( HibernateOrmMassIdentifierRanges.<String>boundaries( "a", "z", 4 ) )
+				.isEmpty();
+	}
+}
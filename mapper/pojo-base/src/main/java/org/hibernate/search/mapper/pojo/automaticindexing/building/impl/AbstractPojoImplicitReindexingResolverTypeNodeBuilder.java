@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +78,21 @@ void onFreeze(Set<PojoModelPathValueNode> dirtyPathsTriggeringReindexingCollecto
 		}
 	}
 
+	/**
+	 * @return The dirty paths that trigger reindexing of the value of this node,
+	 * if this node only marks that value for reindexing (i.e. if nested property nodes don't do anything);
+	 * an empty set otherwise.
+	 */
+	Set<PojoModelPathValueNode> getDirtyPathsTriggeringReindexingIfMarkingOnly() {
+		checkFrozen();
+		for ( PojoImplicitReindexingResolverPropertyNodeBuilder<?, ?> builder : propertyNodeBuilders.values() ) {
+			if ( !builder.getDirtyPathsTriggeringReindexingIncludingNestedNodes().isEmpty() ) {
+				return Collections.emptySet();
+			}
+		}
+		return markingNodeBuilder.getDirtyPathsTriggeringReindexingIncludingNestedNodes();
+	}
+
 	@Override
 	final Optional<PojoImplicitReindexingResolverNode<T>> doBuild(PojoPathFilterProvider pathFilterProvider,
 			Set<PojoModelPathValueNode> allPotentialDirtyPaths) {
@@ -8,11 +8,14 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverPropertyNode;
@@ -23,6 +26,7 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.PojoPathFilterProvider;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.util.common.impl.Closer;
 
 class PojoImplicitReindexingResolverPropertyNodeBuilder<T, P>
@@ -128,6 +132,10 @@ Optional<PojoImplicitReindexingResolverNode<T>> doBuild(PojoPathFilterProvider p
 			 */
 			return Optional.empty();
 		}
+		else if ( valueWithoutExtractorTypeNodes.isEmpty() && immutableNestedNodes.size() == 1 ) {
+			return Optional.of( createNodeWithMarkingShortcutIfPossible( pathFilterProvider,
+					createNested( immutableNestedNodes ) ) );
+		}
 		else {
 			return Optional.of( new PojoImplicitReindexingResolverPropertyNode<>(
 					modelPath.getPropertyModel().handle(), createNested( immutableNestedNodes ),
@@ -136,6 +144,38 @@ Optional<PojoImplicitReindexingResolverNode<T>> doBuild(PojoPathFilterProvider p
 		}
 	}
 
+	/*
+	 * If the only thing nested nodes do is marking the elements of a container for reindexing,
+	 * and those elements are entities of a single concrete type,
+	 * the property node can retrieve the identifiers of those entities instead of loading the container:
+	 * see PojoImplicitReindexingResolverPropertyNode.
+	 */
+	private PojoImplicitReindexingResolverPropertyNode<T, P> createNodeWithMarkingShortcutIfPossible(
+			PojoPathFilterProvider pathFilterProvider, PojoImplicitReindexingResolverNode<? super P> nested) {
+		List<PojoImplicitReindexingResolverContainerElementNodeBuilder<? super P, ?>> nonNullContainerElementNodeBuilders =
+				containerElementNodeBuilders.values().stream()
+						.distinct()
+						.filter( Objects::nonNull )
+						.collect( Collectors.toList() );
+		PojoImplicitReindexingResolverOriginalTypeNodeBuilder<?> markingOnlyTypeNodeBuilder =
+				nonNullContainerElementNodeBuilders.size() != 1 ? null
+						: nonNullContainerElementNodeBuilders.get( 0 ).value().markingOnlyTypeNodeBuilderOrNull();
+		PojoRawTypeModel<?> markedTypeModel = markingOnlyTypeNodeBuilder == null ? null
+				: markingOnlyTypeNodeBuilder.getTypeModel().rawType();
+		if ( markedTypeModel == null || !buildingHelper.isEntity( markedTypeModel )
+				|| !buildingHelper.getConcreteEntitySubTypesForEntitySuperType( markedTypeModel )
+						.equals( Collections.singleton( markedTypeModel ) ) ) {
+			return new PojoImplicitReindexingResolverPropertyNode<>(
+					modelPath.getPropertyModel().handle(), nested, modelPath.toUnboundPath()
+			);
+		}
+		return new PojoImplicitReindexingResolverPropertyNode<>(
+				modelPath.getPropertyModel().handle(), nested, modelPath.toUnboundPath(),
+				modelPath.getPropertyModel().name(), markedTypeModel.typeIdentifier(),
+				pathFilterProvider.create( markingOnlyTypeNodeBuilder.getDirtyPathsTriggeringReindexingIfMarkingOnly() )
+		);
+	}
+
 	/*
 	 * This generic method is necessary to make it clear to the compiler
 	 * that the extracted type and extractor have compatible generic arguments.
@@ -108,6 +108,20 @@ void freeze(Set<PojoModelPathValueNode> dirtyPathsTriggeringReindexingCollector)
 		}
 	}
 
+	/**
+	 * @return The type node builder, if it is the only one and if it only marks values for reindexing;
+	 * {@code null} otherwise.
+	 * @see AbstractPojoImplicitReindexingResolverTypeNodeBuilder#getDirtyPathsTriggeringReindexingIfMarkingOnly()
+	 */
+	PojoImplicitReindexingResolverOriginalTypeNodeBuilder<V> markingOnlyTypeNodeBuilderOrNull() {
+		checkFrozen();
+		if ( typeNodeBuilder == null || !castedTypeNodeBuilders.isEmpty()
+				|| typeNodeBuilder.getDirtyPathsTriggeringReindexingIfMarkingOnly().isEmpty() ) {
+			return null;
+		}
+		return typeNodeBuilder;
+	}
+
 	Collection<PojoImplicitReindexingResolverNode<V>> buildTypeNodes(PojoPathFilterProvider pathFilterProvider,
 			Set<PojoModelPathValueNode> allPotentialDirtyPaths) {
 		checkFrozen();
@@ -7,10 +7,13 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 
 import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
@@ -25,6 +28,11 @@
  * and will never contribute entities to reindex directly.
  * At the time of writing, nested nodes are either type nodes or container element nodes,
  * but we might allow other nodes in the future for optimization purposes.
+ * <p>
+ * When the nested nodes would only mark the entities referenced by the property for reindexing,
+ * this node may instead ask the session for the identifiers of these entities,
+ * so as to avoid loading the property value
+ * (see {@link org.hibernate.search.mapper.pojo.automaticindexing.spi.PojoImplicitReindexingResolverSessionContext#associatedEntityIdentifiersOrNull(Object, String, Object, PojoRawTypeIdentifier)}).
  *
  * @param <T> The property holder type received as input.
  * @param <P> The property type.
@@ -37,12 +45,32 @@
 
 	private final PojoModelPath modelPath;
 
+	private final String propertyName;
+	private final PojoRawTypeIdentifier<?> markedTypeIdentifier;
+	private final PojoPathFilter markingFilter;
+
 	public PojoImplicitReindexingResolverPropertyNode(ValueReadHandle<P> handle,
 			PojoImplicitReindexingResolverNode<? super P> nested,
 			PojoModelPath modelPath) {
+		this( handle, nested, modelPath, null, null, null );
+	}
+
+	/**
+	 * @param propertyName The name of the property.
+	 * @param markedTypeIdentifier The type of entities referenced by the property,
+	 * if nested nodes only mark these entities for reindexing; {@code null} otherwise.
+	 * @param markingFilter The filter applied to dirty paths before marking these entities for reindexing.
+	 */
+	public PojoImplicitReindexingResolverPropertyNode(ValueReadHandle<P> handle,
+			PojoImplicitReindexingResolverNode<? super P> nested,
+			PojoModelPath modelPath, String propertyName,
+			PojoRawTypeIdentifier<?> markedTypeIdentifier, PojoPathFilter markingFilter) {
 		this.handle = handle;
 		this.nested = nested;
 		this.modelPath = modelPath;
+		this.propertyName = propertyName;
+		this.markedTypeIdentifier = markedTypeIdentifier;
+		this.markingFilter = markingFilter;
 	}
 
 	@Override
@@ -57,6 +85,10 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "operation", "process property" );
 		builder.attribute( "handle", handle );
 		builder.attribute( "nested", nested );
+		if ( markedTypeIdentifier != null ) {
+			builder.attribute( "markedTypeIdentifier", markedTypeIdentifier );
+			builder.attribute( "markingFilter", markingFilter );
+		}
 	}
 
 	@Override
@@ -71,7 +103,8 @@ public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 				context.propagateOrIgnorePropertyAccessException( e );
 				return;
 			}
-			if ( propertyValue != null ) {
+			if ( propertyValue != null
+					&& !markByIdentifiers( collector, dirty, propertyValue, context ) ) {
 				nested.resolveEntitiesToReindex( collector, propertyValue, context );
 			}
 		}
@@ -83,4 +116,24 @@ public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			throw log.searchProcessingFailure( e, e.getMessage(), PojoEventContexts.fromPath( modelPath ) );
 		}
 	}
+
+	private boolean markByIdentifiers(PojoReindexingCollector collector, T dirty, P propertyValue,
+			PojoImplicitReindexingResolverRootContext context) {
+		if ( markedTypeIdentifier == null ) {
+			return false;
+		}
+		if ( !context.isDirtyForReindexingResolution( markingFilter ) ) {
+			// Nested nodes would not mark anything: no need to retrieve anything.
+			return true;
+		}
+		Collection<?> identifiers = context.sessionContext()
+				.associatedEntityIdentifiersOrNull( dirty, propertyName, propertyValue, markedTypeIdentifier );
+		if ( identifiers == null ) {
+			return false;
+		}
+		for ( Object identifier : identifiers ) {
+			collector.markForReindexing( markedTypeIdentifier, identifier );
+		}
+		return true;
+	}
 }
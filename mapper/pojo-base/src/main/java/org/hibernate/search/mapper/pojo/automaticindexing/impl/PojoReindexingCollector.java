@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
 /**
  * A collector of entities to be reindexed.
  * <p>
@@ -15,4 +17,12 @@ public interface PojoReindexingCollector {
 
 	void markForReindexing(Object dirtyEntity);
 
+	/**
+	 * Marks an entity for reindexing without having it at hand: it will be loaded later, if necessary.
+	 *
+	 * @param typeIdentifier The exact type of the entity to reindex.
+	 * @param providedId The identifier of the entity to reindex, as it would be provided to an indexing plan.
+	 */
+	void markForReindexing(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId);
+
 }
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.spi;
 
+import java.util.Collection;
+
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 
 /**
@@ -16,4 +19,24 @@ public interface PojoImplicitReindexingResolverSessionContext {
 
 	PojoRuntimeIntrospector runtimeIntrospector();
 
+	/**
+	 * Retrieves the identifiers of entities referenced by an association without loading the association,
+	 * e.g. by querying a database.
+	 * <p>
+	 * Used when the only thing to do with entities referenced by an association is to reindex them,
+	 * so that the association does not need to be loaded into memory.
+	 *
+	 * @param holder The entity holding the association.
+	 * @param propertyName The name of the association property in {@code holder}.
+	 * @param propertyValue The current value of the association property in {@code holder}.
+	 * @param targetTypeIdentifier The type of entities referenced by the association.
+	 * @return The identifiers of entities referenced by the association,
+	 * suitable for use as provided identifiers in an indexing plan,
+	 * or {@code null} if the association must be traversed in memory instead.
+	 */
+	default Collection<?> associatedEntityIdentifiersOrNull(Object holder, String propertyName,
+			Object propertyValue, PojoRawTypeIdentifier<?> targetTypeIdentifier) {
+		return null;
+	}
+
 }
@@ -42,10 +42,12 @@ public class PojoDefaultMassIndexer implements PojoMassIndexer {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	private int identifierLoadingThreads = 1;
 	private boolean mergeSegmentsOnFinish = false;
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean bulkLoad = false;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -84,6 +86,15 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -108,6 +119,12 @@ public PojoDefaultMassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer bulkLoad(boolean enable) {
+		this.bulkLoad = enable;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 		this.monitor = monitor;
@@ -160,9 +177,9 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				mappingContext,
 				notifier,
 				typeGroupsToIndex, scopeSchemaManager, detachedSession, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, identifierLoadingThreads,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart,
-				purgeAtStart, mergeSegmentsAfterPurge
+				purgeAtStart, mergeSegmentsAfterPurge, bulkLoad
 		);
 	}
 
@@ -42,13 +42,16 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int identifierLoadingThreads;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean bulkLoad;
 
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 	private PojoMassIndexerAgent agent;
+	private boolean bulkLoadStarted;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
@@ -56,8 +59,10 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			PojoScopeSchemaManager scopeSchemaManager,
 			DetachedBackendSessionContext detachedSession,
 			PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge) {
+			int typesToIndexInParallel, int documentBuilderThreads, int identifierLoadingThreads,
+			boolean mergeSegmentsOnFinish,
+			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
+			boolean bulkLoad) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -67,10 +72,12 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.scopeWorkspace = scopeWorkspace;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.bulkLoad = bulkLoad;
 	}
 
 	@Override
@@ -116,6 +123,13 @@ private void beforeBatch() throws InterruptedException {
 				Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 			}
 		}
+
+		if ( bulkLoad ) {
+			// Consider bulk loading started even if starting it fails,
+			// so that we restore the original settings of indexes that were switched successfully.
+			bulkLoadStarted = true;
+			Futures.unwrappedExceptionGet( scopeWorkspace.startBulkLoad() );
+		}
 	}
 
 	/**
@@ -145,7 +159,7 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), typeGroup,
 				typeGroup.loadingStrategy(),
-				documentBuilderThreads );
+				documentBuilderThreads, identifierLoadingThreads );
 	}
 
 	/**
@@ -155,12 +169,21 @@ private void afterBatch() throws InterruptedException {
 		if ( mergeSegmentsOnFinish ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
+		stopBulkLoad();
 		flushAndRefresh();
 		Futures.unwrappedExceptionGet( agent.preStop() );
 		agent.stop();
 		agent = null;
 	}
 
+	private void stopBulkLoad() throws InterruptedException {
+		if ( !bulkLoadStarted ) {
+			return;
+		}
+		bulkLoadStarted = false;
+		Futures.unwrappedExceptionGet( scopeWorkspace.stopBulkLoad() );
+	}
+
 	private void flushAndRefresh() throws InterruptedException {
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
@@ -170,6 +193,8 @@ private void flushAndRefresh() throws InterruptedException {
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// The original index settings must be restored whatever happens
+			closer.push( PojoMassIndexingBatchCoordinator::stopBulkLoad, this );
 			// Indexing performed before the exception must still be committed,
 			// in order to leave the index in a consistent state
 			closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
@@ -179,9 +204,11 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
-		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+	protected void cleanUpOnFailure() throws InterruptedException {
+		try ( Closer<InterruptedException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			// The original index settings must be restored whatever happens
+			closer.push( PojoMassIndexingBatchCoordinator::stopBulkLoad, this );
 			closer.push( PojoMassIndexerAgent::stop, agent );
 			agent = null;
 		}
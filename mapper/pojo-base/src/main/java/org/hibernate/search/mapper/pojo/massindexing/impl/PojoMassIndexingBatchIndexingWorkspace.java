@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -41,17 +42,19 @@
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final int identifierLoadingThreads;
 
 	PojoMassIndexingBatchIndexingWorkspace(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			int entityExtractingThreads) {
+			int entityExtractingThreads, int identifierLoadingThreads) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 	}
 
 	@Override
@@ -60,11 +63,13 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		List<I> identifierRangeBoundaries = identifierRangeBoundaries();
+		int identifierProducerCount = identifierRangeBoundaries.size() + 1;
+		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( identifierProducerCount );
 
 		// First start the consumers, then the producers (reverse order):
 		startIndexing( identifierQueue );
-		startProducingPrimaryKeys( identifierQueue );
+		startProducingPrimaryKeys( identifierQueue, identifierRangeBoundaries );
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
 		allFutures.addAll( identifierProducingFutures );
@@ -93,16 +98,33 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
-		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>( getNotifier(), typeGroup,
-				loadingStrategy, identifierQueue );
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+	private List<I> identifierRangeBoundaries() {
+		if ( identifierLoadingThreads <= 1 ) {
+			// A single loader: the list of identifiers is consistent as produced by one transaction
+			return Collections.emptyList();
+		}
+		List<I> boundaries = loadingStrategy.identifierRangeBoundaries( typeGroup.includedTypesIdentifiers(),
+				identifierLoadingThreads );
+		log.debugf( "Identifiers for %s will be loaded in %d ranges", typeGroup.notifiedGroupName(),
+				boundaries.size() + 1 );
+		return boundaries;
+	}
+
+	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue,
+			List<I> identifierRangeBoundaries) {
+		int rangeCount = identifierRangeBoundaries.size() + 1;
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
+				rangeCount,
 				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			for ( int i = 0; i < rangeCount; i++ ) {
+				I lowerBound = i == 0 ? null : identifierRangeBoundaries.get( i - 1 );
+				I upperBound = i == rangeCount - 1 ? null : identifierRangeBoundaries.get( i );
+				Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>( getNotifier(), typeGroup,
+						loadingStrategy, identifierQueue, lowerBound, upperBound );
+				identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
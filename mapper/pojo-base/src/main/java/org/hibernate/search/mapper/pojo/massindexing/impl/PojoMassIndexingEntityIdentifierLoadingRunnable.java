@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
@@ -27,15 +28,24 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final I lowerBound;
+	private final I upperBound;
 
+	/**
+	 * @param lowerBound The lower bound of identifiers to load, inclusive, or {@code null}.
+	 * @param upperBound The upper bound of identifiers to load, exclusive, or {@code null}.
+	 */
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassIndexingLoadingStrategy<E, I> loadingStrategy,
-			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			I lowerBound, I upperBound) {
 		super( notifier );
 		this.loadingStrategy = loadingStrategy;
 		this.typeGroup = typeGroup;
 		this.identifierQueue = identifierQueue;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
 	}
 
 	@Override
@@ -81,6 +91,16 @@ public Set<PojoRawTypeIdentifier<? extends E>> includedTypes() {
 			return typeGroup.includedTypesIdentifiers();
 		}
 
+		@Override
+		public Optional<I> lowerBound() {
+			return Optional.ofNullable( lowerBound );
+		}
+
+		@Override
+		public Optional<I> upperBound() {
+			return Optional.ofNullable( upperBound );
+		}
+
 		@Override
 		public PojoMassIdentifierSink<I> createSink() {
 			return new PojoMassIdentifierSink<I>() {
@@ -32,6 +32,10 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	// Taking several lists of identifiers at once saves wake-ups when the queue is busy,
+	// but a consumer holding too many lists could leave other consumers idle near the end.
+	private static final int MAX_ID_LISTS_PER_DRAIN = 4;
+
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassIndexingLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
@@ -51,16 +55,16 @@ protected void runWithFailureHandler() throws InterruptedException {
 		log.trace( "started" );
 		LoadingContext context = new LoadingContext();
 		try ( PojoMassEntityLoader<I> entityLoader = loadingStrategy.createEntityLoader( context ) ) {
-			List<I> idList;
-			do {
-				idList = identifierQueue.take();
-				if ( idList != null ) {
+			List<List<I>> idLists = new ArrayList<>( MAX_ID_LISTS_PER_DRAIN );
+			// drainTo() returns 0 once all producers are done and the queue is empty.
+			while ( identifierQueue.drainTo( idLists, MAX_ID_LISTS_PER_DRAIN ) > 0 ) {
+				for ( List<I> idList : idLists ) {
 					log.tracef( "received list of ids %s", idList );
 					// This will pass the loaded entities to the sink, which will trigger indexing for those entities.
 					entityLoader.load( idList );
 				}
+				idLists.clear();
 			}
-			while ( idList != null );
 			context.waitForLastBatches();
 		}
 		log.trace( "finished" );
@@ -6,14 +6,30 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.impl;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.util.common.impl.Contracts;
 
 /**
- * Implements a blocking queue capable of storing
- * a "poison" token to signal consumer threads
- * that the task is finished.
+ * Implements a bounded, blocking, multi-producer multi-consumer queue
+ * able to signal consumer threads that the task is finished.
+ * <p>
+ * Adding and removing elements is lock-free: producers and consumers claim slots of a ring buffer
+ * through compare-and-set operations on separate counters,
+ * following Dmitry Vyukov's bounded MPMC queue algorithm,
+ * so that many consumers do not contend on a single monitor.
+ * A lock is only involved when the queue is empty (for consumers) or full (for producers):
+ * threads then spin for a short while, and eventually block until they are signaled.
+ * <p>
+ * Termination does not rely on a token in the queue:
+ * consumers simply stop once all producers called {@link #producerStopping()}
+ * and the queue is empty.
  *
  * @author Sanne Grinovero
  * @param <T> produced type
@@ -21,12 +37,25 @@
 public class PojoProducerConsumerQueue<T> {
 
 	private static final int DEFAULT_BUFF_LENGTH = 1000;
-	private static final Object exitToken = new Object();
+	// Spinning is pointless on a single CPU: the thread we're waiting for cannot make progress.
+	private static final int SPIN_TRIES = Runtime.getRuntime().availableProcessors() > 1 ? 100 : 0;
 
-	//doesn't use <T> here as exitToken needs to be put in the queue too:
-	private final BlockingQueue<Object> queue;
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<T> elements;
+	// For each slot: equal to the producer index for which the slot is free,
+	// or to that producer index + 1 once the slot holds an element.
+	private final AtomicLongArray sequences;
+	private final AtomicLong producerIndex = new AtomicLong();
+	private final AtomicLong consumerIndex = new AtomicLong();
 	private final AtomicInteger producersToWaitFor;
 
+	private final ReentrantLock waitLock = new ReentrantLock();
+	private final Condition notEmpty = waitLock.newCondition();
+	private final Condition notFull = waitLock.newCondition();
+	private final AtomicInteger waitingConsumers = new AtomicInteger();
+	private final AtomicInteger waitingProducers = new AtomicInteger();
+
 	/**
 	 * @param producersToWaitFor The number of producer threads.
 	 */
@@ -34,8 +63,19 @@ public PojoProducerConsumerQueue(int producersToWaitFor) {
 		this( DEFAULT_BUFF_LENGTH, producersToWaitFor );
 	}
 
+	/**
+	 * @param queueLength The minimum capacity of the queue; will be rounded up to the next power of two.
+	 * @param producersToWaitFor The number of producer threads.
+	 */
 	public PojoProducerConsumerQueue(int queueLength, int producersToWaitFor) {
-		queue = new ArrayBlockingQueue<>( queueLength );
+		Contracts.assertStrictlyPositive( queueLength, "queueLength" );
+		this.capacity = queueLength == 1 ? 1 : Integer.highestOneBit( queueLength - 1 ) << 1;
+		this.mask = capacity - 1;
+		this.elements = new AtomicReferenceArray<>( capacity );
+		this.sequences = new AtomicLongArray( capacity );
+		for ( int i = 0; i < capacity; i++ ) {
+			sequences.set( i, i );
+		}
 		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
 	}
 
@@ -45,17 +85,47 @@ public PojoProducerConsumerQueue(int queueLength, int producersToWaitFor) {
 	 * @return the next object in the queue, or null to exit
 	 * @throws InterruptedException if interrupted while waiting
 	 */
-	@SuppressWarnings("unchecked")
 	public T take() throws InterruptedException {
-		Object obj = queue.take();
-		if ( obj == exitToken ) {
-			//restore exit signal for other threads
-			queue.put( exitToken );
-			return null;
+		for ( int tries = 0; ; ++tries ) {
+			T obj = poll();
+			if ( obj != null ) {
+				return obj;
+			}
+			if ( producersToWaitFor.get() <= 0 ) {
+				// All producers are done and their elements are visible:
+				// one last attempt, in case elements were added since our last poll.
+				return poll();
+			}
+			if ( tries >= SPIN_TRIES ) {
+				awaitNotEmpty();
+			}
 		}
-		else {
-			return (T) obj;
+	}
+
+	/**
+	 * Blocks until at least one object is available,
+	 * then removes as many objects as possible from the queue, up to {@code maxElements},
+	 * and adds them to the given collection.
+	 * @param sink the collection to add objects to
+	 * @param maxElements the maximum number of objects to remove; must be strictly positive
+	 * @return the number of objects added to {@code sink};
+	 * when 0 is returned the client thread should quit.
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public int drainTo(Collection<? super T> sink, int maxElements) throws InterruptedException {
+		Contracts.assertStrictlyPositive( maxElements, "maxElements" );
+		T first = take();
+		if ( first == null ) {
+			return 0;
+		}
+		sink.add( first );
+		int count = 1;
+		T obj;
+		while ( count < maxElements && ( obj = poll() ) != null ) {
+			sink.add( obj );
+			++count;
 		}
+		return count;
 	}
 
 	/**
@@ -65,27 +135,133 @@ public T take() throws InterruptedException {
 	 * @throws InterruptedException if interrupted while waiting
 	 */
 	public void put(T obj) throws InterruptedException {
-		queue.put( obj );
+		Contracts.assertNotNull( obj, "obj" );
+		for ( int tries = 0; !offer( obj ); ++tries ) {
+			if ( tries >= SPIN_TRIES ) {
+				awaitNotFull();
+			}
+		}
 	}
 
 	/**
 	 * Each producer thread should call producerStopping() when it has
 	 * finished. After doing it can safely terminate.
 	 * After all producer threads have called producerStopping()
-	 * a token will be inserted in the blocking queue to eventually
-	 * awake sleeping consumers and have them quit, after the
-	 * queue has been processed.
+	 * consumers will quit as soon as the queue is empty.
 	 */
 	public void producerStopping() {
 		int activeProducers = producersToWaitFor.decrementAndGet();
 		//last producer must close consumers
 		if ( activeProducers == 0 ) {
+			waitLock.lock();
+			try {
+				notEmpty.signalAll();//awake all waiting threads to let them quit.
+			}
+			finally {
+				waitLock.unlock();
+			}
+		}
+	}
+
+	private boolean offer(T obj) {
+		long index = producerIndex.get();
+		while ( true ) {
+			int slot = (int) index & mask;
+			long difference = sequences.get( slot ) - index;
+			if ( difference == 0 ) {
+				if ( producerIndex.compareAndSet( index, index + 1 ) ) {
+					elements.lazySet( slot, obj );
+					// Publishes the element: consumers read the sequence before the element.
+					sequences.set( slot, index + 1 );
+					signal( waitingConsumers, notEmpty );
+					return true;
+				}
+				index = producerIndex.get();
+			}
+			else if ( difference < 0 ) {
+				// The slot still holds an element from the previous lap: the queue is full.
+				return false;
+			}
+			else {
+				// Another producer claimed this index.
+				index = producerIndex.get();
+			}
+		}
+	}
+
+	private T poll() {
+		long index = consumerIndex.get();
+		while ( true ) {
+			int slot = (int) index & mask;
+			long difference = sequences.get( slot ) - ( index + 1 );
+			if ( difference == 0 ) {
+				if ( consumerIndex.compareAndSet( index, index + 1 ) ) {
+					T obj = elements.get( slot );
+					elements.lazySet( slot, null );
+					// Frees the slot for the producer on the next lap.
+					sequences.set( slot, index + capacity );
+					signal( waitingProducers, notFull );
+					return obj;
+				}
+				index = consumerIndex.get();
+			}
+			else if ( difference < 0 ) {
+				// The slot was not filled yet: the queue is empty.
+				return null;
+			}
+			else {
+				// Another consumer claimed this index.
+				index = consumerIndex.get();
+			}
+		}
+	}
+
+	private void awaitNotEmpty() throws InterruptedException {
+		waitingConsumers.incrementAndGet();
+		try {
+			waitLock.lockInterruptibly();
+			try {
+				// Check again now that producers know we're waiting, to avoid missing a signal.
+				if ( consumerIndex.get() >= producerIndex.get() && producersToWaitFor.get() > 0 ) {
+					notEmpty.await();
+				}
+			}
+			finally {
+				waitLock.unlock();
+			}
+		}
+		finally {
+			waitingConsumers.decrementAndGet();
+		}
+	}
+
+	private void awaitNotFull() throws InterruptedException {
+		waitingProducers.incrementAndGet();
+		try {
+			waitLock.lockInterruptibly();
+			try {
+				// Check again now that consumers know we're waiting, to avoid missing a signal.
+				if ( producerIndex.get() - consumerIndex.get() >= capacity ) {
+					notFull.await();
+				}
+			}
+			finally {
+				waitLock.unlock();
+			}
+		}
+		finally {
+			waitingProducers.decrementAndGet();
+		}
+	}
+
+	private void signal(AtomicInteger waiting, Condition condition) {
+		if ( waiting.get() > 0 ) {
+			waitLock.lock();
 			try {
-				queue.put( exitToken );//awake all waiting threads to let them quit.
+				condition.signal();
 			}
-			catch (InterruptedException e) {
-				//just quit, consumers will be interrupted anyway if it's a shutdown.
-				Thread.currentThread().interrupt();
+			finally {
+				waitLock.unlock();
 			}
 		}
 	}
@@ -39,6 +39,20 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of root entities, for each type indexed in parallel.
+	 * <p>
+	 * Values higher than {@code 1} only have an effect if the loading strategy
+	 * is able to split identifiers into ranges;
+	 * see {@link PojoMassIndexingLoadingStrategy#identifierRangeBoundaries(java.util.Set, int)}.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
@@ -90,6 +104,26 @@ public interface PojoMassIndexer {
 	 */
 	PojoMassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Switches the indexes to a profile optimized for bulk loading while indexing,
+	 * and restores their original settings afterwards, even if mass indexing fails.
+	 * <p>
+	 * With the Elasticsearch backend, this disables periodic refreshes and replicas,
+	 * and switches the translog to asynchronous durability.
+	 * With the Lucene backend, this disables commits and background refreshes of index readers
+	 * until the end of mass indexing, and uses a larger RAM buffer for index writers.
+	 * <p>
+	 * Changes to the indexes will not be visible to search queries, nor safe from crashes,
+	 * until mass indexing ends.
+	 * The indexes also lose their replicas during mass indexing,
+	 * so this should only be used when the indexes are not relied upon while mass indexing.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this operation, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	PojoMassIndexer bulkLoad(boolean enable);
+
 	/**
 	 * Starts the indexing process in background (asynchronous).
 	 * <p>
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.spi;
 
+import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierSink;
@@ -24,6 +25,22 @@
 	 */
 	Set<PojoRawTypeIdentifier<? extends E>> includedTypes();
 
+	/**
+	 * @return The lower bound of identifiers to load, inclusive,
+	 * or an empty optional if there is no lower bound.
+	 * Only ever non-empty if {@link PojoMassIndexingLoadingStrategy#identifierRangeBoundaries(Set, int)}
+	 * returned boundaries.
+	 */
+	Optional<I> lowerBound();
+
+	/**
+	 * @return The upper bound of identifiers to load, exclusive,
+	 * or an empty optional if there is no upper bound.
+	 * Only ever non-empty if {@link PojoMassIndexingLoadingStrategy#identifierRangeBoundaries(Set, int)}
+	 * returned boundaries.
+	 */
+	Optional<I> upperBound();
+
 	/**
 	 * @return A sink that the loader will add loaded entities to.
 	 */
@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.mapper.pojo.massindexing.spi;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassIdentifierLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassEntityLoader;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 /**
  * A strategy for entity loading during mass indexing.
@@ -32,6 +37,26 @@
 	@Override
 	int hashCode();
 
+	/**
+	 * Splits the identifiers of entities to load into contiguous ranges,
+	 * so that each range can be loaded by a separate identifier loader, in parallel.
+	 * <p>
+	 * Ranges are then passed to identifier loaders through
+	 * {@link PojoMassIndexingIdentifierLoadingContext#lowerBound()}
+	 * and {@link PojoMassIndexingIdentifierLoadingContext#upperBound()}.
+	 *
+	 * @param includedTypes The identifiers of the types of all entities that will be loaded.
+	 * @param maxRangeCount The maximum number of ranges.
+	 * @return The boundaries between ranges, in ascending order and without duplicates,
+	 * so that {@code n} boundaries define {@code n + 1} ranges;
+	 * at most {@code maxRangeCount - 1} boundaries.
+	 * An empty list if identifiers cannot be split, in which case a single identifier loader will be used.
+	 */
+	default List<I> identifierRangeBoundaries(Set<PojoRawTypeIdentifier<? extends E>> includedTypes,
+			int maxRangeCount) {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * @param context A context, used to retrieve information about targeted types and to create the sink.
 	 * @return An entity identifier loader.
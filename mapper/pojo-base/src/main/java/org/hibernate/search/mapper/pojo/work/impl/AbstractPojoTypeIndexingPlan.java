@@ -82,6 +82,18 @@ void planLoading(PojoLoadingPlanProvider loadingPlanProvider) {
 		}
 	}
 
+	void retrieveLoaded(PojoLoadingPlanProvider loadingPlanProvider) {
+		for ( S state : statesPerId.values() ) {
+			state.entitySupplierOrLoad( loadingPlanProvider );
+		}
+	}
+
+	void planLoadingAfterReindexingResolution(PojoLoadingPlanProvider loadingPlanProvider) {
+		for ( S state : statesPerId.values() ) {
+			state.planLoadingAfterReindexingResolution( loadingPlanProvider );
+		}
+	}
+
 	void resolveDirty(PojoLoadingPlanProvider loadingPlanProvider, PojoReindexingCollector collector,
 			boolean deleteOnly) {
 		for ( S state : statesPerId.values() ) {
@@ -152,6 +164,7 @@ boolean isDeleted(Object unproxiedObject) {
 		EntityStatus currentStatus = EntityStatus.UNKNOWN;
 
 		private boolean updatedBecauseOfContained;
+		private boolean loadingRequiredAfterReindexingResolution;
 		private boolean forceSelfDirty;
 		private boolean forceContainingDirty;
 		private BitSet dirtyPaths;
@@ -236,6 +249,22 @@ void updateBecauseOfContained(Supplier<E> entitySupplier) {
 			// Thus we don't set 'shouldResolveToReindex' to true here, but leave it as is.
 		}
 
+		// Same as updateBecauseOfContained(Supplier), but the entity will be loaded later, if necessary.
+		void updateBecauseOfContained() {
+			if ( currentStatus == EntityStatus.ABSENT ) {
+				// See updateBecauseOfContained(Supplier)
+				return;
+			}
+			if ( entitySupplier == null && loadingOrdinal == null ) {
+				loadingRequiredAfterReindexingResolution = true;
+			}
+			if ( EntityStatus.UNKNOWN.equals( initialStatus ) ) {
+				initialStatus = EntityStatus.PRESENT;
+			}
+			currentStatus = EntityStatus.PRESENT;
+			updatedBecauseOfContained = true;
+		}
+
 		void doAddOrUpdate(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			if ( EntityStatus.UNKNOWN.equals( initialStatus ) ) {
@@ -286,6 +315,13 @@ void planLoading(PojoLoadingPlanProvider loadingPlanProvider) {
 			}
 		}
 
+		void planLoadingAfterReindexingResolution(PojoLoadingPlanProvider loadingPlanProvider) {
+			if ( loadingRequiredAfterReindexingResolution ) {
+				loadingRequiredAfterReindexingResolution = false;
+				planLoading( loadingPlanProvider );
+			}
+		}
+
 		void resolveDirty(PojoLoadingPlanProvider loadingPlanProvider, PojoReindexingCollector collector,
 				boolean deleteOnly) {
 			// In some configurations, we will perform reindexing resolution later,
@@ -39,6 +39,11 @@ void updateBecauseOfContained(Object entity) {
 		getState( identifier ).updateBecauseOfContained( entitySupplier );
 	}
 
+	void updateBecauseOfContainedWithoutEntity(Object providedId) {
+		I identifier = typeContext.identifierMapping().getIdentifier( providedId, null );
+		getState( identifier ).updateBecauseOfContained();
+	}
+
 	@Override
 	void resolveDirty(PojoLoadingPlanProvider loadingPlanProvider, PojoReindexingCollector collector,
 			boolean deleteOnly) {
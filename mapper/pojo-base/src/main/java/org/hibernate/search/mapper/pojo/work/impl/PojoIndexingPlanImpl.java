@@ -49,6 +49,7 @@
 
 	private boolean isProcessing = false;
 	private boolean mayRequireLoading = false;
+	private boolean mayRequireLoadingAfterReindexingResolution = false;
 	private PojoLoadingPlan<Object> loadingPlan = null;
 
 	public PojoIndexingPlanImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProvider,
@@ -131,6 +132,23 @@ public void process() {
 			for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : frozenIndexedTypeDelegates ) {
 				delegate.resolveDirty( this, this, shouldResolveDirtyForDeleteOnly );
 			}
+			if ( mayRequireLoadingAfterReindexingResolution ) {
+				// Some entities were marked for reindexing through their identifier only:
+				// load them in a separate round, after we retrieved entities loaded in the first round.
+				for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
+					delegate.retrieveLoaded( this );
+				}
+				for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
+					delegate.retrieveLoaded( this );
+				}
+				loadingPlan = null;
+				for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
+					delegate.planLoadingAfterReindexingResolution( this );
+				}
+				if ( loadingPlan != null ) {
+					loadingPlan.loadBlocking( null );
+				}
+			}
 			for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
 				delegate.process( this );
 			}
@@ -141,6 +159,7 @@ public void process() {
 		finally {
 			isProcessing = false;
 			mayRequireLoading = false;
+			mayRequireLoadingAfterReindexingResolution = false;
 			loadingPlan = null;
 			clearStates();
 		}
@@ -201,6 +220,13 @@ public void markForReindexing(Object containingEntity) {
 		delegate.updateBecauseOfContained( containingEntity );
 	}
 
+	@Override
+	public void markForReindexing(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId) {
+		PojoIndexedTypeIndexingPlan<?, ?> delegate = getOrCreateIndexedDelegateForContainedUpdate( typeIdentifier );
+		delegate.updateBecauseOfContainedWithoutEntity( providedId );
+		mayRequireLoadingAfterReindexingResolution = true;
+	}
+
 	@Override
 	public PojoIndexingProcessorSessionContext sessionContext() {
 		return sessionContext;
@@ -47,6 +47,16 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		return doOperationOnTypes( IndexWorkspace::startBulkLoad );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		return doOperationOnTypes( IndexWorkspace::stopBulkLoad );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
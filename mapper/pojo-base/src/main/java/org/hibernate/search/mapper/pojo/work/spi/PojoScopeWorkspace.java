@@ -19,4 +19,8 @@ public interface PojoScopeWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	CompletableFuture<?> startBulkLoad();
+
+	CompletableFuture<?> stopBulkLoad();
+
 }
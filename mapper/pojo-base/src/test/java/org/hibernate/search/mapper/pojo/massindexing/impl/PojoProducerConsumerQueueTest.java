@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class PojoProducerConsumerQueueTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@After
+	public void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void singleThread() throws InterruptedException {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 4, 1 );
+		queue.put( 1 );
+		queue.put( 2 );
+		queue.put( 3 );
+		queue.producerStopping();
+
+		assertThat( queue.take() ).isEqualTo( 1 );
+		assertThat( queue.take() ).isEqualTo( 2 );
+		assertThat( queue.take() ).isEqualTo( 3 );
+		assertThat( queue.take() ).isNull();
+		// Termination is signaled to every consumer, as many times as necessary
+		assertThat( queue.take() ).isNull();
+	}
+
+	@Test
+	public void drainTo() throws InterruptedException {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 8, 1 );
+		for ( int i = 0; i < 5; i++ ) {
+			queue.put( i );
+		}
+		queue.producerStopping();
+
+		List<Integer> sink = new ArrayList<>();
+		assertThat( queue.drainTo( sink, 3 ) ).isEqualTo( 3 );
+		assertThat( sink ).containsExactly( 0, 1, 2 );
+		sink.clear();
+		assertThat( queue.drainTo( sink, 3 ) ).isEqualTo( 2 );
+		assertThat( sink ).containsExactly( 3, 4 );
+		sink.clear();
+		assertThat( queue.drainTo( sink, 3 ) ).isZero();
+		assertThat( sink ).isEmpty();
+	}
+
+	@Test
+	public void put_blocksWhenFull() throws Exception {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 2, 1 );
+		queue.put( 1 );
+		queue.put( 2 );
+
+		Future<?> future = executor.submit( () -> {
+			queue.put( 3 );
+			return null;
+		} );
+		Thread.sleep( 50 );
+		assertThat( future ).isNotDone();
+
+		assertThat( queue.take() ).isEqualTo( 1 );
+		future.get( 5, TimeUnit.SECONDS );
+		assertThat( queue.take() ).isEqualTo( 2 );
+		assertThat( queue.take() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void take_blocksUntilProducersStop() throws Exception {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 2, 2 );
+
+		Future<Integer> future = executor.submit( queue::take );
+		Thread.sleep( 50 );
+		assertThat( future ).isNotDone();
+
+		queue.producerStopping();
+		Thread.sleep( 50 );
+		assertThat( future ).isNotDone();
+
+		queue.producerStopping();
+		assertThat( future.get( 5, TimeUnit.SECONDS ) ).isNull();
+	}
+
+	@Test
+	public void take_interrupted() throws Exception {
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 2, 1 );
+
+		CompletableFuture<Thread> consumerThread = new CompletableFuture<>();
+		Future<Integer> future = executor.submit( () -> {
+			consumerThread.complete( Thread.currentThread() );
+			return queue.take();
+		} );
+		consumerThread.get( 5, TimeUnit.SECONDS ).interrupt();
+
+		assertThatThrownBy( () -> future.get( 5, TimeUnit.SECONDS ) )
+				.hasCauseInstanceOf( InterruptedException.class );
+	}
+
+	@Test
+	public void multipleProducersAndConsumers() throws Exception {
+		int producerCount = 4;
+		int consumerCount = 8;
+		int elementsPerProducer = 10_000;
+		PojoProducerConsumerQueue<Integer> queue = new PojoProducerConsumerQueue<>( 16, producerCount );
+
+		for ( int p = 0; p < producerCount; p++ ) {
+			int offset = p * elementsPerProducer;
+			executor.submit( () -> {
+				try {
+					for ( int i = 0; i < elementsPerProducer; i++ ) {
+						queue.put( offset + i );
+					}
+				}
+				finally {
+					queue.producerStopping();
+				}
+				return null;
+			} );
+		}
+		List<Future<List<Integer>>> consumers = new ArrayList<>();
+		for ( int c = 0; c < consumerCount; c++ ) {
+			consumers.add( executor.submit( () -> {
+				List<Integer> consumed = new ArrayList<>();
+				while ( queue.drainTo( consumed, 3 ) > 0 ) {
+					// Keep consuming
+				}
+				return consumed;
+			} ) );
+		}
+
+		List<Integer> allConsumed = new ArrayList<>();
+		for ( Future<List<Integer>> consumer : consumers ) {
+			allConsumed.addAll( consumer.get( 30, TimeUnit.SECONDS ) );
+		}
+		assertThat( allConsumed )
+				.hasSize( producerCount * elementsPerProducer )
+				.doesNotHaveDuplicates();
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.annotation.impl.SuppressForbiddenApis;
+import org.hibernate.search.util.common.reflect.impl.FunctionValueReadHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueReadHandle;
+
+@SuppressForbiddenApis(reason = "MethodHandles and LambdaMetafactory don't always work, but usage of this class is configurable,"
+		+ " so it should only be used in contexts where they actually work.")
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	private static final MethodType FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_ERASED_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+	private final boolean lookupHasPrivateAccess;
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+		// The LambdaMetafactory only accepts lookups with private access.
+		this.lookupHasPrivateAccess = ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) != 0;
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// The LambdaMetafactory cannot target field accesses.
+		return new MethodHandleValueReadHandle<>( field, lookup.unreflectGetter( field ) );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		MethodHandle getter = lookup.unreflect( method );
+		if ( canSpinFunction( method ) ) {
+			Function<Object, ?> function = spinFunction( method, getter );
+			if ( function != null ) {
+				return new FunctionValueReadHandle<>( method, function );
+			}
+		}
+		return new MethodHandleValueReadHandle<>( method, getter );
+	}
+
+	/*
+	 * The function will be defined alongside the lookup class and will invoke the getter directly,
+	 * so the getter must be accessible from anywhere,
+	 * and the types it involves must resolve to the same classes from the lookup class.
+	 */
+	private boolean canSpinFunction(Method method) {
+		return lookupHasPrivateAccess
+				&& !Modifier.isStatic( method.getModifiers() )
+				&& Modifier.isPublic( method.getModifiers() )
+				&& Modifier.isPublic( method.getDeclaringClass().getModifiers() )
+				&& isResolvableFromLookupClass( method.getDeclaringClass() )
+				&& isResolvableFromLookupClass( method.getReturnType() );
+	}
+
+	private boolean isResolvableFromLookupClass(Class<?> type) {
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return Class.forName( type.getName(), false, lookup.lookupClass().getClassLoader() ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Function<Object, ?> spinFunction(Method method, MethodHandle getter) {
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory( lookup, "apply", FACTORY_TYPE, FUNCTION_ERASED_TYPE,
+					getter, MethodType.methodType( Object.class, method.getDeclaringClass() ) );
+			return (Function<Object, ?>) callSite.getTarget().invokeExact();
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// Typically a LambdaConversionException:
+			// this getter cannot be invoked through a function spun by the LambdaMetafactory,
+			// so we will fall back to invoking the method handle.
+			return null;
+		}
+	}
+}
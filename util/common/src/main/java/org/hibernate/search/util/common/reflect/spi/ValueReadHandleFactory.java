@@ -34,4 +34,17 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with private access to its lookup class
+	 * and sufficient access rights to access all relevant fields and methods.
+	 * @return A factory producing value handles that rely on functions spun by {@link java.lang.invoke.LambdaMetafactory}
+	 * to call public getters of public types directly,
+	 * so that calls can be inlined by the JIT compiler.
+	 * For fields, other methods, or when the types involved cannot be resolved from the lookup class,
+	 * falls back to {@link java.lang.invoke.MethodHandle}, like {@link #usingMethodHandle(MethodHandles.Lookup)}.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
@@ -10,6 +10,7 @@
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AccessibleObject;
@@ -39,6 +40,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -109,6 +111,42 @@ public void publicMethod() throws Exception {
 		testMethodValueReadHandleSuccess( "publicMethod" );
 	}
 
+	@Test
+	public void publicMethod_lambdaMetafactory() throws Exception {
+		assumeTrue( factory.getClass().getSimpleName().contains( "LambdaMetafactory" ) );
+
+		assertThat( factory.createForMethod( EntityType.class.getDeclaredMethod( "publicMethod" ) ) )
+				.isInstanceOf( FunctionValueReadHandle.class );
+		assertThat( factory.createForMethod( EntityType.class.getDeclaredMethod( "publicPrimitiveMethod" ) ) )
+				.isInstanceOf( FunctionValueReadHandle.class )
+				.extracting( handle -> handle.get( new EntityType() ) )
+				.isEqualTo( 42 );
+		// Functions spun by the LambdaMetafactory cannot access other methods directly:
+		// we expect a fallback to method handles.
+		Method packagePrivateMethod = EntityType.class.getDeclaredMethod( "packagePrivateMethod" );
+		assertThat( factory.createForMethod( packagePrivateMethod ) )
+				.isInstanceOf( MethodHandleValueReadHandle.class );
+		// The LambdaMetafactory cannot target fields: we expect a fallback to method handles.
+		assertThat( factory.createForField( EntityType.class.getDeclaredField( "publicField" ) ) )
+				.isInstanceOf( MethodHandleValueReadHandle.class )
+				.extracting( handle -> handle.get( new EntityType() ) )
+				.isEqualTo( "publicFieldValue" );
+	}
+
+	@Test
+	public void publicMethod_lambdaMetafactory_noPrivateAccess() throws Exception {
+		assumeTrue( factory.getClass().getSimpleName().contains( "LambdaMetafactory" ) );
+
+		// The LambdaMetafactory requires private access to the lookup class:
+		// we expect a fallback to method handles.
+		ValueReadHandleFactory publicLookupFactory =
+				ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.publicLookup() );
+		assertThat( publicLookupFactory.createForMethod( EntityType.class.getDeclaredMethod( "publicMethod" ) ) )
+				.isInstanceOf( MethodHandleValueReadHandle.class )
+				.extracting( handle -> handle.get( new EntityType() ) )
+				.isEqualTo( "publicMethodValue" );
+	}
+
 	@Test
 	public void failure_method_error() throws Exception {
 		Method method = EntityType.class.getDeclaredMethod( "errorThrowingMethod" );
@@ -146,7 +184,7 @@ public void failure_method_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				usesMethodHandles()
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -168,7 +206,7 @@ public void failure_field_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				usesMethodHandles()
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -247,13 +285,19 @@ private void testMethodValueReadHandleSuccess(String methodName) throws IllegalA
 		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
 	}
 
+	private boolean usesMethodHandles() {
+		String factoryName = factory.getClass().getSimpleName();
+		return factoryName.contains( "MethodHandle" ) || factoryName.contains( "LambdaMetafactory" );
+	}
+
 	private static void setAccessible(Member member) {
 		if ( !Modifier.isPublic( member.getModifiers() ) ) {
 			( (AccessibleObject) member ).setAccessible( true );
 		}
 	}
 
-	private static class EntityType {
+	// Public so that the LambdaMetafactory can be used for public methods
+	public static class EntityType {
 		private final Supplier<String> toString;
 
 		private String privateField = "privateFieldValue";
@@ -292,6 +336,9 @@ protected String protectedMethod() {
 		public String publicMethod() {
 			return "publicMethodValue";
 		}
+		public int publicPrimitiveMethod() {
+			return 42;
+		}
 		public String otherMethod() {
 			return "otherMethod";
 		}
@@ -14,4 +14,12 @@ public boolean normalizesStringArgumentToWildcardPredicateForAnalyzedStringField
 		// but that was deemed a bug and fixed in 7.12.2+: https://github.com/elastic/elasticsearch/pull/53127
 		return true;
 	}
+
+	@Override
+	public boolean supportsPointInTime() {
+		// Point in time was introduced in ES 7.10, but we only rely on it from 7.12 on,
+		// since earlier versions do not add an implicit tiebreaker to sorts.
+		// OpenSearch does not support it at all.
+		return false;
+	}
 }
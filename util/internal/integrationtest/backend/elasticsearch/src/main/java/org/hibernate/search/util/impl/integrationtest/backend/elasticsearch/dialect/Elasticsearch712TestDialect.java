@@ -183,4 +183,9 @@ public boolean supportsIgnoreUnmappedForGeoPointField() {
 	public boolean ignoresFieldSortWhenNestedFieldMissing() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsPointInTime() {
+		return true;
+	}
 }
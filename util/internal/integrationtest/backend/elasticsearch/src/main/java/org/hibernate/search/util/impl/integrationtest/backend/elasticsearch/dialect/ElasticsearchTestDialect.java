@@ -86,4 +86,6 @@ default String getConcatenatedLocalDateDefaultMappingFormats() {
 
 	boolean ignoresFieldSortWhenNestedFieldMissing();
 
+	boolean supportsPointInTime();
+
 }
@@ -525,6 +525,22 @@ public IndexScaleWorkCallListContext refresh(CompletableFuture<?> future) {
 			return indexScaleWork( StubIndexScaleWork.Type.REFRESH, future );
 		}
 
+		public IndexScaleWorkCallListContext startBulkLoad() {
+			return indexScaleWork( StubIndexScaleWork.Type.START_BULK_LOAD );
+		}
+
+		public IndexScaleWorkCallListContext startBulkLoad(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.START_BULK_LOAD, future );
+		}
+
+		public IndexScaleWorkCallListContext stopBulkLoad() {
+			return indexScaleWork( StubIndexScaleWork.Type.STOP_BULK_LOAD );
+		}
+
+		public IndexScaleWorkCallListContext stopBulkLoad(CompletableFuture<?> future) {
+			return indexScaleWork( StubIndexScaleWork.Type.STOP_BULK_LOAD, future );
+		}
+
 		public IndexScaleWorkCallListContext indexScaleWork(StubIndexScaleWork.Type type) {
 			return indexScaleWork( type, Collections.emptySet() );
 		}
@@ -14,7 +14,7 @@
 public final class StubIndexScaleWork {
 
 	public enum Type {
-		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH
+		MERGE_SEGMENTS, PURGE, FLUSH, REFRESH, START_BULK_LOAD, STOP_BULK_LOAD
 	}
 
 	public static Builder builder(Type type) {
@@ -71,4 +71,20 @@ public CompletableFuture<?> refresh() {
 				.build();
 		return behavior.executeIndexScaleWork( indexName, work );
 	}
+
+	@Override
+	public CompletableFuture<?> startBulkLoad() {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.START_BULK_LOAD )
+				.tenantIdentifier( sessionContext.tenantIdentifier() )
+				.build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoad() {
+		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.STOP_BULK_LOAD )
+				.tenantIdentifier( sessionContext.tenantIdentifier() )
+				.build();
+		return behavior.executeIndexScaleWork( indexName, work );
+	}
 }